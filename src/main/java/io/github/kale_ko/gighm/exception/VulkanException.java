@@ -0,0 +1,27 @@
+package io.github.kale_ko.gighm.exception;
+
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * Thrown if a Vulkan call fails
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class VulkanException extends RuntimeException {
+    /**
+     * Create a VulkanException
+     * 
+     * @param exception The exception text
+     * 
+     * @since 2.6.0
+     */
+    public VulkanException(@NotNull String exception) {
+        super(exception);
+
+        NullUtils.checkNulls(exception, "exception");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,310 @@
+package io.github.kale_ko.gighm.rendering;
+
+import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * Scales the resolution the scene is rendered at to keep the frame time under a target (Set on a {@link Renderer} to enable it)
+ * 
+ * The scene is rendered at a fraction of the window resolution and then upscaled to the window by the backend.
+ * Every frame the smoothed frame time is compared to the target, and the scale is moved towards the one that would hit it, assuming the cost of a frame grows with its pixel count.
+ * The scale drops quickly when frames get slow and climbs back slowly so it doesn't bounce between two scales.
+ * 
+ * The CPU frame time only covers building and submitting the frame, not waiting for the swap and vsync (Which would make every frame look as slow as the refresh rate),
+ * and the GPU time of the frame is used instead when the backend reports it
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class DynamicResolution {
+    /**
+     * How much of the target frame time the controller aims for (Leaving some headroom for spikes)
+     * 
+     * @since 2.6.0
+     */
+    private static final Float HEADROOM = 0.9f;
+
+    /**
+     * How quickly the smoothed frame time follows new frame times (0-1)
+     * 
+     * @since 2.6.0
+     */
+    private static final Float SMOOTHING = 0.1f;
+
+    /**
+     * How far the scale can drop in one frame
+     * 
+     * @since 2.6.0
+     */
+    private static final Float MAX_STEP_DOWN = 0.05f;
+
+    /**
+     * How far the scale can climb in one frame
+     * 
+     * @since 2.6.0
+     */
+    private static final Float MAX_STEP_UP = 0.01f;
+
+    /**
+     * How far the ideal scale has to be from the current one before the scale changes
+     * 
+     * @since 2.6.0
+     */
+    private static final Float DEADBAND = 0.02f;
+
+    /**
+     * The frame rate to keep up
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float targetFps;
+
+    /**
+     * The lowest scale the scene can be rendered at (0-1)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float minScale;
+
+    /**
+     * The highest scale the scene can be rendered at (0-1)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float maxScale;
+
+    /**
+     * How much the upscale pass sharpens the scene (0 for plain bilinear upscaling)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float sharpness = 0.25f;
+
+    /**
+     * The scale the scene is currently rendered at
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float scale;
+
+    /**
+     * The smoothed frame time in seconds (Null until the first frame)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Float frameTime = null;
+
+    /**
+     * The last GPU frame time reported by the backend in seconds (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Float gpuTime = null;
+
+    /**
+     * Create a dynamic resolution controller targeting 60 fps with a scale between 0.5 and 1
+     * 
+     * @since 2.6.0
+     */
+    public DynamicResolution() {
+        this(60f, 0.5f, 1f);
+    }
+
+    /**
+     * Create a dynamic resolution controller
+     * 
+     * @param targetFps The frame rate to keep up
+     * @param minScale The lowest scale the scene can be rendered at (0-1)
+     * @param maxScale The highest scale the scene can be rendered at (0-1)
+     * 
+     * @throws InvalidDataException If the target fps isn't positive or the scales aren't 0-1 with the min under the max
+     * 
+     * @since 2.6.0
+     */
+    public DynamicResolution(@NotNull Float targetFps, @NotNull Float minScale, @NotNull Float maxScale) throws InvalidDataException {
+        NullUtils.checkNulls(targetFps, "targetFps");
+        NullUtils.checkNulls(minScale, "minScale");
+        NullUtils.checkNulls(maxScale, "maxScale");
+
+        this.setTargetFps(targetFps);
+        this.setScaleRange(minScale, maxScale);
+
+        this.scale = maxScale;
+    }
+
+    /**
+     * Update the scale with the time of the last frame (Called by the renderer every frame)
+     * 
+     * @param cpuTime The CPU time of the last frame in seconds, without waiting for vsync (Only used if the backend doesn't report GPU times)
+     * 
+     * @return The scale to render the next frame at
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float update(@NotNull Float cpuTime) {
+        NullUtils.checkNulls(cpuTime, "cpuTime");
+
+        Float sample = this.gpuTime != null ? this.gpuTime : cpuTime;
+        if (sample <= 0f) {
+            return this.scale;
+        }
+
+        if (this.frameTime == null) {
+            this.frameTime = sample;
+        } else {
+            this.frameTime = this.frameTime + (sample - this.frameTime) * SMOOTHING;
+        }
+
+        // The cost of a frame grows with its pixel count, which grows with the square of the scale
+        Float ideal = this.scale * (float) Math.sqrt(HEADROOM / (this.targetFps * this.frameTime));
+
+        if (Math.abs(ideal - this.scale) > DEADBAND) {
+            Float step = Math.max(-MAX_STEP_DOWN, Math.min(MAX_STEP_UP, ideal - this.scale));
+
+            this.scale = Math.max(this.minScale, Math.min(this.maxScale, this.scale + step));
+        }
+
+        return this.scale;
+    }
+
+    /**
+     * Report the GPU time of a frame (Called by backends that can measure it, the frame may be a few frames old)
+     * 
+     * @param gpuTime The GPU time of the frame in seconds
+     * 
+     * @since 2.6.0
+     */
+    public void reportGpuTime(@NotNull Float gpuTime) {
+        NullUtils.checkNulls(gpuTime, "gpuTime");
+
+        this.gpuTime = gpuTime;
+    }
+
+    /**
+     * Get the frame rate to keep up
+     * 
+     * @return The target fps
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getTargetFps() {
+        return this.targetFps;
+    }
+
+    /**
+     * Set the frame rate to keep up
+     * 
+     * @param targetFps The target fps
+     * 
+     * @throws InvalidDataException If the target fps isn't positive
+     * 
+     * @since 2.6.0
+     */
+    public void setTargetFps(@NotNull Float targetFps) throws InvalidDataException {
+        NullUtils.checkNulls(targetFps, "targetFps");
+
+        if (targetFps <= 0f) {
+            throw new InvalidDataException("The target fps must be positive");
+        }
+
+        this.targetFps = targetFps;
+    }
+
+    /**
+     * Get the lowest scale the scene can be rendered at
+     * 
+     * @return The min scale
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getMinScale() {
+        return this.minScale;
+    }
+
+    /**
+     * Get the highest scale the scene can be rendered at
+     * 
+     * @return The max scale
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getMaxScale() {
+        return this.maxScale;
+    }
+
+    /**
+     * Set the lowest and highest scale the scene can be rendered at
+     * 
+     * @param minScale The min scale (0-1)
+     * @param maxScale The max scale (0-1)
+     * 
+     * @throws InvalidDataException If the scales aren't 0-1 or the min is over the max
+     * 
+     * @since 2.6.0
+     */
+    public void setScaleRange(@NotNull Float minScale, @NotNull Float maxScale) throws InvalidDataException {
+        NullUtils.checkNulls(minScale, "minScale");
+        NullUtils.checkNulls(maxScale, "maxScale");
+
+        if (minScale <= 0f || maxScale > 1f || minScale > maxScale) {
+            throw new InvalidDataException("The scales must be 0-1 with the min under the max");
+        }
+
+        this.minScale = minScale;
+        this.maxScale = maxScale;
+
+        if (this.scale != null) {
+            this.scale = Math.max(minScale, Math.min(maxScale, this.scale));
+        }
+    }
+
+    /**
+     * Get how much the upscale pass sharpens the scene
+     * 
+     * @return The sharpness (0 for plain bilinear upscaling)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getSharpness() {
+        return this.sharpness;
+    }
+
+    /**
+     * Set how much the upscale pass sharpens the scene
+     * 
+     * @param sharpness The sharpness (0 for plain bilinear upscaling)
+     * 
+     * @since 2.6.0
+     */
+    public void setSharpness(@NotNull Float sharpness) {
+        NullUtils.checkNulls(sharpness, "sharpness");
+
+        this.sharpness = sharpness;
+    }
+
+    /**
+     * Get the scale the scene is currently rendered at
+     * 
+     * @return The current scale
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getScale() {
+        return this.scale;
+    }
+
+    /**
+     * Get the smoothed frame time
+     * 
+     * @return The smoothed frame time in seconds (Null until the first frame)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable Float getFrameTime() {
+        return this.frameTime;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package io.github.kale_ko.gighm.rendering;
+
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * The progress of preparing resources with {@link Renderer#prepare(io.github.kale_ko.gighm.scene.Scene)} (Safe to read from any thread, for example a loading screen)
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class PrepareProgress {
+    /**
+     * How many meshes need to be prepared
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Integer total;
+
+    /**
+     * How many meshes have been prepared
+     * 
+     * @since 2.6.0
+     */
+    private volatile @NotNull Integer completed = 0;
+
+    /**
+     * Create a prepare progress
+     * 
+     * @param total How many meshes need to be prepared
+     * 
+     * @since 2.6.0
+     */
+    protected PrepareProgress(@NotNull Integer total) {
+        NullUtils.checkNulls(total, "total");
+
+        this.total = total;
+    }
+
+    /**
+     * Mark one more mesh as prepared (Only called from the render thread)
+     * 
+     * @since 2.6.0
+     */
+    protected void complete() {
+        this.completed = this.completed + 1;
+    }
+
+    /**
+     * Get how many meshes need to be prepared
+     * 
+     * @return How many meshes need to be prepared
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getTotal() {
+        return this.total;
+    }
+
+    /**
+     * Get how many meshes have been prepared
+     * 
+     * @return How many meshes have been prepared
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getCompleted() {
+        return this.completed;
+    }
+
+    /**
+     * Get the fraction of meshes that have been prepared
+     * 
+     * @return The progress from 0 to 1
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getProgress() {
+        return this.total > 0 ? (float) this.completed / (float) this.total : 1f;
+    }
+
+    /**
+     * Get weather every mesh has been prepared
+     * 
+     * @return Weather preparing is done
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getDone() {
+        return this.completed >= this.total;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,280 @@
+package io.github.kale_ko.gighm.rendering;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A queue of work to run on the render thread, so other threads (Like asset loaders and game logic) can hand off gpu work without racing the render loop
+ * 
+ * Any thread can add tasks without locking, and the render thread runs them in order between frames, stopping once it has used up its time budget.
+ * Every task gets a {@link CompletableFuture} that completes with its result (Or the exception it threw) once it has run.
+ * 
+ * Tasks added from the render thread itself are run straight away, so waiting on their future from the render thread can't deadlock
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class RenderTaskQueue {
+    /**
+     * The tasks waiting to be run (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Queue<RenderTask<?>> tasks = new ConcurrentLinkedQueue<RenderTask<?>>();
+
+    /**
+     * How many tasks are waiting to be run, since counting the queue means walking it (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * The thread that runs the tasks (Null until the render loop starts)
+     * 
+     * @since 2.6.0
+     */
+    private volatile @Nullable Thread renderThread = null;
+
+    /**
+     * A listener called whenever a task is added from another thread, used to wake up an idle render loop (Null for none)
+     * 
+     * @since 2.6.0
+     */
+    private volatile @Nullable Runnable wakeUp = null;
+
+    /**
+     * Weather the render loop has stopped, tasks added after this are cancelled (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private volatile @NotNull Boolean closed = false;
+
+    /**
+     * Create an empty render task queue
+     * 
+     * @since 2.6.0
+     */
+    public RenderTaskQueue() {}
+
+    /**
+     * Run a task on the render thread
+     * 
+     * @param task The task to run
+     * 
+     * @return A future that completes once the task has run
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull CompletableFuture<Void> runOnRenderThread(@NotNull Runnable task) {
+        NullUtils.checkNulls(task, "task");
+
+        return this.submit(new Callable<Void>() {
+            @Override
+            public Void call() {
+                task.run();
+
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Run a task on the render thread and get its result
+     * 
+     * @param <T> The type of the result
+     * 
+     * @param task The task to run
+     * 
+     * @return A future that completes with the result of the task once it has run (Or exceptionally if the task throws or the queue is closed)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull <T> CompletableFuture<T> submit(@NotNull Callable<T> task) {
+        NullUtils.checkNulls(task, "task");
+
+        RenderTask<T> renderTask = new RenderTask<T>(task);
+
+        if (Thread.currentThread() == this.renderThread) {
+            renderTask.run();
+
+            return renderTask.future;
+        }
+
+        this.pending.incrementAndGet();
+        this.tasks.add(renderTask);
+
+        // The queue may have been closed while the task was being added, so it is drained again
+        if (this.closed) {
+            this.close();
+        }
+
+        Runnable wakeUp = this.wakeUp;
+        if (wakeUp != null) {
+            wakeUp.run();
+        }
+
+        return renderTask.future;
+    }
+
+    /**
+     * Run waiting tasks until there are none left or the budget is used up (Called by the render loop between frames)
+     * 
+     * At least one task is run every call, so a task that takes longer than the budget can't stall the queue
+     * 
+     * @param budget How many milliseconds may be spent running tasks
+     * 
+     * @return How many tasks were run
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer run(@NotNull Float budget) {
+        NullUtils.checkNulls(budget, "budget");
+
+        Long start = System.nanoTime();
+        Integer ran = 0;
+
+        RenderTask<?> task;
+        while ((task = this.tasks.poll()) != null) {
+            this.pending.decrementAndGet();
+
+            task.run();
+            ran++;
+
+            if (System.nanoTime() - start >= budget * 1000000f) {
+                break;
+            }
+        }
+
+        return ran;
+    }
+
+    /**
+     * Cancel every waiting task and every task added later (Called when the render loop stops, so nothing waits on a task that will never run)
+     * 
+     * @return How many tasks were cancelled
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer close() {
+        this.closed = true;
+
+        Integer cancelled = 0;
+
+        RenderTask<?> task;
+        while ((task = this.tasks.poll()) != null) {
+            this.pending.decrementAndGet();
+
+            task.future.cancel(false);
+            cancelled++;
+        }
+
+        return cancelled;
+    }
+
+    /**
+     * Get how many tasks are waiting to be run
+     * 
+     * @return The amount of waiting tasks
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getPending() {
+        return this.pending.get();
+    }
+
+    /**
+     * Get the thread that runs the tasks
+     * 
+     * @return The render thread (Null until the render loop starts)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable Thread getRenderThread() {
+        return this.renderThread;
+    }
+
+    /**
+     * Set the thread that runs the tasks (Tasks added from it are run straight away)
+     * 
+     * @param renderThread The render thread
+     * 
+     * @since 2.6.0
+     */
+    public void setRenderThread(@Nullable Thread renderThread) {
+        this.renderThread = renderThread;
+    }
+
+    /**
+     * Set the listener called whenever a task is added from another thread
+     * 
+     * @param wakeUp The listener (Null for none)
+     * 
+     * @since 2.6.0
+     */
+    public void setWakeUp(@Nullable Runnable wakeUp) {
+        this.wakeUp = wakeUp;
+    }
+
+    /**
+     * A task waiting to be run and the future of its result (Only used internally)
+     * 
+     * @param <T> The type of the result
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class RenderTask<T> {
+        /**
+         * The task to run
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull Callable<T> task;
+
+        /**
+         * The future of the result of the task
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull CompletableFuture<T> future = new CompletableFuture<T>();
+
+        /**
+         * Create a render task
+         * 
+         * @param task The task to run
+         * 
+         * @since 2.6.0
+         */
+        public RenderTask(@NotNull Callable<T> task) {
+            this.task = task;
+        }
+
+        /**
+         * Run the task and complete its future (Tasks whose future was already cancelled are skipped)
+         * 
+         * @since 2.6.0
+         */
+        public void run() {
+            if (this.future.isDone()) {
+                return;
+            }
+
+            try {
+                this.future.complete(this.task.call());
+            } catch (Throwable e) {
+                this.future.completeExceptionally(e);
+            }
+        }
+    }
+}
\ No newline at end of file
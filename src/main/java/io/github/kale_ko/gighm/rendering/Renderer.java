@@ -1,38 +1,49 @@
 package io.github.kale_ko.gighm.rendering;
 
-import static org.lwjgl.opengl.GL33C.*;
-import static org.lwjgl.system.MemoryUtil.NULL;
+import static org.lwjgl.glfw.GLFW.glfwPostEmptyEvent;
 import java.awt.Color;
-import java.nio.FloatBuffer;
-import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.joml.FrustumIntersection;
 import org.joml.Matrix4f;
+import org.joml.Quaternionf;
 import org.joml.Vector3f;
-import org.lwjgl.BufferUtils;
-import org.lwjgl.opengl.GL;
+import org.joml.Vector4f;
 import io.github.kale_ko.gighm.exception.AlreadyInitializedException;
-import io.github.kale_ko.gighm.exception.GLCompileException;
 import io.github.kale_ko.gighm.exception.IncorrectThreadException;
 import io.github.kale_ko.gighm.exception.NotInitializedException;
+import io.github.kale_ko.gighm.rendering.backend.DrawCommand;
+import io.github.kale_ko.gighm.rendering.backend.OpenGLBackend;
+import io.github.kale_ko.gighm.rendering.backend.RenderBackend;
+import io.github.kale_ko.gighm.rendering.backend.RenderFrame;
+import io.github.kale_ko.gighm.rendering.backend.RenderPass;
 import io.github.kale_ko.gighm.rendering.objects.Skybox;
 import io.github.kale_ko.gighm.rendering.shaders.Shader;
 import io.github.kale_ko.gighm.rendering.textures.Texture2D;
 import io.github.kale_ko.gighm.scene.GameObject;
 import io.github.kale_ko.gighm.scene.Scene;
 import io.github.kale_ko.gighm.scene.components.Camera;
+import io.github.kale_ko.gighm.scene.components.Component;
+import io.github.kale_ko.gighm.scene.components.Light;
 import io.github.kale_ko.gighm.scene.components.Mesh;
 import io.github.kale_ko.gighm.scene.components.Transform;
-import io.github.kale_ko.gighm.util.ArrayUtils;
 import io.github.kale_ko.gighm.util.NotNull;
 import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
 
 /**
  * A renderer for rendering scenes to windows
  * 
  * @author Kale Ko
  * 
- * @version 1.5.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class Renderer {
@@ -50,6 +61,13 @@ public class Renderer {
      */
     private @NotNull Camera camera;
 
+    /**
+     * The cameras to render from besides the main one
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<Camera> cameras = new ArrayList<Camera>();
+
     /**
      * The shader to use while rendering
      * 
@@ -71,6 +89,20 @@ public class Renderer {
      */
     private @NotNull Color clearColor;
 
+    /**
+     * The light every lit mesh gets regardless of the lights of the scene
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Color ambientLight = new Color(51, 51, 51);
+
+    /**
+     * The lights of the current frame, reused between frames (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<Light> lights = new ArrayList<Light>();
+
     /**
      * Weather the window is initialized
      * 
@@ -79,53 +111,186 @@ public class Renderer {
     private @NotNull Boolean initialized = false;
 
     /**
-     * A map of shaders to their gl program ids (Only used internally)
+     * The backend that submits the draw commands
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull RenderBackend backend = new OpenGLBackend();
+
+    /**
+     * The number of frames rendered so far (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Long frameNumber = 0l;
+
+    /**
+     * The draw commands of the skybox and dynamic objects of the current pass, reused between frames (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<DrawCommand> commands = new ArrayList<DrawCommand>();
+
+    /**
+     * How many of the draw commands are used this pass (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer commandCount = 0;
+
+    /**
+     * The draw commands submitted for the current pass, the skybox, then the cached static commands, then the dynamic ones (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<DrawCommand> passCommands = new ArrayList<DrawCommand>();
+
+    /**
+     * The static drawable objects of the scene, only gathered again when the static objects of the scene change (Only used internally)
      * 
-     * @since 1.3.0
+     * @since 2.6.0
      */
-    private @NotNull Map<Shader, Integer> shaderPrograms = new HashMap<Shader, Integer>();
+    private @NotNull List<RenderObject> staticObjects = new ArrayList<RenderObject>();
 
     /**
-     * A map of shaders to their gl vertex shader ids (Only used internally)
+     * The scene the static objects were gathered from (Only used internally)
      * 
-     * @since 1.3.0
+     * @since 2.6.0
      */
-    private @NotNull Map<Shader, Integer> shaderVertexShaders = new HashMap<Shader, Integer>();
+    private @Nullable Scene staticScene = null;
 
     /**
-     * A map of shaders to their gl fragment shader ids (Only used internally)
+     * The static version of the scene the static objects were gathered at (Only used internally)
      * 
-     * @since 1.3.0
+     * @since 2.6.0
      */
-    private @NotNull Map<Shader, Integer> shaderFragmentShaders = new HashMap<Shader, Integer>();
+    private @NotNull Long staticVersion = -1l;
 
     /**
-     * A map of meshes to their gl vertex buffer ids (Only used internally)
+     * How many times the static objects have been gathered, cached draw lists older than this are rebuilt (Only used internally)
      * 
-     * @since 1.3.0
+     * @since 2.6.0
      */
-    private @NotNull Map<Mesh, Integer> meshVertBuffers = new HashMap<Mesh, Integer>();
+    private @NotNull Long staticBuilds = 0l;
 
     /**
-     * A map of meshes to their gl uv buffer ids (Only used internally)
+     * A map of cameras to the cached draw list of the static objects they see (Only used internally)
      * 
-     * @since 1.3.0
+     * @since 2.6.0
      */
-    private @NotNull Map<Mesh, Integer> meshUvBuffers = new HashMap<Mesh, Integer>();
+    private @NotNull Map<Camera, StaticDrawList> staticDrawLists = new HashMap<Camera, StaticDrawList>();
 
     /**
-     * A map of meshes to their gl triangle buffer ids (Only used internally)
+     * The dynamic drawable objects of the current frame, shared by every camera and reused between frames (Only used internally)
      * 
-     * @since 1.3.0
+     * @since 2.6.0
      */
-    private @NotNull Map<Mesh, Integer> meshTriBuffers = new HashMap<Mesh, Integer>();
+    private @NotNull List<RenderObject> objects = new ArrayList<RenderObject>();
 
     /**
-     * A map of textures to their gl texture ids (Only used internally)
+     * The amount of drawable objects in the current frame (Only used internally)
      * 
-     * @since 1.3.0
+     * @since 2.6.0
      */
-    private @NotNull Map<Texture2D, Integer> textures = new HashMap<Texture2D, Integer>();
+    private @NotNull Integer objectCount = 0;
+
+    /**
+     * How many milliseconds of each frame may be spent preparing queued meshes
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float prepareBudget = 4f;
+
+    /**
+     * The controller that scales the resolution the scene is rendered at (Null to always render at full resolution)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable DynamicResolution dynamicResolution = null;
+
+    /**
+     * Weather the window only redraws when the scene changed or a redraw was requested
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean onDemand = false;
+
+    /**
+     * Weather a redraw was requested since the last frame (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private volatile @NotNull Boolean redrawRequested = true;
+
+    /**
+     * The state of the scene the last frame was rendered with (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull SceneState renderedState = new SceneState();
+
+    /**
+     * A reusable state of the scene to compare with the rendered one (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull SceneState currentState = new SceneState();
+
+    /**
+     * The meshes waiting to be prepared (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Queue<PrepareTask> prepareQueue = new ConcurrentLinkedQueue<PrepareTask>();
+
+    /**
+     * The prepared meshes the backend is still uploading in the background, whose progress is only completed once they are on the gpu (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<PrepareTask> uploadingPrepares = new ArrayList<PrepareTask>();
+
+    /**
+     * The time the renderer was initialized in nanoseconds (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Long startTime = 0l;
+
+    /**
+     * The time the last frame was rendered in nanoseconds (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Long lastFrameTime = null;
+
+    /**
+     * How long the renderer spent building and submitting the last frame in seconds, without the time the window waits on the swap and vsync (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float lastCpuTime = 0f;
+
+    /**
+     * The meshes of the skybox (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Mesh[] skyboxMeshes;
+
+    /**
+     * The size the skybox meshes were built with (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Float skyboxSize;
+
+    /**
+     * The textures the skybox meshes were built with (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Texture2D[] skyboxTextures;
 
     /**
      * Create a renderer
@@ -190,7 +355,7 @@ public class Renderer {
     }
 
     /**
-     * Initialize the renderer (Must be called from a {@link Window})
+     * Initialize the renderer (Must be called from a {@link Window} if the backend needs one)
      * 
      * @throws AlreadyInitializedException If the renderer is already initialized
      * @throws IncorrectThreadException If the method is not called from the window
@@ -198,7 +363,7 @@ public class Renderer {
      * @since 1.0.0
      */
     public void init() throws AlreadyInitializedException, IncorrectThreadException {
-        if (!Thread.currentThread().getName().startsWith("GIGHM-")) {
+        if (this.backend.getRequiresWindow() && !Thread.currentThread().getName().startsWith("GIGHM-")) {
             throw new IncorrectThreadException("You can only call this method from a Window");
         }
 
@@ -208,13 +373,13 @@ public class Renderer {
 
         this.initialized = true;
 
-        GL.createCapabilities();
-        glEnable(GL_DEPTH_TEST);
-        glEnable(GL_TEXTURE_2D);
+        this.backend.init(this);
+
+        this.startTime = System.nanoTime();
     }
 
     /**
-     * Render the scene to the window (Must be called from a {@link Window})
+     * Render the scene to the window (Must be called from a {@link Window} if the backend needs one)
      * 
      * @throws NotInitializedException If the renderer is not initialized
      * @throws IncorrectThreadException If the method is not called from the window
@@ -222,7 +387,7 @@ public class Renderer {
      * @since 1.0.0
      */
     public void render() throws NotInitializedException, IncorrectThreadException {
-        if (!Thread.currentThread().getName().startsWith("GIGHM-")) {
+        if (this.backend.getRequiresWindow() && !Thread.currentThread().getName().startsWith("GIGHM-")) {
             throw new IncorrectThreadException("You can only call this method from a Window");
         }
 
@@ -230,395 +395,582 @@ public class Renderer {
             throw new NotInitializedException("The renderer is not initialized");
         }
 
-        glClearColor(((float) this.clearColor.getRed()) / 255f, ((float) this.clearColor.getGreen()) / 255f, ((float) this.clearColor.getBlue()) / 255f, 1.0f);
+        this.processPrepareQueue();
 
-        glClear(GL_COLOR_BUFFER_BIT | GL_DEPTH_BUFFER_BIT);
+        if (this.onDemand) {
+            this.redrawRequested = false;
 
-        if (!this.shaderPrograms.containsKey(shader)) {
-            Integer programId = glCreateProgram();
-            this.shaderPrograms.put(shader, programId);
+            this.captureState(this.currentState);
 
-            Integer vertexId = glCreateShader(GL_VERTEX_SHADER);
-            this.shaderVertexShaders.put(shader, vertexId);
-            glShaderSource(vertexId, shader.getVertexSource());
-            glCompileShader(vertexId);
-            if (glGetShaderi(vertexId, GL_COMPILE_STATUS) != GL_TRUE) {
-                System.err.println(glGetShaderInfoLog(vertexId));
+            SceneState renderedState = this.renderedState;
+            this.renderedState = this.currentState;
+            this.currentState = renderedState;
+        }
 
-                throw new GLCompileException("Failed to compile vertex shader");
-            }
+        Long now = System.nanoTime();
+        Float time = (now - this.startTime) / 1000000000f;
+        Float delta = this.lastFrameTime != null ? (now - this.lastFrameTime) / 1000000000f : 0f;
+        this.lastFrameTime = now;
 
-            Integer fragmentId = glCreateShader(GL_FRAGMENT_SHADER);
-            this.shaderFragmentShaders.put(shader, fragmentId);
-            glShaderSource(fragmentId, shader.getFragmentSource());
-            glCompileShader(fragmentId);
-            if (glGetShaderi(fragmentId, GL_COMPILE_STATUS) != GL_TRUE) {
-                System.err.println(glGetShaderInfoLog(fragmentId));
+        this.lights.clear();
+        for (GameObject object : this.scene.getObjects()) {
+            Light light = object.getComponent(Light.class);
 
-                throw new GLCompileException("Failed to compile fragment shader");
+            if (light != null) {
+                this.lights.add(light);
             }
+        }
 
-            glAttachShader(programId, vertexId);
-            glAttachShader(programId, fragmentId);
-
-            glBindAttribLocation(programId, 0, "vertices");
-            glBindAttribLocation(programId, 1, "uvs");
+        // The time between frames sits at the vsync interval no matter how fast the frame was built, so the controller is given the time spent rendering instead
+        Float renderScale = this.dynamicResolution != null ? this.dynamicResolution.update(this.lastCpuTime) : 1f;
 
-            glLinkProgram(programId);
-            if (glGetProgrami(programId, GL_LINK_STATUS) != GL_TRUE) {
-                System.err.println(glGetProgramInfoLog(programId));
+        if (this.scene != this.staticScene || !this.scene.getStaticVersion().equals(this.staticVersion)) {
+            this.gatherStaticObjects();
+        }
 
-                throw new GLCompileException("Failed to compile shader program");
+        // World matrices and bounds of dynamic objects are worked out once a frame and shared by every camera
+        this.objectCount = 0;
+        for (GameObject object : this.scene.getObjects()) {
+            if (object.getStatic()) {
+                continue;
             }
-            glValidateProgram(programId);
-            if (glGetProgrami(programId, GL_VALIDATE_STATUS) != GL_TRUE) {
-                System.err.println(glGetProgramInfoLog(programId));
 
-                throw new GLCompileException("Failed to compile shader program");
+            Mesh mesh = object.getComponent(Mesh.class);
+
+            if (mesh != null) {
+                if (this.objectCount == this.objects.size()) {
+                    this.objects.add(new RenderObject());
+                }
+
+                this.objects.get(this.objectCount++).set(object, mesh);
             }
         }
 
-        glUseProgram(this.shaderPrograms.get(shader));
-
-        if (this.skybox != null) {
-            glDisable(GL_DEPTH_TEST);
-
-            Float size = this.camera.getNear() * 2;
-            Mesh[] skyboxMeshes = new Mesh[] {
-                new Mesh(new Float[] {
-                    -size, size, size,
-                    size, size, size,
-                    size, -size, size,
-
-                    -size, size, size,
-                    -size, -size, size,
-                    size, -size, size
-                }, 3, this.skybox.front, new Float[] {
-                    0f, 0f,
-                    1f, 0f,
-                    1f, 1f,
-
-                    0f, 0f,
-                    0f, 1f,
-                    1f, 1f
-                }),
-                new Mesh(new Float[] {
-                    -size, size, -size,
-                    size, size, -size,
-                    size, -size, -size,
-
-                    -size, size, -size,
-                    -size, -size, -size,
-                    size, -size, -size
-                }, 3, this.skybox.back, new Float[] {
-                    1f, 0f,
-                    0f, 0f,
-                    0f, 1f,
-
-                    1f, 0f,
-                    1f, 1f,
-                    0f, 1f
-                }),
-                new Mesh(new Float[] {
-                    -size, -size, size,
-                    -size, size, size,
-                    -size, size, -size,
-
-                    -size, -size, size,
-                    -size, -size, -size,
-                    -size, size, -size
-                }, 3, this.skybox.left, new Float[] {
-                    1f, 1f,
-                    1f, 0f,
-                    0f, 0f,
-
-                    1f, 1f,
-                    0f, 1f,
-                    0f, 0f
-                }),
-                new Mesh(new Float[] {
-                    size, -size, size,
-                    size, size, size,
-                    size, size, -size,
-
-                    size, -size, size,
-                    size, -size, -size,
-                    size, size, -size
-                }, 3, this.skybox.right, new Float[] {
-                    0f, 1f,
-                    0f, 0f,
-                    1f, 0f,
-
-                    0f, 1f,
-                    1f, 1f,
-                    1f, 0f
-                }),
-                new Mesh(new Float[] {
-                    -size, size, size,
-                    size, size, size,
-                    size, size, -size,
-
-                    -size, size, size,
-                    -size, size, -size,
-                    size, size, -size
-                }, 3, this.skybox.top, new Float[] {
-                    0f, 1f,
-                    1f, 1f,
-                    1f, 0f,
-
-                    0f, 1f,
-                    0f, 0f,
-                    1f, 0f
-                }),
-                new Mesh(new Float[] {
-                    -size, -size, size,
-                    size, -size, size,
-                    size, -size, -size,
-
-                    -size, -size, size,
-                    -size, -size, -size,
-                    size, -size, -size
-                }, 3, this.skybox.bottom, new Float[] {
-                    0f, 1f,
-                    1f, 1f,
-                    1f, 0f,
-
-                    0f, 1f,
-                    0f, 0f,
-                    1f, 0f
-                })
-            };
-
-            for (Mesh mesh : skyboxMeshes) {
-                if (!this.meshVertBuffers.containsKey(mesh)) {
-                    Integer vertId = glGenBuffers();
-                    this.meshVertBuffers.put(mesh, vertId);
-
-                    FloatBuffer vertBuffer = BufferUtils.createFloatBuffer(mesh.getVertices().length);
-                    vertBuffer.put(ArrayUtils.toPrimitive(mesh.getVertices()));
-                    vertBuffer.flip();
-
-                    glBindBuffer(GL_ARRAY_BUFFER, vertId);
-                    glBufferData(GL_ARRAY_BUFFER, vertBuffer, GL_STATIC_DRAW);
-
-                    glBindBuffer(GL_ARRAY_BUFFER, 0);
-
-                    if (mesh.getUVs() != null) {
-                        Integer uvId = glGenBuffers();
-                        this.meshUvBuffers.put(mesh, uvId);
-
-                        FloatBuffer uvBuffer = BufferUtils.createFloatBuffer(mesh.getUVs().length);
-                        uvBuffer.put(ArrayUtils.toPrimitive(mesh.getUVs()));
-                        uvBuffer.flip();
-
-                        glBindBuffer(GL_ARRAY_BUFFER, uvId);
-                        glBufferData(GL_ARRAY_BUFFER, uvBuffer, GL_STATIC_DRAW);
-
-                        glBindBuffer(GL_ARRAY_BUFFER, 0);
-                    }
-
-                    if (mesh.getTriangles() != null) {
-                        Integer triId = glGenBuffers();
-                        this.meshTriBuffers.put(mesh, triId);
-
-                        IntBuffer triBuffer = BufferUtils.createIntBuffer(mesh.getTriangles().length);
-                        triBuffer.put(ArrayUtils.toPrimitive(mesh.getTriangles()));
-                        triBuffer.flip();
-
-                        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, triId);
-                        glBufferData(GL_ELEMENT_ARRAY_BUFFER, triBuffer, GL_STATIC_DRAW);
-
-                        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
-                    }
-                }
+        Boolean shadows = false;
+        for (Light light : this.lights) {
+            shadows |= light.getCastShadows();
+        }
 
-                Texture2D texture = mesh.getTexture();
-                if (texture != null) {
-                    if (!this.textures.containsKey(texture)) {
-                        Integer textureId = glGenTextures();
-                        this.textures.put(texture, textureId);
-                        glBindTexture(GL_TEXTURE_2D, textureId);
+        List<Camera> cameras = this.getCameras();
 
-                        glTexParameterf(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
-                        glTexParameterf(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+        Long frameNumber = this.frameNumber++;
+        Integer usedCommands = 0;
+        for (Integer i = 0; i < cameras.size(); i++) {
+            Camera camera = cameras.get(i);
 
-                        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, texture.getWidth(), texture.getHeight(), 0, GL_RGBA, GL_UNSIGNED_BYTE, texture.getRawData());
-                    }
+            Matrix4f view = camera.getViewMatrix();
+            Matrix4f projection = camera.getProjectionMatrix();
+            Color clearColor = camera.getClearColor() != null ? camera.getClearColor() : this.clearColor;
+            Boolean isMain = camera == this.camera;
 
-                    Integer loc = glGetUniformLocation(this.shaderPrograms.get(shader), "sampler");
-                    glUniform1i(loc, this.textures.get(texture));
+            RenderPass pass = new RenderPass(camera.getViewport(), camera.getClearFlags() == Camera.ClearFlags.COLOR_AND_DEPTH, camera.getClearFlags() != Camera.ClearFlags.NONE, camera.getTarget(), isMain, i, cameras.size());
 
-                    glActiveTexture(GL_TEXTURE0 + this.textures.get(texture));
-                    glBindTexture(GL_TEXTURE_2D, this.textures.get(texture));
-                } else {
-                    Integer loc = glGetUniformLocation(this.shaderPrograms.get(shader), "sampler");
-                    glUniform1i(loc, -1);
+            this.backend.beginFrame(new RenderFrame(frameNumber, clearColor, view, projection, time, delta, this.lights, this.ambientLight, renderScale, pass));
 
-                    glActiveTexture(0);
-                    glBindTexture(GL_TEXTURE_2D, 0);
-                }
+            this.commandCount = 0;
+            this.passCommands.clear();
+
+            if (this.skybox != null && camera.getClearFlags() == Camera.ClearFlags.COLOR_AND_DEPTH) {
+                Vector3f position = camera.getGameObject().getComponent(Transform.class).getPosition();
+                Matrix4f skyboxMatrix = new Matrix4f().translate(new Vector3f(-position.x, -position.y, -position.z));
 
-                Integer projectionLoc = glGetUniformLocation(this.shaderPrograms.get(shader), "projection");
-                FloatBuffer projectionBuffer = BufferUtils.createFloatBuffer(16);
-                camera.getProjection().mul(new Matrix4f().translate(new Vector3f(-camera.getGameObject().getComponent(Transform.class).getPosition().x, -camera.getGameObject().getComponent(Transform.class).getPosition().y, -camera.getGameObject().getComponent(Transform.class).getPosition().z))).get(projectionBuffer);
-                glUniformMatrix4fv(projectionLoc, false, projectionBuffer);
-
-                glEnableVertexAttribArray(0);
-                glEnableVertexAttribArray(1);
-
-                glBindBuffer(GL_ARRAY_BUFFER, this.meshVertBuffers.get(mesh));
-                glVertexAttribPointer(0, mesh.getVerticeSize(), GL_FLOAT, false, 0, NULL);
-
-                Integer hasSamplerLoc = glGetUniformLocation(this.shaderPrograms.get(shader), "hasSampler");
-                glUniform1i(hasSamplerLoc, this.meshUvBuffers.containsKey(mesh) ? 1 : 0);
-
-                if (this.meshUvBuffers.containsKey(mesh)) {
-                    glBindBuffer(GL_ARRAY_BUFFER, this.meshUvBuffers.get(mesh));
-                    glVertexAttribPointer(1, 2, GL_FLOAT, false, 0, NULL);
-                } else {
-                    Integer colorLoc = glGetUniformLocation(this.shaderPrograms.get(shader), "color");
-                    if (mesh.getColor() != null) {
-                        glUniform3f(colorLoc, mesh.getColor().getRed(), mesh.getColor().getGreen(), mesh.getColor().getBlue());
-                    } else {
-                        glUniform3f(colorLoc, 255, 255, 255);
-                    }
+                for (Mesh mesh : this.getSkyboxMeshes()) {
+                    this.addCommand(mesh, skyboxMatrix, false, false);
                 }
+            }
 
-                if (this.meshTriBuffers.containsKey(mesh)) {
-                    glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, this.meshTriBuffers.get(mesh));
+            // Shadow casters outside the view still cast into it, so the pass that renders shadows only culls by layer
+            Boolean culled = !(isMain && shadows);
+            Matrix4f viewProjection = projection.mul(view, new Matrix4f());
+            FrustumIntersection frustum = culled ? new FrustumIntersection(viewProjection) : null;
+            Integer layerMask = camera.getLayerMask();
 
-                    glDrawElements(GL_TRIANGLES, mesh.getTriangles().length, GL_UNSIGNED_INT, 0);
+            this.passCommands.addAll(this.getStaticDrawList(camera, viewProjection, frustum).commands);
 
-                    glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
-                } else {
-                    glDrawArrays(GL_TRIANGLES, 0, mesh.getVertices().length / mesh.getVerticeSize());
-                }
+            for (Integer j = 0; j < this.objectCount; j++) {
+                RenderObject object = this.objects.get(j);
 
-                glBindBuffer(GL_ARRAY_BUFFER, 0);
+                if ((object.layers & layerMask) == 0) {
+                    continue;
+                }
+                if (frustum != null && !frustum.testSphere(object.center.x, object.center.y, object.center.z, object.radius)) {
+                    continue;
+                }
 
-                glDisableVertexAttribArray(0);
-                glDisableVertexAttribArray(1);
+                this.addCommand(object.mesh, object.matrix, true, object.isStatic);
             }
+
+            this.backend.submit(this.passCommands);
+            usedCommands = Math.max(usedCommands, this.commandCount);
+
+            this.backend.endFrame();
         }
 
-        glEnable(GL_DEPTH_TEST);
+        // Pooled commands and objects past what this frame used would keep the meshes they last held alive, so backends could never free them
+        while (this.commands.size() > usedCommands) {
+            this.commands.remove(this.commands.size() - 1);
+        }
+        while (this.objects.size() > this.objectCount) {
+            this.objects.remove(this.objects.size() - 1);
+        }
+        this.passCommands.clear();
+
+        this.lastCpuTime = (System.nanoTime() - now) / 1000000000f;
+    }
+
+    /**
+     * Add a draw command to the current frame, reusing one from an earlier frame if possible
+     * 
+     * @param mesh The mesh to draw
+     * @param matrix The model matrix to draw the mesh with
+     * @param depthTest Weather the mesh is depth tested
+     * @param isStatic Weather the mesh belongs to a static game object
+     * 
+     * @since 2.6.0
+     */
+    private void addCommand(@NotNull Mesh mesh, @NotNull Matrix4f matrix, @NotNull Boolean depthTest, @NotNull Boolean isStatic) {
+        if (this.commandCount == this.commands.size()) {
+            this.commands.add(new DrawCommand(mesh, matrix, depthTest, isStatic));
+        }
+
+        DrawCommand command = this.commands.get(this.commandCount++);
+        command.set(mesh, matrix, depthTest, isStatic);
+
+        this.passCommands.add(command);
+    }
+
+    /**
+     * Gather the static drawable objects of the scene again, working out their world matrices and bounds (Only done when the static objects change)
+     * 
+     * @since 2.6.0
+     */
+    private void gatherStaticObjects() {
+        this.staticObjects.clear();
 
         for (GameObject object : this.scene.getObjects()) {
             Mesh mesh = object.getComponent(Mesh.class);
 
-            if (mesh != null) {
-                if (!this.meshVertBuffers.containsKey(mesh)) {
-                    Integer vertId = glGenBuffers();
-                    this.meshVertBuffers.put(mesh, vertId);
+            if (object.getStatic() && mesh != null) {
+                RenderObject renderObject = new RenderObject();
+                renderObject.set(object, mesh);
 
-                    FloatBuffer vertBuffer = BufferUtils.createFloatBuffer(mesh.getVertices().length);
-                    vertBuffer.put(ArrayUtils.toPrimitive(mesh.getVertices()));
-                    vertBuffer.flip();
+                this.staticObjects.add(renderObject);
+            }
+        }
 
-                    glBindBuffer(GL_ARRAY_BUFFER, vertId);
-                    glBufferData(GL_ARRAY_BUFFER, vertBuffer, GL_STATIC_DRAW);
+        this.staticScene = this.scene;
+        this.staticVersion = this.scene.getStaticVersion();
+        this.staticBuilds++;
+    }
 
-                    glBindBuffer(GL_ARRAY_BUFFER, 0);
+    /**
+     * Get the cached draw list of the static objects a camera sees, only culling them again if the static objects, the layer mask or the culling frustum changed
+     * 
+     * @param camera The camera
+     * @param viewProjection The view projection matrix of the camera
+     * @param frustum The frustum to cull the objects with (Null to only cull by layer)
+     * 
+     * @return The draw list of the camera
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull StaticDrawList getStaticDrawList(@NotNull Camera camera, @NotNull Matrix4f viewProjection, @Nullable FrustumIntersection frustum) {
+        StaticDrawList list = this.staticDrawLists.get(camera);
+        if (list == null) {
+            list = new StaticDrawList();
+            this.staticDrawLists.put(camera, list);
+        }
 
-                    if (mesh.getUVs() != null) {
-                        Integer uvId = glGenBuffers();
-                        this.meshUvBuffers.put(mesh, uvId);
+        Integer layerMask = camera.getLayerMask();
+        Boolean culled = frustum != null;
+        if (list.builds == this.staticBuilds && list.layerMask == layerMask && list.culled == culled && (!culled || list.viewProjection.equals(viewProjection))) {
+            return list;
+        }
 
-                        FloatBuffer uvBuffer = BufferUtils.createFloatBuffer(mesh.getUVs().length);
-                        uvBuffer.put(ArrayUtils.toPrimitive(mesh.getUVs()));
-                        uvBuffer.flip();
+        list.commands.clear();
+        for (RenderObject object : this.staticObjects) {
+            if ((object.layers & layerMask) == 0) {
+                continue;
+            }
+            if (frustum != null && !frustum.testSphere(object.center.x, object.center.y, object.center.z, object.radius)) {
+                continue;
+            }
 
-                        glBindBuffer(GL_ARRAY_BUFFER, uvId);
-                        glBufferData(GL_ARRAY_BUFFER, uvBuffer, GL_STATIC_DRAW);
+            list.commands.add(object.getCommand());
+        }
 
-                        glBindBuffer(GL_ARRAY_BUFFER, 0);
-                    }
+        list.builds = this.staticBuilds;
+        list.layerMask = layerMask;
+        list.culled = culled;
+        list.viewProjection.set(viewProjection);
 
-                    if (mesh.getTriangles() != null) {
-                        Integer triId = glGenBuffers();
-                        this.meshTriBuffers.put(mesh, triId);
+        return list;
+    }
 
-                        IntBuffer triBuffer = BufferUtils.createIntBuffer(mesh.getTriangles().length);
-                        triBuffer.put(ArrayUtils.toPrimitive(mesh.getTriangles()));
-                        triBuffer.flip();
+    /**
+     * Get weather the scene needs to be redrawn (Always true unless the renderer is on demand)
+     * 
+     * An on demand renderer needs to be redrawn when a redraw was requested, meshes are waiting to be prepared or uploaded,
+     * or the cameras, the transform, layers, mesh or light of an object, or the objects of the scene changed since the last frame
+     * 
+     * @return Weather the scene needs to be redrawn
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getNeedsRedraw() {
+        if (!this.onDemand || this.redrawRequested || !this.prepareQueue.isEmpty() || !this.uploadingPrepares.isEmpty()) {
+            return true;
+        }
 
-                        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, triId);
-                        glBufferData(GL_ELEMENT_ARRAY_BUFFER, triBuffer, GL_STATIC_DRAW);
+        this.captureState(this.currentState);
 
-                        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
-                    }
+        return !this.currentState.matches(this.renderedState);
+    }
+
+    /**
+     * Request that the scene is redrawn next frame, even if it didn't change (Can be called from any thread, wakes up an idle window)
+     * 
+     * @since 2.6.0
+     */
+    public void requestRedraw() {
+        this.redrawRequested = true;
+
+        if (this.initialized && this.backend.getRequiresWindow()) {
+            glfwPostEmptyEvent();
+        }
+    }
+
+    /**
+     * Get weather any component of the scene needs to be ticked (Ticking stops while an on demand renderer is idle unless one does)
+     * 
+     * @return Weather any component needs to be ticked
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getNeedsTicks() {
+        for (GameObject object : this.scene.getObjects()) {
+            for (Component component : object.getComponents()) {
+                if (component.getNeedsTicks()) {
+                    return true;
                 }
+            }
+        }
 
-                Texture2D texture = mesh.getTexture();
-                if (texture != null) {
-                    if (!this.textures.containsKey(texture)) {
-                        Integer textureId = glGenTextures();
-                        this.textures.put(texture, textureId);
-                        glBindTexture(GL_TEXTURE_2D, textureId);
+        return false;
+    }
 
-                        glTexParameterf(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
-                        glTexParameterf(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+    /**
+     * Capture everything about the scene that changes how it is drawn
+     * 
+     * Transforms are compared by value, because their vectors can be changed in place without calling a setter
+     * 
+     * @param state The state to capture into
+     * 
+     * @since 2.6.0
+     */
+    private void captureState(@NotNull SceneState state) {
+        state.clear();
+
+        state.add(this.scene);
+        state.add(this.shader);
+        state.add(this.skybox);
+        state.add(this.clearColor);
+        state.add(this.ambientLight);
+
+        for (Camera camera : this.getCameras()) {
+            state.add(camera);
+            state.add(camera.getProjectionMatrix());
+            if (camera.getGameObject() != null) {
+                state.add(camera.getGameObject().getComponent(Transform.class));
+            }
 
-                        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, texture.getWidth(), texture.getHeight(), 0, GL_RGBA, GL_UNSIGNED_BYTE, texture.getRawData());
-                    }
+            Vector4f viewport = camera.getViewport();
+            state.add(viewport.x);
+            state.add(viewport.y);
+            state.add(viewport.z);
+            state.add(viewport.w);
+            state.add(camera.getClearFlags());
+            state.add(camera.getClearColor());
+            state.add(camera.getLayerMask() & 0xFFFF);
+            state.add(camera.getLayerMask() >>> 16);
+            state.add(camera.getTarget());
+        }
 
-                    Integer loc = glGetUniformLocation(this.shaderPrograms.get(shader), "sampler");
-                    glUniform1i(loc, this.textures.get(texture));
+        for (GameObject object : this.scene.getObjects()) {
+            state.add(object);
+            state.add(object.getLayers() & 0xFFFF);
+            state.add(object.getLayers() >>> 16);
+            state.add(object.getComponent(Transform.class));
+            state.add(object.getComponent(Mesh.class));
+
+            Light light = object.getComponent(Light.class);
+            state.add(light);
+            if (light != null) {
+                state.add(light.getColor());
+                state.add(light.getIntensity().floatValue());
+                state.add(light.getRange().floatValue());
+                state.add(light.getInnerAngle().floatValue());
+                state.add(light.getOuterAngle().floatValue());
+                state.add(light.getCastShadows() ? 1f : 0f);
+            }
+        }
+    }
 
-                    glActiveTexture(GL_TEXTURE0 + this.textures.get(texture));
-                    glBindTexture(GL_TEXTURE_2D, this.textures.get(texture));
-                } else {
-                    Integer loc = glGetUniformLocation(this.shaderPrograms.get(shader), "sampler");
-                    glUniform1i(loc, -1);
+    /**
+     * Prepare every mesh, texture and shader variant a scene needs (And the skybox) so its first frame doesn't stall on uploads
+     * (Can be called from any thread, the work is done at the start of each frame within the prepare budget)
+     * 
+     * @param scene The scene to prepare
+     * 
+     * @return The progress of preparing the scene
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull PrepareProgress prepare(@NotNull Scene scene) {
+        NullUtils.checkNulls(scene, "scene");
 
-                    glActiveTexture(0);
-                    glBindTexture(GL_TEXTURE_2D, 0);
-                }
+        List<Mesh> meshes = new ArrayList<Mesh>();
+        meshes.add(null);
+        for (GameObject object : new ArrayList<GameObject>(scene.getObjects())) {
+            Mesh mesh = object.getComponent(Mesh.class);
 
-                Integer projectionLoc = glGetUniformLocation(this.shaderPrograms.get(shader), "projection");
-                FloatBuffer projectionBuffer = BufferUtils.createFloatBuffer(16);
-                camera.getProjection().mul(object.getComponent(Transform.class).getMatrix()).get(projectionBuffer);
-                glUniformMatrix4fv(projectionLoc, false, projectionBuffer);
-
-                glEnableVertexAttribArray(0);
-                glEnableVertexAttribArray(1);
-
-                glBindBuffer(GL_ARRAY_BUFFER, this.meshVertBuffers.get(mesh));
-                glVertexAttribPointer(0, mesh.getVerticeSize(), GL_FLOAT, false, 0, NULL);
-
-                Integer hasSamplerLoc = glGetUniformLocation(this.shaderPrograms.get(shader), "hasSampler");
-                glUniform1i(hasSamplerLoc, this.meshUvBuffers.containsKey(mesh) ? 1 : 0);
-
-                if (this.meshUvBuffers.containsKey(mesh)) {
-                    glBindBuffer(GL_ARRAY_BUFFER, this.meshUvBuffers.get(mesh));
-                    glVertexAttribPointer(1, 2, GL_FLOAT, false, 0, NULL);
-                } else {
-                    Integer colorLoc = glGetUniformLocation(this.shaderPrograms.get(shader), "color");
-                    if (mesh.getColor() != null) {
-                        glUniform3f(colorLoc, mesh.getColor().getRed(), mesh.getColor().getGreen(), mesh.getColor().getBlue());
-                    } else {
-                        glUniform3f(colorLoc, 255, 255, 255);
-                    }
-                }
+            if (mesh != null) {
+                meshes.add(mesh);
+            }
+        }
 
-                if (this.meshTriBuffers.containsKey(mesh)) {
-                    glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, this.meshTriBuffers.get(mesh));
+        return this.prepare(meshes);
+    }
+
+    /**
+     * Prepare the mesh, texture and shader variant an object needs so it doesn't stall the frame it first appears in
+     * (Can be called from any thread, the work is done at the start of each frame within the prepare budget)
+     * 
+     * @param object The object to prepare
+     * 
+     * @return The progress of preparing the object
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull PrepareProgress prepare(@NotNull GameObject object) {
+        NullUtils.checkNulls(object, "object");
 
-                    glDrawElements(GL_TRIANGLES, mesh.getTriangles().length, GL_UNSIGNED_INT, 0);
+        List<Mesh> meshes = new ArrayList<Mesh>();
 
-                    glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
-                } else {
-                    glDrawArrays(GL_TRIANGLES, 0, mesh.getVertices().length / mesh.getVerticeSize());
-                }
+        Mesh mesh = object.getComponent(Mesh.class);
+        if (mesh != null) {
+            meshes.add(mesh);
+        }
 
-                glBindBuffer(GL_ARRAY_BUFFER, 0);
+        return this.prepare(meshes);
+    }
+
+    /**
+     * Queue meshes to be prepared
+     * 
+     * @param meshes The meshes to prepare (Null entries prepare the skybox)
+     * 
+     * @return The progress of preparing the meshes
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull PrepareProgress prepare(@NotNull List<Mesh> meshes) {
+        PrepareProgress progress = new PrepareProgress(meshes.size());
+
+        for (Mesh mesh : meshes) {
+            this.prepareQueue.add(new PrepareTask(mesh, progress));
+        }
+
+        return progress;
+    }
+
+    /**
+     * Prepare queued meshes until the queue is empty or the prepare budget is used up (At least one mesh is prepared every frame)
+     * 
+     * @since 2.6.0
+     */
+    private void processPrepareQueue() {
+        Long start = System.nanoTime();
+
+        for (Integer i = 0; i < this.uploadingPrepares.size(); i++) {
+            PrepareTask task = this.uploadingPrepares.get(i);
+
+            if (this.getPrepared(task.meshes)) {
+                task.progress.complete();
+
+                this.uploadingPrepares.remove((int) i--);
+            }
+        }
+
+        PrepareTask task;
+        while ((task = this.prepareQueue.poll()) != null) {
+            if (task.mesh != null) {
+                task.meshes.add(task.mesh);
+            } else if (this.skybox != null) {
+                task.meshes.addAll(Arrays.asList(this.getSkyboxMeshes()));
+            }
+
+            for (Mesh mesh : task.meshes) {
+                this.backend.prepare(mesh);
+            }
+
+            if (this.getPrepared(task.meshes)) {
+                task.progress.complete();
+            } else {
+                this.uploadingPrepares.add(task);
+            }
 
-                glDisableVertexAttribArray(0);
-                glDisableVertexAttribArray(1);
+            if (System.nanoTime() - start >= this.prepareBudget * 1000000f) {
+                break;
             }
         }
     }
 
+    /**
+     * Get weather the backend has every mesh of a list on the gpu
+     * 
+     * @param meshes The meshes
+     * 
+     * @return Weather every mesh is prepared
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean getPrepared(@NotNull List<Mesh> meshes) {
+        for (Mesh mesh : meshes) {
+            if (!this.backend.getPrepared(mesh)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Get the meshes of the skybox, rebuilding them only when the skybox or the cameras near plane changes
+     * 
+     * @return The meshes of the skybox
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Mesh[] getSkyboxMeshes() {
+        Float size = this.camera.getNear() * 2;
+        Texture2D[] textures = new Texture2D[] { this.skybox.front, this.skybox.back, this.skybox.left, this.skybox.right, this.skybox.top, this.skybox.bottom };
+
+        if (this.skyboxMeshes != null && size.equals(this.skyboxSize) && Arrays.equals(textures, this.skyboxTextures)) {
+            return this.skyboxMeshes;
+        }
+
+        this.skyboxMeshes = new Mesh[] {
+            new Mesh(new Float[] {
+                -size, size, size,
+                size, size, size,
+                size, -size, size,
+
+                -size, size, size,
+                -size, -size, size,
+                size, -size, size
+            }, 3, this.skybox.front, new Float[] {
+                0f, 0f,
+                1f, 0f,
+                1f, 1f,
+
+                0f, 0f,
+                0f, 1f,
+                1f, 1f
+            }),
+            new Mesh(new Float[] {
+                -size, size, -size,
+                size, size, -size,
+                size, -size, -size,
+
+                -size, size, -size,
+                -size, -size, -size,
+                size, -size, -size
+            }, 3, this.skybox.back, new Float[] {
+                1f, 0f,
+                0f, 0f,
+                0f, 1f,
+
+                1f, 0f,
+                1f, 1f,
+                0f, 1f
+            }),
+            new Mesh(new Float[] {
+                -size, -size, size,
+                -size, size, size,
+                -size, size, -size,
+
+                -size, -size, size,
+                -size, -size, -size,
+                -size, size, -size
+            }, 3, this.skybox.left, new Float[] {
+                1f, 1f,
+                1f, 0f,
+                0f, 0f,
+
+                1f, 1f,
+                0f, 1f,
+                0f, 0f
+            }),
+            new Mesh(new Float[] {
+                size, -size, size,
+                size, size, size,
+                size, size, -size,
+
+                size, -size, size,
+                size, -size, -size,
+                size, size, -size
+            }, 3, this.skybox.right, new Float[] {
+                0f, 1f,
+                0f, 0f,
+                1f, 0f,
+
+                0f, 1f,
+                1f, 1f,
+                1f, 0f
+            }),
+            new Mesh(new Float[] {
+                -size, size, size,
+                size, size, size,
+                size, size, -size,
+
+                -size, size, size,
+                -size, size, -size,
+                size, size, -size
+            }, 3, this.skybox.top, new Float[] {
+                0f, 1f,
+                1f, 1f,
+                1f, 0f,
+
+                0f, 1f,
+                0f, 0f,
+                1f, 0f
+            }),
+            new Mesh(new Float[] {
+                -size, -size, size,
+                size, -size, size,
+                size, -size, -size,
+
+                -size, -size, size,
+                -size, -size, -size,
+                size, -size, -size
+            }, 3, this.skybox.bottom, new Float[] {
+                0f, 1f,
+                1f, 1f,
+                1f, 0f,
+
+                0f, 1f,
+                0f, 0f,
+                1f, 0f
+            })
+        };
+
+        this.skyboxSize = size;
+        this.skyboxTextures = textures;
+
+        return this.skyboxMeshes;
+    }
+
     /**
      * Get the scene to be rendered
      * 
@@ -664,9 +1016,61 @@ public class Renderer {
     public void setCamera(@NotNull Camera camera) {
         NullUtils.checkNulls(camera, "camera");
 
+        this.staticDrawLists.remove(this.camera);
         this.camera = camera;
     }
 
+    /**
+     * Add a camera to render from besides the main one (Each camera is drawn into its viewport in priority order)
+     * 
+     * @param camera The camera to add
+     * 
+     * @since 2.6.0
+     */
+    public void addCamera(@NotNull Camera camera) {
+        NullUtils.checkNulls(camera, "camera");
+
+        if (camera != this.camera && !this.cameras.contains(camera)) {
+            this.cameras.add(camera);
+        }
+    }
+
+    /**
+     * Remove a camera added with {@link #addCamera(Camera)}
+     * 
+     * @param camera The camera to remove
+     * 
+     * @since 2.6.0
+     */
+    public void removeCamera(@NotNull Camera camera) {
+        NullUtils.checkNulls(camera, "camera");
+
+        this.cameras.remove(camera);
+        this.staticDrawLists.remove(camera);
+    }
+
+    /**
+     * Get every camera to render from, including the main one, in the order they are drawn
+     * 
+     * @return A new list of the cameras
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull List<Camera> getCameras() {
+        List<Camera> cameras = new ArrayList<Camera>();
+        cameras.add(this.camera);
+        cameras.addAll(this.cameras);
+
+        Collections.sort(cameras, new Comparator<Camera>() {
+            @Override
+            public int compare(Camera a, Camera b) {
+                return Integer.compare(a.getPriority(), b.getPriority());
+            }
+        });
+
+        return cameras;
+    }
+
     /**
      * Get the shader to use while rendering
      * 
@@ -715,6 +1119,30 @@ public class Renderer {
         this.clearColor = color;
     }
 
+    /**
+     * Get the light every lit mesh gets regardless of the lights of the scene
+     * 
+     * @return The ambient light
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Color getAmbientLight() {
+        return this.ambientLight;
+    }
+
+    /**
+     * Set the light every lit mesh gets regardless of the lights of the scene (Only used when the scene has lights)
+     * 
+     * @param ambientLight The ambient light
+     * 
+     * @since 2.6.0
+     */
+    public void setAmbientLight(@NotNull Color ambientLight) {
+        NullUtils.checkNulls(ambientLight, "ambientLight");
+
+        this.ambientLight = ambientLight;
+    }
+
     /**
      * Get the skybox to clear the background with
      * 
@@ -739,6 +1167,108 @@ public class Renderer {
         this.skybox = skybox;
     }
 
+    /**
+     * Get the backend that submits the draw commands
+     * 
+     * @return The backend that submits the draw commands
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull RenderBackend getBackend() {
+        return this.backend;
+    }
+
+    /**
+     * Set the backend that submits the draw commands (Must be set before the renderer is initialized)
+     * 
+     * @param backend The backend that submits the draw commands
+     * 
+     * @throws AlreadyInitializedException If the renderer is already initialized
+     * 
+     * @since 2.6.0
+     */
+    public void setBackend(@NotNull RenderBackend backend) throws AlreadyInitializedException {
+        NullUtils.checkNulls(backend, "backend");
+
+        if (this.initialized) {
+            throw new AlreadyInitializedException("The renderer is already initialized");
+        }
+
+        this.backend = backend;
+    }
+
+    /**
+     * Get how many milliseconds of each frame may be spent preparing queued meshes
+     * 
+     * @return The prepare budget in milliseconds
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getPrepareBudget() {
+        return this.prepareBudget;
+    }
+
+    /**
+     * Set how many milliseconds of each frame may be spent preparing queued meshes (Larger budgets load faster but make frames slower, for example use a large budget behind a loading screen)
+     * 
+     * @param prepareBudget The prepare budget in milliseconds
+     * 
+     * @since 2.6.0
+     */
+    public void setPrepareBudget(@NotNull Float prepareBudget) {
+        NullUtils.checkNulls(prepareBudget, "prepareBudget");
+
+        this.prepareBudget = prepareBudget;
+    }
+
+    /**
+     * Get the controller that scales the resolution the scene is rendered at
+     * 
+     * @return The dynamic resolution controller (Null if the scene is always rendered at full resolution)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable DynamicResolution getDynamicResolution() {
+        return this.dynamicResolution;
+    }
+
+    /**
+     * Set the controller that scales the resolution the scene is rendered at (Only the OpenGL backend scales, others always render at full resolution)
+     * 
+     * @param dynamicResolution The dynamic resolution controller (Null to always render at full resolution)
+     * 
+     * @since 2.6.0
+     */
+    public void setDynamicResolution(@Nullable DynamicResolution dynamicResolution) {
+        this.dynamicResolution = dynamicResolution;
+    }
+
+    /**
+     * Get weather the window only redraws when the scene changed or a redraw was requested
+     * 
+     * @return Weather the renderer is on demand
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getOnDemand() {
+        return this.onDemand;
+    }
+
+    /**
+     * Set weather the window only redraws when the scene changed or a redraw was requested (While nothing changes the window sleeps waiting for input, for tools and viewers that would otherwise burn a core while idle)
+     * 
+     * @param onDemand Weather the renderer is on demand
+     * 
+     * @since 2.6.0
+     */
+    public void setOnDemand(@NotNull Boolean onDemand) {
+        NullUtils.checkNulls(onDemand, "onDemand");
+
+        this.onDemand = onDemand;
+
+        this.requestRedraw();
+    }
+
     /**
      * Get weather the renderer is initialized
      * 
@@ -749,4 +1279,343 @@ public class Renderer {
     public @NotNull Boolean getInitialized() {
         return this.initialized;
     }
+
+    /**
+     * A mesh waiting to be prepared (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class PrepareTask {
+        /**
+         * The mesh to prepare (Null to prepare the skybox)
+         * 
+         * @since 2.6.0
+         */
+        public final @Nullable Mesh mesh;
+
+        /**
+         * The progress to report to
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull PrepareProgress progress;
+
+        /**
+         * The meshes handed to the backend (Filled once the task is processed)
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull List<Mesh> meshes = new ArrayList<Mesh>();
+
+        /**
+         * Create a prepare task
+         * 
+         * @param mesh The mesh to prepare (Null to prepare the skybox)
+         * @param progress The progress to report to
+         * 
+         * @since 2.6.0
+         */
+        public PrepareTask(@Nullable Mesh mesh, @NotNull PrepareProgress progress) {
+            this.mesh = mesh;
+            this.progress = progress;
+        }
+    }
+
+    /**
+     * A drawable object of a frame with the work every camera shares done once (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class RenderObject {
+        /**
+         * The mesh of the object
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable Mesh mesh;
+
+        /**
+         * The world matrix of the object (Reused between frames)
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull Matrix4f matrix = new Matrix4f();
+
+        /**
+         * The world center of the bounding sphere of the object
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull Vector3f center = new Vector3f();
+
+        /**
+         * The world radius of the bounding sphere of the object
+         * 
+         * @since 2.6.0
+         */
+        public float radius;
+
+        /**
+         * The layers of the object
+         * 
+         * @since 2.6.0
+         */
+        public int layers;
+
+        /**
+         * Weather the object is static
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Boolean isStatic = false;
+
+        /**
+         * The draw command of the object, shared by every cached draw list it is in (Only created for static objects)
+         * 
+         * @since 2.6.0
+         */
+        private @Nullable DrawCommand command = null;
+
+        /**
+         * Set the object this is for, working out its world matrix and bounds
+         * 
+         * @param object The game object
+         * @param mesh The mesh of the game object
+         * 
+         * @since 2.6.0
+         */
+        public void set(@NotNull GameObject object, @NotNull Mesh mesh) {
+            Transform transform = object.getComponent(Transform.class);
+
+            this.mesh = mesh;
+            this.matrix.translation(transform.getPosition()).rotate(transform.getRotation()).scale(transform.getScale());
+            this.layers = object.getLayers();
+            this.isStatic = object.getStatic();
+
+            Vector4f bounds = mesh.getBounds();
+            Vector3f scale = transform.getScale();
+            this.matrix.transformPosition(this.center.set(bounds.x, bounds.y, bounds.z));
+            this.radius = bounds.w * Math.max(Math.abs(scale.x), Math.max(Math.abs(scale.y), Math.abs(scale.z)));
+        }
+
+        /**
+         * Get the draw command of the object, creating it the first time
+         * 
+         * @return The draw command
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull DrawCommand getCommand() {
+            if (this.command == null) {
+                this.command = new DrawCommand(this.mesh, this.matrix, true, this.isStatic);
+            }
+
+            return this.command;
+        }
+    }
+
+    /**
+     * A cached draw list of the static objects a camera sees (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class StaticDrawList {
+        /**
+         * The draw commands of the static objects that passed culling
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull List<DrawCommand> commands = new ArrayList<DrawCommand>();
+
+        /**
+         * The static builds of the renderer the list was culled at
+         * 
+         * @since 2.6.0
+         */
+        public long builds = -1l;
+
+        /**
+         * The layer mask the list was culled with
+         * 
+         * @since 2.6.0
+         */
+        public int layerMask;
+
+        /**
+         * Weather the list was frustum culled
+         * 
+         * @since 2.6.0
+         */
+        public boolean culled;
+
+        /**
+         * The view projection matrix the list was culled with
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull Matrix4f viewProjection = new Matrix4f();
+    }
+
+    /**
+     * A snapshot of everything about a scene that changes how it is drawn (Only used internally)
+     * 
+     * Objects are compared by identity and transforms by value, the arrays are reused between snapshots
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class SceneState {
+        /**
+         * The captured objects
+         * 
+         * @since 2.6.0
+         */
+        private @NotNull Object[] objects = new Object[64];
+
+        /**
+         * The amount of captured objects
+         * 
+         * @since 2.6.0
+         */
+        private int objectCount = 0;
+
+        /**
+         * The captured values
+         * 
+         * @since 2.6.0
+         */
+        private @NotNull float[] values = new float[256];
+
+        /**
+         * The amount of captured values
+         * 
+         * @since 2.6.0
+         */
+        private int valueCount = 0;
+
+        /**
+         * Clear the snapshot
+         * 
+         * @since 2.6.0
+         */
+        public void clear() {
+            Arrays.fill(this.objects, 0, this.objectCount, null);
+
+            this.objectCount = 0;
+            this.valueCount = 0;
+        }
+
+        /**
+         * Capture an object by identity
+         * 
+         * @param object The object (May be null)
+         * 
+         * @since 2.6.0
+         */
+        public void add(@Nullable Object object) {
+            if (this.objectCount == this.objects.length) {
+                this.objects = Arrays.copyOf(this.objects, this.objects.length * 2);
+            }
+
+            this.objects[this.objectCount++] = object;
+        }
+
+        /**
+         * Capture a value
+         * 
+         * @param value The value
+         * 
+         * @since 2.6.0
+         */
+        public void add(float value) {
+            if (this.valueCount == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.values.length * 2);
+            }
+
+            this.values[this.valueCount++] = value;
+        }
+
+        /**
+         * Capture a matrix by value
+         * 
+         * @param matrix The matrix
+         * 
+         * @since 2.6.0
+         */
+        public void add(@NotNull Matrix4f matrix) {
+            for (int column = 0; column < 4; column++) {
+                for (int row = 0; row < 4; row++) {
+                    this.add(matrix.get(column, row));
+                }
+            }
+        }
+
+        /**
+         * Capture a transform by value (The transform itself is captured by identity too)
+         * 
+         * @param transform The transform (May be null)
+         * 
+         * @since 2.6.0
+         */
+        public void add(@Nullable Transform transform) {
+            this.add((Object) transform);
+
+            if (transform != null) {
+                Vector3f position = transform.getPosition();
+                Quaternionf rotation = transform.getRotation();
+                Vector3f scale = transform.getScale();
+
+                this.add(position.x);
+                this.add(position.y);
+                this.add(position.z);
+                this.add(rotation.x);
+                this.add(rotation.y);
+                this.add(rotation.z);
+                this.add(rotation.w);
+                this.add(scale.x);
+                this.add(scale.y);
+                this.add(scale.z);
+            }
+        }
+
+        /**
+         * Get weather two snapshots captured the same state
+         * 
+         * @param state The other snapshot
+         * 
+         * @return Weather the snapshots are the same
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Boolean matches(@NotNull SceneState state) {
+            if (this.objectCount != state.objectCount || this.valueCount != state.valueCount) {
+                return false;
+            }
+
+            for (int i = 0; i < this.objectCount; i++) {
+                if (this.objects[i] != state.objects[i]) {
+                    return false;
+                }
+            }
+
+            for (int i = 0; i < this.valueCount; i++) {
+                if (Float.floatToIntBits(this.values[i]) != Float.floatToIntBits(state.values[i])) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
 }
\ No newline at end of file
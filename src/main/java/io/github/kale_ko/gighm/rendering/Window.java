@@ -7,12 +7,16 @@ import static org.lwjgl.system.MemoryStack.*;
 import static org.lwjgl.system.MemoryUtil.NULL;
 import java.nio.IntBuffer;
 import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import org.joml.Vector2f;
 import org.joml.Vector2i;
+import org.joml.Vector4f;
 import org.lwjgl.glfw.GLFWErrorCallback;
 import org.lwjgl.glfw.GLFWImage;
 import org.lwjgl.glfw.GLFWVidMode;
@@ -34,9 +38,12 @@ import io.github.kale_ko.gighm.input.KeyCode;
 import io.github.kale_ko.gighm.input.KeyMod;
 import io.github.kale_ko.gighm.input.MouseButton;
 import io.github.kale_ko.gighm.input.MouseButtonAction;
+import io.github.kale_ko.gighm.rendering.backend.OpenGLBackend;
 import io.github.kale_ko.gighm.rendering.textures.Texture2D;
 import io.github.kale_ko.gighm.scene.GameObject;
+import io.github.kale_ko.gighm.scene.components.Camera;
 import io.github.kale_ko.gighm.scene.components.Component;
+import io.github.kale_ko.gighm.startup.StartupProfiler;
 import io.github.kale_ko.gighm.util.NotNull;
 import io.github.kale_ko.gighm.util.NullUtils;
 import io.github.kale_ko.gighm.util.Nullable;
@@ -46,16 +53,44 @@ import io.github.kale_ko.gighm.util.Nullable;
  * 
  * @author Kale Ko
  * 
- * @version 2.1.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class Window {
     /**
-     * The renderer being used by the window
+     * The longest time in seconds an idle on demand window sleeps before checking the scene for changes again
+     * 
+     * @since 2.6.0
+     */
+    private static final Double IDLE_TIMEOUT = 0.25;
+
+    /**
+     * The renderer being used by the window (Null until the pending renderer completes, if the window was created with one that hadn't yet)
      * 
      * @since 1.0.0
      */
-    private @NotNull Renderer renderer;
+    private @Nullable Renderer renderer;
+
+    /**
+     * The renderer the window was created with, which may still be being made on another thread when the window is created (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull CompletableFuture<Renderer> pendingRenderer;
+
+    /**
+     * Completes once the glfw window and its context are created, or exceptionally if they couldn't be (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull CompletableFuture<Void> created = new CompletableFuture<Void>();
+
+    /**
+     * Completes once the renderer is initialized and the window starts rendering, or exceptionally if it never will
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull CompletableFuture<Window> ready = new CompletableFuture<Window>();
 
     /**
      * The event manager used for listening to and broadcasting events
@@ -134,6 +169,13 @@ public class Window {
      */
     private @Nullable Long windowId;
 
+    /**
+     * The glfw id of the hidden window whose context shares objects with the window's, used by the OpenGL backend to upload assets in the background (Null if the renderer uses another backend or it couldn't be created)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Long uploadWindowId;
+
     /**
      * The thread this window is running on
      * 
@@ -142,11 +184,18 @@ public class Window {
     private @Nullable Thread thread;
 
     /**
-     * The thread that created this window
+     * The work other threads have handed to the render thread (Only used internally)
      * 
-     * @since 1.8.0
+     * @since 2.6.0
+     */
+    private @NotNull RenderTaskQueue tasks = new RenderTaskQueue();
+
+    /**
+     * How many milliseconds of each frame may be spent running tasks handed to the render thread
+     * 
+     * @since 2.6.0
      */
-    private @Nullable Thread mainThread;
+    private @NotNull Float taskBudget = 2f;
 
     /**
      * Create a window
@@ -198,7 +247,33 @@ public class Window {
      * @since 1.7.0
      */
     public Window(@NotNull Renderer renderer, @NotNull String title, @NotNull Integer width, @NotNull Integer height, @NotNull Boolean maximized, @NotNull Boolean resizable, @NotNull Boolean autoShow) throws ThreadPauseException {
+        this(CompletableFuture.completedFuture(renderer), title, width, height, maximized, resizable, autoShow);
+    }
+
+    /**
+     * Create a window whose renderer is still being made (Like when its shaders and textures are loaded on other threads)
+     * 
+     * The window and its context are created straight away, and only the renderer's initialization waits for the renderer.
+     * This returns once the window is created, so {@link #getRenderer()} is null until the renderer completes, use {@link #getReady()} to wait for it
+     * 
+     * @param renderer The renderer being used by the window, once it completes (If it completes exceptionally the window is closed)
+     * @param title The title of the window
+     * @param width The width of the window
+     * @param height The height of the window
+     * @param maximized Weather the window should be maximized
+     * @param resizable Weather the window should be resizable
+     * @param autoShow Weather the window should automatically show (Once the renderer is initialized)
+     * 
+     * @throws ThreadPauseException If the main thread can't be paused
+     * @throws GLInitializeException If glfw fails to initialize or create the window
+     * 
+     * @since 2.6.0
+     */
+    public Window(@NotNull CompletableFuture<Renderer> renderer, @NotNull String title, @NotNull Integer width, @NotNull Integer height, @NotNull Boolean maximized, @NotNull Boolean resizable, @NotNull Boolean autoShow) throws ThreadPauseException, GLInitializeException {
         NullUtils.checkNulls(renderer, "renderer");
+        if (renderer.isDone() && !renderer.isCompletedExceptionally()) {
+            NullUtils.checkNulls(renderer.join(), "renderer");
+        }
         NullUtils.checkNulls(title, "title");
         NullUtils.checkNulls(width, "width");
         NullUtils.checkNulls(height, "height");
@@ -206,7 +281,12 @@ public class Window {
         NullUtils.checkNulls(resizable, "resizable");
         NullUtils.checkNulls(autoShow, "autoShow");
 
-        this.renderer = renderer;
+        this.pendingRenderer = renderer;
+
+        // A renderer that is already made is set before the window thread starts, so getRenderer is never null for it
+        if (renderer.isDone() && !renderer.isCompletedExceptionally()) {
+            this.renderer = renderer.join();
+        }
 
         this.title = title;
         this.width = width;
@@ -220,25 +300,39 @@ public class Window {
         this.resizable = resizable;
         this.autoShow = autoShow;
 
-        this.mainThread = Thread.currentThread();
-
         this.thread = new Thread(new Runnable() {
             @Override
             public void run() {
-                init();
+                try {
+                    init();
+                } catch (RuntimeException e) {
+                    ready.completeExceptionally(e);
+
+                    // Once the window is created nobody is waiting on the constructor anymore, so the exception is thrown on this thread instead
+                    if (!created.completeExceptionally(e)) {
+                        throw e;
+                    }
+                }
             }
         });
 
+        // Threads are daemons if the thread that made them is (Like a startup thread), but an open window should keep the program running
+        this.thread.setDaemon(false);
+
         this.thread.start();
 
         try {
-            synchronized (this.mainThread) {
-                this.mainThread.wait();
-            }
+            this.created.get();
         } catch (InterruptedException e) {
             e.printStackTrace();
 
             throw new ThreadPauseException("The main thread could not be properly paused");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new GLInitializeException("Failed to initialize the window (" + e.getCause() + ")");
         }
     }
 
@@ -246,7 +340,7 @@ public class Window {
      * Initialize the window (Must be called from a GIGHM thread)
      * 
      * @throws AlreadyInitializedException If the window is already initialized
-     * @throws GLInitializeException If glfw fails to initialize or create the window
+     * @throws GLInitializeException If glfw fails to initialize or create the window (Requires OpenGL 3.3 core or newer)
      * 
      * @since 1.0.0
      */
@@ -257,16 +351,24 @@ public class Window {
 
         glfwSetErrorCallback(GLFWErrorCallback.createPrint(System.err));
 
+        Long glfwStart = StartupProfiler.begin();
+
         if (!glfwInit()) {
             throw new GLInitializeException("Failed to initialize OpenGl and GLFW");
         }
 
+        StartupProfiler.end("Initialize glfw", glfwStart);
+
         this.initialized = true;
 
+        Long windowStart = StartupProfiler.begin();
+
         glfwDefaultWindowHints();
         glfwWindowHint(GLFW_CLIENT_API, GLFW_OPENGL_API);
-        glfwWindowHint(GLFW_CONTEXT_VERSION_MAJOR, 2);
-        glfwWindowHint(GLFW_CONTEXT_VERSION_MINOR, 0);
+        glfwWindowHint(GLFW_CONTEXT_VERSION_MAJOR, 3);
+        glfwWindowHint(GLFW_CONTEXT_VERSION_MINOR, 3);
+        glfwWindowHint(GLFW_OPENGL_PROFILE, GLFW_OPENGL_CORE_PROFILE);
+        glfwWindowHint(GLFW_OPENGL_FORWARD_COMPAT, GLFW_TRUE);
         glfwWindowHint(GLFW_VISIBLE, GLFW_FALSE);
         glfwWindowHint(GLFW_FOCUSED, GLFW_FALSE);
         glfwWindowHint(GLFW_MAXIMIZED, maximized ? GLFW_TRUE : GLFW_FALSE);
@@ -277,11 +379,15 @@ public class Window {
             throw new GLInitializeException("Failed to initialize the GLFW window");
         }
 
+        StartupProfiler.end("Create the window and its context", windowStart);
+
         this.thread.setName("GIGHM-" + windowId);
 
-        synchronized (this.mainThread) {
-            this.mainThread.notify();
-        }
+        this.tasks.setRenderThread(this.thread);
+        this.tasks.setWakeUp(() -> {
+            // Wake up an idle on demand loop so the task doesn't wait for the idle timeout
+            glfwPostEmptyEvent();
+        });
 
         glfwSetKeyCallback(windowId, (window, key, scanCode, action, mods) -> {
             if (glfwGetWindowAttrib(windowId, GLFW_FOCUSED) == GLFW_TRUE) {
@@ -317,9 +423,22 @@ public class Window {
             this.width = newWidth;
             this.height = newHeight;
 
+            if (renderer == null) {
+                // The window is being resized before its renderer is ready, so there are no cameras to resize yet
+                return;
+            }
+
             renderer.getCamera().setWidth(this.width);
             renderer.getCamera().setHeight(this.height);
-            renderer.getCamera().setAspect((float) (this.width / this.height));
+
+            // Every camera drawing to the window keeps the aspect of its viewport
+            for (Camera camera : renderer.getCameras()) {
+                if (camera.getTarget() == null && (camera == renderer.getCamera() || camera.getType() == Camera.CameraType.PERSPECTIVE)) {
+                    Vector4f viewport = camera.getViewport();
+
+                    camera.setAspect((this.width * viewport.z) / (this.height * viewport.w));
+                }
+            }
 
             renderer.getCamera().recalculateProjection();
 
@@ -334,23 +453,13 @@ public class Window {
             this.maximized = maximized;
         });
 
-        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-        ScheduledFuture<?> handle = scheduler.scheduleAtFixedRate(new Runnable() {
-            private Integer tickNumber = 1;
-
-            @Override
-            public void run() {
-                eventManager.emit(new TickEvent(tickNumber));
-
-                for (GameObject object : renderer.getScene().getObjects()) {
-                    for (Component component : object.getComponents()) {
-                        component.tick(tickNumber);
-                    }
-                }
-
-                tickNumber++;
+        glfwSetWindowRefreshCallback(windowId, (window) -> {
+            if (renderer == null) {
+                return;
             }
-        }, 1, 40, TimeUnit.MILLISECONDS);
+
+            renderer.requestRedraw();
+        });
 
         glfwSetWindowSizeLimits(windowId, 640, 480, GLFW_DONT_CARE, GLFW_DONT_CARE);
         glfwSetWindowAspectRatio(windowId, this.width, this.height);
@@ -368,21 +477,108 @@ public class Window {
         glfwMakeContextCurrent(windowId);
         glfwSwapInterval(1);
 
+        this.created.complete(null);
+
+        // Everything before this overlaps with whatever the renderer is waiting on (Like loading its shaders and textures)
+        Long waitStart = StartupProfiler.begin();
+
+        try {
+            this.renderer = this.pendingRenderer.join();
+
+            NullUtils.checkNulls(this.renderer, "renderer");
+        } catch (RuntimeException e) {
+            this.tasks.setWakeUp(null);
+            this.tasks.close();
+
+            glfwFreeCallbacks(windowId);
+            glfwDestroyWindow(windowId);
+
+            glfwTerminate();
+
+            throw e;
+        }
+
+        StartupProfiler.end("Wait for the renderer", waitStart);
+
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+        ScheduledFuture<?> handle = scheduler.scheduleAtFixedRate(new Runnable() {
+            private Integer tickNumber = 1;
+
+            @Override
+            public void run() {
+                if (renderer.getOnDemand() && !renderer.getNeedsTicks()) {
+                    return;
+                }
+
+                eventManager.emit(new TickEvent(tickNumber));
+
+                for (GameObject object : renderer.getScene().getObjects()) {
+                    for (Component component : object.getComponents()) {
+                        component.tick(tickNumber);
+                    }
+                }
+
+                tickNumber++;
+
+                if (renderer.getOnDemand()) {
+                    // Wake up the render loop to check if the tick changed the scene
+                    glfwPostEmptyEvent();
+                }
+            }
+        }, 1, 40, TimeUnit.MILLISECONDS);
+
         if (this.autoShow) {
             glfwShowWindow(windowId);
             glfwFocusWindow(windowId);
         }
 
+        // The OpenGL backend uploads assets from a background thread in a hidden window sharing this context, without it they are just uploaded on the render thread (Other backends don't use one, so it isn't made for them)
+        if (renderer.getBackend() instanceof OpenGLBackend) {
+            glfwWindowHint(GLFW_VISIBLE, GLFW_FALSE);
+            glfwWindowHint(GLFW_MAXIMIZED, GLFW_FALSE);
+
+            this.uploadWindowId = glfwCreateWindow(1, 1, this.title, NULL, windowId);
+            if (this.uploadWindowId.equals(NULL)) {
+                this.uploadWindowId = null;
+            } else {
+                ((OpenGLBackend) renderer.getBackend()).setUploadContext(this.uploadWindowId);
+            }
+        }
+
+        Long rendererStart = StartupProfiler.begin();
+
         renderer.init();
 
+        StartupProfiler.end("Initialize the renderer", rendererStart);
+
+        this.ready.complete(this);
+
         Instant lastRender = Instant.now();
         while (!glfwWindowShouldClose(windowId)) {
+            this.tasks.run(this.taskBudget);
+
+            if (!renderer.getNeedsRedraw()) {
+                if (this.tasks.getPending() > 0) {
+                    // Tasks left over from the budget are run next loop instead of sleeping
+                    glfwPollEvents();
+                } else {
+                    // Sleep until there is input, a task or a tick or redraw request wakes the loop, the timeout catches changes made from other threads
+                    glfwWaitEventsTimeout(IDLE_TIMEOUT);
+                }
+
+                continue;
+            }
+
+            Long frameStart = StartupProfiler.getFirstFrameRecorded() ? null : StartupProfiler.begin();
+
             glViewport(0, 0, this.width, this.height);
 
             renderer.render();
 
             glfwSwapBuffers(windowId);
 
+            StartupProfiler.endFirstFrame(frameStart);
+
             Instant now = Instant.now();
             Float delta = (float) ((now.getEpochSecond() + ((double) now.getNano() / 1000000000)) - (lastRender.getEpochSecond() + ((double) lastRender.getNano() / 1000000000)));
 
@@ -402,16 +598,98 @@ public class Window {
         handle.cancel(true);
         scheduler.shutdown();
 
+        this.tasks.setWakeUp(null);
+        this.tasks.close();
+
+        if (this.uploadWindowId != null) {
+            if (renderer.getBackend() instanceof OpenGLBackend) {
+                ((OpenGLBackend) renderer.getBackend()).setUploadContext(null);
+            }
+
+            glfwDestroyWindow(this.uploadWindowId);
+        }
+
         glfwFreeCallbacks(windowId);
         glfwDestroyWindow(windowId);
 
         glfwTerminate();
     }
 
+    /**
+     * Run a task on the render thread between frames (Where the gl context is current, so it can upload or read back gpu data)
+     * 
+     * Tasks run in the order they were added, a few each frame within the task budget. Tasks added from the render thread are run straight away
+     * 
+     * @param task The task to run
+     * 
+     * @return A future that completes once the task has run (Or is cancelled if the window closes first)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull CompletableFuture<Void> runOnRenderThread(@NotNull Runnable task) {
+        NullUtils.checkNulls(task, "task");
+
+        return this.tasks.runOnRenderThread(task);
+    }
+
+    /**
+     * Run a task on the render thread between frames and get its result (Where the gl context is current, so it can upload or read back gpu data)
+     * 
+     * Tasks run in the order they were added, a few each frame within the task budget. Tasks added from the render thread are run straight away
+     * 
+     * @param <T> The type of the result
+     * 
+     * @param task The task to run
+     * 
+     * @return A future that completes with the result of the task once it has run (Exceptionally if it throws, or is cancelled if the window closes first)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull <T> CompletableFuture<T> submit(@NotNull Callable<T> task) {
+        NullUtils.checkNulls(task, "task");
+
+        return this.tasks.submit(task);
+    }
+
+    /**
+     * Get how many milliseconds of each frame may be spent running tasks handed to the render thread
+     * 
+     * @return The task budget in milliseconds (At least one waiting task is run every frame)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getTaskBudget() {
+        return this.taskBudget;
+    }
+
+    /**
+     * Set how many milliseconds of each frame may be spent running tasks handed to the render thread
+     * 
+     * @param taskBudget The task budget in milliseconds (At least one waiting task is run every frame)
+     * 
+     * @since 2.6.0
+     */
+    public void setTaskBudget(@NotNull Float taskBudget) {
+        NullUtils.checkNulls(taskBudget, "taskBudget");
+
+        this.taskBudget = taskBudget;
+    }
+
+    /**
+     * Get how many tasks are waiting to run on the render thread
+     * 
+     * @return The amount of waiting tasks
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getPendingTasks() {
+        return this.tasks.getPending();
+    }
+
     /**
      * Get the renderer being used by the window
      * 
-     * @return The renderer being used by the window
+     * @return The renderer being used by the window (Only null while the renderer future the window was created with hasn't completed, see {@link #getReady()})
      * 
      * @since 1.5.0
      */
@@ -419,6 +697,17 @@ public class Window {
         return this.renderer;
     }
 
+    /**
+     * Get a future that completes once the renderer is initialized and the window starts rendering
+     * 
+     * @return A future of the window (Completes exceptionally if the renderer or its initialization fails)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull CompletableFuture<Window> getReady() {
+        return this.ready;
+    }
+
     /**
      * Set the renderer being used by the window
      * 
@@ -0,0 +1,161 @@
+package io.github.kale_ko.gighm.rendering.backend;
+
+import org.joml.Matrix4f;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A request to draw a mesh
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class DrawCommand {
+    /**
+     * The mesh to draw
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Mesh mesh;
+
+    /**
+     * The model matrix to draw the mesh with
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Matrix4f matrix;
+
+    /**
+     * Weather the mesh is depth tested (The skybox isn't)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean depthTest;
+
+    /**
+     * Weather the mesh belongs to a static game object (Expected not to move)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean isStatic;
+
+    /**
+     * Create a draw command
+     * 
+     * @param mesh The mesh to draw
+     * @param matrix The model matrix to draw the mesh with
+     * @param depthTest Weather the mesh is depth tested
+     * 
+     * @since 2.6.0
+     */
+    public DrawCommand(@NotNull Mesh mesh, @NotNull Matrix4f matrix, @NotNull Boolean depthTest) {
+        this(mesh, matrix, depthTest, false);
+    }
+
+    /**
+     * Create a draw command
+     * 
+     * @param mesh The mesh to draw
+     * @param matrix The model matrix to draw the mesh with
+     * @param depthTest Weather the mesh is depth tested
+     * @param isStatic Weather the mesh belongs to a static game object
+     * 
+     * @since 2.6.0
+     */
+    public DrawCommand(@NotNull Mesh mesh, @NotNull Matrix4f matrix, @NotNull Boolean depthTest, @NotNull Boolean isStatic) {
+        this.set(mesh, matrix, depthTest, isStatic);
+    }
+
+    /**
+     * Change what the command draws (Used to reuse commands between frames)
+     * 
+     * @param mesh The mesh to draw
+     * @param matrix The model matrix to draw the mesh with
+     * @param depthTest Weather the mesh is depth tested
+     * 
+     * @since 2.6.0
+     */
+    public void set(@NotNull Mesh mesh, @NotNull Matrix4f matrix, @NotNull Boolean depthTest) {
+        this.set(mesh, matrix, depthTest, false);
+    }
+
+    /**
+     * Change what the command draws (Used to reuse commands between frames)
+     * 
+     * @param mesh The mesh to draw
+     * @param matrix The model matrix to draw the mesh with
+     * @param depthTest Weather the mesh is depth tested
+     * @param isStatic Weather the mesh belongs to a static game object
+     * 
+     * @since 2.6.0
+     */
+    public void set(@NotNull Mesh mesh, @NotNull Matrix4f matrix, @NotNull Boolean depthTest, @NotNull Boolean isStatic) {
+        NullUtils.checkNulls(mesh, "mesh");
+        NullUtils.checkNulls(matrix, "matrix");
+        NullUtils.checkNulls(depthTest, "depthTest");
+        NullUtils.checkNulls(isStatic, "isStatic");
+
+        this.mesh = mesh;
+        this.matrix = matrix;
+        this.depthTest = depthTest;
+        this.isStatic = isStatic;
+    }
+
+    /**
+     * Get the mesh to draw
+     * 
+     * @return The mesh to draw
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Mesh getMesh() {
+        return this.mesh;
+    }
+
+    /**
+     * Get the model matrix to draw the mesh with
+     * 
+     * @return The model matrix to draw the mesh with
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getMatrix() {
+        return this.matrix;
+    }
+
+    /**
+     * Get weather the mesh is depth tested (The skybox isn't)
+     * 
+     * @return Weather the mesh is depth tested
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getDepthTest() {
+        return this.depthTest;
+    }
+
+    /**
+     * Get weather the mesh belongs to a static game object (Expected not to move)
+     * 
+     * @return Weather the mesh is static
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getStatic() {
+        return this.isStatic;
+    }
+
+    /**
+     * Get a copy of the command
+     * 
+     * @return A copy of the command (With a copy of the matrix)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull DrawCommand copy() {
+        return new DrawCommand(this.mesh, new Matrix4f(this.matrix), this.depthTest, this.isStatic);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,168 @@
+package io.github.kale_ko.gighm.rendering.backend;
+
+import java.util.List;
+import io.github.kale_ko.gighm.rendering.Renderer;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A backend that draws nothing and only counts what it was asked to do
+ * 
+ * Doesn't need a window or gpu, so it can be used to measure the cpu cost of the renderer on its own
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class NullBackend implements RenderBackend {
+    /**
+     * How many frames have been rendered
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Long frames = 0l;
+
+    /**
+     * Weather the current pass is the last of its frame (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean lastPass = true;
+
+    /**
+     * How many draw commands have been submitted
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Long draws = 0l;
+
+    /**
+     * How many triangles the submitted draw commands would have drawn
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Long triangles = 0l;
+
+    /**
+     * How many meshes have been prepared
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Long prepared = 0l;
+
+    /**
+     * Create a null backend
+     * 
+     * @since 2.6.0
+     */
+    public NullBackend() {}
+
+    @Override
+    public void init(@NotNull Renderer renderer) {
+        NullUtils.checkNulls(renderer, "renderer");
+    }
+
+    @Override
+    public void prepare(@NotNull Mesh mesh) {
+        NullUtils.checkNulls(mesh, "mesh");
+
+        this.prepared++;
+    }
+
+    @Override
+    public void beginFrame(@NotNull RenderFrame frame) {
+        NullUtils.checkNulls(frame, "frame");
+
+        this.lastPass = frame.getPass().getLast();
+    }
+
+    @Override
+    public void submit(@NotNull List<DrawCommand> commands) {
+        NullUtils.checkNulls(commands, "commands");
+
+        for (DrawCommand command : commands) {
+            Mesh mesh = command.getMesh();
+
+            this.draws++;
+            this.triangles += (mesh.getTriangles() != null ? mesh.getTriangles().length : mesh.getVertices().length / mesh.getVerticeSize()) / 3;
+        }
+    }
+
+    @Override
+    public void endFrame() {
+        // A frame with several cameras is only counted once
+        if (this.lastPass) {
+            this.frames++;
+        }
+    }
+
+    @Override
+    public @NotNull Boolean getPrepared(@NotNull Mesh mesh) {
+        NullUtils.checkNulls(mesh, "mesh");
+
+        return true;
+    }
+
+    @Override
+    public @NotNull Boolean getRequiresWindow() {
+        return false;
+    }
+
+    /**
+     * Get how many frames have been rendered
+     * 
+     * @return How many frames have been rendered
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Long getFrames() {
+        return this.frames;
+    }
+
+    /**
+     * Get how many draw commands have been submitted
+     * 
+     * @return How many draw commands have been submitted
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Long getDraws() {
+        return this.draws;
+    }
+
+    /**
+     * Get how many triangles the submitted draw commands would have drawn
+     * 
+     * @return How many triangles would have been drawn
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Long getTriangles() {
+        return this.triangles;
+    }
+
+    /**
+     * Get how many meshes have been prepared
+     * 
+     * @return How many meshes have been prepared
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Long getPrepared() {
+        return this.prepared;
+    }
+
+    /**
+     * Reset every count to 0
+     * 
+     * @since 2.6.0
+     */
+    public void reset() {
+        this.frames = 0l;
+        this.draws = 0l;
+        this.triangles = 0l;
+        this.prepared = 0l;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,4261 @@
+package io.github.kale_ko.gighm.rendering.backend;
+
+import static org.lwjgl.glfw.GLFW.glfwMakeContextCurrent;
+import static org.lwjgl.opengl.GL45C.*;
+import static org.lwjgl.system.MemoryUtil.NULL;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.joml.FrustumIntersection;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.opengl.GL;
+import io.github.kale_ko.gighm.exception.AlreadyInitializedException;
+import io.github.kale_ko.gighm.exception.GLCompileException;
+import io.github.kale_ko.gighm.rendering.DynamicResolution;
+import io.github.kale_ko.gighm.rendering.Renderer;
+import io.github.kale_ko.gighm.rendering.capture.FrameCapture;
+import io.github.kale_ko.gighm.rendering.lighting.LightClusters;
+import io.github.kale_ko.gighm.rendering.lighting.ShadowCascades;
+import io.github.kale_ko.gighm.rendering.objects.MeshOptimizer;
+import io.github.kale_ko.gighm.rendering.objects.VertexEncoder;
+import io.github.kale_ko.gighm.rendering.objects.VertexEncoder.EncodedAttribute;
+import io.github.kale_ko.gighm.rendering.shaders.Shader;
+import io.github.kale_ko.gighm.rendering.shaders.ShaderCache;
+import io.github.kale_ko.gighm.rendering.shaders.ShaderFeature;
+import io.github.kale_ko.gighm.rendering.shaders.ShaderLoader;
+import io.github.kale_ko.gighm.rendering.textures.Texture2D;
+import io.github.kale_ko.gighm.scene.components.Light;
+import io.github.kale_ko.gighm.scene.components.Light.LightType;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A backend that draws with OpenGL 3.3 core (Using direct state access when the context supports it)
+ * 
+ * When the frame has lights, depth tested meshes are drawn with the lit variant of the shader, which reads the light lists of its cluster from buffer textures filled by {@link LightClusters} every frame
+ * 
+ * The first directional light that casts shadows gets a cascaded shadow map fit by {@link ShadowCascades}. Static casters are drawn into a cached copy of each cascade that is only redrawn when the cascade or a static object moves,
+ * the near cascades copy that cache and draw the dynamic casters on top every frame, and the far cascades only do so every few frames
+ * 
+ * When the frame has a render scale under 1 the scene is drawn into an offscreen target at that fraction of the viewport and then upscaled to the window with an optionally sharpening pass,
+ * and while the renderer has a {@link DynamicResolution} controller the gpu time of each frame is measured with timer queries and reported to it
+ * 
+ * When a {@link FrameCapture} is set, captured frames are read into a ring of pixel buffers with a fence each, and copied out and handed to its encoder once the gpu has finished them a frame or two later, so capturing never waits for the gpu
+ * 
+ * On GL 4.3 contexts instanced shaders take a gpu driven path, every mesh is kept in one shared buffer and a compute shader frustum culls the objects and writes the indirect draws, so the cpu only issues one multi draw per texture
+ * 
+ * When the window gives it a shared upload context, meshes and textures are uploaded by a background thread in that context and only drawn once the fence after their upload is signaled, so large uploads don't cause frame spikes
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class OpenGLBackend implements RenderBackend {
+    /**
+     * The uniform buffer binding point of the per-frame camera data (The "Frame" std140 block)
+     * 
+     * @since 2.6.0
+     */
+    public static final Integer FRAME_UNIFORM_BINDING = 0;
+
+    /**
+     * The size in floats of the per-frame camera data (view, projection, viewProjection, cameraPosition, time)
+     * 
+     * @since 2.6.0
+     */
+    private static final Integer FRAME_UNIFORM_SIZE = 16 * 3 + 4 + 4;
+
+    /**
+     * The uniform buffer binding point of the per-frame lighting data (The "Lighting" std140 block)
+     * 
+     * @since 2.6.0
+     */
+    public static final Integer LIGHTING_UNIFORM_BINDING = 1;
+
+    /**
+     * The size in bytes of the per-frame lighting data (clusterGrid, clusterDepth, viewport, ambientLight, cascadeSplits, shadowParams, cascadeMatrices)
+     * 
+     * @since 2.6.0
+     */
+    private static final Integer LIGHTING_UNIFORM_SIZE = (4 * 4 + 4 * 2 + 16 * 4) * 4;
+
+    /**
+     * The size in floats of the data of each object in the per-object data buffer (model, color)
+     * 
+     * @since 2.6.0
+     */
+    private static final Integer OBJECT_SIZE = 16 + 4;
+
+    /**
+     * The size in bytes of one indirect draw (count, instanceCount, firstIndex, baseVertex, baseInstance)
+     * 
+     * @since 2.6.0
+     */
+    private static final Integer DRAW_COMMAND_SIZE = 5 * 4;
+
+    /**
+     * The size in floats of one vertex in the shared mesh buffer (x, y, z, u, v)
+     * 
+     * @since 2.6.0
+     */
+    private static final Integer POOL_VERTEX_SIZE = 3 + 2;
+
+    /**
+     * The local size of the culling compute shader
+     * 
+     * @since 2.6.0
+     */
+    private static final Integer CULL_GROUP_SIZE = 64;
+
+    /**
+     * The renderer the backend belongs to (Null until the backend is initialized)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Renderer renderer;
+
+    /**
+     * The data of the current frame (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable RenderFrame frame;
+
+    /**
+     * Weather the backend is initialized
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean initialized = false;
+
+    /**
+     * Weather depth testing is enabled (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean depthTest = true;
+
+    /**
+     * Weather meshes should be run through the {@link MeshOptimizer} when they are uploaded (Also generates indices for non-indexed meshes)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean optimizeMeshes = true;
+
+    /**
+     * The largest error allowed when compressing vertex attributes, relative to the size of the mesh for positions and absolute for uvs (0 only allows lossless formats)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float vertexTolerance = 0.0001f;
+
+    /**
+     * Weather the direct state access fast path may be used if the context supports it
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean allowModernPath = true;
+
+    /**
+     * Weather the direct state access fast path is being used (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean modernPath = false;
+
+    /**
+     * Weather the gpu driven culling path may be used if the context supports it
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean allowGpuCulling = true;
+
+    /**
+     * Weather the gpu driven culling path is being used (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean gpuCulling = false;
+
+    /**
+     * The features supported by the context (Null until the backend is initialized)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable RenderCapabilities capabilities;
+
+    /**
+     * The variant of the shader currently in use (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Shader currentShader;
+
+    /**
+     * The cache to load and save linked shader programs with (Null to always compile)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable ShaderCache shaderCache;
+
+    /**
+     * The gl id of the per-frame uniform buffer (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer frameUniformBuffer = 0;
+
+    /**
+     * The cpu copy of the per-frame uniform data (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull FloatBuffer frameData = BufferUtils.createFloatBuffer(FRAME_UNIFORM_SIZE);
+
+    /**
+     * The light clusters the lights of each frame are assigned to
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull LightClusters lightClusters = new LightClusters();
+
+    /**
+     * Weather the current frame is lit (It has lights and the shader supports lighting) (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean lit = false;
+
+    /**
+     * The gl id of the per-frame lighting uniform buffer (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer lightingUniformBuffer = 0;
+
+    /**
+     * The cpu copy of the per-frame lighting data (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ByteBuffer lightingData = BufferUtils.createByteBuffer(LIGHTING_UNIFORM_SIZE);
+
+    /**
+     * A reusable buffer for reading the viewport (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull IntBuffer viewportData = BufferUtils.createIntBuffer(4);
+
+    /**
+     * The gl id of the light data buffer (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer lightBuffer = 0;
+
+    /**
+     * The gl id of the buffer texture of the light data (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer lightTexture = 0;
+
+    /**
+     * The gl id of the cluster buffer (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer clusterBuffer = 0;
+
+    /**
+     * The gl id of the buffer texture of the clusters (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer clusterTexture = 0;
+
+    /**
+     * The gl id of the light index buffer (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer lightIndexBuffer = 0;
+
+    /**
+     * The gl id of the buffer texture of the light indices (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer lightIndexTexture = 0;
+
+    /**
+     * A reusable buffer for uploading light data (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull FloatBuffer lightUpload = BufferUtils.createFloatBuffer(64 * LightClusters.LIGHT_SIZE);
+
+    /**
+     * A reusable buffer for uploading clusters and light indices (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull IntBuffer clusterUpload = BufferUtils.createIntBuffer(1024);
+
+    /**
+     * The cascades of the shadow map
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ShadowCascades shadowCascades = new ShadowCascades();
+
+    /**
+     * How many of the nearest cascades get the dynamic casters redrawn every frame (The rest only every 2^cascade frames)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer dynamicCascades = 2;
+
+    /**
+     * The index of the light that casts shadows this frame, or -1 if none do (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer shadowLight = -1;
+
+    /**
+     * The gl id of the program that draws shadow casters (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer shadowProgram = 0;
+
+    /**
+     * The location of the light view projection uniform of the shadow program (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer shadowMatrixLocation = -1;
+
+    /**
+     * The location of the model uniform of the shadow program (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer shadowModelLocation = -1;
+
+    /**
+     * The gl id of the shadow map that is sampled, one layer per cascade (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer shadowTexture = 0;
+
+    /**
+     * The gl id of the cached shadow map of only the static casters, one layer per cascade (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer shadowCacheTexture = 0;
+
+    /**
+     * The gl id of the framebuffer shadow casters are drawn into (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer shadowFramebuffer = 0;
+
+    /**
+     * The gl id of the framebuffer the static cache is copied from (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer shadowCacheFramebuffer = 0;
+
+    /**
+     * The cascade version each static cache layer was drawn with (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable long[] shadowCacheVersions;
+
+    /**
+     * The frame each cascade was last redrawn on (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable long[] shadowRefreshes;
+
+    /**
+     * A hash of the meshes and matrices of the static casters the cache was drawn with (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer staticFingerprint = 0;
+
+    /**
+     * Weather the current frame is drawn into the scene target at a lower resolution (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean scaled = false;
+
+    /**
+     * The viewport of the window at the start of the frame, the scene target is upscaled to it (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull IntBuffer windowViewport = BufferUtils.createIntBuffer(4);
+
+    /**
+     * The gl id of the framebuffer the current pass draws into (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer passFramebuffer = 0;
+
+    /**
+     * A map of camera target textures to the framebuffers that draw into them, freed once the texture is collected (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ResourceCache<Texture2D, TargetBuffers> targetFramebuffers = new ResourceCache<Texture2D, TargetBuffers>();
+
+    /**
+     * The gl id of the framebuffer the scene is drawn into when it is scaled (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer sceneFramebuffer = 0;
+
+    /**
+     * The gl id of the color texture of the scene target (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer sceneTexture = 0;
+
+    /**
+     * The gl id of the depth renderbuffer of the scene target (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer sceneDepthBuffer = 0;
+
+    /**
+     * The allocated width of the scene target (It only grows, so changing the scale never reallocates it) (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer sceneWidth = 0;
+
+    /**
+     * The allocated height of the scene target (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer sceneHeight = 0;
+
+    /**
+     * The width of the part of the scene target drawn into this frame (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer sceneViewWidth = 0;
+
+    /**
+     * The height of the part of the scene target drawn into this frame (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer sceneViewHeight = 0;
+
+    /**
+     * The gl id of the program that upscales the scene target to the window (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer upscaleProgram = 0;
+
+    /**
+     * The gl id of the empty vertex array the upscale pass draws with (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer upscaleVertexArray = 0;
+
+    /**
+     * The location of the region uniform of the upscale program (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer upscaleRegionLocation = -1;
+
+    /**
+     * The location of the texel uniform of the upscale program (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer upscaleTexelLocation = -1;
+
+    /**
+     * The location of the sharpness uniform of the upscale program (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer upscaleSharpnessLocation = -1;
+
+    /**
+     * The gl ids of the ring of timer queries measuring the gpu time of frames (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable int[] timerQueries;
+
+    /**
+     * How many frames have been timed (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Long timedFrames = 0L;
+
+    /**
+     * Weather the current frame is being timed (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean timing = false;
+
+    /**
+     * The capture frames are read back for (Null to not capture frames)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable FrameCapture frameCapture = null;
+
+    /**
+     * The ring of pixel buffers frames are read back into (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Readback[] readbacks;
+
+    /**
+     * The index of the next pixel buffer to read a frame into, which is also the oldest one (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer readbackIndex = 0;
+
+    /**
+     * A reusable buffer for uploading matrices (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull FloatBuffer matrixData = BufferUtils.createFloatBuffer(16);
+
+    /**
+     * A reusable matrix for building per-draw matrices (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Matrix4f matrix = new Matrix4f();
+
+    /**
+     * The gl id of the per-object data buffer (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer objectBuffer = 0;
+
+    /**
+     * The gl id of the buffer texture used to read the per-object data buffer (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer objectTexture = 0;
+
+    /**
+     * The gl id of the buffer holding the object index of every instance (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer objectIndexBuffer = 0;
+
+    /**
+     * How many objects the per-object buffers can hold (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer objectCapacity = 0;
+
+    /**
+     * The cpu copy of the per-object data (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull FloatBuffer objectData = BufferUtils.createFloatBuffer(0);
+
+    /**
+     * The gl id of the culling compute program (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer cullProgram = 0;
+
+    /**
+     * The location of the object count uniform of the culling program (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer cullCountLocation = -1;
+
+    /**
+     * The location of the pass uniform of the culling program (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer cullPassLocation = -1;
+
+    /**
+     * The gl id of the vertex array of the shared mesh buffer (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer poolVertexArray = 0;
+
+    /**
+     * The gl id of the shared vertex buffer (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer poolVertexBuffer = 0;
+
+    /**
+     * The gl id of the shared index buffer (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer poolIndexBuffer = 0;
+
+    /**
+     * How many vertices are in the shared vertex buffer (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer poolVertexCount = 0;
+
+    /**
+     * How many vertices the shared vertex buffer can hold (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer poolVertexCapacity = 0;
+
+    /**
+     * How many indices are in the shared index buffer (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer poolIndexCount = 0;
+
+    /**
+     * How many indices the shared index buffer can hold (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer poolIndexCapacity = 0;
+
+    /**
+     * A map of mesh data to their place in the shared mesh buffer (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<GeometryKey, PoolEntry> pool = new HashMap<GeometryKey, PoolEntry>();
+
+    /**
+     * A map of meshes to their place in the shared mesh buffer, released once the mesh is collected (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ResourceCache<Mesh, PoolEntry> poolMeshes = new ResourceCache<Mesh, PoolEntry>();
+
+    /**
+     * The free ranges of the shared vertex buffer left by released meshes, sorted by start (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<PoolRange> poolFreeVertices = new ArrayList<PoolRange>();
+
+    /**
+     * The free ranges of the shared index buffer left by released meshes, sorted by start (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<PoolRange> poolFreeIndices = new ArrayList<PoolRange>();
+
+    /**
+     * The gl id of the buffer holding the draw of each object (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer objectDrawBuffer = 0;
+
+    /**
+     * The gl id of the buffer holding the bounding sphere of each draw (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer drawBoundsBuffer = 0;
+
+    /**
+     * The gl id of the indirect draw buffer written by the culling shader (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer drawCommandBuffer = 0;
+
+    /**
+     * The gl id of the buffer of visible object indices written by the culling shader (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer instanceBuffer = 0;
+
+    /**
+     * The gl id of the buffer holding weather each object passed culling, written by the first culling pass and packed into the instances by the second (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer visibleBuffer = 0;
+
+    /**
+     * The draws and batches of the last culled frame, reused while the meshes being drawn don't change (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable CullLayout cullLayout;
+
+    /**
+     * The cpu copy of the per-object data buffer used by the culling path, so only changed objects are uploaded (Null when the gpu copy must be fully rewritten, only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable float[] objectShadow;
+
+    /**
+     * A map of shaders to their cached uniform locations (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<Shader, Map<String, Integer>> shaderUniforms = new HashMap<Shader, Map<String, Integer>>();
+
+    /**
+     * A map of shaders to their gl program ids (Only used internally)
+     * 
+     * @since 1.3.0
+     */
+    private @NotNull Map<Shader, Integer> shaderPrograms = new HashMap<Shader, Integer>();
+
+    /**
+     * A map of shaders to their gl vertex shader ids (Only used internally)
+     * 
+     * @since 1.3.0
+     */
+    private @NotNull Map<Shader, Integer> shaderVertexShaders = new HashMap<Shader, Integer>();
+
+    /**
+     * A map of shaders to their gl fragment shader ids (Only used internally)
+     * 
+     * @since 1.3.0
+     */
+    private @NotNull Map<Shader, Integer> shaderFragmentShaders = new HashMap<Shader, Integer>();
+
+    /**
+     * A map of meshes to their gpu buffers, released once the mesh is collected (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ResourceCache<Mesh, MeshBuffers> meshes = new ResourceCache<Mesh, MeshBuffers>();
+
+    /**
+     * A map of mesh data to their gpu buffers so copies of a mesh share them (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<GeometryKey, MeshBuffers> geometry = new HashMap<GeometryKey, MeshBuffers>();
+
+    /**
+     * A map of textures to their gl texture ids, deleted once the texture is collected (Only used internally)
+     * 
+     * @since 1.3.0
+     */
+    private @NotNull ResourceCache<Texture2D, Integer> textures = new ResourceCache<Texture2D, Integer>();
+
+    /**
+     * The glfw window whose hidden context shares objects with the main one, used by the upload thread (Null to upload on the render thread)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Long uploadContext = null;
+
+    /**
+     * The thread that uploads meshes and textures in the upload context (Null when uploads happen on the render thread, only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Thread uploadThread = null;
+
+    /**
+     * The uploads waiting for the upload thread (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull BlockingQueue<StreamUpload> uploadQueue = new LinkedBlockingQueue<StreamUpload>();
+
+    /**
+     * The uploads the upload thread has issued, waiting to be picked up by the render thread (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Queue<StreamUpload> issuedUploads = new ConcurrentLinkedQueue<StreamUpload>();
+
+    /**
+     * The issued uploads whose fence hasn't been signaled yet (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<StreamUpload> fencedUploads = new ArrayList<StreamUpload>();
+
+    /**
+     * A map of meshes to their upload while it is in flight (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ResourceCache<Mesh, StreamUpload> streamingMeshes = new ResourceCache<Mesh, StreamUpload>();
+
+    /**
+     * A map of textures to their upload while it is in flight (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ResourceCache<Texture2D, StreamUpload> streamingTextures = new ResourceCache<Texture2D, StreamUpload>();
+
+    /**
+     * The commands of the current pass whose mesh and texture are on the gpu, reused between passes (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<DrawCommand> readyCommands = new ArrayList<DrawCommand>();
+
+    /**
+     * Create an OpenGL backend
+     * 
+     * @since 2.6.0
+     */
+    public OpenGLBackend() {}
+
+    @Override
+    public void init(@NotNull Renderer renderer) throws AlreadyInitializedException {
+        NullUtils.checkNulls(renderer, "renderer");
+
+        if (this.initialized) {
+            throw new AlreadyInitializedException("The backend is already initialized");
+        }
+
+        this.initialized = true;
+
+        this.renderer = renderer;
+
+        this.capabilities = new RenderCapabilities(GL.createCapabilities());
+        this.modernPath = this.allowModernPath && this.capabilities.getModernPath();
+
+        glEnable(GL_DEPTH_TEST);
+
+        if (this.modernPath) {
+            this.frameUniformBuffer = glCreateBuffers();
+            glNamedBufferStorage(this.frameUniformBuffer, FRAME_UNIFORM_SIZE * 4, GL_DYNAMIC_STORAGE_BIT);
+        } else {
+            this.frameUniformBuffer = glGenBuffers();
+            glBindBuffer(GL_UNIFORM_BUFFER, this.frameUniformBuffer);
+            glBufferData(GL_UNIFORM_BUFFER, FRAME_UNIFORM_SIZE * 4, GL_DYNAMIC_DRAW);
+            glBindBuffer(GL_UNIFORM_BUFFER, 0);
+        }
+
+        if (this.modernPath) {
+            this.objectBuffer = glCreateBuffers();
+            this.objectTexture = glCreateTextures(GL_TEXTURE_BUFFER);
+            glTextureBuffer(this.objectTexture, GL_RGBA32F, this.objectBuffer);
+        } else {
+            this.objectBuffer = glGenBuffers();
+            this.objectTexture = glGenTextures();
+            glBindTexture(GL_TEXTURE_BUFFER, this.objectTexture);
+            glTexBuffer(GL_TEXTURE_BUFFER, GL_RGBA32F, this.objectBuffer);
+            glBindTexture(GL_TEXTURE_BUFFER, 0);
+        }
+        this.growObjectBuffers(256);
+
+        if (this.modernPath) {
+            this.lightingUniformBuffer = glCreateBuffers();
+            glNamedBufferStorage(this.lightingUniformBuffer, LIGHTING_UNIFORM_SIZE, GL_DYNAMIC_STORAGE_BIT);
+
+            this.lightBuffer = glCreateBuffers();
+            this.clusterBuffer = glCreateBuffers();
+            this.lightIndexBuffer = glCreateBuffers();
+        } else {
+            this.lightingUniformBuffer = glGenBuffers();
+            glBindBuffer(GL_UNIFORM_BUFFER, this.lightingUniformBuffer);
+            glBufferData(GL_UNIFORM_BUFFER, LIGHTING_UNIFORM_SIZE, GL_DYNAMIC_DRAW);
+            glBindBuffer(GL_UNIFORM_BUFFER, 0);
+
+            this.lightBuffer = glGenBuffers();
+            this.clusterBuffer = glGenBuffers();
+            this.lightIndexBuffer = glGenBuffers();
+        }
+        this.lightTexture = this.createBufferTexture(this.lightBuffer, GL_RGBA32F);
+        this.clusterTexture = this.createBufferTexture(this.clusterBuffer, GL_RG32UI);
+        this.lightIndexTexture = this.createBufferTexture(this.lightIndexBuffer, GL_R32UI);
+
+        this.gpuCulling = this.allowGpuCulling && this.capabilities.getGpuCulling();
+        if (this.gpuCulling) {
+            this.createCulling();
+        }
+
+        if (this.uploadContext != null) {
+            this.startUploads();
+        }
+    }
+
+    @Override
+    public void prepare(@NotNull Mesh mesh) {
+        NullUtils.checkNulls(mesh, "mesh");
+
+        Boolean instanced = this.renderer.getShader().getFeatures().contains(ShaderFeature.INSTANCED);
+
+        if (this.uploadThread != null) {
+            // Only the shader is compiled here, the mesh and texture are handed to the upload thread
+            if (mesh.getTexture() != null) {
+                this.textureReady(mesh.getTexture());
+            }
+
+            if (this.gpuCulling && instanced) {
+                this.compileShader(this.getVariant(mesh, this.poolMesh(mesh).uvs, true));
+            } else {
+                this.meshReady(mesh);
+                this.compileShader(this.getVariant(mesh, mesh.getUVs() != null, instanced));
+            }
+
+            return;
+        }
+
+        if (mesh.getTexture() != null) {
+            this.uploadTexture(mesh.getTexture());
+        }
+
+        if (this.gpuCulling && instanced) {
+            this.compileShader(this.getVariant(mesh, this.poolMesh(mesh).uvs, true));
+        } else {
+            this.compileShader(this.getVariant(mesh, this.uploadMesh(mesh).uvBuffer != null, instanced));
+        }
+    }
+
+    @Override
+    public @NotNull Boolean getPrepared(@NotNull Mesh mesh) {
+        NullUtils.checkNulls(mesh, "mesh");
+
+        if (this.uploadThread == null) {
+            return true;
+        }
+
+        return this.streamingMeshes.get(mesh) == null && (mesh.getTexture() == null || this.streamingTextures.get(mesh.getTexture()) == null);
+    }
+
+    @Override
+    public void beginFrame(@NotNull RenderFrame frame) {
+        NullUtils.checkNulls(frame, "frame");
+
+        this.frame = frame;
+        RenderPass pass = frame.getPass();
+
+        // Timing, scaling and the window viewport belong to the whole frame, not each camera
+        if (pass.getFirst()) {
+            this.releaseResources();
+
+            if (this.uploadThread != null) {
+                this.collectUploads();
+            }
+
+            if (this.renderer.getDynamicResolution() != null) {
+                this.beginTimer();
+            }
+
+            glGetIntegerv(GL_VIEWPORT, this.windowViewport);
+
+            this.scaled = frame.getRenderScale() < 1f;
+            if (this.scaled) {
+                this.prepareSceneTarget(frame.getRenderScale());
+            }
+        }
+
+        this.bindPassTarget(pass);
+
+        glClearColor(((float) frame.getClearColor().getRed()) / 255f, ((float) frame.getClearColor().getGreen()) / 255f, ((float) frame.getClearColor().getBlue()) / 255f, 1.0f);
+
+        this.depthTest(true);
+
+        Integer clearBits = (pass.getClearColor() ? GL_COLOR_BUFFER_BIT : 0) | (pass.getClearDepth() ? GL_DEPTH_BUFFER_BIT : 0);
+        if (clearBits != 0) {
+            // Clears ignore the viewport, so the scissor keeps them inside it
+            glGetIntegerv(GL_VIEWPORT, this.viewportData);
+            glEnable(GL_SCISSOR_TEST);
+            glScissor(this.viewportData.get(0), this.viewportData.get(1), this.viewportData.get(2), this.viewportData.get(3));
+            glClear(clearBits);
+            glDisable(GL_SCISSOR_TEST);
+        }
+
+        this.currentShader = null;
+
+        this.updateFrameUniforms(frame);
+        this.updateLighting(frame);
+    }
+
+    @Override
+    public void submit(@NotNull List<DrawCommand> commands) {
+        NullUtils.checkNulls(commands, "commands");
+
+        Boolean instanced = this.renderer.getShader().getFeatures().contains(ShaderFeature.INSTANCED) && commands.size() <= this.capabilities.getMaxTextureBufferSize() / (OBJECT_SIZE / 4);
+
+        if (this.uploadThread != null) {
+            commands = this.streamCommands(commands, instanced && this.gpuCulling);
+        }
+
+        if (this.lit && this.shadowLight != -1) {
+            this.renderShadows(commands);
+        }
+
+        if (instanced) {
+            if (this.gpuCulling) {
+                this.cullObjects(commands);
+            } else {
+                this.drawObjects(commands);
+            }
+        } else {
+            for (DrawCommand command : commands) {
+                this.depthTest(command.getDepthTest());
+
+                this.drawMesh(command.getMesh(), command.getMatrix());
+            }
+        }
+    }
+
+    @Override
+    public void endFrame() {
+        if (!this.frame.getPass().getLast()) {
+            this.frame = null;
+
+            return;
+        }
+
+        if (this.scaled) {
+            this.upscale();
+        } else {
+            glBindFramebuffer(GL_FRAMEBUFFER, 0);
+            glViewport(this.windowViewport.get(0), this.windowViewport.get(1), this.windowViewport.get(2), this.windowViewport.get(3));
+        }
+
+        this.depthTest(true);
+
+        if (this.frameCapture != null) {
+            this.captureFrame(this.frameCapture);
+
+            // Readbacks are only collected at the end of a frame, so an on demand renderer has to keep drawing until they are
+            for (Readback readback : this.readbacks) {
+                if (readback.fence != 0L && this.renderer.getOnDemand()) {
+                    this.renderer.requestRedraw();
+
+                    break;
+                }
+            }
+        }
+
+        // Commands skipped while their mesh or texture uploads are only drawn once the upload is collected at the start of a frame, so an on demand renderer has to keep drawing until they are
+        if (this.uploadThread != null && this.renderer.getOnDemand() && (this.streamingMeshes.size() > 0 || this.streamingTextures.size() > 0)) {
+            this.renderer.requestRedraw();
+        }
+
+        if (this.timing) {
+            this.endTimer();
+        }
+
+        this.frame = null;
+    }
+
+    @Override
+    public @NotNull Boolean getRequiresWindow() {
+        return true;
+    }
+
+    /**
+     * Compile and link a shader if it hasn't been already
+     * 
+     * @param shader The shader to compile
+     * 
+     * @throws GLCompileException If the shader fails to compile or link
+     * 
+     * @since 2.6.0
+     */
+    private void compileShader(@NotNull Shader shader) throws GLCompileException {
+        if (this.shaderPrograms.containsKey(shader)) {
+            return;
+        }
+
+        if (this.shaderCache != null) {
+            Integer programId = this.shaderCache.load(shader, this.capabilities);
+
+            if (programId != null) {
+                this.shaderPrograms.put(shader, programId);
+
+                this.bindUniformBlocks(programId);
+                this.bindSamplers(programId);
+
+                return;
+            }
+        }
+
+        Integer programId = glCreateProgram();
+        this.shaderPrograms.put(shader, programId);
+
+        Integer vertexId = glCreateShader(GL_VERTEX_SHADER);
+        this.shaderVertexShaders.put(shader, vertexId);
+        glShaderSource(vertexId, shader.getVertexSource());
+        glCompileShader(vertexId);
+        if (glGetShaderi(vertexId, GL_COMPILE_STATUS) != GL_TRUE) {
+            System.err.println(glGetShaderInfoLog(vertexId));
+
+            throw new GLCompileException("Failed to compile vertex shader");
+        }
+
+        Integer fragmentId = glCreateShader(GL_FRAGMENT_SHADER);
+        this.shaderFragmentShaders.put(shader, fragmentId);
+        glShaderSource(fragmentId, shader.getFragmentSource());
+        glCompileShader(fragmentId);
+        if (glGetShaderi(fragmentId, GL_COMPILE_STATUS) != GL_TRUE) {
+            System.err.println(glGetShaderInfoLog(fragmentId));
+
+            throw new GLCompileException("Failed to compile fragment shader");
+        }
+
+        glAttachShader(programId, vertexId);
+        glAttachShader(programId, fragmentId);
+
+        glBindAttribLocation(programId, 0, "vertices");
+        glBindAttribLocation(programId, 1, "uvs");
+        glBindAttribLocation(programId, 2, "objectIndex");
+
+        if (this.shaderCache != null && this.capabilities.getProgramBinary()) {
+            glProgramParameteri(programId, GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL_TRUE);
+        }
+
+        glLinkProgram(programId);
+        if (glGetProgrami(programId, GL_LINK_STATUS) != GL_TRUE) {
+            System.err.println(glGetProgramInfoLog(programId));
+
+            throw new GLCompileException("Failed to compile shader program");
+        }
+
+        this.bindUniformBlocks(programId);
+        // Until they are given units every sampler is on unit 0, and samplers of different types sharing a unit fail validation
+        this.bindSamplers(programId);
+
+        glValidateProgram(programId);
+        if (glGetProgrami(programId, GL_VALIDATE_STATUS) != GL_TRUE) {
+            System.err.println(glGetProgramInfoLog(programId));
+
+            throw new GLCompileException("Failed to compile shader program");
+        }
+
+        if (this.shaderCache != null) {
+            this.shaderCache.save(shader, this.capabilities, programId);
+        }
+    }
+
+    /**
+     * Give the samplers of a program the texture units the renderer binds their textures to (Uniform values aren't stored in program binaries either, so it is done after every link or load)
+     * 
+     * @param programId The gl id of the program
+     * 
+     * @since 2.6.0
+     */
+    private void bindSamplers(@NotNull Integer programId) {
+        glUseProgram(programId);
+        this.currentShader = null;
+
+        glUniform1i(glGetUniformLocation(programId, "sampler"), 0);
+        glUniform1i(glGetUniformLocation(programId, "objects"), 1);
+        glUniform1i(glGetUniformLocation(programId, "lights"), 2);
+        glUniform1i(glGetUniformLocation(programId, "lightClusters"), 3);
+        glUniform1i(glGetUniformLocation(programId, "lightIndices"), 4);
+        glUniform1i(glGetUniformLocation(programId, "shadowMap"), 5);
+    }
+
+    /**
+     * Point the uniform blocks of a program at the renderers binding points (Not stored in program binaries so it is done after every link or load)
+     * 
+     * @param programId The gl id of the program
+     * 
+     * @since 2.6.0
+     */
+    private void bindUniformBlocks(@NotNull Integer programId) {
+        Integer frameIndex = glGetUniformBlockIndex(programId, "Frame");
+        if (frameIndex != GL_INVALID_INDEX) {
+            glUniformBlockBinding(programId, frameIndex, FRAME_UNIFORM_BINDING);
+        }
+
+        Integer lightingIndex = glGetUniformBlockIndex(programId, "Lighting");
+        if (lightingIndex != GL_INVALID_INDEX) {
+            glUniformBlockBinding(programId, lightingIndex, LIGHTING_UNIFORM_BINDING);
+        }
+    }
+
+    /**
+     * Assign the lights of a frame to clusters and upload the light data, clusters and light indices (Nothing is done if the frame isn't lit)
+     * 
+     * @param frame The data of the frame
+     * 
+     * @since 2.6.0
+     */
+    private void updateLighting(@NotNull RenderFrame frame) {
+        this.lit = !frame.getLights().isEmpty() && this.renderer.getShader().getFeatures().contains(ShaderFeature.LIT);
+        if (!this.lit) {
+            return;
+        }
+
+        LightClusters clusters = this.lightClusters;
+        clusters.update(frame.getLights(), frame.getView(), frame.getProjection());
+
+        // Directional lights come first in the light data in the order they were passed
+        Light shadowLight = null;
+        this.shadowLight = -1;
+        Integer directional = 0;
+        for (Light light : frame.getLights()) {
+            if (light.getGameObject() != null && light.getType() == LightType.DIRECTIONAL) {
+                if (light.getCastShadows() && frame.getPass().getShadows()) {
+                    shadowLight = light;
+                    this.shadowLight = directional;
+
+                    break;
+                }
+
+                directional++;
+            }
+        }
+
+        if (shadowLight != null) {
+            this.shadowCascades.update(frame.getView(), frame.getProjection(), shadowLight.getDirection());
+        }
+
+        Integer lightFloats = Math.max(clusters.getLightCount(), 1) * LightClusters.LIGHT_SIZE;
+        if (this.lightUpload.capacity() < lightFloats) {
+            this.lightUpload = BufferUtils.createFloatBuffer(lightFloats * 2);
+        }
+        this.lightUpload.clear();
+        this.lightUpload.put(clusters.getLightData(), 0, lightFloats).flip();
+        this.uploadBuffer(this.lightBuffer, this.lightUpload);
+
+        Integer clusterInts = clusters.getClusterCount() * 2;
+        Integer indexInts = Math.max(clusters.getIndexCount(), 1);
+        if (this.clusterUpload.capacity() < Math.max(clusterInts, indexInts)) {
+            this.clusterUpload = BufferUtils.createIntBuffer(Math.max(clusterInts, indexInts) * 2);
+        }
+        this.clusterUpload.clear();
+        this.clusterUpload.put(clusters.getClusters(), 0, clusterInts).flip();
+        this.uploadBuffer(this.clusterBuffer, this.clusterUpload);
+
+        this.clusterUpload.clear();
+        this.clusterUpload.put(clusters.getIndices(), 0, indexInts).flip();
+        this.uploadBuffer(this.lightIndexBuffer, this.clusterUpload);
+
+        glGetIntegerv(GL_VIEWPORT, this.viewportData);
+
+        this.lightingData.clear();
+        this.lightingData.putInt(0, clusters.getTilesX()).putInt(4, clusters.getTilesY()).putInt(8, clusters.getSlices()).putInt(12, clusters.getDirectionalCount());
+        this.lightingData.putFloat(16, clusters.getDepthScale()).putFloat(20, clusters.getDepthBias()).putFloat(24, clusters.getLogarithmic() ? 1f : 0f).putFloat(28, 0f);
+        this.lightingData.putFloat(32, this.viewportData.get(0)).putFloat(36, this.viewportData.get(1)).putFloat(40, this.viewportData.get(2)).putFloat(44, this.viewportData.get(3));
+        this.lightingData.putFloat(48, frame.getAmbientLight().getRed() / 255f).putFloat(52, frame.getAmbientLight().getGreen() / 255f).putFloat(56, frame.getAmbientLight().getBlue() / 255f).putFloat(60, 1f);
+
+        ShadowCascades cascades = this.shadowCascades;
+        for (Integer i = 0; i < 4; i++) {
+            this.lightingData.putFloat(64 + i * 4, i < cascades.getCascades() ? cascades.getSplit(i) : 0f);
+
+            if (i < cascades.getCascades()) {
+                cascades.getMatrix(i).get(96 + i * 64, this.lightingData);
+            }
+        }
+        this.lightingData.putFloat(80, this.shadowLight).putFloat(84, cascades.getCascades()).putFloat(88, 0.0005f).putFloat(92, 0f);
+
+        if (this.modernPath) {
+            glNamedBufferSubData(this.lightingUniformBuffer, 0, this.lightingData);
+
+            glBindTextureUnit(2, this.lightTexture);
+            glBindTextureUnit(3, this.clusterTexture);
+            glBindTextureUnit(4, this.lightIndexTexture);
+        } else {
+            glBindBuffer(GL_UNIFORM_BUFFER, this.lightingUniformBuffer);
+            glBufferSubData(GL_UNIFORM_BUFFER, 0, this.lightingData);
+            glBindBuffer(GL_UNIFORM_BUFFER, 0);
+
+            glActiveTexture(GL_TEXTURE2);
+            glBindTexture(GL_TEXTURE_BUFFER, this.lightTexture);
+            glActiveTexture(GL_TEXTURE3);
+            glBindTexture(GL_TEXTURE_BUFFER, this.clusterTexture);
+            glActiveTexture(GL_TEXTURE4);
+            glBindTexture(GL_TEXTURE_BUFFER, this.lightIndexTexture);
+        }
+
+        glBindBufferBase(GL_UNIFORM_BUFFER, LIGHTING_UNIFORM_BINDING, this.lightingUniformBuffer);
+    }
+
+    /**
+     * Compile the shadow program and create the shadow maps and their framebuffers
+     * 
+     * @throws GLCompileException If the shadow shader fails to compile or link
+     * 
+     * @since 2.6.0
+     */
+    private void createShadows() throws GLCompileException {
+        this.shadowProgram = this.createProgram("/shadow-vertex.glsl", "/shadow-fragment.glsl", "shadow");
+
+        this.shadowMatrixLocation = glGetUniformLocation(this.shadowProgram, "lightViewProjection");
+        this.shadowModelLocation = glGetUniformLocation(this.shadowProgram, "model");
+
+        Integer resolution = this.shadowCascades.getResolution();
+        Integer layers = this.shadowCascades.getCascades();
+
+        this.shadowTexture = glGenTextures();
+        glBindTexture(GL_TEXTURE_2D_ARRAY, this.shadowTexture);
+        glTexImage3D(GL_TEXTURE_2D_ARRAY, 0, GL_DEPTH_COMPONENT32F, resolution, resolution, layers, 0, GL_DEPTH_COMPONENT, GL_FLOAT, NULL);
+        glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
+        glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+        glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+        glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+        glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_COMPARE_MODE, GL_COMPARE_REF_TO_TEXTURE);
+        glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_COMPARE_FUNC, GL_LEQUAL);
+
+        this.shadowCacheTexture = glGenTextures();
+        glBindTexture(GL_TEXTURE_2D_ARRAY, this.shadowCacheTexture);
+        glTexImage3D(GL_TEXTURE_2D_ARRAY, 0, GL_DEPTH_COMPONENT32F, resolution, resolution, layers, 0, GL_DEPTH_COMPONENT, GL_FLOAT, NULL);
+        glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_MIN_FILTER, GL_NEAREST);
+        glTexParameteri(GL_TEXTURE_2D_ARRAY, GL_TEXTURE_MAG_FILTER, GL_NEAREST);
+        glBindTexture(GL_TEXTURE_2D_ARRAY, 0);
+
+        this.shadowFramebuffer = glGenFramebuffers();
+        this.shadowCacheFramebuffer = glGenFramebuffers();
+
+        this.shadowCacheVersions = new long[layers];
+        this.shadowRefreshes = new long[layers];
+        Arrays.fill(this.shadowCacheVersions, -1L);
+        Arrays.fill(this.shadowRefreshes, Long.MIN_VALUE / 2);
+    }
+
+    /**
+     * Redraw the cascades of the shadow map that need it
+     * 
+     * Static casters are drawn into the cache of a cascade only when its projection changes or a static caster moves, refreshing a cascade copies its cache and draws the dynamic casters on top.
+     * The near cascades are refreshed every frame, the far ones every 2^cascade frames, and casters are culled against the light frustum of each cascade.
+     * 
+     * @param commands The commands of the frame
+     * 
+     * @since 2.6.0
+     */
+    private void renderShadows(@NotNull List<DrawCommand> commands) {
+        if (this.shadowProgram == 0) {
+            this.createShadows();
+        }
+
+        ShadowCascades cascades = this.shadowCascades;
+        Integer resolution = cascades.getResolution();
+
+        int fingerprint = 1;
+        for (DrawCommand command : commands) {
+            if (command.getDepthTest() && command.getStatic()) {
+                fingerprint = 31 * (31 * fingerprint + System.identityHashCode(command.getMesh())) + command.getMatrix().hashCode();
+            }
+        }
+        Boolean staticMoved = fingerprint != this.staticFingerprint;
+        this.staticFingerprint = fingerprint;
+
+        glUseProgram(this.shadowProgram);
+        this.currentShader = null;
+
+        glViewport(0, 0, resolution, resolution);
+        glEnable(GL_POLYGON_OFFSET_FILL);
+        glPolygonOffset(2f, 4f);
+        this.depthTest(true);
+
+        FrustumIntersection frustum = new FrustumIntersection();
+        for (Integer cascade = 0; cascade < cascades.getCascades(); cascade++) {
+            Long version = cascades.getVersion(cascade);
+            Boolean cached = !staticMoved && version == this.shadowCacheVersions[cascade];
+
+            if (cached && cascade >= this.dynamicCascades && this.frame.getNumber() - this.shadowRefreshes[cascade] < (1L << cascade)) {
+                continue;
+            }
+
+            Matrix4f matrix = cascades.getMatrix(cascade);
+            matrix.get(this.matrixData);
+            glUniformMatrix4fv(this.shadowMatrixLocation, false, this.matrixData);
+            frustum.set(matrix);
+
+            glBindFramebuffer(GL_FRAMEBUFFER, this.shadowFramebuffer);
+            glDrawBuffer(GL_NONE);
+            glReadBuffer(GL_NONE);
+
+            if (!cached) {
+                glFramebufferTextureLayer(GL_FRAMEBUFFER, GL_DEPTH_ATTACHMENT, this.shadowCacheTexture, 0, cascade);
+                glClear(GL_DEPTH_BUFFER_BIT);
+
+                this.drawCasters(commands, frustum, true);
+
+                this.shadowCacheVersions[cascade] = version;
+            }
+
+            glFramebufferTextureLayer(GL_FRAMEBUFFER, GL_DEPTH_ATTACHMENT, this.shadowTexture, 0, cascade);
+
+            glBindFramebuffer(GL_READ_FRAMEBUFFER, this.shadowCacheFramebuffer);
+            glFramebufferTextureLayer(GL_READ_FRAMEBUFFER, GL_DEPTH_ATTACHMENT, this.shadowCacheTexture, 0, cascade);
+            glBlitFramebuffer(0, 0, resolution, resolution, 0, 0, resolution, resolution, GL_DEPTH_BUFFER_BIT, GL_NEAREST);
+            glBindFramebuffer(GL_READ_FRAMEBUFFER, 0);
+
+            this.drawCasters(commands, frustum, false);
+
+            this.shadowRefreshes[cascade] = this.frame.getNumber();
+        }
+
+        glBindVertexArray(0);
+        glBindFramebuffer(GL_FRAMEBUFFER, this.passFramebuffer);
+        glDisable(GL_POLYGON_OFFSET_FILL);
+        glViewport(this.viewportData.get(0), this.viewportData.get(1), this.viewportData.get(2), this.viewportData.get(3));
+
+        if (this.modernPath) {
+            glBindTextureUnit(5, this.shadowTexture);
+        } else {
+            glActiveTexture(GL_TEXTURE5);
+            glBindTexture(GL_TEXTURE_2D_ARRAY, this.shadowTexture);
+        }
+    }
+
+    /**
+     * Draw the static or dynamic shadow casters that are inside a light frustum with the shadow program
+     * 
+     * @param commands The commands of the frame
+     * @param frustum The light frustum of the cascade
+     * @param isStatic Weather to draw the static or dynamic casters
+     * 
+     * @since 2.6.0
+     */
+    private void drawCasters(@NotNull List<DrawCommand> commands, @NotNull FrustumIntersection frustum, @NotNull Boolean isStatic) {
+        Vector3f center = new Vector3f();
+        Vector3f scale = new Vector3f();
+
+        for (DrawCommand command : commands) {
+            if (!command.getDepthTest() || command.getStatic() != isStatic) {
+                continue;
+            }
+
+            Mesh mesh = command.getMesh();
+            Matrix4f matrix = command.getMatrix();
+
+            Vector4f bounds = mesh.getBounds();
+            matrix.transformPosition(center.set(bounds.x, bounds.y, bounds.z));
+            matrix.getScale(scale);
+            if (!frustum.testSphere(center.x, center.y, center.z, bounds.w * Math.max(scale.x, Math.max(scale.y, scale.z)))) {
+                continue;
+            }
+
+            MeshBuffers buffers = this.uploadMesh(mesh);
+
+            matrix.mul(buffers.decode, this.matrix).get(this.matrixData);
+            glUniformMatrix4fv(this.shadowModelLocation, false, this.matrixData);
+
+            glBindVertexArray(buffers.vertexArray);
+            if (buffers.triBuffer != null) {
+                glDrawElements(GL_TRIANGLES, buffers.triCount, buffers.triType, 0);
+            } else {
+                glDrawArrays(GL_TRIANGLES, 0, buffers.vertexCount);
+            }
+        }
+    }
+
+    /**
+     * Compile and link a program from a vertex and fragment shader in the resources
+     * 
+     * @param vertexPath The resource path of the vertex shader
+     * @param fragmentPath The resource path of the fragment shader
+     * @param name The name of the program for errors
+     * 
+     * @return The gl id of the program
+     * 
+     * @throws GLCompileException If the shaders fail to load, compile or link
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer createProgram(@NotNull String vertexPath, @NotNull String fragmentPath, @NotNull String name) throws GLCompileException {
+        String vertexSource;
+        String fragmentSource;
+        try {
+            vertexSource = ShaderLoader.loadResourceSource(vertexPath);
+            fragmentSource = ShaderLoader.loadResourceSource(fragmentPath);
+        } catch (IOException e) {
+            throw new GLCompileException("Failed to load the " + name + " shader");
+        }
+
+        Integer vertexId = glCreateShader(GL_VERTEX_SHADER);
+        glShaderSource(vertexId, vertexSource);
+        glCompileShader(vertexId);
+        if (glGetShaderi(vertexId, GL_COMPILE_STATUS) != GL_TRUE) {
+            System.err.println(glGetShaderInfoLog(vertexId));
+
+            throw new GLCompileException("Failed to compile " + name + " vertex shader");
+        }
+
+        Integer fragmentId = glCreateShader(GL_FRAGMENT_SHADER);
+        glShaderSource(fragmentId, fragmentSource);
+        glCompileShader(fragmentId);
+        if (glGetShaderi(fragmentId, GL_COMPILE_STATUS) != GL_TRUE) {
+            System.err.println(glGetShaderInfoLog(fragmentId));
+
+            throw new GLCompileException("Failed to compile " + name + " fragment shader");
+        }
+
+        Integer programId = glCreateProgram();
+        glAttachShader(programId, vertexId);
+        glAttachShader(programId, fragmentId);
+        glLinkProgram(programId);
+        glDeleteShader(vertexId);
+        glDeleteShader(fragmentId);
+        if (glGetProgrami(programId, GL_LINK_STATUS) != GL_TRUE) {
+            System.err.println(glGetProgramInfoLog(programId));
+
+            throw new GLCompileException("Failed to compile " + name + " program");
+        }
+
+        return programId;
+    }
+
+    /**
+     * Bind the framebuffer a pass draws into and set the viewport to the camera's part of it
+     * 
+     * @param pass The pass to bind the target of
+     * 
+     * @since 2.6.0
+     */
+    private void bindPassTarget(@NotNull RenderPass pass) {
+        Integer x = 0;
+        Integer y = 0;
+        Integer width;
+        Integer height;
+
+        Texture2D target = pass.getTarget();
+        if (target != null) {
+            this.passFramebuffer = this.getTargetFramebuffer(target);
+            width = target.getWidth();
+            height = target.getHeight();
+        } else if (this.scaled) {
+            this.passFramebuffer = this.sceneFramebuffer;
+            width = this.sceneViewWidth;
+            height = this.sceneViewHeight;
+        } else {
+            this.passFramebuffer = 0;
+            x = this.windowViewport.get(0);
+            y = this.windowViewport.get(1);
+            width = this.windowViewport.get(2);
+            height = this.windowViewport.get(3);
+        }
+
+        glBindFramebuffer(GL_FRAMEBUFFER, this.passFramebuffer);
+
+        Vector4f viewport = pass.getViewport();
+        Integer left = x + Math.round(width * viewport.x);
+        Integer bottom = y + Math.round(height * viewport.y);
+        Integer right = x + Math.round(width * (viewport.x + viewport.z));
+        Integer top = y + Math.round(height * (viewport.y + viewport.w));
+        glViewport(left, bottom, Math.max(1, right - left), Math.max(1, top - bottom));
+    }
+
+    /**
+     * Get the framebuffer that draws into a camera's target texture (Creating it and a depth buffer the size of the texture if needed)
+     * 
+     * @param target The target texture
+     * 
+     * @return The gl id of the framebuffer
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer getTargetFramebuffer(@NotNull Texture2D target) {
+        TargetBuffers buffers = this.targetFramebuffers.get(target);
+        if (buffers != null) {
+            return buffers.framebuffer;
+        }
+
+        Integer textureId = this.uploadTexture(target);
+
+        buffers = new TargetBuffers();
+
+        buffers.depthBuffer = glGenRenderbuffers();
+        glBindRenderbuffer(GL_RENDERBUFFER, buffers.depthBuffer);
+        glRenderbufferStorage(GL_RENDERBUFFER, GL_DEPTH_COMPONENT24, target.getWidth(), target.getHeight());
+        glBindRenderbuffer(GL_RENDERBUFFER, 0);
+
+        buffers.framebuffer = glGenFramebuffers();
+        glBindFramebuffer(GL_FRAMEBUFFER, buffers.framebuffer);
+        glFramebufferTexture2D(GL_FRAMEBUFFER, GL_COLOR_ATTACHMENT0, GL_TEXTURE_2D, textureId, 0);
+        glFramebufferRenderbuffer(GL_FRAMEBUFFER, GL_DEPTH_ATTACHMENT, GL_RENDERBUFFER, buffers.depthBuffer);
+
+        this.targetFramebuffers.put(target, buffers);
+
+        return buffers.framebuffer;
+    }
+
+    /**
+     * Work out the scaled part of the scene target the frame is drawn into (Creating or growing the target if needed)
+     * 
+     * @param scale The fraction of the window viewport to draw the scene at
+     * 
+     * @since 2.6.0
+     */
+    private void prepareSceneTarget(@NotNull Float scale) {
+        Integer width = this.windowViewport.get(2);
+        Integer height = this.windowViewport.get(3);
+
+        if (this.upscaleProgram == 0) {
+            this.upscaleProgram = this.createProgram("/upscale-vertex.glsl", "/upscale-fragment.glsl", "upscale");
+
+            glUseProgram(this.upscaleProgram);
+            glUniform1i(glGetUniformLocation(this.upscaleProgram, "scene"), 0);
+            this.upscaleRegionLocation = glGetUniformLocation(this.upscaleProgram, "region");
+            this.upscaleTexelLocation = glGetUniformLocation(this.upscaleProgram, "texel");
+            this.upscaleSharpnessLocation = glGetUniformLocation(this.upscaleProgram, "sharpness");
+
+            this.upscaleVertexArray = glGenVertexArrays();
+
+            this.sceneFramebuffer = glGenFramebuffers();
+            this.sceneTexture = glGenTextures();
+            this.sceneDepthBuffer = glGenRenderbuffers();
+        }
+
+        if (width > this.sceneWidth || height > this.sceneHeight) {
+            this.sceneWidth = Math.max(width, this.sceneWidth);
+            this.sceneHeight = Math.max(height, this.sceneHeight);
+
+            glBindTexture(GL_TEXTURE_2D, this.sceneTexture);
+            glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA8, this.sceneWidth, this.sceneHeight, 0, GL_RGBA, GL_UNSIGNED_BYTE, NULL);
+            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
+            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+            glBindTexture(GL_TEXTURE_2D, 0);
+
+            glBindRenderbuffer(GL_RENDERBUFFER, this.sceneDepthBuffer);
+            glRenderbufferStorage(GL_RENDERBUFFER, GL_DEPTH_COMPONENT24, this.sceneWidth, this.sceneHeight);
+            glBindRenderbuffer(GL_RENDERBUFFER, 0);
+
+            glBindFramebuffer(GL_FRAMEBUFFER, this.sceneFramebuffer);
+            glFramebufferTexture2D(GL_FRAMEBUFFER, GL_COLOR_ATTACHMENT0, GL_TEXTURE_2D, this.sceneTexture, 0);
+            glFramebufferRenderbuffer(GL_FRAMEBUFFER, GL_DEPTH_ATTACHMENT, GL_RENDERBUFFER, this.sceneDepthBuffer);
+        }
+
+        this.sceneViewWidth = Math.max(1, Math.round(width * scale));
+        this.sceneViewHeight = Math.max(1, Math.round(height * scale));
+    }
+
+    /**
+     * Upscale the drawn part of the scene target to the window viewport
+     * 
+     * @since 2.6.0
+     */
+    private void upscale() {
+        glBindFramebuffer(GL_FRAMEBUFFER, 0);
+        glViewport(this.windowViewport.get(0), this.windowViewport.get(1), this.windowViewport.get(2), this.windowViewport.get(3));
+
+        this.depthTest(false);
+
+        glUseProgram(this.upscaleProgram);
+        this.currentShader = null;
+
+        glUniform2f(this.upscaleRegionLocation, (float) this.sceneViewWidth / this.sceneWidth, (float) this.sceneViewHeight / this.sceneHeight);
+        glUniform2f(this.upscaleTexelLocation, 1f / this.sceneWidth, 1f / this.sceneHeight);
+        glUniform1f(this.upscaleSharpnessLocation, this.renderer.getDynamicResolution() != null ? this.renderer.getDynamicResolution().getSharpness() : 0f);
+
+        if (this.modernPath) {
+            glBindTextureUnit(0, this.sceneTexture);
+        } else {
+            glActiveTexture(GL_TEXTURE0);
+            glBindTexture(GL_TEXTURE_2D, this.sceneTexture);
+        }
+
+        glBindVertexArray(this.upscaleVertexArray);
+        glDrawArrays(GL_TRIANGLES, 0, 3);
+        glBindVertexArray(0);
+    }
+
+    /**
+     * Hand finished readbacks to a capture and start reading the current frame back if it wants it
+     * 
+     * @param capture The capture to read frames back for
+     * 
+     * @since 2.6.0
+     */
+    private void captureFrame(@NotNull FrameCapture capture) {
+        if (this.readbacks == null) {
+            this.readbacks = new Readback[3];
+            for (Integer i = 0; i < this.readbacks.length; i++) {
+                this.readbacks[i] = new Readback(glGenBuffers());
+            }
+        }
+
+        this.collectReadbacks(capture);
+
+        if (!capture.getWantsFrame()) {
+            return;
+        }
+
+        Readback readback = this.readbacks[this.readbackIndex];
+        if (readback.fence != 0L) {
+            // The gpu is more frames behind than there are buffers, waiting would stall so the frame is skipped (Screenshots stay queued for the next one)
+            if (capture.getRecording()) {
+                capture.dropFrame();
+            }
+
+            return;
+        }
+
+        Integer width = this.windowViewport.get(2);
+        Integer height = this.windowViewport.get(3);
+        Integer size = width * height * 4;
+
+        glBindFramebuffer(GL_READ_FRAMEBUFFER, 0);
+        glBindBuffer(GL_PIXEL_PACK_BUFFER, readback.buffer);
+        if (readback.size < size) {
+            glBufferData(GL_PIXEL_PACK_BUFFER, size, GL_STREAM_READ);
+            readback.size = size;
+        }
+        glReadPixels(this.windowViewport.get(0), this.windowViewport.get(1), width, height, GL_RGBA, GL_UNSIGNED_BYTE, 0L);
+        glBindBuffer(GL_PIXEL_PACK_BUFFER, 0);
+
+        readback.fence = glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        readback.width = width;
+        readback.height = height;
+        readback.number = this.frame.getNumber();
+        readback.record = capture.getRecording();
+        readback.screenshots = capture.takeScreenshots();
+
+        this.readbackIndex = (this.readbackIndex + 1) % this.readbacks.length;
+    }
+
+    /**
+     * Copy every readback the gpu has finished out of its pixel buffer and hand it to a capture, oldest first, without waiting for unfinished ones
+     * 
+     * @param capture The capture to hand the frames to
+     * 
+     * @since 2.6.0
+     */
+    private void collectReadbacks(@NotNull FrameCapture capture) {
+        for (Integer i = 0; i < this.readbacks.length; i++) {
+            Readback readback = this.readbacks[(this.readbackIndex + i) % this.readbacks.length];
+            if (readback.fence == 0L) {
+                continue;
+            }
+
+            Integer status = glClientWaitSync(readback.fence, 0, 0L);
+            if (status != GL_ALREADY_SIGNALED && status != GL_CONDITION_SATISFIED) {
+                break;
+            }
+
+            glDeleteSync(readback.fence);
+            readback.fence = 0L;
+
+            Integer size = readback.width * readback.height * 4;
+
+            ByteBuffer data = capture.acquireBuffer(size);
+            if (data == null) {
+                if (readback.screenshots.isEmpty()) {
+                    capture.dropFrame();
+
+                    continue;
+                }
+
+                // Screenshots are never dropped, they get a buffer of their own when the pool is empty
+                data = ByteBuffer.allocateDirect(size);
+            }
+
+            glBindBuffer(GL_PIXEL_PACK_BUFFER, readback.buffer);
+            ByteBuffer mapped = glMapBufferRange(GL_PIXEL_PACK_BUFFER, 0, size, GL_MAP_READ_BIT);
+            if (mapped != null) {
+                data.put(mapped);
+            }
+            glUnmapBuffer(GL_PIXEL_PACK_BUFFER);
+            glBindBuffer(GL_PIXEL_PACK_BUFFER, 0);
+
+            capture.submitFrame(data, readback.width, readback.height, readback.number, readback.record, readback.screenshots);
+            readback.screenshots = null;
+        }
+    }
+
+    /**
+     * Start measuring the gpu time of the frame
+     * 
+     * @since 2.6.0
+     */
+    private void beginTimer() {
+        if (this.timerQueries == null) {
+            this.timerQueries = new int[4];
+            glGenQueries(this.timerQueries);
+        }
+
+        glBeginQuery(GL_TIME_ELAPSED, this.timerQueries[(int) (this.timedFrames % this.timerQueries.length)]);
+        this.timing = true;
+    }
+
+    /**
+     * Stop measuring the gpu time of the frame and report the oldest finished measurement to the dynamic resolution controller
+     * 
+     * The results of a query are read a few frames after it ends, so the cpu never waits for the gpu to catch up
+     * 
+     * @since 2.6.0
+     */
+    private void endTimer() {
+        glEndQuery(GL_TIME_ELAPSED);
+        this.timing = false;
+        this.timedFrames++;
+
+        if (this.timedFrames < this.timerQueries.length) {
+            return;
+        }
+
+        // The next query in the ring is the oldest one, it is reused next frame so its result is read now or never
+        Integer query = this.timerQueries[(int) (this.timedFrames % this.timerQueries.length)];
+
+        DynamicResolution dynamicResolution = this.renderer.getDynamicResolution();
+        if (dynamicResolution != null && glGetQueryObjecti(query, GL_QUERY_RESULT_AVAILABLE) == GL_TRUE) {
+            dynamicResolution.reportGpuTime(glGetQueryObjectui64(query, GL_QUERY_RESULT) / 1000000000f);
+        }
+    }
+
+    /**
+     * Create a buffer texture reading a buffer
+     * 
+     * @param bufferId The gl id of the buffer
+     * @param format The internal format of the texels
+     * 
+     * @return The gl id of the texture
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer createBufferTexture(@NotNull Integer bufferId, @NotNull Integer format) {
+        Integer textureId;
+
+        if (this.modernPath) {
+            textureId = glCreateTextures(GL_TEXTURE_BUFFER);
+            glTextureBuffer(textureId, format, bufferId);
+        } else {
+            textureId = glGenTextures();
+            glBindTexture(GL_TEXTURE_BUFFER, textureId);
+            glTexBuffer(GL_TEXTURE_BUFFER, format, bufferId);
+            glBindTexture(GL_TEXTURE_BUFFER, 0);
+        }
+
+        return textureId;
+    }
+
+    /**
+     * Replace the contents of a buffer read by a buffer texture (The old storage is orphaned so the driver doesn't wait for draws still reading it)
+     * 
+     * @param bufferId The gl id of the buffer
+     * @param data The data to upload
+     * 
+     * @since 2.6.0
+     */
+    private void uploadBuffer(@NotNull Integer bufferId, @NotNull FloatBuffer data) {
+        if (this.modernPath) {
+            glNamedBufferData(bufferId, data, GL_STREAM_DRAW);
+        } else {
+            glBindBuffer(GL_TEXTURE_BUFFER, bufferId);
+            glBufferData(GL_TEXTURE_BUFFER, data, GL_STREAM_DRAW);
+            glBindBuffer(GL_TEXTURE_BUFFER, 0);
+        }
+    }
+
+    /**
+     * Replace the contents of a buffer read by a buffer texture (The old storage is orphaned so the driver doesn't wait for draws still reading it)
+     * 
+     * @param bufferId The gl id of the buffer
+     * @param data The data to upload
+     * 
+     * @since 2.6.0
+     */
+    private void uploadBuffer(@NotNull Integer bufferId, @NotNull IntBuffer data) {
+        if (this.modernPath) {
+            glNamedBufferData(bufferId, data, GL_STREAM_DRAW);
+        } else {
+            glBindBuffer(GL_TEXTURE_BUFFER, bufferId);
+            glBufferData(GL_TEXTURE_BUFFER, data, GL_STREAM_DRAW);
+            glBindBuffer(GL_TEXTURE_BUFFER, 0);
+        }
+    }
+
+    /**
+     * Write the camera and time data for this frame into the frame uniform buffer
+     * 
+     * @param frame The data of the frame
+     * 
+     * @since 2.6.0
+     */
+    private void updateFrameUniforms(@NotNull RenderFrame frame) {
+        this.frameData.clear();
+        frame.getView().get(0, this.frameData);
+        frame.getProjection().get(16, this.frameData);
+        frame.getViewProjection().get(32, this.frameData);
+        this.frameData.put(48, frame.getCameraPosition().x).put(49, frame.getCameraPosition().y).put(50, frame.getCameraPosition().z).put(51, 1f);
+        this.frameData.put(52, frame.getTime()).put(53, frame.getDelta()).put(54, 0f).put(55, 0f);
+
+        if (this.modernPath) {
+            glNamedBufferSubData(this.frameUniformBuffer, 0, this.frameData);
+        } else {
+            glBindBuffer(GL_UNIFORM_BUFFER, this.frameUniformBuffer);
+            glBufferSubData(GL_UNIFORM_BUFFER, 0, this.frameData);
+            glBindBuffer(GL_UNIFORM_BUFFER, 0);
+        }
+
+        glBindBufferBase(GL_UNIFORM_BUFFER, FRAME_UNIFORM_BINDING, this.frameUniformBuffer);
+    }
+
+    /**
+     * Get the location of a uniform in a shader, caching it
+     * 
+     * @param shader The shader to look in
+     * @param name The name of the uniform
+     * 
+     * @return The location of the uniform (-1 if the shader doesn't use it)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer uniformLocation(@NotNull Shader shader, @NotNull String name) {
+        Map<String, Integer> locations = this.shaderUniforms.get(shader);
+        if (locations == null) {
+            locations = new HashMap<String, Integer>();
+            this.shaderUniforms.put(shader, locations);
+        }
+
+        Integer location = locations.get(name);
+        if (location == null) {
+            location = glGetUniformLocation(this.shaderPrograms.get(shader), name);
+            locations.put(name, location);
+        }
+
+        return location;
+    }
+
+    /**
+     * Start the upload thread in the upload context
+     * 
+     * @since 2.6.0
+     */
+    private void startUploads() {
+        Long context = this.uploadContext;
+
+        this.uploadThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                runUploads(context);
+            }
+        }, "GIGHM-Uploads");
+        this.uploadThread.setDaemon(true);
+        this.uploadThread.start();
+    }
+
+    /**
+     * Stop the upload thread, finishing the uploads it already issued and handing the ones it didn't back to the render thread
+     * 
+     * @since 2.6.0
+     */
+    private void stopUploads() {
+        this.uploadThread.interrupt();
+        try {
+            this.uploadThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.uploadThread = null;
+
+        // Uploads that were never issued are forgotten, the next draw of their asset uploads it on the render thread
+        StreamUpload upload;
+        while ((upload = this.uploadQueue.poll()) != null) {
+            if (upload.mesh != null) {
+                this.streamingMeshes.remove(upload.mesh);
+            } else {
+                this.streamingTextures.remove(upload.texture);
+            }
+        }
+
+        glFinish();
+        this.collectUploads();
+    }
+
+    /**
+     * Upload meshes and textures from the upload queue until the thread is interrupted (The body of the upload thread)
+     * 
+     * Every upload is followed by a fence and a flush, so the render thread can tell when the gpu has the data without waiting on it
+     * 
+     * @param context The glfw window of the upload context
+     * 
+     * @since 2.6.0
+     */
+    private void runUploads(@NotNull Long context) {
+        glfwMakeContextCurrent(context);
+        GL.createCapabilities();
+
+        try {
+            while (true) {
+                StreamUpload upload = this.uploadQueue.take();
+
+                if (upload.mesh != null) {
+                    upload.buffers = this.createMeshBuffers(upload.mesh);
+                } else {
+                    upload.textureId = this.createTexture(upload.texture);
+                }
+
+                upload.fence = glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+                glFlush();
+
+                this.issuedUploads.add(upload);
+            }
+        } catch (InterruptedException e) {
+            // The backend is stopping the thread
+        } finally {
+            GL.setCapabilities(null);
+            glfwMakeContextCurrent(NULL);
+        }
+    }
+
+    /**
+     * Start using every upload whose fence has been signaled, without waiting for the others (Called at the start of every frame)
+     * 
+     * @since 2.6.0
+     */
+    private void collectUploads() {
+        StreamUpload upload;
+        while ((upload = this.issuedUploads.poll()) != null) {
+            this.fencedUploads.add(upload);
+        }
+
+        for (Integer i = 0; i < this.fencedUploads.size(); i++) {
+            upload = this.fencedUploads.get(i);
+
+            Integer status = glClientWaitSync(upload.fence, 0, 0L);
+            if (status != GL_ALREADY_SIGNALED && status != GL_CONDITION_SATISFIED) {
+                continue;
+            }
+
+            glDeleteSync(upload.fence);
+            this.fencedUploads.remove((int) i--);
+
+            if (upload.mesh != null) {
+                this.streamingMeshes.remove(upload.mesh);
+
+                // A copy sharing the data may have been uploaded in the meantime, in which case its buffers are used instead
+                GeometryKey key = new GeometryKey(upload.mesh);
+                MeshBuffers shared = this.geometry.get(key);
+                if (this.meshes.get(upload.mesh) != null) {
+                    this.deleteMeshBuffers(upload.buffers);
+                } else if (shared != null) {
+                    this.deleteMeshBuffers(upload.buffers);
+
+                    shared.users++;
+                    this.meshes.put(upload.mesh, shared);
+                } else {
+                    this.addMeshBuffers(upload.mesh, key, upload.buffers);
+                }
+            } else {
+                this.streamingTextures.remove(upload.texture);
+
+                if (this.textures.get(upload.texture) != null) {
+                    glDeleteTextures(upload.textureId);
+                } else {
+                    this.textures.put(upload.texture, upload.textureId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the commands whose mesh and texture are on the gpu, handing the missing ones to the upload thread (Their commands are skipped until the upload is done)
+     * 
+     * @param commands The commands of the pass
+     * @param pooled Weather the commands are drawn from the shared mesh buffer (Which is filled on the render thread)
+     * 
+     * @return The commands that can be drawn
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<DrawCommand> streamCommands(@NotNull List<DrawCommand> commands, @NotNull Boolean pooled) {
+        this.readyCommands.clear();
+
+        for (DrawCommand command : commands) {
+            Mesh mesh = command.getMesh();
+
+            Boolean ready = pooled || this.meshReady(mesh);
+            if (mesh.getTexture() != null) {
+                ready &= this.textureReady(mesh.getTexture());
+            }
+
+            if (ready) {
+                this.readyCommands.add(command);
+            }
+        }
+
+        return this.readyCommands;
+    }
+
+    /**
+     * Get weather the buffers of a mesh are on the gpu, handing it to the upload thread if they aren't (Copies of an uploaded mesh are ready straight away)
+     * 
+     * @param mesh The mesh
+     * 
+     * @return Weather the mesh can be drawn
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean meshReady(@NotNull Mesh mesh) {
+        if (this.meshes.get(mesh) != null) {
+            return true;
+        }
+        if (this.streamingMeshes.get(mesh) != null) {
+            return false;
+        }
+
+        MeshBuffers shared = this.geometry.get(new GeometryKey(mesh));
+        if (shared != null) {
+            shared.users++;
+            this.meshes.put(mesh, shared);
+
+            return true;
+        }
+
+        StreamUpload upload = new StreamUpload();
+        upload.mesh = mesh;
+
+        this.streamingMeshes.put(mesh, upload);
+        this.uploadQueue.add(upload);
+
+        return false;
+    }
+
+    /**
+     * Get weather a texture is on the gpu, handing it to the upload thread if it isn't
+     * 
+     * @param texture The texture
+     * 
+     * @return Weather the texture can be drawn
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean textureReady(@NotNull Texture2D texture) {
+        if (this.textures.get(texture) != null) {
+            return true;
+        }
+        if (this.streamingTextures.get(texture) != null) {
+            return false;
+        }
+
+        StreamUpload upload = new StreamUpload();
+        upload.texture = texture;
+
+        this.streamingTextures.put(texture, upload);
+        this.uploadQueue.add(upload);
+
+        return false;
+    }
+
+    /**
+     * Free the gpu resources of the meshes and textures that were collected since the last frame (Called at the start of every frame so they are freed on the render thread)
+     * 
+     * Buffers shared by copies of a mesh are only freed once every copy is collected, and the ranges of the shared mesh buffer are reused by later meshes instead of shrinking it
+     * 
+     * @since 2.6.0
+     */
+    private void releaseResources() {
+        for (TargetBuffers buffers : this.targetFramebuffers.poll()) {
+            glDeleteFramebuffers(buffers.framebuffer);
+            glDeleteRenderbuffers(buffers.depthBuffer);
+        }
+
+        for (MeshBuffers buffers : this.meshes.poll()) {
+            buffers.users--;
+            if (buffers.users > 0) {
+                continue;
+            }
+
+            this.geometry.remove(buffers.key);
+
+            this.deleteMeshBuffers(buffers);
+        }
+
+        for (PoolEntry entry : this.poolMeshes.poll()) {
+            entry.users--;
+            if (entry.users > 0) {
+                continue;
+            }
+
+            this.pool.remove(entry.key);
+
+            this.freePoolRange(this.poolFreeVertices, entry.baseVertex, entry.vertexCount);
+            this.freePoolRange(this.poolFreeIndices, entry.firstIndex, entry.indexCount);
+        }
+
+        for (Integer textureId : this.textures.poll()) {
+            glDeleteTextures(textureId);
+        }
+    }
+
+    /**
+     * Upload a mesh to the gpu if it hasn't been already (Copies of a mesh that share its data also share its buffers)
+     * 
+     * @param mesh The mesh to upload
+     * 
+     * @return The gpu buffers of the mesh
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull MeshBuffers uploadMesh(@NotNull Mesh mesh) {
+        MeshBuffers buffers = this.meshes.get(mesh);
+        if (buffers != null) {
+            return buffers;
+        }
+
+        GeometryKey key = new GeometryKey(mesh);
+        buffers = this.geometry.get(key);
+        if (buffers != null) {
+            buffers.users++;
+            this.meshes.put(mesh, buffers);
+
+            return buffers;
+        }
+
+        buffers = this.createMeshBuffers(mesh);
+        this.addMeshBuffers(mesh, key, buffers);
+
+        return buffers;
+    }
+
+    /**
+     * Create the gpu buffers of a mesh without its vertex array (Vertex arrays aren't shared between contexts, so this is the part the upload thread can do)
+     * 
+     * Only reads the settings of the backend, so it can be called from any thread with a current context that shares objects with the main one
+     * 
+     * @param mesh The mesh to upload
+     * 
+     * @return The gpu buffers of the mesh
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull MeshBuffers createMeshBuffers(@NotNull Mesh mesh) {
+        MeshBuffers buffers = new MeshBuffers();
+
+        Mesh data = this.optimizeMeshes ? MeshOptimizer.optimize(mesh) : mesh;
+
+        buffers.vertFormat = VertexEncoder.encodePositions(data.getVertices(), data.getVerticeSize(), this.vertexTolerance);
+        buffers.vertBuffer = this.createBuffer(buffers.vertFormat.getData());
+        buffers.vertexCount = data.getVertices().length / data.getVerticeSize();
+
+        if (buffers.vertFormat.getFormat() == VertexEncoder.Format.NORMALIZED_SHORT) {
+            EncodedAttribute vertices = buffers.vertFormat;
+            buffers.decode.translate(vertices.getOffset(0), vertices.getOffset(1), vertices.getComponents() > 2 ? vertices.getOffset(2) : 0).scale(vertices.getScale(0), vertices.getScale(1), vertices.getComponents() > 2 ? vertices.getScale(2) : 1);
+        }
+
+        if (data.getUVs() != null) {
+            buffers.uvFormat = VertexEncoder.encodeUVs(data.getUVs(), this.vertexTolerance);
+            buffers.uvBuffer = this.createBuffer(buffers.uvFormat.getData());
+        }
+
+        if (data.getTriangles() != null) {
+            Boolean shortIndices = buffers.vertexCount <= 65536;
+
+            ByteBuffer triBuffer = BufferUtils.createByteBuffer(data.getTriangles().length * (shortIndices ? 2 : 4));
+            for (Integer index : data.getTriangles()) {
+                if (shortIndices) {
+                    triBuffer.putShort((short) (int) index);
+                } else {
+                    triBuffer.putInt(index);
+                }
+            }
+            triBuffer.flip();
+
+            buffers.triBuffer = this.createBuffer(triBuffer);
+            buffers.triCount = data.getTriangles().length;
+            buffers.triType = shortIndices ? GL_UNSIGNED_SHORT : GL_UNSIGNED_INT;
+        }
+
+        return buffers;
+    }
+
+    /**
+     * Create the vertex array of a mesh's buffers and start using them for the mesh and its copies (Must be called on the render thread)
+     * 
+     * @param mesh The mesh the buffers belong to
+     * @param key The data of the mesh
+     * @param buffers The buffers of the mesh
+     * 
+     * @since 2.6.0
+     */
+    private void addMeshBuffers(@NotNull Mesh mesh, @NotNull GeometryKey key, @NotNull MeshBuffers buffers) {
+        buffers.key = key;
+        buffers.users = 1;
+
+        if (this.modernPath) {
+            buffers.vertexArray = glCreateVertexArrays();
+
+            this.attributeFormat(buffers.vertexArray, 0, buffers.vertBuffer, buffers.vertFormat);
+            if (buffers.uvBuffer != null) {
+                this.attributeFormat(buffers.vertexArray, 1, buffers.uvBuffer, buffers.uvFormat);
+            }
+
+            if (buffers.triBuffer != null) {
+                glVertexArrayElementBuffer(buffers.vertexArray, buffers.triBuffer);
+            }
+        } else {
+            buffers.vertexArray = glGenVertexArrays();
+            glBindVertexArray(buffers.vertexArray);
+
+            glBindBuffer(GL_ARRAY_BUFFER, buffers.vertBuffer);
+            this.attributePointer(0, buffers.vertFormat);
+            if (buffers.uvBuffer != null) {
+                glBindBuffer(GL_ARRAY_BUFFER, buffers.uvBuffer);
+                this.attributePointer(1, buffers.uvFormat);
+            }
+
+            if (buffers.triBuffer != null) {
+                glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, buffers.triBuffer);
+            }
+
+            glBindVertexArray(0);
+            glBindBuffer(GL_ARRAY_BUFFER, 0);
+        }
+
+        this.objectIndexAttribute(buffers.vertexArray);
+
+        this.meshes.put(mesh, buffers);
+        this.geometry.put(key, buffers);
+    }
+
+    /**
+     * Delete the gpu buffers of a mesh
+     * 
+     * @param buffers The buffers to delete
+     * 
+     * @since 2.6.0
+     */
+    private void deleteMeshBuffers(@NotNull MeshBuffers buffers) {
+        if (buffers.vertexArray != 0) {
+            glDeleteVertexArrays(buffers.vertexArray);
+        }
+        glDeleteBuffers(buffers.vertBuffer);
+        if (buffers.uvBuffer != null) {
+            glDeleteBuffers(buffers.uvBuffer);
+        }
+        if (buffers.triBuffer != null) {
+            glDeleteBuffers(buffers.triBuffer);
+        }
+    }
+
+    /**
+     * Create a static gpu buffer holding some data (Immutable storage on the fast path)
+     * 
+     * @param data The data to fill the buffer with
+     * 
+     * @return The gl id of the buffer
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer createBuffer(@NotNull ByteBuffer data) {
+        Integer bufferId;
+
+        if (this.modernPath) {
+            bufferId = glCreateBuffers();
+            glNamedBufferStorage(bufferId, data, 0);
+        } else {
+            bufferId = glGenBuffers();
+            glBindBuffer(GL_COPY_WRITE_BUFFER, bufferId);
+            glBufferData(GL_COPY_WRITE_BUFFER, data, GL_STATIC_DRAW);
+            glBindBuffer(GL_COPY_WRITE_BUFFER, 0);
+        }
+
+        return bufferId;
+    }
+
+    /**
+     * Upload a texture to the gpu if it hasn't been already
+     * 
+     * @param texture The texture to upload
+     * 
+     * @return The gl id of the texture
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer uploadTexture(@NotNull Texture2D texture) {
+        Integer textureId = this.textures.get(texture);
+        if (textureId != null) {
+            return textureId;
+        }
+
+        textureId = this.createTexture(texture);
+        this.textures.put(texture, textureId);
+
+        return textureId;
+    }
+
+    /**
+     * Create a gl texture holding the pixels of a texture
+     * 
+     * Only reads the settings of the backend, so it can be called from any thread with a current context that shares objects with the main one
+     * 
+     * @param texture The texture to upload
+     * 
+     * @return The gl id of the texture
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer createTexture(@NotNull Texture2D texture) {
+        Integer textureId;
+
+        if (this.modernPath) {
+            textureId = glCreateTextures(GL_TEXTURE_2D);
+
+            glTextureParameteri(textureId, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
+            glTextureParameteri(textureId, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+
+            glTextureStorage2D(textureId, 1, GL_RGBA8, texture.getWidth(), texture.getHeight());
+            glTextureSubImage2D(textureId, 0, 0, 0, texture.getWidth(), texture.getHeight(), GL_RGBA, GL_UNSIGNED_BYTE, texture.getRawData());
+        } else {
+            textureId = glGenTextures();
+            glBindTexture(GL_TEXTURE_2D, textureId);
+
+            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
+            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+
+            glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA8, texture.getWidth(), texture.getHeight(), 0, GL_RGBA, GL_UNSIGNED_BYTE, texture.getRawData());
+            glBindTexture(GL_TEXTURE_2D, 0);
+        }
+
+        return textureId;
+    }
+
+    /**
+     * Bind a texture to texture unit 0
+     * 
+     * @param texture The texture to bind (Null to unbind)
+     * 
+     * @since 2.6.0
+     */
+    private void bindTexture(@Nullable Texture2D texture) {
+        Integer textureId = texture != null ? this.uploadTexture(texture) : 0;
+
+        if (this.modernPath) {
+            glBindTextureUnit(0, textureId);
+        } else {
+            glActiveTexture(GL_TEXTURE0);
+            glBindTexture(GL_TEXTURE_2D, textureId);
+        }
+    }
+
+    /**
+     * Get the variant of the shader that fits a mesh
+     * 
+     * @param mesh The mesh that will be drawn
+     * @param uvs Weather the uploaded mesh has uvs
+     * @param instanced Weather the per-object data buffer is being used
+     * 
+     * @return The variant of the shader
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Shader getVariant(@NotNull Mesh mesh, @NotNull Boolean uvs, @NotNull Boolean instanced) {
+        Set<ShaderFeature> features = EnumSet.noneOf(ShaderFeature.class);
+        if (instanced) {
+            features.add(ShaderFeature.INSTANCED);
+        }
+        if (mesh.getTexture() != null && uvs) {
+            features.add(ShaderFeature.TEXTURED);
+
+            if (mesh.getTexture().getTranslucent()) {
+                features.add(ShaderFeature.ALPHA_TEST);
+            }
+        }
+        // Meshes that aren't depth tested (Like the skybox) are drawn unlit
+        if (this.lit && this.depthTest) {
+            features.add(ShaderFeature.LIT);
+        }
+
+        return this.renderer.getShader().getVariant(features);
+    }
+
+    /**
+     * Switch to the variant of the shader that fits a mesh, compiling it if needed
+     * 
+     * @param mesh The mesh that will be drawn
+     * @param uvs Weather the uploaded mesh has uvs
+     * @param instanced Weather the per-object data buffer is being used
+     * 
+     * @return The variant of the shader that is now in use
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Shader useShader(@NotNull Mesh mesh, @NotNull Boolean uvs, @NotNull Boolean instanced) {
+        Shader variant = this.getVariant(mesh, uvs, instanced);
+
+        if (variant != this.currentShader) {
+            this.compileShader(variant);
+
+            glUseProgram(this.shaderPrograms.get(variant));
+
+            glUniform1i(this.uniformLocation(variant, "objectOffset"), 0);
+
+            this.currentShader = variant;
+        }
+
+        return variant;
+    }
+
+    /**
+     * Draw every command using the per-object data buffer, batching runs of commands that share buffers, a texture and depth testing into a single instanced draw
+     * 
+     * @param commands The commands to draw
+     * 
+     * @since 2.6.0
+     */
+    private void drawObjects(@NotNull List<DrawCommand> commands) {
+        Integer count = commands.size();
+
+        if (count > this.objectCapacity) {
+            this.growObjectBuffers(count);
+        }
+
+        this.objectData.clear();
+        for (Integer i = 0; i < count; i++) {
+            Mesh mesh = commands.get(i).getMesh();
+            MeshBuffers buffers = this.uploadMesh(mesh);
+
+            commands.get(i).getMatrix().mul(buffers.decode, this.matrix).get(i * OBJECT_SIZE, this.objectData);
+
+            Integer offset = i * OBJECT_SIZE + 16;
+            if (mesh.getColor() != null) {
+                this.objectData.put(offset, mesh.getColor().getRed()).put(offset + 1, mesh.getColor().getGreen()).put(offset + 2, mesh.getColor().getBlue()).put(offset + 3, 1f);
+            } else {
+                this.objectData.put(offset, 255f).put(offset + 1, 255f).put(offset + 2, 255f).put(offset + 3, 1f);
+            }
+        }
+        this.objectData.limit(count * OBJECT_SIZE);
+
+        // The buffer is re-specified below, so the culling path has to rewrite it fully next time
+        this.objectShadow = null;
+
+        if (this.modernPath) {
+            glNamedBufferData(this.objectBuffer, (long) this.objectCapacity * OBJECT_SIZE * 4, GL_STREAM_DRAW);
+            glNamedBufferSubData(this.objectBuffer, 0, this.objectData);
+
+            glBindTextureUnit(1, this.objectTexture);
+        } else {
+            glBindBuffer(GL_TEXTURE_BUFFER, this.objectBuffer);
+            glBufferData(GL_TEXTURE_BUFFER, (long) this.objectCapacity * OBJECT_SIZE * 4, GL_STREAM_DRAW);
+            glBufferSubData(GL_TEXTURE_BUFFER, 0, this.objectData);
+            glBindBuffer(GL_TEXTURE_BUFFER, 0);
+
+            glActiveTexture(GL_TEXTURE1);
+            glBindTexture(GL_TEXTURE_BUFFER, this.objectTexture);
+        }
+
+        Boolean baseInstance = this.capabilities.getBaseInstance();
+
+        Texture2D boundTexture = null;
+        Boolean textureBound = false;
+
+        Integer start = 0;
+        while (start < count) {
+            DrawCommand command = commands.get(start);
+            Mesh mesh = command.getMesh();
+            MeshBuffers buffers = this.meshes.get(mesh);
+
+            Integer end = start + 1;
+            while (end < count && commands.get(end).getDepthTest() == command.getDepthTest() && this.meshes.get(commands.get(end).getMesh()) == buffers && commands.get(end).getMesh().getTexture() == mesh.getTexture()) {
+                end++;
+            }
+
+            this.depthTest(command.getDepthTest());
+
+            if (!textureBound || boundTexture != mesh.getTexture()) {
+                this.bindTexture(mesh.getTexture());
+
+                boundTexture = mesh.getTexture();
+                textureBound = true;
+            }
+
+            Shader variant = this.useShader(mesh, buffers.uvBuffer != null, true);
+
+            glBindVertexArray(buffers.vertexArray);
+
+            if (baseInstance) {
+                if (buffers.triBuffer != null) {
+                    glDrawElementsInstancedBaseInstance(GL_TRIANGLES, buffers.triCount, buffers.triType, 0, end - start, start);
+                } else {
+                    glDrawArraysInstancedBaseInstance(GL_TRIANGLES, 0, buffers.vertexCount, end - start, start);
+                }
+            } else {
+                glUniform1i(this.uniformLocation(variant, "objectOffset"), start);
+
+                if (buffers.triBuffer != null) {
+                    glDrawElementsInstanced(GL_TRIANGLES, buffers.triCount, buffers.triType, 0, end - start);
+                } else {
+                    glDrawArraysInstanced(GL_TRIANGLES, 0, buffers.vertexCount, end - start);
+                }
+            }
+
+            start = end;
+        }
+
+        glBindVertexArray(0);
+    }
+
+    /**
+     * Compile the culling compute shader and create the buffers of the gpu driven path
+     * 
+     * @throws GLCompileException If the culling shader fails to compile or link
+     * 
+     * @since 2.6.0
+     */
+    private void createCulling() throws GLCompileException {
+        String source;
+        try {
+            source = ShaderLoader.loadResourceSource("/culling.glsl");
+        } catch (IOException e) {
+            throw new GLCompileException("Failed to load the culling shader");
+        }
+
+        Integer computeId = glCreateShader(GL_COMPUTE_SHADER);
+        glShaderSource(computeId, source);
+        glCompileShader(computeId);
+        if (glGetShaderi(computeId, GL_COMPILE_STATUS) != GL_TRUE) {
+            System.err.println(glGetShaderInfoLog(computeId));
+
+            throw new GLCompileException("Failed to compile culling shader");
+        }
+
+        this.cullProgram = glCreateProgram();
+        glAttachShader(this.cullProgram, computeId);
+        glLinkProgram(this.cullProgram);
+        glDeleteShader(computeId);
+        if (glGetProgrami(this.cullProgram, GL_LINK_STATUS) != GL_TRUE) {
+            System.err.println(glGetProgramInfoLog(this.cullProgram));
+
+            throw new GLCompileException("Failed to compile culling program");
+        }
+
+        this.bindUniformBlocks(this.cullProgram);
+        this.cullCountLocation = glGetUniformLocation(this.cullProgram, "objectCount");
+        this.cullPassLocation = glGetUniformLocation(this.cullProgram, "cullPass");
+
+        this.objectDrawBuffer = glGenBuffers();
+        this.drawBoundsBuffer = glGenBuffers();
+        this.drawCommandBuffer = glGenBuffers();
+        this.instanceBuffer = glGenBuffers();
+        this.visibleBuffer = glGenBuffers();
+
+        this.poolVertexArray = glGenVertexArrays();
+        this.growPool(65536, 65536 * 3);
+    }
+
+    /**
+     * Add a mesh to the shared mesh buffer if it isn't in it already (Copies of a mesh that share its data also share its place)
+     * 
+     * Vertices are stored as plain floats so every mesh has the same vertex format, non-indexed meshes are given sequential indices
+     * 
+     * @param mesh The mesh to add
+     * 
+     * @return The place of the mesh in the shared mesh buffer
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull PoolEntry poolMesh(@NotNull Mesh mesh) {
+        PoolEntry entry = this.poolMeshes.get(mesh);
+        if (entry != null) {
+            return entry;
+        }
+
+        GeometryKey key = new GeometryKey(mesh);
+        entry = this.pool.get(key);
+        if (entry == null) {
+            Mesh data = this.optimizeMeshes ? MeshOptimizer.optimize(mesh) : mesh;
+
+            Float[] vertices = data.getVertices();
+            Integer verticeSize = data.getVerticeSize();
+            Float[] uvs = data.getUVs();
+            Integer[] triangles = data.getTriangles();
+            Integer vertexCount = vertices.length / verticeSize;
+            Integer indexCount = triangles != null ? triangles.length : vertexCount;
+
+            // Ranges left by released meshes are reused before the buffers grow
+            Integer baseVertex = this.takePoolRange(this.poolFreeVertices, vertexCount);
+            Integer firstIndex = this.takePoolRange(this.poolFreeIndices, indexCount);
+
+            this.growPool(this.poolVertexCount + (baseVertex == null ? vertexCount : 0), this.poolIndexCount + (firstIndex == null ? indexCount : 0));
+
+            if (baseVertex == null) {
+                baseVertex = this.poolVertexCount;
+                this.poolVertexCount += vertexCount;
+            }
+            if (firstIndex == null) {
+                firstIndex = this.poolIndexCount;
+                this.poolIndexCount += indexCount;
+            }
+
+            float[] min = new float[] { Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE };
+            float[] max = new float[] { -Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE };
+
+            FloatBuffer vertexData = BufferUtils.createFloatBuffer(vertexCount * POOL_VERTEX_SIZE);
+            for (int i = 0; i < vertexCount; i++) {
+                for (int j = 0; j < 3; j++) {
+                    float value = j < verticeSize ? vertices[i * verticeSize + j] : 0f;
+
+                    vertexData.put(value);
+                    min[j] = Math.min(min[j], value);
+                    max[j] = Math.max(max[j], value);
+                }
+
+                if (uvs != null && i * 2 + 1 < uvs.length) {
+                    vertexData.put(uvs[i * 2]).put(uvs[i * 2 + 1]);
+                } else {
+                    vertexData.put(0f).put(0f);
+                }
+            }
+            vertexData.flip();
+
+            IntBuffer indexData = BufferUtils.createIntBuffer(indexCount);
+            for (int i = 0; i < indexCount; i++) {
+                indexData.put(triangles != null ? triangles[i] : i);
+            }
+            indexData.flip();
+
+            entry = new PoolEntry();
+
+            // The bounding sphere is centered on the bounding box, which is close enough for culling
+            if (vertexCount > 0) {
+                entry.bounds.set((min[0] + max[0]) / 2, (min[1] + max[1]) / 2, (min[2] + max[2]) / 2, 0f);
+
+                float radius = 0f;
+                for (int i = 0; i < vertexCount; i++) {
+                    float x = vertexData.get(i * POOL_VERTEX_SIZE) - entry.bounds.x;
+                    float y = vertexData.get(i * POOL_VERTEX_SIZE + 1) - entry.bounds.y;
+                    float z = vertexData.get(i * POOL_VERTEX_SIZE + 2) - entry.bounds.z;
+
+                    radius = Math.max(radius, x * x + y * y + z * z);
+                }
+                entry.bounds.w = (float) Math.sqrt(radius);
+            }
+
+            glBindBuffer(GL_COPY_WRITE_BUFFER, this.poolVertexBuffer);
+            glBufferSubData(GL_COPY_WRITE_BUFFER, (long) baseVertex * POOL_VERTEX_SIZE * 4, vertexData);
+            glBindBuffer(GL_COPY_WRITE_BUFFER, this.poolIndexBuffer);
+            glBufferSubData(GL_COPY_WRITE_BUFFER, (long) firstIndex * 4, indexData);
+            glBindBuffer(GL_COPY_WRITE_BUFFER, 0);
+
+            entry.key = key;
+            entry.baseVertex = baseVertex;
+            entry.vertexCount = vertexCount;
+            entry.firstIndex = firstIndex;
+            entry.indexCount = indexCount;
+            entry.uvs = uvs != null;
+
+            this.pool.put(key, entry);
+        }
+
+        entry.users++;
+        this.poolMeshes.put(mesh, entry);
+
+        return entry;
+    }
+
+    /**
+     * Take a range out of the free ranges of a shared mesh buffer (The first one that fits)
+     * 
+     * @param free The free ranges of the buffer
+     * @param count How many elements the range needs
+     * 
+     * @return The start of the range (Null if no free range fits)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Integer takePoolRange(@NotNull List<PoolRange> free, @NotNull Integer count) {
+        if (count == 0) {
+            return null;
+        }
+
+        for (Integer i = 0; i < free.size(); i++) {
+            PoolRange range = free.get(i);
+
+            if (range.count >= count) {
+                Integer start = range.start;
+
+                range.start += count;
+                range.count -= count;
+                if (range.count == 0) {
+                    free.remove((int) i);
+                }
+
+                return start;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Give a range back to the free ranges of a shared mesh buffer, merging it with the ranges next to it
+     * 
+     * @param free The free ranges of the buffer
+     * @param start The start of the range
+     * @param count How many elements are in the range
+     * 
+     * @since 2.6.0
+     */
+    private void freePoolRange(@NotNull List<PoolRange> free, @NotNull Integer start, @NotNull Integer count) {
+        if (count == 0) {
+            return;
+        }
+
+        Integer index = 0;
+        while (index < free.size() && free.get(index).start < start) {
+            index++;
+        }
+
+        PoolRange range = new PoolRange();
+        range.start = start;
+        range.count = count;
+
+        if (index < free.size() && range.start + range.count == free.get(index).start) {
+            range.count += free.remove((int) index).count;
+        }
+        if (index > 0 && free.get(index - 1).start + free.get(index - 1).count == range.start) {
+            free.get(index - 1).count += range.count;
+        } else {
+            free.add(index, range);
+        }
+    }
+
+    /**
+     * Grow the shared mesh buffers to fit a certain amount of vertices and indices, keeping what is already in them
+     * 
+     * @param vertices The amount of vertices to fit
+     * @param indices The amount of indices to fit
+     * 
+     * @since 2.6.0
+     */
+    private void growPool(@NotNull Integer vertices, @NotNull Integer indices) {
+        if (vertices <= this.poolVertexCapacity && indices <= this.poolIndexCapacity) {
+            return;
+        }
+
+        Integer vertexCapacity = Math.max(this.poolVertexCapacity, 65536);
+        while (vertexCapacity < vertices) {
+            vertexCapacity *= 2;
+        }
+
+        Integer indexCapacity = Math.max(this.poolIndexCapacity, 65536 * 3);
+        while (indexCapacity < indices) {
+            indexCapacity *= 2;
+        }
+
+        this.poolVertexBuffer = this.resizeBuffer(this.poolVertexBuffer, (long) this.poolVertexCount * POOL_VERTEX_SIZE * 4, (long) vertexCapacity * POOL_VERTEX_SIZE * 4);
+        this.poolIndexBuffer = this.resizeBuffer(this.poolIndexBuffer, (long) this.poolIndexCount * 4, (long) indexCapacity * 4);
+        this.poolVertexCapacity = vertexCapacity;
+        this.poolIndexCapacity = indexCapacity;
+
+        // Attribute pointers keep the buffer they were made with, so the vertex array is pointed at the new buffers
+        glBindVertexArray(this.poolVertexArray);
+
+        glBindBuffer(GL_ARRAY_BUFFER, this.poolVertexBuffer);
+        glVertexAttribPointer(0, 3, GL_FLOAT, false, POOL_VERTEX_SIZE * 4, 0);
+        glEnableVertexAttribArray(0);
+        glVertexAttribPointer(1, 2, GL_FLOAT, false, POOL_VERTEX_SIZE * 4, 3 * 4);
+        glEnableVertexAttribArray(1);
+
+        glBindBuffer(GL_ARRAY_BUFFER, this.instanceBuffer);
+        glVertexAttribIPointer(2, 1, GL_INT, 0, NULL);
+        glVertexAttribDivisor(2, 1);
+        glEnableVertexAttribArray(2);
+
+        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, this.poolIndexBuffer);
+
+        glBindVertexArray(0);
+        glBindBuffer(GL_ARRAY_BUFFER, 0);
+    }
+
+    /**
+     * Replace a buffer with a bigger one, copying over the part that is in use
+     * (The gpu driven path only needs GL 4.3, so it binds buffers instead of using direct state access)
+     * 
+     * @param bufferId The gl id of the buffer (0 if there isn't one yet)
+     * @param used How many bytes of the buffer are in use
+     * @param size The size of the new buffer in bytes
+     * 
+     * @return The gl id of the new buffer
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer resizeBuffer(@NotNull Integer bufferId, @NotNull Long used, @NotNull Long size) {
+        Integer newBufferId = glGenBuffers();
+        glBindBuffer(GL_COPY_WRITE_BUFFER, newBufferId);
+        glBufferData(GL_COPY_WRITE_BUFFER, size, GL_STATIC_DRAW);
+
+        if (bufferId != 0) {
+            if (used > 0) {
+                glBindBuffer(GL_COPY_READ_BUFFER, bufferId);
+                glCopyBufferSubData(GL_COPY_READ_BUFFER, GL_COPY_WRITE_BUFFER, 0, 0, used);
+                glBindBuffer(GL_COPY_READ_BUFFER, 0);
+            }
+
+            glDeleteBuffers(bufferId);
+        }
+
+        glBindBuffer(GL_COPY_WRITE_BUFFER, 0);
+
+        return newBufferId;
+    }
+
+    /**
+     * Draw every command through the gpu driven path, a compute shader frustum culls the objects and writes the visible instances and the indirect draws, then each batch is a single multi draw
+     * 
+     * Only objects that changed since the last frame are uploaded and the draws are only rebuilt when the meshes being drawn change, so the gl calls made don't grow with the amount of objects
+     * 
+     * @param commands The commands to draw
+     * 
+     * @since 2.6.0
+     */
+    private void cullObjects(@NotNull List<DrawCommand> commands) {
+        Integer count = commands.size();
+        if (count == 0) {
+            return;
+        }
+
+        if (count > this.objectCapacity) {
+            this.growObjectBuffers(count);
+        }
+
+        CullLayout layout = this.cullLayout;
+        if (layout == null || !layout.matches(commands)) {
+            layout = this.buildCullLayout(commands);
+            this.cullLayout = layout;
+        }
+
+        this.uploadObjects(commands);
+
+        // The packing pass replaces the object count of each draw with its visible count, so the draws are rewritten every frame
+        glBindBuffer(GL_SHADER_STORAGE_BUFFER, this.drawCommandBuffer);
+        glBufferSubData(GL_SHADER_STORAGE_BUFFER, 0, layout.commands);
+        glBindBuffer(GL_SHADER_STORAGE_BUFFER, 0);
+
+        glUseProgram(this.cullProgram);
+        this.currentShader = null;
+
+        glUniform1ui(this.cullCountLocation, count);
+
+        glBindBufferBase(GL_SHADER_STORAGE_BUFFER, 0, this.objectBuffer);
+        glBindBufferBase(GL_SHADER_STORAGE_BUFFER, 1, this.objectDrawBuffer);
+        glBindBufferBase(GL_SHADER_STORAGE_BUFFER, 2, this.drawBoundsBuffer);
+        glBindBufferBase(GL_SHADER_STORAGE_BUFFER, 3, this.drawCommandBuffer);
+        glBindBufferBase(GL_SHADER_STORAGE_BUFFER, 4, this.instanceBuffer);
+        glBindBufferBase(GL_SHADER_STORAGE_BUFFER, 5, this.visibleBuffer);
+
+        // The first pass tests every object, the second packs the visible objects of each draw in order, so which objects overlap which doesn't change between frames
+        glUniform1ui(this.cullPassLocation, 0);
+        glDispatchCompute((count + CULL_GROUP_SIZE - 1) / CULL_GROUP_SIZE, 1, 1);
+
+        glMemoryBarrier(GL_SHADER_STORAGE_BARRIER_BIT);
+
+        glUniform1ui(this.cullPassLocation, 1);
+        glDispatchCompute(layout.drawCount, 1, 1);
+
+        // The draws are read as indirect commands and the instances as a vertex attribute
+        glMemoryBarrier(GL_COMMAND_BARRIER_BIT | GL_VERTEX_ATTRIB_ARRAY_BARRIER_BIT);
+
+        if (this.modernPath) {
+            glBindTextureUnit(1, this.objectTexture);
+        } else {
+            glActiveTexture(GL_TEXTURE1);
+            glBindTexture(GL_TEXTURE_BUFFER, this.objectTexture);
+        }
+
+        glBindVertexArray(this.poolVertexArray);
+        glBindBuffer(GL_DRAW_INDIRECT_BUFFER, this.drawCommandBuffer);
+
+        for (CullBatch batch : layout.batches) {
+            this.depthTest(batch.depthTest);
+            this.bindTexture(batch.mesh.getTexture());
+            this.useShader(batch.mesh, batch.uvs, true);
+
+            glMultiDrawElementsIndirect(GL_TRIANGLES, GL_UNSIGNED_INT, (long) batch.firstDraw * DRAW_COMMAND_SIZE, batch.drawCount, DRAW_COMMAND_SIZE);
+        }
+
+        glBindBuffer(GL_DRAW_INDIRECT_BUFFER, 0);
+        glBindVertexArray(0);
+    }
+
+    /**
+     * Group runs of consecutive commands into batches that share a texture, depth testing and shader variant, with one draw per run of the same mesh in each batch, then upload the draw of each object and the bounds of each draw
+     * 
+     * @param commands The commands to group
+     * 
+     * @return The batches and draws of the commands
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull CullLayout buildCullLayout(@NotNull List<DrawCommand> commands) {
+        Integer count = commands.size();
+
+        CullLayout layout = new CullLayout(count);
+        CullDraw[] objectDraws = new CullDraw[count];
+
+        // Only consecutive commands are merged, so everything is still drawn in the order it was submitted (2D meshes and coplanar objects overlap the same way they do without culling)
+        List<Object> batchKey = null;
+        CullBatch batch = null;
+        CullDraw draw = null;
+        Integer drawCount = 0;
+        for (Integer i = 0; i < count; i++) {
+            DrawCommand command = commands.get(i);
+            Mesh mesh = command.getMesh();
+            PoolEntry entry = this.poolMesh(mesh);
+
+            layout.meshes[i] = mesh;
+            layout.depthTests[i] = command.getDepthTest();
+
+            List<Object> key = Arrays.asList(mesh.getTexture(), command.getDepthTest(), entry.uvs);
+            if (batch == null || !key.equals(batchKey)) {
+                batchKey = key;
+                batch = new CullBatch(mesh, command.getDepthTest(), entry.uvs);
+                layout.batches.add(batch);
+
+                draw = null;
+            }
+
+            if (draw == null || draw.entry != entry) {
+                draw = new CullDraw(entry);
+                batch.draws.add(draw);
+
+                drawCount++;
+            }
+            draw.objects++;
+
+            objectDraws[i] = draw;
+        }
+
+        layout.commands = BufferUtils.createByteBuffer(drawCount * DRAW_COMMAND_SIZE);
+        FloatBuffer bounds = BufferUtils.createFloatBuffer(drawCount * 4);
+
+        // Each draw covers a run of consecutive objects, so its range of the instance buffer starts at its first object and the packing pass fills it from the start
+        // The instance count of each draw starts as its object count, which the packing pass reads and replaces with how many are visible
+        Integer index = 0;
+        Integer instance = 0;
+        for (CullBatch cullBatch : layout.batches) {
+            cullBatch.firstDraw = index;
+            cullBatch.drawCount = cullBatch.draws.size();
+
+            for (CullDraw cullDraw : cullBatch.draws) {
+                cullDraw.index = index++;
+
+                layout.commands.putInt(cullDraw.entry.indexCount).putInt(cullDraw.objects).putInt(cullDraw.entry.firstIndex).putInt(cullDraw.entry.baseVertex).putInt(instance);
+                bounds.put(cullDraw.entry.bounds.x).put(cullDraw.entry.bounds.y).put(cullDraw.entry.bounds.z).put(cullDraw.entry.bounds.w);
+
+                instance += cullDraw.objects;
+            }
+        }
+        layout.drawCount = drawCount;
+        layout.commands.flip();
+        bounds.flip();
+
+        IntBuffer draws = BufferUtils.createIntBuffer(count);
+        for (CullDraw objectDraw : objectDraws) {
+            draws.put(objectDraw.index);
+        }
+        draws.flip();
+
+        glBindBuffer(GL_SHADER_STORAGE_BUFFER, this.objectDrawBuffer);
+        glBufferData(GL_SHADER_STORAGE_BUFFER, draws, GL_STATIC_DRAW);
+        glBindBuffer(GL_SHADER_STORAGE_BUFFER, this.drawBoundsBuffer);
+        glBufferData(GL_SHADER_STORAGE_BUFFER, bounds, GL_STATIC_DRAW);
+        glBindBuffer(GL_SHADER_STORAGE_BUFFER, this.drawCommandBuffer);
+        glBufferData(GL_SHADER_STORAGE_BUFFER, layout.commands, GL_DYNAMIC_DRAW);
+        glBindBuffer(GL_SHADER_STORAGE_BUFFER, this.instanceBuffer);
+        glBufferData(GL_SHADER_STORAGE_BUFFER, (long) count * 4, GL_DYNAMIC_DRAW);
+        glBindBuffer(GL_SHADER_STORAGE_BUFFER, this.visibleBuffer);
+        glBufferData(GL_SHADER_STORAGE_BUFFER, (long) count * 4, GL_DYNAMIC_DRAW);
+        glBindBuffer(GL_SHADER_STORAGE_BUFFER, 0);
+
+        return layout;
+    }
+
+    /**
+     * Write the model matrix and color of every object into the per-object data buffer, only uploading the range of objects that changed since the last frame
+     * 
+     * @param commands The commands to write
+     * 
+     * @since 2.6.0
+     */
+    private void uploadObjects(@NotNull List<DrawCommand> commands) {
+        Integer count = commands.size();
+
+        float[] shadow = this.objectShadow;
+        boolean full = shadow == null;
+        if (full) {
+            shadow = new float[this.objectCapacity * OBJECT_SIZE];
+            this.objectShadow = shadow;
+
+            glBindBuffer(GL_TEXTURE_BUFFER, this.objectBuffer);
+            glBufferData(GL_TEXTURE_BUFFER, (long) this.objectCapacity * OBJECT_SIZE * 4, GL_DYNAMIC_DRAW);
+            glBindBuffer(GL_TEXTURE_BUFFER, 0);
+        }
+
+        float[] object = new float[OBJECT_SIZE];
+        int first = full ? 0 : count;
+        int last = full ? count - 1 : -1;
+        for (int i = 0; i < count; i++) {
+            DrawCommand command = commands.get(i);
+            Mesh mesh = command.getMesh();
+
+            // Pooled vertices are plain floats, so there is no decode matrix
+            command.getMatrix().get(object, 0);
+            if (mesh.getColor() != null) {
+                object[16] = mesh.getColor().getRed();
+                object[17] = mesh.getColor().getGreen();
+                object[18] = mesh.getColor().getBlue();
+            } else {
+                object[16] = 255f;
+                object[17] = 255f;
+                object[18] = 255f;
+            }
+            object[19] = 1f;
+
+            int offset = i * OBJECT_SIZE;
+
+            boolean changed = full;
+            for (int j = 0; j < OBJECT_SIZE && !changed; j++) {
+                changed = shadow[offset + j] != object[j];
+            }
+
+            if (changed) {
+                System.arraycopy(object, 0, shadow, offset, OBJECT_SIZE);
+
+                first = Math.min(first, i);
+                last = Math.max(last, i);
+            }
+        }
+
+        if (first <= last) {
+            this.objectData.clear();
+            this.objectData.put(shadow, first * OBJECT_SIZE, (last - first + 1) * OBJECT_SIZE).flip();
+
+            glBindBuffer(GL_TEXTURE_BUFFER, this.objectBuffer);
+            glBufferSubData(GL_TEXTURE_BUFFER, (long) first * OBJECT_SIZE * 4, this.objectData);
+            glBindBuffer(GL_TEXTURE_BUFFER, 0);
+        }
+    }
+
+    /**
+     * Enable or disable depth testing if it isn't already
+     * 
+     * @param depthTest Weather depth testing should be enabled
+     * 
+     * @since 2.6.0
+     */
+    private void depthTest(@NotNull Boolean depthTest) {
+        if (!depthTest.equals(this.depthTest)) {
+            if (depthTest) {
+                glEnable(GL_DEPTH_TEST);
+            } else {
+                glDisable(GL_DEPTH_TEST);
+            }
+
+            this.depthTest = depthTest;
+        }
+    }
+
+    /**
+     * Grow the per-object data buffer and the object index buffer to fit a certain amount of objects
+     * 
+     * @param count The amount of objects to fit
+     * 
+     * @since 2.6.0
+     */
+    private void growObjectBuffers(@NotNull Integer count) {
+        Integer capacity = Math.max(this.objectCapacity, 256);
+        while (capacity < count) {
+            capacity *= 2;
+        }
+        this.objectCapacity = capacity;
+
+        this.objectData = BufferUtils.createFloatBuffer(capacity * OBJECT_SIZE);
+        this.objectShadow = null;
+
+        ByteBuffer indices = BufferUtils.createByteBuffer(capacity * 4);
+        for (Integer i = 0; i < capacity; i++) {
+            indices.putInt(i);
+        }
+        indices.flip();
+
+        if (this.objectIndexBuffer != 0) {
+            glDeleteBuffers(this.objectIndexBuffer);
+        }
+        this.objectIndexBuffer = this.createBuffer(indices);
+
+        for (MeshBuffers buffers : this.geometry.values()) {
+            this.objectIndexAttribute(buffers.vertexArray);
+        }
+    }
+
+    /**
+     * Point the object index attribute (Location 2) of a vertex array at the object index buffer, advancing once per instance
+     * 
+     * @param vertexArray The gl id of the vertex array
+     * 
+     * @since 2.6.0
+     */
+    private void objectIndexAttribute(@NotNull Integer vertexArray) {
+        if (this.objectIndexBuffer == 0) {
+            return;
+        }
+
+        if (this.modernPath) {
+            glVertexArrayVertexBuffer(vertexArray, 2, this.objectIndexBuffer, 0, 4);
+            glVertexArrayAttribIFormat(vertexArray, 2, 1, GL_INT, 0);
+            glVertexArrayAttribBinding(vertexArray, 2, 2);
+            glVertexArrayBindingDivisor(vertexArray, 2, 1);
+            glEnableVertexArrayAttrib(vertexArray, 2);
+        } else {
+            glBindVertexArray(vertexArray);
+
+            glBindBuffer(GL_ARRAY_BUFFER, this.objectIndexBuffer);
+            glVertexAttribIPointer(2, 1, GL_INT, 0, NULL);
+            glVertexAttribDivisor(2, 1);
+            glEnableVertexAttribArray(2);
+
+            glBindVertexArray(0);
+            glBindBuffer(GL_ARRAY_BUFFER, 0);
+        }
+    }
+
+    /**
+     * Draw a mesh with the current shader using per-draw uniforms (Used for shaders that don't read the per-object data buffer)
+     * 
+     * @param mesh The mesh to draw
+     * @param matrix The model matrix to draw the mesh with
+     * 
+     * @since 2.6.0
+     */
+    private void drawMesh(@NotNull Mesh mesh, @NotNull Matrix4f matrix) {
+        MeshBuffers buffers = this.uploadMesh(mesh);
+
+        this.bindTexture(mesh.getTexture());
+
+        Shader variant = this.useShader(mesh, buffers.uvBuffer != null, false);
+
+        Integer modelLoc = this.uniformLocation(variant, "model");
+        if (modelLoc != -1) {
+            matrix.mul(buffers.decode, this.matrix).get(this.matrixData);
+            glUniformMatrix4fv(modelLoc, false, this.matrixData);
+        } else {
+            // Shaders written before the frame uniform buffer still expect the combined matrix
+            this.frame.getViewProjection().mul(matrix, new Matrix4f()).mul(buffers.decode).get(this.matrixData);
+            glUniformMatrix4fv(this.uniformLocation(variant, "projection"), false, this.matrixData);
+        }
+
+        // Shaders written before shader features still branch on a uniform
+        glUniform1i(this.uniformLocation(variant, "hasSampler"), buffers.uvBuffer != null ? 1 : 0);
+
+        Integer colorLoc = this.uniformLocation(variant, "color");
+        if (mesh.getColor() != null) {
+            glUniform3f(colorLoc, mesh.getColor().getRed(), mesh.getColor().getGreen(), mesh.getColor().getBlue());
+        } else {
+            glUniform3f(colorLoc, 255, 255, 255);
+        }
+
+        glBindVertexArray(buffers.vertexArray);
+
+        if (buffers.triBuffer != null) {
+            glDrawElements(GL_TRIANGLES, buffers.triCount, buffers.triType, 0);
+        } else {
+            glDrawArrays(GL_TRIANGLES, 0, buffers.vertexCount);
+        }
+
+        glBindVertexArray(0);
+    }
+
+    /**
+     * Point a vertex attribute at an encoded attribute in the currently bound buffer and enable it
+     * 
+     * @param index The index of the vertex attribute
+     * @param attribute The encoded attribute
+     * 
+     * @since 2.6.0
+     */
+    private void attributePointer(@NotNull Integer index, @NotNull EncodedAttribute attribute) {
+        glVertexAttribPointer(index, attribute.getComponents(), glType(attribute.getFormat()), attribute.getFormat() == VertexEncoder.Format.NORMALIZED_SHORT || attribute.getFormat() == VertexEncoder.Format.OCTAHEDRAL_SHORT, attribute.getStride(), NULL);
+        glEnableVertexAttribArray(index);
+    }
+
+    /**
+     * Describe an encoded attribute in a vertex array using direct state access and enable it
+     * 
+     * @param vertexArray The gl id of the vertex array
+     * @param index The index of the vertex attribute (Also used as the buffer binding index)
+     * @param buffer The gl id of the buffer holding the attribute
+     * @param attribute The encoded attribute
+     * 
+     * @since 2.6.0
+     */
+    private void attributeFormat(@NotNull Integer vertexArray, @NotNull Integer index, @NotNull Integer buffer, @NotNull EncodedAttribute attribute) {
+        glVertexArrayVertexBuffer(vertexArray, index, buffer, 0, attribute.getStride());
+        glVertexArrayAttribFormat(vertexArray, index, attribute.getComponents(), glType(attribute.getFormat()), attribute.getFormat() == VertexEncoder.Format.NORMALIZED_SHORT || attribute.getFormat() == VertexEncoder.Format.OCTAHEDRAL_SHORT, 0);
+        glVertexArrayAttribBinding(vertexArray, index, index);
+        glEnableVertexArrayAttrib(vertexArray, index);
+    }
+
+    /**
+     * Get the gl type used to store a vertex format
+     * 
+     * @param format The vertex format
+     * 
+     * @return The gl type
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull Integer glType(@NotNull VertexEncoder.Format format) {
+        switch (format) {
+            case HALF_FLOAT:
+                return GL_HALF_FLOAT;
+            case NORMALIZED_SHORT:
+                return GL_UNSIGNED_SHORT;
+            case OCTAHEDRAL_SHORT:
+                return GL_SHORT;
+            default:
+                return GL_FLOAT;
+        }
+    }
+
+    /**
+     * Get weather meshes are run through the {@link MeshOptimizer} when they are uploaded
+     * 
+     * @return Weather meshes are optimized when they are uploaded
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getOptimizeMeshes() {
+        return this.optimizeMeshes;
+    }
+
+    /**
+     * Set weather meshes are run through the {@link MeshOptimizer} when they are uploaded (Only affects meshes that haven't been uploaded yet)
+     * 
+     * @param optimizeMeshes Weather meshes should be optimized when they are uploaded
+     * 
+     * @since 2.6.0
+     */
+    public void setOptimizeMeshes(@NotNull Boolean optimizeMeshes) {
+        NullUtils.checkNulls(optimizeMeshes, "optimizeMeshes");
+
+        this.optimizeMeshes = optimizeMeshes;
+    }
+
+    /**
+     * Get the largest error allowed when compressing vertex attributes
+     * 
+     * @return The largest error allowed when compressing vertex attributes, relative to the size of the mesh for positions and absolute for uvs
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getVertexTolerance() {
+        return this.vertexTolerance;
+    }
+
+    /**
+     * Set the largest error allowed when compressing vertex attributes (Only affects meshes that haven't been uploaded yet)
+     * 
+     * @param vertexTolerance The largest error allowed when compressing vertex attributes, relative to the size of the mesh for positions and absolute for uvs (0 only allows lossless formats)
+     * 
+     * @since 2.6.0
+     */
+    public void setVertexTolerance(@NotNull Float vertexTolerance) {
+        NullUtils.checkNulls(vertexTolerance, "vertexTolerance");
+
+        this.vertexTolerance = vertexTolerance;
+    }
+
+    /**
+     * Get weather the direct state access fast path may be used if the context supports it
+     * 
+     * @return Weather the fast path may be used
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getAllowModernPath() {
+        return this.allowModernPath;
+    }
+
+    /**
+     * Set weather the direct state access fast path may be used if the context supports it (Must be set before the backend is initialized)
+     * 
+     * @param allowModernPath Weather the fast path may be used
+     * 
+     * @throws AlreadyInitializedException If the backend is already initialized
+     * 
+     * @since 2.6.0
+     */
+    public void setAllowModernPath(@NotNull Boolean allowModernPath) throws AlreadyInitializedException {
+        NullUtils.checkNulls(allowModernPath, "allowModernPath");
+
+        if (this.initialized) {
+            throw new AlreadyInitializedException("The backend is already initialized");
+        }
+
+        this.allowModernPath = allowModernPath;
+    }
+
+    /**
+     * Get weather the direct state access fast path is being used
+     * 
+     * @return Weather the fast path is being used
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getModernPath() {
+        return this.modernPath;
+    }
+
+    /**
+     * Get weather the gpu driven culling path may be used if the context supports it
+     * 
+     * @return Weather the gpu driven path may be used
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getAllowGpuCulling() {
+        return this.allowGpuCulling;
+    }
+
+    /**
+     * Set weather the gpu driven culling path may be used if the context supports it (Must be set before the backend is initialized)
+     * 
+     * @param allowGpuCulling Weather the gpu driven path may be used
+     * 
+     * @throws AlreadyInitializedException If the backend is already initialized
+     * 
+     * @since 2.6.0
+     */
+    public void setAllowGpuCulling(@NotNull Boolean allowGpuCulling) throws AlreadyInitializedException {
+        NullUtils.checkNulls(allowGpuCulling, "allowGpuCulling");
+
+        if (this.initialized) {
+            throw new AlreadyInitializedException("The backend is already initialized");
+        }
+
+        this.allowGpuCulling = allowGpuCulling;
+    }
+
+    /**
+     * Get weather the gpu driven culling path is being used (Only for shaders with the {@link ShaderFeature#INSTANCED} feature)
+     * 
+     * @return Weather the gpu driven path is being used
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getGpuCulling() {
+        return this.gpuCulling;
+    }
+
+    /**
+     * Get the light clusters the lights of each frame are assigned to
+     * 
+     * @return The light clusters
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull LightClusters getLightClusters() {
+        return this.lightClusters;
+    }
+
+    /**
+     * Set the light clusters the lights of each frame are assigned to (To change the cluster grid or the pool lights are assigned on)
+     * 
+     * @param lightClusters The light clusters
+     * 
+     * @since 2.6.0
+     */
+    public void setLightClusters(@NotNull LightClusters lightClusters) {
+        NullUtils.checkNulls(lightClusters, "lightClusters");
+
+        this.lightClusters = lightClusters;
+    }
+
+    /**
+     * Get the cascades of the shadow map
+     * 
+     * @return The shadow cascades
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull ShadowCascades getShadowCascades() {
+        return this.shadowCascades;
+    }
+
+    /**
+     * Set the cascades of the shadow map (Must be set before the first shadowed frame, the shadow maps are sized to them)
+     * 
+     * @param shadowCascades The shadow cascades
+     * 
+     * @throws AlreadyInitializedException If the shadow maps were already created
+     * 
+     * @since 2.6.0
+     */
+    public void setShadowCascades(@NotNull ShadowCascades shadowCascades) throws AlreadyInitializedException {
+        NullUtils.checkNulls(shadowCascades, "shadowCascades");
+
+        if (this.shadowProgram != 0) {
+            throw new AlreadyInitializedException("The shadow maps are already created");
+        }
+
+        this.shadowCascades = shadowCascades;
+    }
+
+    /**
+     * Get how many of the nearest cascades get the dynamic casters redrawn every frame (The rest only every 2^cascade frames)
+     * 
+     * @return The amount of dynamic cascades
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getDynamicCascades() {
+        return this.dynamicCascades;
+    }
+
+    /**
+     * Set how many of the nearest cascades get the dynamic casters redrawn every frame (The rest only every 2^cascade frames)
+     * 
+     * @param dynamicCascades The amount of dynamic cascades
+     * 
+     * @since 2.6.0
+     */
+    public void setDynamicCascades(@NotNull Integer dynamicCascades) {
+        NullUtils.checkNulls(dynamicCascades, "dynamicCascades");
+
+        this.dynamicCascades = dynamicCascades;
+    }
+
+    /**
+     * Get the capture frames are read back for
+     * 
+     * @return The frame capture (Null if frames aren't captured)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable FrameCapture getFrameCapture() {
+        return this.frameCapture;
+    }
+
+    /**
+     * Set the capture frames are read back for (Frames are captured after upscaling, at the resolution of the window)
+     * 
+     * @param frameCapture The frame capture (Null to stop capturing frames)
+     * 
+     * @since 2.6.0
+     */
+    public void setFrameCapture(@Nullable FrameCapture frameCapture) {
+        this.frameCapture = frameCapture;
+    }
+
+    /**
+     * Get the glfw window whose hidden context is used to upload meshes and textures
+     * 
+     * @return The upload context (Null if uploads happen on the render thread)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable Long getUploadContext() {
+        return this.uploadContext;
+    }
+
+    /**
+     * Set the glfw window whose hidden context is used to upload meshes and textures (Set by the {@link io.github.kale_ko.gighm.rendering.Window} that owns the main context)
+     * 
+     * The context must share objects with the main one. Meshes and textures are then uploaded by a background thread in it,
+     * and are only drawn once the fence after their upload is signaled, so large uploads don't stall frames (Assets pop in a few frames later instead).
+     * Meshes drawn from the shared mesh buffer by gpu driven culling, shadow maps and camera targets are still filled on the render thread
+     * 
+     * Must be called on the render thread, setting it to null stops the upload thread so the context can be destroyed
+     * 
+     * @param uploadContext The upload context (Null to upload on the render thread)
+     * 
+     * @since 2.6.0
+     */
+    public void setUploadContext(@Nullable Long uploadContext) {
+        if (this.uploadThread != null) {
+            this.stopUploads();
+        }
+
+        this.uploadContext = uploadContext;
+
+        if (this.initialized && uploadContext != null) {
+            this.startUploads();
+        }
+    }
+
+    /**
+     * Get how many meshes and textures are waiting to be uploaded or for their upload to finish
+     * 
+     * @return The amount of uploads in flight
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getPendingUploads() {
+        return this.streamingMeshes.size() + this.streamingTextures.size();
+    }
+
+    /**
+     * Get the features supported by the context
+     * 
+     * @return The features supported by the context (Null until the backend is initialized)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable RenderCapabilities getCapabilities() {
+        return this.capabilities;
+    }
+
+    /**
+     * Get the cache linked shader programs are loaded from and saved to
+     * 
+     * @return The shader cache (Null if shaders are always compiled)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable ShaderCache getShaderCache() {
+        return this.shaderCache;
+    }
+
+    /**
+     * Set the cache linked shader programs are loaded from and saved to (Only affects shaders that haven't been compiled yet)
+     * 
+     * @param shaderCache The shader cache (Null to always compile)
+     * 
+     * @since 2.6.0
+     */
+    public void setShaderCache(@Nullable ShaderCache shaderCache) {
+        this.shaderCache = shaderCache;
+    }
+
+    /**
+     * The gpu buffers of an uploaded mesh (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class MeshBuffers {
+        /**
+         * The data the buffers were made from
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable GeometryKey key;
+
+        /**
+         * How many live meshes use the buffers, they are deleted once none do
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer users = 0;
+
+        /**
+         * The gl id of the vertex array
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer vertexArray = 0;
+
+        /**
+         * The gl id of the vertex buffer
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer vertBuffer = 0;
+
+        /**
+         * The encoded format of the vertices
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable EncodedAttribute vertFormat;
+
+        /**
+         * How many vertices the mesh has
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer vertexCount = 0;
+
+        /**
+         * The matrix that decodes normalized vertices back to their original range
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Matrix4f decode = new Matrix4f();
+
+        /**
+         * The gl id of the uv buffer (Null if the mesh has no uvs)
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable Integer uvBuffer;
+
+        /**
+         * The encoded format of the uvs (Null if the mesh has no uvs)
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable EncodedAttribute uvFormat;
+
+        /**
+         * The gl id of the index buffer (Null if the mesh has no triangles)
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable Integer triBuffer;
+
+        /**
+         * How many indices the mesh has
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer triCount = 0;
+
+        /**
+         * The gl type of the indices
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer triType = GL_UNSIGNED_INT;
+    }
+
+    /**
+     * A key that identifies the data of a mesh, so copies of a mesh that share its arrays share its buffers (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class GeometryKey {
+        /**
+         * The vertices of the mesh
+         * 
+         * @since 2.6.0
+         */
+        private final @NotNull Float[] vertices;
+
+        /**
+         * The uvs of the mesh
+         * 
+         * @since 2.6.0
+         */
+        private final @Nullable Float[] uvs;
+
+        /**
+         * The triangles of the mesh
+         * 
+         * @since 2.6.0
+         */
+        private final @Nullable Integer[] triangles;
+
+        /**
+         * Create a geometry key
+         * 
+         * @param mesh The mesh to identify
+         * 
+         * @since 2.6.0
+         */
+        public GeometryKey(@NotNull Mesh mesh) {
+            this.vertices = mesh.getVertices();
+            this.uvs = mesh.getUVs();
+            this.triangles = mesh.getTriangles();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof GeometryKey)) {
+                return false;
+            }
+
+            GeometryKey other = (GeometryKey) obj;
+
+            return this.vertices == other.vertices && this.uvs == other.uvs && this.triangles == other.triangles;
+        }
+
+        @Override
+        public int hashCode() {
+            return (System.identityHashCode(this.vertices) * 31 + System.identityHashCode(this.uvs)) * 31 + System.identityHashCode(this.triangles);
+        }
+    }
+
+    /**
+     * The place of a mesh in the shared mesh buffer (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class PoolEntry {
+        /**
+         * The data the entry was made from
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable GeometryKey key;
+
+        /**
+         * How many live meshes use the entry, its ranges are freed once none do
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer users = 0;
+
+        /**
+         * The first index of the mesh in the shared index buffer
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer firstIndex = 0;
+
+        /**
+         * How many indices the mesh has
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer indexCount = 0;
+
+        /**
+         * The first vertex of the mesh in the shared vertex buffer (Added to every index)
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer baseVertex = 0;
+
+        /**
+         * How many vertices the mesh has in the shared vertex buffer
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer vertexCount = 0;
+
+        /**
+         * Weather the mesh has uvs
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Boolean uvs = false;
+
+        /**
+         * The bounding sphere of the mesh (Center and radius)
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Vector4f bounds = new Vector4f();
+    }
+
+    /**
+     * A free range of a shared mesh buffer (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class PoolRange {
+        /**
+         * The first element of the range
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer start = 0;
+
+        /**
+         * How many elements are in the range
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer count = 0;
+    }
+
+    /**
+     * The framebuffer and depth buffer that draw into a camera's target texture (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class TargetBuffers {
+        /**
+         * The gl id of the framebuffer
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer framebuffer = 0;
+
+        /**
+         * The gl id of the depth buffer
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer depthBuffer = 0;
+    }
+
+    /**
+     * A mesh or texture being uploaded by the upload thread (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class StreamUpload {
+        /**
+         * The mesh to upload (Null if a texture is being uploaded)
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable Mesh mesh;
+
+        /**
+         * The texture to upload (Null if a mesh is being uploaded)
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable Texture2D texture;
+
+        /**
+         * The buffers of the mesh, without a vertex array since those aren't shared between contexts
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable MeshBuffers buffers;
+
+        /**
+         * The gl id of the texture
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer textureId = 0;
+
+        /**
+         * The fence signaled once the gpu has the data
+         * 
+         * @since 2.6.0
+         */
+        public long fence = 0L;
+    }
+
+    /**
+     * The batches and draws of a list of commands for the gpu driven path (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class CullLayout {
+        /**
+         * The mesh of each command
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull Mesh[] meshes;
+
+        /**
+         * Weather each command is depth tested
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull boolean[] depthTests;
+
+        /**
+         * The indirect draws with their instance counts set to their object counts
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable ByteBuffer commands;
+
+        /**
+         * How many indirect draws there are
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer drawCount = 0;
+
+        /**
+         * The batches in the order they are drawn
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull List<CullBatch> batches = new ArrayList<CullBatch>();
+
+        /**
+         * Create an empty layout
+         * 
+         * @param count The amount of commands
+         * 
+         * @since 2.6.0
+         */
+        public CullLayout(@NotNull Integer count) {
+            this.meshes = new Mesh[count];
+            this.depthTests = new boolean[count];
+        }
+
+        /**
+         * Check if a list of commands draws the same meshes the same way as this layout
+         * 
+         * @param commands The commands to check
+         * 
+         * @return Weather the layout can be reused for the commands
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Boolean matches(@NotNull List<DrawCommand> commands) {
+            if (commands.size() != this.meshes.length) {
+                return false;
+            }
+
+            for (int i = 0; i < this.meshes.length; i++) {
+                DrawCommand command = commands.get(i);
+
+                if (command.getMesh() != this.meshes[i] || command.getDepthTest() != this.depthTests[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * A run of consecutive draws that share a texture, depth testing and shader variant, drawn with one multi draw (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class CullBatch {
+        /**
+         * The first mesh of the batch (Used for its texture and shader variant)
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull Mesh mesh;
+
+        /**
+         * Weather the batch is depth tested
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull Boolean depthTest;
+
+        /**
+         * Weather the meshes of the batch have uvs
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull Boolean uvs;
+
+        /**
+         * The draws of the batch in order, one per run of consecutive objects with the same mesh
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull List<CullDraw> draws = new ArrayList<CullDraw>();
+
+        /**
+         * The index of the first draw of the batch
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer firstDraw = 0;
+
+        /**
+         * How many draws the batch has
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer drawCount = 0;
+
+        /**
+         * Create a batch
+         * 
+         * @param mesh The first mesh of the batch
+         * @param depthTest Weather the batch is depth tested
+         * @param uvs Weather the meshes of the batch have uvs
+         * 
+         * @since 2.6.0
+         */
+        public CullBatch(@NotNull Mesh mesh, @NotNull Boolean depthTest, @NotNull Boolean uvs) {
+            this.mesh = mesh;
+            this.depthTest = depthTest;
+            this.uvs = uvs;
+        }
+    }
+
+    /**
+     * One indirect draw of a mesh for a run of consecutive objects, instanced once per visible object in their order (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class CullDraw {
+        /**
+         * The mesh that is drawn
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull PoolEntry entry;
+
+        /**
+         * How many objects use the draw
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer objects = 0;
+
+        /**
+         * The index of the draw in the indirect draw buffer
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer index = 0;
+
+        /**
+         * Create a draw
+         * 
+         * @param entry The mesh that is drawn
+         * 
+         * @since 2.6.0
+         */
+        public CullDraw(@NotNull PoolEntry entry) {
+            this.entry = entry;
+        }
+    }
+
+    /**
+     * A pixel buffer a frame is read back into (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class Readback {
+        /**
+         * The gl id of the pixel buffer
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull Integer buffer;
+
+        /**
+         * The allocated size of the pixel buffer in bytes
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer size = 0;
+
+        /**
+         * The fence signaled when the readback finishes (0 if the buffer is free)
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Long fence = 0L;
+
+        /**
+         * The width of the frame being read back
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer width = 0;
+
+        /**
+         * The height of the frame being read back
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer height = 0;
+
+        /**
+         * The number of the frame being read back
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Long number = 0L;
+
+        /**
+         * Weather the frame being read back is part of the recording
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Boolean record = false;
+
+        /**
+         * The screenshots waiting on the frame being read back
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable List<CompletableFuture<File>> screenshots;
+
+        /**
+         * Create a readback
+         * 
+         * @param buffer The gl id of the pixel buffer
+         * 
+         * @since 2.6.0
+         */
+        public Readback(@NotNull Integer buffer) {
+            this.buffer = buffer;
+        }
+    }
+}
\ No newline at end of file
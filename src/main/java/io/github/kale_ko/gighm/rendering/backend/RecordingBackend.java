@@ -0,0 +1,269 @@
+package io.github.kale_ko.gighm.rendering.backend;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import io.github.kale_ko.gighm.rendering.Renderer;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A backend that draws nothing and records every call it gets, so the command stream of a frame can be checked
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class RecordingBackend implements RenderBackend {
+    /**
+     * The types of recorded commands
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    public enum CommandType {
+        /**
+         * The backend was initialized
+         * 
+         * @since 2.6.0
+         */
+        INIT,
+
+        /**
+         * A mesh was prepared
+         * 
+         * @since 2.6.0
+         */
+        PREPARE,
+
+        /**
+         * A frame was started
+         * 
+         * @since 2.6.0
+         */
+        BEGIN_FRAME,
+
+        /**
+         * A mesh was drawn
+         * 
+         * @since 2.6.0
+         */
+        DRAW,
+
+        /**
+         * A frame was ended
+         * 
+         * @since 2.6.0
+         */
+        END_FRAME
+    }
+
+    /**
+     * A recorded command
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    public static class Command {
+        /**
+         * The type of the command
+         * 
+         * @since 2.6.0
+         */
+        private final @NotNull CommandType type;
+
+        /**
+         * The mesh that was prepared (Only for {@link CommandType#PREPARE})
+         * 
+         * @since 2.6.0
+         */
+        private final @Nullable Mesh mesh;
+
+        /**
+         * The frame that was started (Only for {@link CommandType#BEGIN_FRAME})
+         * 
+         * @since 2.6.0
+         */
+        private final @Nullable RenderFrame frame;
+
+        /**
+         * A copy of the draw command (Only for {@link CommandType#DRAW})
+         * 
+         * @since 2.6.0
+         */
+        private final @Nullable DrawCommand draw;
+
+        /**
+         * Create a recorded command
+         * 
+         * @param type The type of the command
+         * @param mesh The mesh that was prepared
+         * @param frame The frame that was started
+         * @param draw A copy of the draw command
+         * 
+         * @since 2.6.0
+         */
+        protected Command(@NotNull CommandType type, @Nullable Mesh mesh, @Nullable RenderFrame frame, @Nullable DrawCommand draw) {
+            NullUtils.checkNulls(type, "type");
+
+            this.type = type;
+            this.mesh = mesh;
+            this.frame = frame;
+            this.draw = draw;
+        }
+
+        /**
+         * Get the type of the command
+         * 
+         * @return The type of the command
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull CommandType getType() {
+            return this.type;
+        }
+
+        /**
+         * Get the mesh that was prepared (Only for {@link CommandType#PREPARE})
+         * 
+         * @return The mesh that was prepared
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable Mesh getMesh() {
+            return this.mesh;
+        }
+
+        /**
+         * Get the frame that was started (Only for {@link CommandType#BEGIN_FRAME})
+         * 
+         * @return The frame that was started
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable RenderFrame getFrame() {
+            return this.frame;
+        }
+
+        /**
+         * Get a copy of the draw command (Only for {@link CommandType#DRAW})
+         * 
+         * @return A copy of the draw command
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable DrawCommand getDraw() {
+            return this.draw;
+        }
+    }
+
+    /**
+     * The recorded commands
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<Command> commands = new ArrayList<Command>();
+
+    /**
+     * Create a recording backend
+     * 
+     * @since 2.6.0
+     */
+    public RecordingBackend() {}
+
+    @Override
+    public void init(@NotNull Renderer renderer) {
+        NullUtils.checkNulls(renderer, "renderer");
+
+        this.commands.add(new Command(CommandType.INIT, null, null, null));
+    }
+
+    @Override
+    public void prepare(@NotNull Mesh mesh) {
+        NullUtils.checkNulls(mesh, "mesh");
+
+        this.commands.add(new Command(CommandType.PREPARE, mesh, null, null));
+    }
+
+    @Override
+    public void beginFrame(@NotNull RenderFrame frame) {
+        NullUtils.checkNulls(frame, "frame");
+
+        this.commands.add(new Command(CommandType.BEGIN_FRAME, null, frame, null));
+    }
+
+    @Override
+    public void submit(@NotNull List<DrawCommand> commands) {
+        NullUtils.checkNulls(commands, "commands");
+
+        for (DrawCommand command : commands) {
+            this.commands.add(new Command(CommandType.DRAW, null, null, command.copy()));
+        }
+    }
+
+    @Override
+    public void endFrame() {
+        this.commands.add(new Command(CommandType.END_FRAME, null, null, null));
+    }
+
+    @Override
+    public @NotNull Boolean getPrepared(@NotNull Mesh mesh) {
+        NullUtils.checkNulls(mesh, "mesh");
+
+        return true;
+    }
+
+    @Override
+    public @NotNull Boolean getRequiresWindow() {
+        return false;
+    }
+
+    /**
+     * Get every recorded command in order
+     * 
+     * @return The recorded commands
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull List<Command> getCommands() {
+        return Collections.unmodifiableList(this.commands);
+    }
+
+    /**
+     * Get the recorded commands of a certain type in order
+     * 
+     * @param type The type of commands to get
+     * 
+     * @return The recorded commands of the type
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull List<Command> getCommands(@NotNull CommandType type) {
+        NullUtils.checkNulls(type, "type");
+
+        List<Command> commands = new ArrayList<Command>();
+        for (Command command : this.commands) {
+            if (command.getType() == type) {
+                commands.add(command);
+            }
+        }
+
+        return commands;
+    }
+
+    /**
+     * Forget every recorded command
+     * 
+     * @since 2.6.0
+     */
+    public void clear() {
+        this.commands.clear();
+    }
+}
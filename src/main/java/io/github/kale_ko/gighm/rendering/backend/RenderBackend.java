@@ -0,0 +1,81 @@
+package io.github.kale_ko.gighm.rendering.backend;
+
+import java.util.List;
+import io.github.kale_ko.gighm.rendering.Renderer;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+
+/**
+ * Something that submits the draw commands built by a {@link Renderer}
+ * 
+ * The renderer does the scene traversal and frame preparation, the backend only turns the commands into work for a gpu (Or counts or records them)
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public interface RenderBackend {
+    /**
+     * Initialize the backend (Called once from {@link Renderer#init()})
+     * 
+     * @param renderer The renderer the backend belongs to
+     * 
+     * @since 2.6.0
+     */
+    public void init(@NotNull Renderer renderer);
+
+    /**
+     * Upload everything a mesh needs ahead of its first draw (Called while preparing, see {@link Renderer#prepare(io.github.kale_ko.gighm.scene.Scene)})
+     * 
+     * @param mesh The mesh to prepare
+     * 
+     * @since 2.6.0
+     */
+    public void prepare(@NotNull Mesh mesh);
+
+    /**
+     * Get weather everything a prepared mesh needs is on the gpu (Backends that upload in the background may still be uploading after {@link #prepare(Mesh)} returns)
+     * 
+     * @param mesh The mesh
+     * 
+     * @return Weather the mesh is ready to be drawn
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getPrepared(@NotNull Mesh mesh);
+
+    /**
+     * Start a frame, clearing the target
+     * 
+     * @param frame The data of the frame
+     * 
+     * @since 2.6.0
+     */
+    public void beginFrame(@NotNull RenderFrame frame);
+
+    /**
+     * Submit the draw commands of the frame (Called once per frame, commands must be drawn in order)
+     * 
+     * @param commands The draw commands (Reused between frames, so they must be copied to be kept)
+     * 
+     * @since 2.6.0
+     */
+    public void submit(@NotNull List<DrawCommand> commands);
+
+    /**
+     * End the current frame
+     * 
+     * @since 2.6.0
+     */
+    public void endFrame();
+
+    /**
+     * Get weather the backend needs a {@link io.github.kale_ko.gighm.rendering.Window} (Its calls must be made from the window thread)
+     * 
+     * @return Weather the backend needs a window
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getRequiresWindow();
+}
@@ -0,0 +1,324 @@
+package io.github.kale_ko.gighm.rendering.backend;
+
+import static org.lwjgl.opengl.GL33C.*;
+import org.lwjgl.opengl.GL41C;
+import org.lwjgl.opengl.GLCapabilities;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * The features supported by the current OpenGL context, probed once when a {@link OpenGLBackend} is initialized
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class RenderCapabilities {
+    /**
+     * The major version of the context
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Integer majorVersion;
+
+    /**
+     * The minor version of the context
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Integer minorVersion;
+
+    /**
+     * The vendor of the driver
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull String vendor;
+
+    /**
+     * The name of the renderer (Generally the gpu)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull String renderer;
+
+    /**
+     * The full version string of the driver
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull String version;
+
+    /**
+     * Weather direct state access is supported (GL 4.5 or ARB_direct_state_access)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Boolean directStateAccess;
+
+    /**
+     * Weather immutable buffer storage is supported (GL 4.4 or ARB_buffer_storage)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Boolean bufferStorage;
+
+    /**
+     * Weather multi draw indirect is supported (GL 4.3 or ARB_multi_draw_indirect)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Boolean multiDrawIndirect;
+
+    /**
+     * Weather drawing with a base instance is supported (GL 4.2 or ARB_base_instance)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Boolean baseInstance;
+
+    /**
+     * Weather compute shaders are supported (GL 4.3 or ARB_compute_shader)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Boolean computeShader;
+
+    /**
+     * Weather shader storage buffers are supported (GL 4.3 or ARB_shader_storage_buffer_object)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Boolean shaderStorageBuffer;
+
+    /**
+     * Weather linked programs can be saved and loaded as binaries (GL 4.1 or ARB_get_program_binary with at least one binary format)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Boolean programBinary;
+
+    /**
+     * The largest amount of texels a buffer texture can hold
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Integer maxTextureBufferSize;
+
+    /**
+     * Create a set of render capabilities
+     * 
+     * @param capabilities The lwjgl capabilities of the context
+     * 
+     * @since 2.6.0
+     */
+    protected RenderCapabilities(@NotNull GLCapabilities capabilities) {
+        NullUtils.checkNulls(capabilities, "capabilities");
+
+        this.majorVersion = glGetInteger(GL_MAJOR_VERSION);
+        this.minorVersion = glGetInteger(GL_MINOR_VERSION);
+
+        this.vendor = String.valueOf(glGetString(GL_VENDOR));
+        this.renderer = String.valueOf(glGetString(GL_RENDERER));
+        this.version = String.valueOf(glGetString(GL_VERSION));
+
+        this.directStateAccess = capabilities.OpenGL45 || capabilities.GL_ARB_direct_state_access;
+        this.bufferStorage = capabilities.OpenGL44 || capabilities.GL_ARB_buffer_storage;
+        this.multiDrawIndirect = capabilities.OpenGL43 || capabilities.GL_ARB_multi_draw_indirect;
+        this.baseInstance = capabilities.OpenGL42 || capabilities.GL_ARB_base_instance;
+        this.computeShader = capabilities.OpenGL43 || capabilities.GL_ARB_compute_shader;
+        this.shaderStorageBuffer = capabilities.OpenGL43 || capabilities.GL_ARB_shader_storage_buffer_object;
+
+        this.programBinary = (capabilities.OpenGL41 || capabilities.GL_ARB_get_program_binary) && glGetInteger(GL41C.GL_NUM_PROGRAM_BINARY_FORMATS) > 0;
+
+        this.maxTextureBufferSize = glGetInteger(GL_MAX_TEXTURE_BUFFER_SIZE);
+    }
+
+    /**
+     * Get the major version of the context
+     * 
+     * @return The major version of the context
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getMajorVersion() {
+        return this.majorVersion;
+    }
+
+    /**
+     * Get the minor version of the context
+     * 
+     * @return The minor version of the context
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getMinorVersion() {
+        return this.minorVersion;
+    }
+
+    /**
+     * Get the vendor of the driver
+     * 
+     * @return The vendor of the driver
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull String getVendor() {
+        return this.vendor;
+    }
+
+    /**
+     * Get the name of the renderer (Generally the gpu)
+     * 
+     * @return The name of the renderer
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull String getRenderer() {
+        return this.renderer;
+    }
+
+    /**
+     * Get the full version string of the driver
+     * 
+     * @return The full version string of the driver
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull String getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Get weather direct state access is supported (GL 4.5 or ARB_direct_state_access)
+     * 
+     * @return Weather direct state access is supported
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getDirectStateAccess() {
+        return this.directStateAccess;
+    }
+
+    /**
+     * Get weather immutable buffer storage is supported (GL 4.4 or ARB_buffer_storage)
+     * 
+     * @return Weather immutable buffer storage is supported
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getBufferStorage() {
+        return this.bufferStorage;
+    }
+
+    /**
+     * Get weather multi draw indirect is supported (GL 4.3 or ARB_multi_draw_indirect)
+     * 
+     * @return Weather multi draw indirect is supported
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getMultiDrawIndirect() {
+        return this.multiDrawIndirect;
+    }
+
+    /**
+     * Get weather drawing with a base instance is supported (GL 4.2 or ARB_base_instance)
+     * 
+     * @return Weather drawing with a base instance is supported
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getBaseInstance() {
+        return this.baseInstance;
+    }
+
+    /**
+     * Get weather compute shaders are supported (GL 4.3 or ARB_compute_shader)
+     * 
+     * @return Weather compute shaders are supported
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getComputeShader() {
+        return this.computeShader;
+    }
+
+    /**
+     * Get weather shader storage buffers are supported (GL 4.3 or ARB_shader_storage_buffer_object)
+     * 
+     * @return Weather shader storage buffers are supported
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getShaderStorageBuffer() {
+        return this.shaderStorageBuffer;
+    }
+
+    /**
+     * Get weather linked programs can be saved and loaded as binaries (GL 4.1 or ARB_get_program_binary with at least one binary format)
+     * 
+     * @return Weather program binaries are supported
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getProgramBinary() {
+        return this.programBinary;
+    }
+
+    /**
+     * Get the largest amount of texels a buffer texture can hold
+     * 
+     * @return The largest amount of texels a buffer texture can hold
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getMaxTextureBufferSize() {
+        return this.maxTextureBufferSize;
+    }
+
+    /**
+     * Get weather the direct state access fast path can be used (Direct state access, buffer storage and multi draw indirect are all supported)
+     * 
+     * @return Weather the fast path can be used
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getModernPath() {
+        return this.directStateAccess && this.bufferStorage && this.multiDrawIndirect;
+    }
+
+    /**
+     * Get weather gpu driven culling can be used (Compute shaders, shader storage buffers, multi draw indirect and base instance are all supported)
+     * 
+     * @return Weather gpu driven culling can be used
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getGpuCulling() {
+        return this.computeShader && this.shaderStorageBuffer && this.multiDrawIndirect && this.baseInstance;
+    }
+
+    /**
+     * Check if the context is at least a certain version
+     * 
+     * @param major The major version to check
+     * @param minor The minor version to check
+     * 
+     * @return Weather the context is at least the passed version
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean isVersion(@NotNull Integer major, @NotNull Integer minor) {
+        NullUtils.checkNulls(major, "major");
+        NullUtils.checkNulls(minor, "minor");
+
+        return this.majorVersion > major || (this.majorVersion.equals(major) && this.minorVersion >= minor);
+    }
+
+    @Override
+    public String toString() {
+        return "OpenGL " + this.majorVersion + "." + this.minorVersion + " (" + this.vendor + ", " + this.renderer + ", " + this.version + ")" + (this.getModernPath() ? " [DSA]" : "") + (this.getGpuCulling() ? " [GPU culling]" : "");
+    }
+}
\ No newline at end of file
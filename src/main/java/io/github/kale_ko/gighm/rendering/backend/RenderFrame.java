@@ -0,0 +1,336 @@
+package io.github.kale_ko.gighm.rendering.backend;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import io.github.kale_ko.gighm.scene.components.Light;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * The per-frame data a backend needs (The camera, clear color, lights, time, render scale and pass)
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class RenderFrame {
+    /**
+     * The number of the frame (Starting at 0)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Long number;
+
+    /**
+     * The color to clear the background with
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Color clearColor;
+
+    /**
+     * The view matrix of the camera
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f view;
+
+    /**
+     * The projection matrix of the camera
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f projection;
+
+    /**
+     * The projection matrix multiplied by the view matrix
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f viewProjection;
+
+    /**
+     * The world position of the camera
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Vector3f cameraPosition;
+
+    /**
+     * The seconds since the renderer was initialized
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Float time;
+
+    /**
+     * The seconds since the last frame
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Float delta;
+
+    /**
+     * The lights of the scene
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull List<Light> lights;
+
+    /**
+     * The light every lit mesh gets regardless of the lights of the scene
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Color ambientLight;
+
+    /**
+     * The fraction of the target resolution to render the scene at (Upscaled to the target afterwards)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Float renderScale;
+
+    /**
+     * The pass of the frame this is (Which camera of the frame and where it draws)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull RenderPass pass;
+
+    /**
+     * Create a render frame
+     * 
+     * @param number The number of the frame
+     * @param clearColor The color to clear the background with
+     * @param view The view matrix of the camera
+     * @param projection The projection matrix of the camera
+     * @param time The seconds since the renderer was initialized
+     * @param delta The seconds since the last frame
+     * 
+     * @since 2.6.0
+     */
+    public RenderFrame(@NotNull Long number, @NotNull Color clearColor, @NotNull Matrix4f view, @NotNull Matrix4f projection, @NotNull Float time, @NotNull Float delta) {
+        this(number, clearColor, view, projection, time, delta, new ArrayList<Light>(), Color.BLACK);
+    }
+
+    /**
+     * Create a render frame with lights
+     * 
+     * @param number The number of the frame
+     * @param clearColor The color to clear the background with
+     * @param view The view matrix of the camera
+     * @param projection The projection matrix of the camera
+     * @param time The seconds since the renderer was initialized
+     * @param delta The seconds since the last frame
+     * @param lights The lights of the scene
+     * @param ambientLight The light every lit mesh gets regardless of the lights of the scene
+     * 
+     * @since 2.6.0
+     */
+    public RenderFrame(@NotNull Long number, @NotNull Color clearColor, @NotNull Matrix4f view, @NotNull Matrix4f projection, @NotNull Float time, @NotNull Float delta, @NotNull List<Light> lights, @NotNull Color ambientLight) {
+        this(number, clearColor, view, projection, time, delta, lights, ambientLight, 1f);
+    }
+
+    /**
+     * Create a render frame with lights and a render scale
+     * 
+     * @param number The number of the frame
+     * @param clearColor The color to clear the background with
+     * @param view The view matrix of the camera
+     * @param projection The projection matrix of the camera
+     * @param time The seconds since the renderer was initialized
+     * @param delta The seconds since the last frame
+     * @param lights The lights of the scene
+     * @param ambientLight The light every lit mesh gets regardless of the lights of the scene
+     * @param renderScale The fraction of the target resolution to render the scene at (0-1)
+     * 
+     * @since 2.6.0
+     */
+    public RenderFrame(@NotNull Long number, @NotNull Color clearColor, @NotNull Matrix4f view, @NotNull Matrix4f projection, @NotNull Float time, @NotNull Float delta, @NotNull List<Light> lights, @NotNull Color ambientLight, @NotNull Float renderScale) {
+        this(number, clearColor, view, projection, time, delta, lights, ambientLight, renderScale, new RenderPass());
+    }
+
+    /**
+     * Create a render frame for one pass of a frame with several cameras
+     * 
+     * @param number The number of the frame (The same for every pass of the frame)
+     * @param clearColor The color to clear the viewport with
+     * @param view The view matrix of the camera
+     * @param projection The projection matrix of the camera
+     * @param time The seconds since the renderer was initialized
+     * @param delta The seconds since the last frame
+     * @param lights The lights of the scene
+     * @param ambientLight The light every lit mesh gets regardless of the lights of the scene
+     * @param renderScale The fraction of the target resolution to render the scene at (0-1)
+     * @param pass The pass of the frame this is
+     * 
+     * @since 2.6.0
+     */
+    public RenderFrame(@NotNull Long number, @NotNull Color clearColor, @NotNull Matrix4f view, @NotNull Matrix4f projection, @NotNull Float time, @NotNull Float delta, @NotNull List<Light> lights, @NotNull Color ambientLight, @NotNull Float renderScale, @NotNull RenderPass pass) {
+        NullUtils.checkNulls(number, "number");
+        NullUtils.checkNulls(clearColor, "clearColor");
+        NullUtils.checkNulls(view, "view");
+        NullUtils.checkNulls(projection, "projection");
+        NullUtils.checkNulls(time, "time");
+        NullUtils.checkNulls(delta, "delta");
+        NullUtils.checkNulls(lights, "lights");
+        NullUtils.checkNulls(ambientLight, "ambientLight");
+        NullUtils.checkNulls(renderScale, "renderScale");
+        NullUtils.checkNulls(pass, "pass");
+
+        this.number = number;
+        this.clearColor = clearColor;
+
+        this.view = view;
+        this.projection = projection;
+        this.viewProjection = projection.mul(view, new Matrix4f());
+        this.cameraPosition = view.invert(new Matrix4f()).getTranslation(new Vector3f());
+
+        this.time = time;
+        this.delta = delta;
+
+        this.lights = lights;
+        this.ambientLight = ambientLight;
+
+        this.renderScale = renderScale;
+
+        this.pass = pass;
+    }
+
+    /**
+     * Get the number of the frame (Starting at 0)
+     * 
+     * @return The number of the frame
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Long getNumber() {
+        return this.number;
+    }
+
+    /**
+     * Get the color to clear the background with
+     * 
+     * @return The color to clear the background with
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Color getClearColor() {
+        return this.clearColor;
+    }
+
+    /**
+     * Get the view matrix of the camera
+     * 
+     * @return The view matrix of the camera
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getView() {
+        return this.view;
+    }
+
+    /**
+     * Get the projection matrix of the camera
+     * 
+     * @return The projection matrix of the camera
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getProjection() {
+        return this.projection;
+    }
+
+    /**
+     * Get the projection matrix multiplied by the view matrix
+     * 
+     * @return The view projection matrix
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getViewProjection() {
+        return this.viewProjection;
+    }
+
+    /**
+     * Get the world position of the camera
+     * 
+     * @return The world position of the camera
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Vector3f getCameraPosition() {
+        return this.cameraPosition;
+    }
+
+    /**
+     * Get the seconds since the renderer was initialized
+     * 
+     * @return The seconds since the renderer was initialized
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getTime() {
+        return this.time;
+    }
+
+    /**
+     * Get the seconds since the last frame
+     * 
+     * @return The seconds since the last frame
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getDelta() {
+        return this.delta;
+    }
+
+    /**
+     * Get the lights of the scene
+     * 
+     * @return The lights of the scene
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull List<Light> getLights() {
+        return this.lights;
+    }
+
+    /**
+     * Get the light every lit mesh gets regardless of the lights of the scene
+     * 
+     * @return The ambient light
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Color getAmbientLight() {
+        return this.ambientLight;
+    }
+
+    /**
+     * Get the fraction of the target resolution to render the scene at (Backends that can't scale ignore it)
+     * 
+     * @return The render scale
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getRenderScale() {
+        return this.renderScale;
+    }
+
+    /**
+     * Get the pass of the frame this is
+     * 
+     * @return The render pass
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull RenderPass getPass() {
+        return this.pass;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,218 @@
+package io.github.kale_ko.gighm.rendering.backend;
+
+import org.joml.Vector4f;
+import io.github.kale_ko.gighm.rendering.textures.Texture2D;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * The part of a frame drawn from one camera (Where it is drawn, what is cleared first and where it falls in the frame)
+ * 
+ * A frame with several cameras is made of one {@link RenderFrame} per camera, each begun, submitted and ended in priority order.
+ * Work that belongs to the whole frame (Like scaling, upscaling and capturing) is done on the first and last pass.
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class RenderPass {
+    /**
+     * The part of the target the pass draws to (X, y, width and height from 0-1, starting at the bottom left)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Vector4f viewport;
+
+    /**
+     * Weather the color of the viewport is cleared before drawing
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Boolean clearColor;
+
+    /**
+     * Weather the depth of the viewport is cleared before drawing
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Boolean clearDepth;
+
+    /**
+     * The texture the pass draws to (Null to draw to the window)
+     * 
+     * @since 2.6.0
+     */
+    private final @Nullable Texture2D target;
+
+    /**
+     * Weather shadows are rendered for the pass (Only one pass a frame renders them so their cache isn't refit for every camera)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Boolean shadows;
+
+    /**
+     * The index of the pass in the frame
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Integer index;
+
+    /**
+     * The amount of passes in the frame
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Integer count;
+
+    /**
+     * Create the only pass of a frame (Drawing to the whole window after clearing it)
+     * 
+     * @since 2.6.0
+     */
+    public RenderPass() {
+        this(new Vector4f(0f, 0f, 1f, 1f), true, true, null, true, 0, 1);
+    }
+
+    /**
+     * Create a render pass
+     * 
+     * @param viewport The part of the target the pass draws to (X, y, width and height from 0-1, starting at the bottom left)
+     * @param clearColor Weather the color of the viewport is cleared before drawing
+     * @param clearDepth Weather the depth of the viewport is cleared before drawing
+     * @param target The texture the pass draws to (Null to draw to the window)
+     * @param shadows Weather shadows are rendered for the pass
+     * @param index The index of the pass in the frame
+     * @param count The amount of passes in the frame
+     * 
+     * @since 2.6.0
+     */
+    public RenderPass(@NotNull Vector4f viewport, @NotNull Boolean clearColor, @NotNull Boolean clearDepth, @Nullable Texture2D target, @NotNull Boolean shadows, @NotNull Integer index, @NotNull Integer count) {
+        NullUtils.checkNulls(viewport, "viewport");
+        NullUtils.checkNulls(clearColor, "clearColor");
+        NullUtils.checkNulls(clearDepth, "clearDepth");
+        NullUtils.checkNulls(shadows, "shadows");
+        NullUtils.checkNulls(index, "index");
+        NullUtils.checkNulls(count, "count");
+
+        this.viewport = new Vector4f(viewport);
+        this.clearColor = clearColor;
+        this.clearDepth = clearDepth;
+        this.target = target;
+        this.shadows = shadows;
+        this.index = index;
+        this.count = count;
+    }
+
+    /**
+     * Get the part of the target the pass draws to
+     * 
+     * @return The viewport (X, y, width and height from 0-1, starting at the bottom left)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Vector4f getViewport() {
+        return this.viewport;
+    }
+
+    /**
+     * Get weather the color of the viewport is cleared before drawing
+     * 
+     * @return Weather the color is cleared
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getClearColor() {
+        return this.clearColor;
+    }
+
+    /**
+     * Get weather the depth of the viewport is cleared before drawing
+     * 
+     * @return Weather the depth is cleared
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getClearDepth() {
+        return this.clearDepth;
+    }
+
+    /**
+     * Get the texture the pass draws to
+     * 
+     * @return The target (Null to draw to the window)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable Texture2D getTarget() {
+        return this.target;
+    }
+
+    /**
+     * Get weather shadows are rendered for the pass
+     * 
+     * @return Weather shadows are rendered
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getShadows() {
+        return this.shadows;
+    }
+
+    /**
+     * Get the index of the pass in the frame
+     * 
+     * @return The index of the pass
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Get the amount of passes in the frame
+     * 
+     * @return The amount of passes
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getCount() {
+        return this.count;
+    }
+
+    /**
+     * Get weather this is the first pass of the frame
+     * 
+     * @return Weather this is the first pass
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getFirst() {
+        return this.index == 0;
+    }
+
+    /**
+     * Get weather this is the last pass of the frame
+     * 
+     * @return Weather this is the last pass
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getLast() {
+        return this.index == this.count - 1;
+    }
+
+    /**
+     * Get weather the pass draws to the whole target
+     * 
+     * @return Weather the viewport covers the whole target
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getFullViewport() {
+        return this.viewport.x == 0f && this.viewport.y == 0f && this.viewport.z == 1f && this.viewport.w == 1f;
+    }
+}
\ No newline at end of file
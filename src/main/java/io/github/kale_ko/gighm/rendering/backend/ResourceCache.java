@@ -0,0 +1,337 @@
+package io.github.kale_ko.gighm.rendering.backend;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A map of assets (Like meshes and textures) to the resources a backend made for them, that doesn't keep the assets alive
+ * 
+ * Assets are held weakly and compared by identity. Once an asset is only reachable through the cache, the garbage collector queues it,
+ * and the next {@link #poll()} removes its entry and hands its resource back so the backend can free it on the render thread (Usually at the start of a frame).
+ * 
+ * Resources must not reference their asset, or the asset can never be collected
+ * 
+ * The cache isn't thread safe, it should only be used from the render thread
+ * 
+ * @param <K> The type of the assets
+ * @param <V> The type of the resources
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class ResourceCache<K, V> {
+    /**
+     * The queue the garbage collector puts the entries of collected assets in (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull ReferenceQueue<K> queue = new ReferenceQueue<K>();
+
+    /**
+     * The buckets of entries, always a power of two long (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Entry<K, V>[] table = newTable(16);
+
+    /**
+     * How many entries are in the cache, including ones whose asset was collected but not polled yet (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer size = 0;
+
+    /**
+     * Create an empty resource cache
+     * 
+     * @since 2.6.0
+     */
+    public ResourceCache() {}
+
+    /**
+     * Get the resource of an asset
+     * 
+     * @param key The asset
+     * 
+     * @return The resource of the asset (Null if it has none)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable V get(@NotNull K key) {
+        NullUtils.checkNulls(key, "key");
+
+        int hash = System.identityHashCode(key);
+        for (Entry<K, V> entry = this.table[hash & (this.table.length - 1)]; entry != null; entry = entry.next) {
+            if (entry.hash == hash && entry.get() == key) {
+                return entry.value;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Set the resource of an asset
+     * 
+     * @param key The asset
+     * @param value The resource of the asset
+     * 
+     * @return The resource the asset had before (Null if it had none)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable V put(@NotNull K key, @NotNull V value) {
+        NullUtils.checkNulls(key, "key");
+        NullUtils.checkNulls(value, "value");
+
+        int hash = System.identityHashCode(key);
+        int index = hash & (this.table.length - 1);
+        for (Entry<K, V> entry = this.table[index]; entry != null; entry = entry.next) {
+            if (entry.hash == hash && entry.get() == key) {
+                V old = entry.value;
+                entry.value = value;
+
+                return old;
+            }
+        }
+
+        this.table[index] = new Entry<K, V>(key, hash, value, this.table[index], this.queue);
+        this.size++;
+
+        if (this.size > this.table.length * 3 / 4) {
+            this.resize(this.table.length * 2);
+        }
+
+        return null;
+    }
+
+    /**
+     * Remove the resource of an asset (Without freeing it)
+     * 
+     * @param key The asset
+     * 
+     * @return The resource of the asset (Null if it had none)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable V remove(@NotNull K key) {
+        NullUtils.checkNulls(key, "key");
+
+        int hash = System.identityHashCode(key);
+        for (Entry<K, V> entry = this.table[hash & (this.table.length - 1)]; entry != null; entry = entry.next) {
+            if (entry.hash == hash && entry.get() == key) {
+                this.unlink(entry);
+                entry.clear();
+
+                return entry.value;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Remove the entries of every asset that has been collected since the last poll
+     * 
+     * @return The resources of the collected assets, for the backend to free
+     * 
+     * @since 2.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull List<V> poll() {
+        List<V> released = new ArrayList<V>();
+
+        Entry<K, V> entry;
+        while ((entry = (Entry<K, V>) this.queue.poll()) != null) {
+            if (this.unlink(entry)) {
+                released.add(entry.value);
+            }
+        }
+
+        return released;
+    }
+
+    /**
+     * Get the resources of every asset in the cache
+     * 
+     * @return The resources (Including ones whose asset was collected but not polled yet)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull List<V> values() {
+        List<V> values = new ArrayList<V>(this.size);
+
+        for (Entry<K, V> bucket : this.table) {
+            for (Entry<K, V> entry = bucket; entry != null; entry = entry.next) {
+                values.add(entry.value);
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Get how many assets have a resource
+     * 
+     * @return The amount of entries (Including ones whose asset was collected but not polled yet)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer size() {
+        return this.size;
+    }
+
+    /**
+     * Remove every entry (Without freeing their resources)
+     * 
+     * @since 2.6.0
+     */
+    public void clear() {
+        for (Entry<K, V> bucket : this.table) {
+            for (Entry<K, V> entry = bucket; entry != null; entry = entry.next) {
+                entry.clear();
+            }
+        }
+
+        this.table = newTable(16);
+        this.size = 0;
+
+        while (this.queue.poll() != null) {
+            // Entries that were already queued aren't in the table anymore
+        }
+    }
+
+    /**
+     * Remove an entry from its bucket
+     * 
+     * @param target The entry to remove
+     * 
+     * @return Weather the entry was in the table
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean unlink(@NotNull Entry<K, V> target) {
+        int index = target.hash & (this.table.length - 1);
+
+        Entry<K, V> previous = null;
+        for (Entry<K, V> entry = this.table[index]; entry != null; entry = entry.next) {
+            if (entry == target) {
+                if (previous == null) {
+                    this.table[index] = entry.next;
+                } else {
+                    previous.next = entry.next;
+                }
+                this.size--;
+
+                return true;
+            }
+
+            previous = entry;
+        }
+
+        return false;
+    }
+
+    /**
+     * Move every entry into a table with a different amount of buckets
+     * 
+     * @param length The new amount of buckets (A power of two)
+     * 
+     * @since 2.6.0
+     */
+    private void resize(int length) {
+        Entry<K, V>[] table = newTable(length);
+
+        for (Entry<K, V> bucket : this.table) {
+            Entry<K, V> entry = bucket;
+            while (entry != null) {
+                Entry<K, V> next = entry.next;
+
+                int index = entry.hash & (length - 1);
+                entry.next = table[index];
+                table[index] = entry;
+
+                entry = next;
+            }
+        }
+
+        this.table = table;
+    }
+
+    /**
+     * Create an empty table
+     * 
+     * @param <K> The type of the assets
+     * @param <V> The type of the resources
+     * 
+     * @param length The amount of buckets
+     * 
+     * @return The table
+     * 
+     * @since 2.6.0
+     */
+    @SuppressWarnings("unchecked")
+    private static @NotNull <K, V> Entry<K, V>[] newTable(int length) {
+        return (Entry<K, V>[]) new Entry<?, ?>[length];
+    }
+
+    /**
+     * An asset and its resource (Only used internally)
+     * 
+     * @param <K> The type of the asset
+     * @param <V> The type of the resource
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class Entry<K, V> extends WeakReference<K> {
+        /**
+         * The identity hash of the asset (Kept since the asset may already be collected)
+         * 
+         * @since 2.6.0
+         */
+        public final int hash;
+
+        /**
+         * The resource of the asset
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull V value;
+
+        /**
+         * The next entry in the bucket
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable Entry<K, V> next;
+
+        /**
+         * Create an entry
+         * 
+         * @param key The asset
+         * @param hash The identity hash of the asset
+         * @param value The resource of the asset
+         * @param next The next entry in the bucket
+         * @param queue The queue to put the entry in once the asset is collected
+         * 
+         * @since 2.6.0
+         */
+        public Entry(@NotNull K key, int hash, @NotNull V value, @Nullable Entry<K, V> next, @NotNull ReferenceQueue<K> queue) {
+            super(key, queue);
+
+            this.hash = hash;
+            this.value = value;
+            this.next = next;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,821 @@
+package io.github.kale_ko.gighm.rendering.backend;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.joml.Matrix4f;
+import org.joml.Vector4f;
+import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.rendering.Renderer;
+import io.github.kale_ko.gighm.rendering.textures.Texture2D;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A backend that rasterizes on the cpu into an image, without a window or gpu
+ * 
+ * Triangles are transformed in parallel, binned into screen tiles in draw order and then every tile is rasterized in parallel with edge functions.
+ * It follows the same rules as the default shader (Textured meshes are sampled bilinearly with repeat wrapping, translucent textures are alpha tested, other meshes use their color, depth testing is less-than)
+ * 
+ * Cameras are drawn into their viewport of the image, cameras with a target texture are skipped
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class SoftwareBackend implements RenderBackend {
+    /**
+     * The default width and height of a tile in pixels
+     * 
+     * @since 2.6.0
+     */
+    public static final Integer DEFAULT_TILE_SIZE = 64;
+
+    /**
+     * How many floats each transformed triangle takes (x, y, z, 1/w, u/w, v/w for each vertex)
+     * 
+     * @since 2.6.0
+     */
+    private static final int TRIANGLE_SIZE = 18;
+
+    /**
+     * The width of the image
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer width;
+
+    /**
+     * The height of the image
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer height;
+
+    /**
+     * The width and height of a tile in pixels
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer tileSize;
+
+    /**
+     * The pool the work is run on
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ForkJoinPool pool;
+
+    /**
+     * The colors of the image as ARGB (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] colors;
+
+    /**
+     * The depths of the image from 0 to 1 (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull float[] depths;
+
+    /**
+     * The data of the current frame (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable RenderFrame frame;
+
+    /**
+     * The left edge of the viewport of the current pass in pixels (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private int viewX0;
+
+    /**
+     * The top edge of the viewport of the current pass in pixels (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private int viewY0;
+
+    /**
+     * The right edge of the viewport of the current pass in pixels (Exclusive) (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private int viewX1;
+
+    /**
+     * The bottom edge of the viewport of the current pass in pixels (Exclusive) (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private int viewY1;
+
+    /**
+     * A map of meshes to their prepared data, dropped once the mesh is collected (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ResourceCache<Mesh, SoftwareMesh> meshes = new ResourceCache<Mesh, SoftwareMesh>();
+
+    /**
+     * A map of textures to their pixels as ARGB, dropped once the texture is collected (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ResourceCache<Texture2D, int[]> textures = new ResourceCache<Texture2D, int[]>();
+
+    /**
+     * Create a software backend using the common pool
+     * 
+     * @param width The width of the image
+     * @param height The height of the image
+     * 
+     * @since 2.6.0
+     */
+    public SoftwareBackend(@NotNull Integer width, @NotNull Integer height) {
+        this(width, height, DEFAULT_TILE_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a software backend
+     * 
+     * @param width The width of the image
+     * @param height The height of the image
+     * @param tileSize The width and height of a tile in pixels
+     * @param pool The pool to run the work on
+     * 
+     * @throws InvalidDataException If the size or tile size isn't positive
+     * 
+     * @since 2.6.0
+     */
+    public SoftwareBackend(@NotNull Integer width, @NotNull Integer height, @NotNull Integer tileSize, @NotNull ForkJoinPool pool) throws InvalidDataException {
+        NullUtils.checkNulls(width, "width");
+        NullUtils.checkNulls(height, "height");
+        NullUtils.checkNulls(tileSize, "tileSize");
+        NullUtils.checkNulls(pool, "pool");
+
+        if (tileSize <= 0) {
+            throw new InvalidDataException("Tile size must be positive");
+        }
+
+        this.tileSize = tileSize;
+        this.pool = pool;
+
+        this.setSize(width, height);
+    }
+
+    @Override
+    public void init(@NotNull Renderer renderer) {
+        NullUtils.checkNulls(renderer, "renderer");
+    }
+
+    @Override
+    public void prepare(@NotNull Mesh mesh) {
+        NullUtils.checkNulls(mesh, "mesh");
+
+        this.getMesh(mesh);
+        if (mesh.getTexture() != null) {
+            this.getTexture(mesh.getTexture());
+        }
+    }
+
+    @Override
+    public void beginFrame(@NotNull RenderFrame frame) {
+        NullUtils.checkNulls(frame, "frame");
+
+        this.frame = frame;
+        RenderPass pass = frame.getPass();
+
+        // Prepared data of collected meshes and textures is only dropped between frames
+        if (pass.getFirst()) {
+            this.meshes.poll();
+            this.textures.poll();
+        }
+
+        // The viewport starts at the bottom left but the image starts at the top left
+        Vector4f viewport = pass.getViewport();
+        this.viewX0 = Math.round(this.width * viewport.x);
+        this.viewX1 = Math.round(this.width * (viewport.x + viewport.z));
+        this.viewY0 = this.height - Math.round(this.height * (viewport.y + viewport.w));
+        this.viewY1 = this.height - Math.round(this.height * viewport.y);
+
+        if (pass.getTarget() != null) {
+            return;
+        }
+
+        Color clearColor = frame.getClearColor();
+        int color = 0xFF000000 | (clearColor.getRed() << 16) | (clearColor.getGreen() << 8) | clearColor.getBlue();
+
+        if (pass.getFullViewport()) {
+            if (pass.getClearColor()) {
+                Arrays.fill(this.colors, color);
+            }
+            if (pass.getClearDepth()) {
+                Arrays.fill(this.depths, 1f);
+            }
+        } else {
+            for (int y = this.viewY0; y < this.viewY1; y++) {
+                if (pass.getClearColor()) {
+                    Arrays.fill(this.colors, y * this.width + this.viewX0, y * this.width + this.viewX1, color);
+                }
+                if (pass.getClearDepth()) {
+                    Arrays.fill(this.depths, y * this.width + this.viewX0, y * this.width + this.viewX1, 1f);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void submit(@NotNull List<DrawCommand> commands) {
+        NullUtils.checkNulls(commands, "commands");
+
+        if (this.frame.getPass().getTarget() != null) {
+            return;
+        }
+
+        Integer count = commands.size();
+
+        SoftwareMesh[] meshes = new SoftwareMesh[count];
+        int[][] textures = new int[count][];
+        for (Integer i = 0; i < count; i++) {
+            Mesh mesh = commands.get(i).getMesh();
+
+            meshes[i] = this.getMesh(mesh);
+            if (mesh.getTexture() != null && meshes[i].uvs != null) {
+                textures[i] = this.getTexture(mesh.getTexture());
+            }
+        }
+
+        float[][] triangles = new float[count][];
+        this.pool.submit(() -> IntStream.range(0, count).parallel().forEach(i -> {
+            triangles[i] = this.transform(meshes[i], commands.get(i).getMatrix());
+        })).join();
+
+        Integer tilesX = (this.width + this.tileSize - 1) / this.tileSize;
+        Integer tilesY = (this.height + this.tileSize - 1) / this.tileSize;
+
+        // Binning is done in draw order, so each tile sees its triangles in the order they were submitted
+        int[][] bins = new int[tilesX * tilesY][];
+        int[] binSizes = new int[tilesX * tilesY];
+        for (int i = 0; i < count; i++) {
+            float[] data = triangles[i];
+
+            for (int t = 0; t < data.length; t += TRIANGLE_SIZE) {
+                float minX = Math.min(data[t], Math.min(data[t + 6], data[t + 12]));
+                float maxX = Math.max(data[t], Math.max(data[t + 6], data[t + 12]));
+                float minY = Math.min(data[t + 1], Math.min(data[t + 7], data[t + 13]));
+                float maxY = Math.max(data[t + 1], Math.max(data[t + 7], data[t + 13]));
+
+                if (maxX < this.viewX0 || maxY < this.viewY0 || minX >= this.viewX1 || minY >= this.viewY1) {
+                    continue;
+                }
+
+                int tileMinX = Math.max(0, (int) minX / this.tileSize);
+                int tileMaxX = Math.min(tilesX - 1, (int) maxX / this.tileSize);
+                int tileMinY = Math.max(0, (int) minY / this.tileSize);
+                int tileMaxY = Math.min(tilesY - 1, (int) maxY / this.tileSize);
+
+                for (int ty = tileMinY; ty <= tileMaxY; ty++) {
+                    for (int tx = tileMinX; tx <= tileMaxX; tx++) {
+                        int bin = ty * tilesX + tx;
+
+                        if (bins[bin] == null) {
+                            bins[bin] = new int[64];
+                        } else if (binSizes[bin] + 2 > bins[bin].length) {
+                            bins[bin] = Arrays.copyOf(bins[bin], bins[bin].length * 2);
+                        }
+
+                        bins[bin][binSizes[bin]++] = i;
+                        bins[bin][binSizes[bin]++] = t;
+                    }
+                }
+            }
+        }
+
+        this.pool.submit(() -> IntStream.range(0, bins.length).parallel().forEach(bin -> {
+            if (bins[bin] == null) {
+                return;
+            }
+
+            int x0 = (bin % tilesX) * this.tileSize;
+            int y0 = (bin / tilesX) * this.tileSize;
+            int x1 = Math.min(x0 + this.tileSize, this.viewX1);
+            int y1 = Math.min(y0 + this.tileSize, this.viewY1);
+            x0 = Math.max(x0, this.viewX0);
+            y0 = Math.max(y0, this.viewY0);
+
+            for (int i = 0; i < binSizes[bin]; i += 2) {
+                int command = bins[bin][i];
+
+                this.rasterize(triangles[command], bins[bin][i + 1], commands.get(command), textures[command], x0, y0, x1, y1);
+            }
+        })).join();
+    }
+
+    @Override
+    public void endFrame() {
+        this.frame = null;
+    }
+
+    @Override
+    public @NotNull Boolean getPrepared(@NotNull Mesh mesh) {
+        NullUtils.checkNulls(mesh, "mesh");
+
+        return true;
+    }
+
+    @Override
+    public @NotNull Boolean getRequiresWindow() {
+        return false;
+    }
+
+    /**
+     * Transform the triangles of a mesh into screen space, clipping them against the near plane
+     * 
+     * @param mesh The mesh to transform
+     * @param model The model matrix of the mesh
+     * 
+     * @return The transformed triangles (See {@link #TRIANGLE_SIZE})
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull float[] transform(@NotNull SoftwareMesh mesh, @NotNull Matrix4f model) {
+        Matrix4f mvp = this.frame.getViewProjection().mul(model, new Matrix4f());
+
+        Integer vertexCount = mesh.positions.length / 3;
+        float[] clip = new float[vertexCount * 4];
+        for (int i = 0; i < vertexCount; i++) {
+            float x = mesh.positions[i * 3];
+            float y = mesh.positions[i * 3 + 1];
+            float z = mesh.positions[i * 3 + 2];
+
+            clip[i * 4] = mvp.m00() * x + mvp.m10() * y + mvp.m20() * z + mvp.m30();
+            clip[i * 4 + 1] = mvp.m01() * x + mvp.m11() * y + mvp.m21() * z + mvp.m31();
+            clip[i * 4 + 2] = mvp.m02() * x + mvp.m12() * y + mvp.m22() * z + mvp.m32();
+            clip[i * 4 + 3] = mvp.m03() * x + mvp.m13() * y + mvp.m23() * z + mvp.m33();
+        }
+
+        float[] output = new float[(mesh.indices.length / 3) * TRIANGLE_SIZE];
+        int size = 0;
+
+        // Up to 4 clipped vertices of (x, y, z, w, u, v)
+        float[] polygon = new float[4 * 6];
+        for (int t = 0; t + 2 < mesh.indices.length; t += 3) {
+            int count = 0;
+
+            for (int c = 0; c < 3; c++) {
+                int a = mesh.indices[t + c];
+                int b = mesh.indices[t + (c + 1) % 3];
+
+                float da = clip[a * 4 + 2] + clip[a * 4 + 3];
+                float db = clip[b * 4 + 2] + clip[b * 4 + 3];
+
+                if (da >= 0) {
+                    this.clipVertex(mesh, clip, a, a, 0, polygon, count++);
+                }
+                if ((da >= 0) != (db >= 0)) {
+                    this.clipVertex(mesh, clip, a, b, da / (da - db), polygon, count++);
+                }
+            }
+
+            for (int v = 1; v + 1 < count; v++) {
+                if (size + TRIANGLE_SIZE > output.length) {
+                    output = Arrays.copyOf(output, output.length * 2 + TRIANGLE_SIZE);
+                }
+
+                this.project(polygon, 0, output, size);
+                this.project(polygon, v, output, size + 6);
+                this.project(polygon, v + 1, output, size + 12);
+
+                size += TRIANGLE_SIZE;
+            }
+        }
+
+        return Arrays.copyOf(output, size);
+    }
+
+    /**
+     * Write a vertex interpolated between two clip space vertices into a polygon
+     * 
+     * @param mesh The mesh the vertices are from
+     * @param clip The clip space positions of the mesh
+     * @param a The index of the first vertex
+     * @param b The index of the second vertex
+     * @param t How far between the vertices to interpolate
+     * @param polygon The polygon to write into
+     * @param index The index in the polygon to write
+     * 
+     * @since 2.6.0
+     */
+    private void clipVertex(@NotNull SoftwareMesh mesh, @NotNull float[] clip, int a, int b, float t, @NotNull float[] polygon, int index) {
+        for (int i = 0; i < 4; i++) {
+            polygon[index * 6 + i] = clip[a * 4 + i] + (clip[b * 4 + i] - clip[a * 4 + i]) * t;
+        }
+
+        if (mesh.uvs != null) {
+            polygon[index * 6 + 4] = mesh.uvs[a * 2] + (mesh.uvs[b * 2] - mesh.uvs[a * 2]) * t;
+            polygon[index * 6 + 5] = mesh.uvs[a * 2 + 1] + (mesh.uvs[b * 2 + 1] - mesh.uvs[a * 2 + 1]) * t;
+        } else {
+            polygon[index * 6 + 4] = 0;
+            polygon[index * 6 + 5] = 0;
+        }
+    }
+
+    /**
+     * Project a clip space polygon vertex into the viewport of the current pass
+     * 
+     * @param polygon The polygon to read from
+     * @param index The index of the vertex in the polygon
+     * @param output The triangles to write into
+     * @param offset The offset in the triangles to write at
+     * 
+     * @since 2.6.0
+     */
+    private void project(@NotNull float[] polygon, int index, @NotNull float[] output, int offset) {
+        float w = Math.max(polygon[index * 6 + 3], 1e-7f);
+        float invW = 1f / w;
+
+        output[offset] = this.viewX0 + (polygon[index * 6] * invW + 1f) * 0.5f * (this.viewX1 - this.viewX0);
+        output[offset + 1] = this.viewY0 + (1f - polygon[index * 6 + 1] * invW) * 0.5f * (this.viewY1 - this.viewY0);
+        output[offset + 2] = (polygon[index * 6 + 2] * invW + 1f) * 0.5f;
+        output[offset + 3] = invW;
+        output[offset + 4] = polygon[index * 6 + 4] * invW;
+        output[offset + 5] = polygon[index * 6 + 5] * invW;
+    }
+
+    /**
+     * Rasterize a triangle into part of the image
+     * 
+     * @param data The transformed triangles
+     * @param t The offset of the triangle in the data
+     * @param command The command the triangle is from
+     * @param texture The pixels of the texture (Null if the mesh isn't textured)
+     * @param x0 The left of the area to rasterize (Inclusive)
+     * @param y0 The top of the area to rasterize (Inclusive)
+     * @param x1 The right of the area to rasterize (Exclusive)
+     * @param y1 The bottom of the area to rasterize (Exclusive)
+     * 
+     * @since 2.6.0
+     */
+    private void rasterize(@NotNull float[] data, int t, @NotNull DrawCommand command, @Nullable int[] texture, int x0, int y0, int x1, int y1) {
+        float ax = data[t], ay = data[t + 1];
+        float bx = data[t + 6], by = data[t + 7];
+        float cx = data[t + 12], cy = data[t + 13];
+
+        float area = (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+        if (area == 0 || Float.isNaN(area)) {
+            return;
+        }
+
+        // Swap to a consistent winding so the edge functions are positive inside
+        int ib = 6, ic = 12;
+        if (area < 0) {
+            ib = 12;
+            ic = 6;
+
+            bx = data[t + 12];
+            by = data[t + 13];
+            cx = data[t + 6];
+            cy = data[t + 7];
+
+            area = -area;
+        }
+
+        int minX = Math.max(x0, (int) Math.floor(Math.min(ax, Math.min(bx, cx))));
+        int maxX = Math.min(x1 - 1, (int) Math.ceil(Math.max(ax, Math.max(bx, cx))));
+        int minY = Math.max(y0, (int) Math.floor(Math.min(ay, Math.min(by, cy))));
+        int maxY = Math.min(y1 - 1, (int) Math.ceil(Math.max(ay, Math.max(by, cy))));
+        if (minX > maxX || minY > maxY) {
+            return;
+        }
+
+        // Edge function steps (Edge 0 is b to c, edge 1 is c to a, edge 2 is a to b)
+        float e0dx = by - cy, e0dy = cx - bx;
+        float e1dx = cy - ay, e1dy = ax - cx;
+        float e2dx = ay - by, e2dy = bx - ax;
+
+        // Top-left rule, pixels exactly on an edge are only drawn for top and left edges so shared edges aren't drawn twice
+        float bias0 = (e0dx > 0 || (e0dx == 0 && e0dy < 0)) ? 0 : -1e-6f;
+        float bias1 = (e1dx > 0 || (e1dx == 0 && e1dy < 0)) ? 0 : -1e-6f;
+        float bias2 = (e2dx > 0 || (e2dx == 0 && e2dy < 0)) ? 0 : -1e-6f;
+
+        float px = minX + 0.5f, py = minY + 0.5f;
+        float row0 = (px - bx) * e0dx + (py - by) * e0dy;
+        float row1 = (px - cx) * e1dx + (py - cy) * e1dy;
+        float row2 = (px - ax) * e2dx + (py - ay) * e2dy;
+
+        float invArea = 1f / area;
+
+        float az = data[t + 2], bz = data[t + ib + 2], cz = data[t + ic + 2];
+        float aw = data[t + 3], bw = data[t + ib + 3], cw = data[t + ic + 3];
+        float au = data[t + 4], bu = data[t + ib + 4], cu = data[t + ic + 4];
+        float av = data[t + 5], bv = data[t + ib + 5], cv = data[t + ic + 5];
+
+        boolean depthTest = command.getDepthTest();
+        boolean alphaTest = texture != null && command.getMesh().getTexture().getTranslucent();
+
+        int color = 0xFFFFFFFF;
+        int textureWidth = 0, textureHeight = 0;
+        if (texture != null) {
+            textureWidth = command.getMesh().getTexture().getWidth();
+            textureHeight = command.getMesh().getTexture().getHeight();
+        } else if (command.getMesh().getColor() != null) {
+            Color meshColor = command.getMesh().getColor();
+            color = 0xFF000000 | (meshColor.getRed() << 16) | (meshColor.getGreen() << 8) | meshColor.getBlue();
+        }
+
+        int width = this.width;
+        float[] depths = this.depths;
+        int[] colors = this.colors;
+
+        for (int y = minY; y <= maxY; y++) {
+            float w0 = row0, w1 = row1, w2 = row2;
+            int index = y * width + minX;
+
+            for (int x = minX; x <= maxX; x++, index++, w0 += e0dx, w1 += e1dx, w2 += e2dx) {
+                if (w0 + bias0 < 0 || w1 + bias1 < 0 || w2 + bias2 < 0) {
+                    continue;
+                }
+
+                float l0 = w0 * invArea, l1 = w1 * invArea, l2 = 1f - l0 - l1;
+
+                float z = l0 * az + l1 * bz + l2 * cz;
+                if (z < 0 || z > 1 || (depthTest && z >= depths[index])) {
+                    continue;
+                }
+
+                int pixel = color;
+                if (texture != null) {
+                    float w = 1f / (l0 * aw + l1 * bw + l2 * cw);
+
+                    pixel = sample(texture, textureWidth, textureHeight, (l0 * au + l1 * bu + l2 * cu) * w, (l0 * av + l1 * bv + l2 * cv) * w);
+
+                    if (alphaTest && (pixel >>> 24) < 128) {
+                        continue;
+                    }
+                }
+
+                colors[index] = pixel;
+                if (depthTest) {
+                    depths[index] = z;
+                }
+            }
+
+            row0 += e0dy;
+            row1 += e1dy;
+            row2 += e2dy;
+        }
+    }
+
+    /**
+     * Sample a texture bilinearly with repeat wrapping (Matches GL_LINEAR and GL_REPEAT)
+     * 
+     * @param texture The pixels of the texture
+     * @param width The width of the texture
+     * @param height The height of the texture
+     * @param u The horizontal coordinate
+     * @param v The vertical coordinate
+     * 
+     * @return The sampled color as ARGB
+     * 
+     * @since 2.6.0
+     */
+    private static int sample(@NotNull int[] texture, int width, int height, float u, float v) {
+        float x = u * width - 0.5f;
+        float y = v * height - 0.5f;
+
+        int ix = (int) Math.floor(x);
+        int iy = (int) Math.floor(y);
+        float fx = x - ix;
+        float fy = y - iy;
+
+        int x0 = Math.floorMod(ix, width), x1 = Math.floorMod(ix + 1, width);
+        int y0 = Math.floorMod(iy, height), y1 = Math.floorMod(iy + 1, height);
+
+        int c00 = texture[y0 * width + x0], c10 = texture[y0 * width + x1];
+        int c01 = texture[y1 * width + x0], c11 = texture[y1 * width + x1];
+
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 8) {
+            float top = ((c00 >>> shift) & 0xFF) * (1 - fx) + ((c10 >>> shift) & 0xFF) * fx;
+            float bottom = ((c01 >>> shift) & 0xFF) * (1 - fx) + ((c11 >>> shift) & 0xFF) * fx;
+
+            result |= (Math.round(top * (1 - fy) + bottom * fy) & 0xFF) << shift;
+        }
+
+        return result;
+    }
+
+    /**
+     * Get the prepared data of a mesh, preparing it if it hasn't been already
+     * 
+     * @param mesh The mesh to get
+     * 
+     * @return The prepared data of the mesh
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull SoftwareMesh getMesh(@NotNull Mesh mesh) {
+        SoftwareMesh data = this.meshes.get(mesh);
+
+        if (data == null) {
+            data = new SoftwareMesh(mesh);
+            this.meshes.put(mesh, data);
+        }
+
+        return data;
+    }
+
+    /**
+     * Get the pixels of a texture as ARGB, converting them if they haven't been already
+     * 
+     * @param texture The texture to get
+     * 
+     * @return The pixels of the texture
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] getTexture(@NotNull Texture2D texture) {
+        int[] pixels = this.textures.get(texture);
+
+        if (pixels == null) {
+            ByteBuffer data = texture.getRawData();
+
+            pixels = new int[texture.getWidth() * texture.getHeight()];
+            for (int i = 0; i < pixels.length; i++) {
+                pixels[i] = ((data.get(i * 4 + 3) & 0xFF) << 24) | ((data.get(i * 4) & 0xFF) << 16) | ((data.get(i * 4 + 1) & 0xFF) << 8) | (data.get(i * 4 + 2) & 0xFF);
+            }
+
+            this.textures.put(texture, pixels);
+        }
+
+        return pixels;
+    }
+
+    /**
+     * Get the width of the image
+     * 
+     * @return The width of the image
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Get the height of the image
+     * 
+     * @return The height of the image
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Set the size of the image (Clears the image)
+     * 
+     * @param width The width of the image
+     * @param height The height of the image
+     * 
+     * @throws InvalidDataException If the size isn't positive
+     * 
+     * @since 2.6.0
+     */
+    public void setSize(@NotNull Integer width, @NotNull Integer height) throws InvalidDataException {
+        NullUtils.checkNulls(width, "width");
+        NullUtils.checkNulls(height, "height");
+
+        if (width <= 0 || height <= 0) {
+            throw new InvalidDataException("Width and height must be positive");
+        }
+
+        this.width = width;
+        this.height = height;
+
+        this.colors = new int[width * height];
+        this.depths = new float[width * height];
+    }
+
+    /**
+     * Get the width and height of a tile in pixels
+     * 
+     * @return The tile size
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getTileSize() {
+        return this.tileSize;
+    }
+
+    /**
+     * Get a copy of the pixels of the last frame as ARGB (Rows from top to bottom)
+     * 
+     * @return The pixels of the last frame
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull int[] getPixels() {
+        return this.colors.clone();
+    }
+
+    /**
+     * Get a copy of the last frame as an image
+     * 
+     * @return The last frame as an image
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull BufferedImage getImage() {
+        BufferedImage image = new BufferedImage(this.width, this.height, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, this.width, this.height, this.colors, 0, this.width);
+
+        return image;
+    }
+
+    /**
+     * The data of a mesh in the form the rasterizer uses (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class SoftwareMesh {
+        /**
+         * The positions of the vertices (3 per vertex)
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull float[] positions;
+
+        /**
+         * The uvs of the vertices (2 per vertex, null if the mesh has no uvs)
+         * 
+         * @since 2.6.0
+         */
+        public final @Nullable float[] uvs;
+
+        /**
+         * The indices of the triangles (Generated in order for non-indexed meshes)
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull int[] indices;
+
+        /**
+         * Create the data of a mesh
+         * 
+         * @param mesh The mesh to convert
+         * 
+         * @since 2.6.0
+         */
+        public SoftwareMesh(@NotNull Mesh mesh) {
+            Float[] vertices = mesh.getVertices();
+            Integer verticeSize = mesh.getVerticeSize();
+            Integer vertexCount = vertices.length / verticeSize;
+
+            this.positions = new float[vertexCount * 3];
+            for (int i = 0; i < vertexCount; i++) {
+                for (int j = 0; j < Math.min(verticeSize, 3); j++) {
+                    this.positions[i * 3 + j] = vertices[i * verticeSize + j];
+                }
+            }
+
+            if (mesh.getUVs() != null) {
+                this.uvs = new float[vertexCount * 2];
+                for (int i = 0; i < Math.min(mesh.getUVs().length, this.uvs.length); i++) {
+                    this.uvs[i] = mesh.getUVs()[i];
+                }
+            } else {
+                this.uvs = null;
+            }
+
+            if (mesh.getTriangles() != null) {
+                this.indices = new int[mesh.getTriangles().length];
+                for (int i = 0; i < this.indices.length; i++) {
+                    this.indices[i] = mesh.getTriangles()[i];
+                }
+            } else {
+                this.indices = new int[vertexCount];
+                for (int i = 0; i < vertexCount; i++) {
+                    this.indices[i] = i;
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
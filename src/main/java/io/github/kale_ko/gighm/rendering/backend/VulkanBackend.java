@@ -0,0 +1,2400 @@
+package io.github.kale_ko.gighm.rendering.backend;
+
+import static org.lwjgl.system.MemoryStack.stackPush;
+import static org.lwjgl.system.MemoryUtil.NULL;
+import static org.lwjgl.vulkan.VK10.*;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.joml.Vector4f;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.PointerBuffer;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+import org.lwjgl.vulkan.*;
+import io.github.kale_ko.gighm.exception.AlreadyInitializedException;
+import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.exception.NotInitializedException;
+import io.github.kale_ko.gighm.exception.VulkanException;
+import io.github.kale_ko.gighm.rendering.Renderer;
+import io.github.kale_ko.gighm.rendering.textures.Texture2D;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * A backend that renders with Vulkan into an offscreen image, without a window
+ * 
+ * Every frame in flight has its own command buffers, fence, uniform buffer and readback buffer so the cpu can record a frame while the gpu is still drawing the last ones.
+ * Large frames are split into secondary command buffers that are recorded in parallel, pipelines are created once per variant and can be kept on disk with a pipeline cache, and each texture gets one descriptor set that is reused by every draw.
+ * 
+ * Any Vulkan 1.0 device works, including Mesa's cpu lavapipe driver (Select it with VK_ICD_FILENAMES when testing on a machine without a gpu).
+ * The shaders are compiled to SPIR-V with glslc while building, from src/main/vulkan.
+ * 
+ * Cameras are drawn into their viewport of the image one after another, cameras with a target texture are skipped.
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class VulkanBackend implements RenderBackend {
+    /**
+     * The default number of frames that can be in flight at once
+     * 
+     * @since 2.6.0
+     */
+    public static final Integer DEFAULT_FRAMES_IN_FLIGHT = 2;
+
+    /**
+     * The least number of draws that are worth recording on another thread
+     * 
+     * @since 2.6.0
+     */
+    public static final Integer MIN_COMMANDS_PER_THREAD = 128;
+
+    /**
+     * The size in bytes of the per-frame camera data (view, projection, viewProjection, cameraPosition, time)
+     * 
+     * @since 2.6.0
+     */
+    private static final int FRAME_UNIFORM_SIZE = (16 * 3 + 4 + 4) * 4;
+
+    /**
+     * The size in bytes of the per-draw push constants (model, color)
+     * 
+     * @since 2.6.0
+     */
+    private static final int PUSH_CONSTANT_SIZE = (16 + 4) * 4;
+
+    /**
+     * The size in floats of one vertex (x, y, z, u, v)
+     * 
+     * @since 2.6.0
+     */
+    private static final int VERTEX_SIZE = 5;
+
+    /**
+     * How many texture descriptor sets each descriptor pool holds
+     * 
+     * @since 2.6.0
+     */
+    private static final int DESCRIPTOR_POOL_SIZE = 256;
+
+    /**
+     * The format of the color image
+     * 
+     * @since 2.6.0
+     */
+    private static final int COLOR_FORMAT = VK_FORMAT_R8G8B8A8_UNORM;
+
+    /**
+     * The width of the image
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer width;
+
+    /**
+     * The height of the image
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer height;
+
+    /**
+     * The number of frames that can be in flight at once
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer framesInFlight;
+
+    /**
+     * The most threads that record commands at once
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer recordingThreads;
+
+    /**
+     * The pool commands are recorded on
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ForkJoinPool pool;
+
+    /**
+     * The file the pipeline cache is kept in (null to not keep it)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable File pipelineCacheFile = null;
+
+    /**
+     * Weather to enable the Khronos validation layer (If it is installed)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean validation = false;
+
+    /**
+     * Weather the backend is initialized
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean initialized = false;
+
+    /**
+     * The Vulkan instance (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable VkInstance instance;
+
+    /**
+     * The device being rendered with (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable VkPhysicalDevice physicalDevice;
+
+    /**
+     * The name of the device being rendered with
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable String deviceName;
+
+    /**
+     * The memory types of the device (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable VkPhysicalDeviceMemoryProperties memoryProperties;
+
+    /**
+     * The logical device (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable VkDevice device;
+
+    /**
+     * The graphics queue (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable VkQueue queue;
+
+    /**
+     * The family of the graphics queue (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer queueFamily;
+
+    /**
+     * The format of the depth image (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer depthFormat;
+
+    /**
+     * The render pass the first camera of a frame draws with, which clears both images (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long renderPass;
+
+    /**
+     * The render pass the later cameras of a frame draw with, which keeps what the cameras before them drew (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long loadRenderPass;
+
+    /**
+     * The color image (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long colorImage;
+
+    /**
+     * The memory of the color image (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long colorMemory;
+
+    /**
+     * The view of the color image (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long colorView;
+
+    /**
+     * The depth image (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long depthImage;
+
+    /**
+     * The memory of the depth image (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long depthMemory;
+
+    /**
+     * The view of the depth image (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long depthView;
+
+    /**
+     * The framebuffer (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long framebuffer;
+
+    /**
+     * The pipeline cache (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long pipelineCache;
+
+    /**
+     * The descriptor set layout of the frame uniforms (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long frameSetLayout;
+
+    /**
+     * The descriptor set layout of a texture (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long textureSetLayout;
+
+    /**
+     * The pipeline layout every pipeline shares (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long pipelineLayout;
+
+    /**
+     * The vertex shader module (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long vertexModule;
+
+    /**
+     * The fragment shader module (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long fragmentModule;
+
+    /**
+     * The sampler every texture uses (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long sampler;
+
+    /**
+     * The descriptor pool of the frame uniforms (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long frameDescriptorPool;
+
+    /**
+     * The descriptor pools of the textures, a new one is made whenever the last one is full (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<Long> textureDescriptorPools = new ArrayList<Long>();
+
+    /**
+     * How many sets have been allocated from the last texture descriptor pool (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private int textureDescriptorCount = DESCRIPTOR_POOL_SIZE;
+
+    /**
+     * A map of pipeline variants (See {@link #getPipeline(Boolean, Boolean, Boolean)}) to pipelines (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<Integer, Long> pipelines = new HashMap<Integer, Long>();
+
+    /**
+     * The resources of every frame in flight (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable FrameResources[] frames;
+
+    /**
+     * The number of frames that have been started (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private long frameIndex = 0;
+
+    /**
+     * The resources of the frame being recorded (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable FrameResources current;
+
+    /**
+     * The resources of the last submitted frame (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable FrameResources lastSubmitted;
+
+    /**
+     * The data of the current frame (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable RenderFrame frame;
+
+    /**
+     * The viewport of the current pass in pixels as x, y, width and height from the top left (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] viewRect = new int[4];
+
+    /**
+     * Weather the commands of the current frame have been recorded (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean recorded = false;
+
+    /**
+     * The copies waiting to be recorded into the next frame (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<Upload> uploads = new ArrayList<Upload>();
+
+    /**
+     * A map of meshes to their buffers, destroyed once the mesh is collected and the gpu is done with them (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ResourceCache<Mesh, VulkanMesh> meshes = new ResourceCache<Mesh, VulkanMesh>();
+
+    /**
+     * A map of textures to their images, destroyed once the texture is collected and the gpu is done with them (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ResourceCache<Texture2D, VulkanTexture> textures = new ResourceCache<Texture2D, VulkanTexture>();
+
+    /**
+     * The descriptor sets of destroyed textures, reused by new textures since their pools can't free single sets (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull List<Long> freeDescriptorSets = new ArrayList<Long>();
+
+    /**
+     * A white texture bound for meshes without one, kept out of the texture map so it lives as long as the backend (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable VulkanTexture whiteTexture;
+
+    /**
+     * Create a Vulkan backend using the common pool
+     * 
+     * @param width The width of the image
+     * @param height The height of the image
+     * 
+     * @since 2.6.0
+     */
+    public VulkanBackend(@NotNull Integer width, @NotNull Integer height) {
+        this(width, height, DEFAULT_FRAMES_IN_FLIGHT, ForkJoinPool.commonPool().getParallelism(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a Vulkan backend
+     * 
+     * @param width The width of the image
+     * @param height The height of the image
+     * @param framesInFlight The number of frames that can be in flight at once
+     * @param recordingThreads The most threads that record commands at once
+     * @param pool The pool to record commands on
+     * 
+     * @throws InvalidDataException If the size, frames in flight or recording threads aren't positive
+     * 
+     * @since 2.6.0
+     */
+    public VulkanBackend(@NotNull Integer width, @NotNull Integer height, @NotNull Integer framesInFlight, @NotNull Integer recordingThreads, @NotNull ForkJoinPool pool) throws InvalidDataException {
+        NullUtils.checkNulls(width, "width");
+        NullUtils.checkNulls(height, "height");
+        NullUtils.checkNulls(framesInFlight, "framesInFlight");
+        NullUtils.checkNulls(recordingThreads, "recordingThreads");
+        NullUtils.checkNulls(pool, "pool");
+
+        if (framesInFlight <= 0) {
+            throw new InvalidDataException("Frames in flight must be positive");
+        }
+        if (recordingThreads <= 0) {
+            throw new InvalidDataException("Recording threads must be positive");
+        }
+        if (width <= 0 || height <= 0) {
+            throw new InvalidDataException("Width and height must be positive");
+        }
+
+        this.width = width;
+        this.height = height;
+        this.framesInFlight = framesInFlight;
+        this.recordingThreads = recordingThreads;
+        this.pool = pool;
+    }
+
+    @Override
+    public void init(@NotNull Renderer renderer) throws AlreadyInitializedException, VulkanException {
+        NullUtils.checkNulls(renderer, "renderer");
+
+        if (this.initialized) {
+            throw new AlreadyInitializedException("The backend is already initialized");
+        }
+
+        this.createDevice();
+
+        try (MemoryStack stack = stackPush()) {
+            this.renderPass = this.createRenderPass(true);
+            this.loadRenderPass = this.createRenderPass(false);
+            this.createTargets();
+
+            this.pipelineCache = this.createPipelineCache();
+
+            VkDescriptorSetLayoutBinding.Buffer frameBinding = VkDescriptorSetLayoutBinding.calloc(1, stack);
+            frameBinding.get(0).binding(0).descriptorType(VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER).descriptorCount(1).stageFlags(VK_SHADER_STAGE_VERTEX_BIT);
+            this.frameSetLayout = this.createSetLayout(frameBinding);
+
+            VkDescriptorSetLayoutBinding.Buffer textureBinding = VkDescriptorSetLayoutBinding.calloc(1, stack);
+            textureBinding.get(0).binding(0).descriptorType(VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER).descriptorCount(1).stageFlags(VK_SHADER_STAGE_FRAGMENT_BIT);
+            this.textureSetLayout = this.createSetLayout(textureBinding);
+
+            VkPushConstantRange.Buffer pushConstants = VkPushConstantRange.calloc(1, stack);
+            pushConstants.get(0).stageFlags(VK_SHADER_STAGE_VERTEX_BIT).offset(0).size(PUSH_CONSTANT_SIZE);
+
+            VkPipelineLayoutCreateInfo layoutInfo = VkPipelineLayoutCreateInfo.calloc(stack).sType$Default().pSetLayouts(stack.longs(this.frameSetLayout, this.textureSetLayout)).pPushConstantRanges(pushConstants);
+
+            LongBuffer handle = stack.mallocLong(1);
+            check(vkCreatePipelineLayout(this.device, layoutInfo, null, handle), "create the pipeline layout");
+            this.pipelineLayout = handle.get(0);
+
+            this.vertexModule = this.createShaderModule("/vulkan/vertex.vert.spv");
+            this.fragmentModule = this.createShaderModule("/vulkan/fragment.frag.spv");
+
+            VkSamplerCreateInfo samplerInfo = VkSamplerCreateInfo.calloc(stack).sType$Default().magFilter(VK_FILTER_LINEAR).minFilter(VK_FILTER_LINEAR).mipmapMode(VK_SAMPLER_MIPMAP_MODE_NEAREST).addressModeU(VK_SAMPLER_ADDRESS_MODE_REPEAT).addressModeV(VK_SAMPLER_ADDRESS_MODE_REPEAT).addressModeW(VK_SAMPLER_ADDRESS_MODE_REPEAT).maxLod(0f);
+            check(vkCreateSampler(this.device, samplerInfo, null, handle), "create the sampler");
+            this.sampler = handle.get(0);
+
+            VkDescriptorPoolSize.Buffer framePoolSize = VkDescriptorPoolSize.calloc(1, stack);
+            framePoolSize.get(0).type(VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER).descriptorCount(this.framesInFlight);
+
+            VkDescriptorPoolCreateInfo framePoolInfo = VkDescriptorPoolCreateInfo.calloc(stack).sType$Default().maxSets(this.framesInFlight).pPoolSizes(framePoolSize);
+            check(vkCreateDescriptorPool(this.device, framePoolInfo, null, handle), "create the frame descriptor pool");
+            this.frameDescriptorPool = handle.get(0);
+        }
+
+        this.frames = new FrameResources[this.framesInFlight];
+        for (int i = 0; i < this.framesInFlight; i++) {
+            this.frames[i] = this.createFrame();
+        }
+
+        this.initialized = true;
+
+        ByteBuffer white = BufferUtils.createByteBuffer(4);
+        white.put((byte) 0xFF).put((byte) 0xFF).put((byte) 0xFF).put((byte) 0xFF).flip();
+        Texture2D whiteTexture = new Texture2D(1, 1, white);
+        this.whiteTexture = this.getTexture(whiteTexture);
+        this.textures.remove(whiteTexture);
+    }
+
+    @Override
+    public void prepare(@NotNull Mesh mesh) throws NotInitializedException {
+        NullUtils.checkNulls(mesh, "mesh");
+
+        if (!this.initialized) {
+            throw new NotInitializedException("The backend is not initialized");
+        }
+
+        VulkanMesh data = this.getMesh(mesh);
+        this.getPipeline(data.texture != null, data.texture != null && mesh.getTexture().getTranslucent(), true);
+    }
+
+    @Override
+    public void beginFrame(@NotNull RenderFrame frame) throws NotInitializedException {
+        NullUtils.checkNulls(frame, "frame");
+
+        if (!this.initialized) {
+            throw new NotInitializedException("The backend is not initialized");
+        }
+
+        this.frame = frame;
+        this.recorded = false;
+
+        // The viewport starts at the bottom left but the image starts at the top left
+        Vector4f viewport = frame.getPass().getViewport();
+        int left = Math.round(this.width * viewport.x);
+        int top = this.height - Math.round(this.height * (viewport.y + viewport.w));
+        this.viewRect[0] = left;
+        this.viewRect[1] = top;
+        this.viewRect[2] = Math.max(1, Math.round(this.width * (viewport.x + viewport.z)) - left);
+        this.viewRect[3] = Math.max(1, this.height - Math.round(this.height * viewport.y) - top);
+
+        // Wait until the gpu is done with the last frame that used these resources
+        this.current = this.frames[(int) (this.frameIndex++ % this.framesInFlight)];
+        this.waitFrame(this.current);
+        check(vkResetFences(this.device, this.current.fence), "reset a fence");
+
+        // Collected meshes and textures may still be used by the frames in flight, so they are destroyed the next time this frame is waited for
+        if (frame.getPass().getFirst()) {
+            this.current.releasedMeshes.addAll(this.meshes.poll());
+            this.current.releasedTextures.addAll(this.textures.poll());
+        }
+
+        check(vkResetCommandPool(this.device, this.current.commandPool, 0), "reset a command pool");
+        for (long secondaryPool : this.current.secondaryPools) {
+            check(vkResetCommandPool(this.device, secondaryPool, 0), "reset a command pool");
+        }
+
+        FloatBuffer uniforms = this.current.uniformData.asFloatBuffer();
+        frame.getView().get(0, uniforms);
+        frame.getProjection().get(16, uniforms);
+        frame.getViewProjection().get(32, uniforms);
+        uniforms.put(48, frame.getCameraPosition().x).put(49, frame.getCameraPosition().y).put(50, frame.getCameraPosition().z).put(51, 1f);
+        uniforms.put(52, frame.getTime()).put(53, frame.getDelta()).put(54, 0f).put(55, 0f);
+    }
+
+    @Override
+    public void submit(@NotNull List<DrawCommand> commands) {
+        NullUtils.checkNulls(commands, "commands");
+
+        RenderPass pass = this.frame.getPass();
+        if (pass.getTarget() != null) {
+            commands = new ArrayList<DrawCommand>();
+        }
+
+        Integer count = commands.size();
+        List<DrawCommand> drawCommands = commands;
+
+        // Everything that touches the maps or creates objects is done here, so recording only reads these arrays
+        VulkanMesh[] meshes = new VulkanMesh[count];
+        long[] pipelines = new long[count];
+        long[] sets = new long[count];
+        for (Integer i = 0; i < count; i++) {
+            DrawCommand command = commands.get(i);
+
+            meshes[i] = this.getMesh(command.getMesh());
+
+            Boolean textured = meshes[i].texture != null;
+            pipelines[i] = this.getPipeline(textured, textured && command.getMesh().getTexture().getTranslucent(), command.getDepthTest());
+            sets[i] = textured ? meshes[i].texture.descriptorSet : this.whiteTexture.descriptorSet;
+        }
+
+        VkCommandBuffer commandBuffer = this.current.commandBuffer;
+
+        try (MemoryStack stack = stackPush()) {
+            check(vkBeginCommandBuffer(commandBuffer, VkCommandBufferBeginInfo.calloc(stack).sType$Default().flags(VK_COMMAND_BUFFER_USAGE_ONE_TIME_SUBMIT_BIT)), "begin a command buffer");
+
+            this.recordUploads(commandBuffer);
+
+            Color clearColor = this.frame.getClearColor();
+
+            VkClearValue.Buffer clearValues = VkClearValue.calloc(2, stack);
+            clearValues.get(0).color().float32(0, clearColor.getRed() / 255f).float32(1, clearColor.getGreen() / 255f).float32(2, clearColor.getBlue() / 255f).float32(3, 1f);
+            clearValues.get(1).depthStencil().depth(1f).stencil(0);
+
+            // The first camera clears the whole image, later ones keep it and only clear their viewport
+            Boolean first = pass.getFirst();
+            long renderPass = first ? this.renderPass : this.loadRenderPass;
+            Boolean clear = !first && pass.getTarget() == null && (pass.getClearColor() || pass.getClearDepth());
+
+            VkRenderPassBeginInfo passInfo = VkRenderPassBeginInfo.calloc(stack).sType$Default().renderPass(renderPass).framebuffer(this.framebuffer).pClearValues(clearValues);
+            passInfo.renderArea().extent().set(this.width, this.height);
+
+            Integer chunks = Math.min(this.recordingThreads, count / MIN_COMMANDS_PER_THREAD);
+
+            if (chunks <= 1) {
+                vkCmdBeginRenderPass(commandBuffer, passInfo, VK_SUBPASS_CONTENTS_INLINE);
+
+                if (clear) {
+                    this.recordClear(commandBuffer, pass);
+                }
+
+                this.recordDraws(commandBuffer, drawCommands, meshes, pipelines, sets, 0, count);
+            } else {
+                vkCmdBeginRenderPass(commandBuffer, passInfo, VK_SUBPASS_CONTENTS_SECONDARY_COMMAND_BUFFERS);
+
+                // Each chunk has its own command pool, so chunks can be recorded on any thread without locking
+                this.pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                    VkCommandBuffer secondary = this.current.secondaryBuffers[chunk];
+
+                    try (MemoryStack chunkStack = stackPush()) {
+                        VkCommandBufferInheritanceInfo inheritance = VkCommandBufferInheritanceInfo.calloc(chunkStack).sType$Default().renderPass(renderPass).subpass(0).framebuffer(this.framebuffer);
+
+                        check(vkBeginCommandBuffer(secondary, VkCommandBufferBeginInfo.calloc(chunkStack).sType$Default().flags(VK_COMMAND_BUFFER_USAGE_ONE_TIME_SUBMIT_BIT | VK_COMMAND_BUFFER_USAGE_RENDER_PASS_CONTINUE_BIT).pInheritanceInfo(inheritance)), "begin a command buffer");
+                    }
+
+                    if (clear && chunk == 0) {
+                        this.recordClear(secondary, pass);
+                    }
+
+                    this.recordDraws(secondary, drawCommands, meshes, pipelines, sets, (int) ((long) count * chunk / chunks), (int) ((long) count * (chunk + 1) / chunks));
+
+                    check(vkEndCommandBuffer(secondary), "end a command buffer");
+                })).join();
+
+                PointerBuffer secondaries = stack.mallocPointer(chunks);
+                for (int i = 0; i < chunks; i++) {
+                    secondaries.put(i, this.current.secondaryBuffers[i]);
+                }
+
+                vkCmdExecuteCommands(commandBuffer, secondaries);
+            }
+
+            vkCmdEndRenderPass(commandBuffer);
+
+            if (!pass.getLast()) {
+                check(vkEndCommandBuffer(commandBuffer), "end a command buffer");
+
+                this.recorded = true;
+
+                return;
+            }
+
+            // The render pass leaves the image ready to be copied out, the barrier makes the copy visible to the cpu once the fence signals
+            VkBufferImageCopy.Buffer region = VkBufferImageCopy.calloc(1, stack);
+            region.get(0).imageSubresource().aspectMask(VK_IMAGE_ASPECT_COLOR_BIT).mipLevel(0).baseArrayLayer(0).layerCount(1);
+            region.get(0).imageExtent().set(this.width, this.height, 1);
+            vkCmdCopyImageToBuffer(commandBuffer, this.colorImage, VK_IMAGE_LAYOUT_TRANSFER_SRC_OPTIMAL, this.current.readbackBuffer, region);
+
+            VkMemoryBarrier.Buffer barrier = VkMemoryBarrier.calloc(1, stack).sType$Default().srcAccessMask(VK_ACCESS_TRANSFER_WRITE_BIT).dstAccessMask(VK_ACCESS_HOST_READ_BIT);
+            vkCmdPipelineBarrier(commandBuffer, VK_PIPELINE_STAGE_TRANSFER_BIT, VK_PIPELINE_STAGE_HOST_BIT, 0, barrier, null, null);
+
+            check(vkEndCommandBuffer(commandBuffer), "end a command buffer");
+        }
+
+        this.recorded = true;
+    }
+
+    @Override
+    public void endFrame() {
+        if (!this.recorded) {
+            this.submit(new ArrayList<DrawCommand>());
+        }
+
+        try (MemoryStack stack = stackPush()) {
+            VkSubmitInfo submitInfo = VkSubmitInfo.calloc(stack).sType$Default().pCommandBuffers(stack.pointers(this.current.commandBuffer));
+
+            check(vkQueueSubmit(this.queue, submitInfo, this.current.fence), "submit a frame");
+        }
+
+        if (this.frame.getPass().getLast()) {
+            this.lastSubmitted = this.current;
+        }
+        this.current = null;
+        this.frame = null;
+    }
+
+    @Override
+    public @NotNull Boolean getPrepared(@NotNull Mesh mesh) {
+        NullUtils.checkNulls(mesh, "mesh");
+
+        return true;
+    }
+
+    @Override
+    public @NotNull Boolean getRequiresWindow() {
+        return false;
+    }
+
+    /**
+     * Record clearing the viewport of a pass into a command buffer inside the render pass
+     * 
+     * @param commandBuffer The command buffer to record into
+     * @param pass The pass to clear the viewport of
+     * 
+     * @since 2.6.0
+     */
+    private void recordClear(@NotNull VkCommandBuffer commandBuffer, @NotNull RenderPass pass) {
+        try (MemoryStack stack = stackPush()) {
+            Color clearColor = this.frame.getClearColor();
+
+            VkClearAttachment.Buffer attachments = VkClearAttachment.calloc((pass.getClearColor() ? 1 : 0) + (pass.getClearDepth() ? 1 : 0), stack);
+            if (pass.getClearColor()) {
+                attachments.get().aspectMask(VK_IMAGE_ASPECT_COLOR_BIT).colorAttachment(0).clearValue().color().float32(0, clearColor.getRed() / 255f).float32(1, clearColor.getGreen() / 255f).float32(2, clearColor.getBlue() / 255f).float32(3, 1f);
+            }
+            if (pass.getClearDepth()) {
+                attachments.get().aspectMask(VK_IMAGE_ASPECT_DEPTH_BIT).clearValue().depthStencil().depth(1f).stencil(0);
+            }
+            attachments.flip();
+
+            VkClearRect.Buffer rect = VkClearRect.calloc(1, stack);
+            rect.get(0).baseArrayLayer(0).layerCount(1);
+            rect.get(0).rect().offset().set(this.viewRect[0], this.viewRect[1]);
+            rect.get(0).rect().extent().set(this.viewRect[2], this.viewRect[3]);
+
+            vkCmdClearAttachments(commandBuffer, attachments, rect);
+        }
+    }
+
+    /**
+     * Record a range of draw commands into a command buffer inside the render pass
+     * 
+     * @param commandBuffer The command buffer to record into
+     * @param commands The draw commands
+     * @param meshes The buffers of each command
+     * @param pipelines The pipeline of each command
+     * @param sets The texture descriptor set of each command
+     * @param from The first command to record
+     * @param to The command after the last to record
+     * 
+     * @since 2.6.0
+     */
+    private void recordDraws(@NotNull VkCommandBuffer commandBuffer, @NotNull List<DrawCommand> commands, @NotNull VulkanMesh[] meshes, @NotNull long[] pipelines, @NotNull long[] sets, int from, int to) {
+        try (MemoryStack stack = stackPush()) {
+            // Secondary command buffers don't inherit any state, so everything is set again
+            VkViewport.Buffer viewport = VkViewport.calloc(1, stack);
+            viewport.get(0).x(this.viewRect[0]).y(this.viewRect[1]).width(this.viewRect[2]).height(this.viewRect[3]).minDepth(0f).maxDepth(1f);
+            vkCmdSetViewport(commandBuffer, 0, viewport);
+
+            VkRect2D.Buffer scissor = VkRect2D.calloc(1, stack);
+            scissor.get(0).offset().set(this.viewRect[0], this.viewRect[1]);
+            scissor.get(0).extent().set(this.viewRect[2], this.viewRect[3]);
+            vkCmdSetScissor(commandBuffer, 0, scissor);
+
+            vkCmdBindDescriptorSets(commandBuffer, VK_PIPELINE_BIND_POINT_GRAPHICS, this.pipelineLayout, 0, stack.longs(this.current.descriptorSet), null);
+
+            ByteBuffer pushConstants = stack.malloc(PUSH_CONSTANT_SIZE);
+            FloatBuffer pushFloats = pushConstants.asFloatBuffer();
+            LongBuffer set = stack.mallocLong(1);
+            LongBuffer vertexBuffer = stack.mallocLong(1);
+            LongBuffer offset = stack.longs(0);
+
+            long boundPipeline = NULL;
+            long boundSet = NULL;
+            VulkanMesh boundMesh = null;
+
+            for (int i = from; i < to; i++) {
+                VulkanMesh mesh = meshes[i];
+
+                if (mesh.count == 0) {
+                    continue;
+                }
+
+                if (pipelines[i] != boundPipeline) {
+                    vkCmdBindPipeline(commandBuffer, VK_PIPELINE_BIND_POINT_GRAPHICS, pipelines[i]);
+                    boundPipeline = pipelines[i];
+                }
+
+                if (sets[i] != boundSet) {
+                    set.put(0, sets[i]);
+                    vkCmdBindDescriptorSets(commandBuffer, VK_PIPELINE_BIND_POINT_GRAPHICS, this.pipelineLayout, 1, set, null);
+                    boundSet = sets[i];
+                }
+
+                DrawCommand command = commands.get(i);
+                command.getMatrix().get(0, pushFloats);
+
+                Color color = command.getMesh().getColor();
+                if (color != null) {
+                    pushFloats.put(16, color.getRed()).put(17, color.getGreen()).put(18, color.getBlue()).put(19, 1f);
+                } else {
+                    pushFloats.put(16, 0f).put(17, 0f).put(18, 0f).put(19, 1f);
+                }
+
+                vkCmdPushConstants(commandBuffer, this.pipelineLayout, VK_SHADER_STAGE_VERTEX_BIT, 0, pushConstants);
+
+                if (mesh != boundMesh) {
+                    vertexBuffer.put(0, mesh.vertexBuffer);
+                    vkCmdBindVertexBuffers(commandBuffer, 0, vertexBuffer, offset);
+
+                    if (mesh.indexBuffer != NULL) {
+                        vkCmdBindIndexBuffer(commandBuffer, mesh.indexBuffer, 0, VK_INDEX_TYPE_UINT32);
+                    }
+
+                    boundMesh = mesh;
+                }
+
+                if (mesh.indexBuffer != NULL) {
+                    vkCmdDrawIndexed(commandBuffer, mesh.count, 1, 0, 0, 0);
+                } else {
+                    vkCmdDraw(commandBuffer, mesh.count, 1, 0, 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Record the waiting copies into a command buffer (Before the render pass)
+     * 
+     * @param commandBuffer The command buffer to record into
+     * 
+     * @since 2.6.0
+     */
+    private void recordUploads(@NotNull VkCommandBuffer commandBuffer) {
+        if (this.uploads.isEmpty()) {
+            return;
+        }
+
+        try (MemoryStack stack = stackPush()) {
+            for (Upload upload : this.uploads) {
+                if (upload.image != NULL) {
+                    this.imageBarrier(commandBuffer, upload.image, VK_IMAGE_LAYOUT_UNDEFINED, VK_IMAGE_LAYOUT_TRANSFER_DST_OPTIMAL, 0, VK_ACCESS_TRANSFER_WRITE_BIT, VK_PIPELINE_STAGE_TOP_OF_PIPE_BIT, VK_PIPELINE_STAGE_TRANSFER_BIT);
+
+                    VkBufferImageCopy.Buffer region = VkBufferImageCopy.calloc(1, stack);
+                    region.get(0).imageSubresource().aspectMask(VK_IMAGE_ASPECT_COLOR_BIT).mipLevel(0).baseArrayLayer(0).layerCount(1);
+                    region.get(0).imageExtent().set(upload.width, upload.height, 1);
+                    vkCmdCopyBufferToImage(commandBuffer, upload.staging, upload.image, VK_IMAGE_LAYOUT_TRANSFER_DST_OPTIMAL, region);
+
+                    this.imageBarrier(commandBuffer, upload.image, VK_IMAGE_LAYOUT_TRANSFER_DST_OPTIMAL, VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL, VK_ACCESS_TRANSFER_WRITE_BIT, VK_ACCESS_SHADER_READ_BIT, VK_PIPELINE_STAGE_TRANSFER_BIT, VK_PIPELINE_STAGE_FRAGMENT_SHADER_BIT);
+                } else {
+                    VkBufferCopy.Buffer region = VkBufferCopy.calloc(1, stack);
+                    region.get(0).srcOffset(0).dstOffset(0).size(upload.size);
+                    vkCmdCopyBuffer(commandBuffer, upload.staging, upload.buffer, region);
+                }
+
+                // The staging buffer is freed once this frame is done on the gpu
+                this.current.staging.add(new long[] { upload.staging, upload.stagingMemory });
+            }
+
+            VkMemoryBarrier.Buffer barrier = VkMemoryBarrier.calloc(1, stack).sType$Default().srcAccessMask(VK_ACCESS_TRANSFER_WRITE_BIT).dstAccessMask(VK_ACCESS_VERTEX_ATTRIBUTE_READ_BIT | VK_ACCESS_INDEX_READ_BIT);
+            vkCmdPipelineBarrier(commandBuffer, VK_PIPELINE_STAGE_TRANSFER_BIT, VK_PIPELINE_STAGE_VERTEX_INPUT_BIT, 0, barrier, null, null);
+        }
+
+        this.uploads.clear();
+    }
+
+    /**
+     * Record a layout transition of a color image
+     * 
+     * @param commandBuffer The command buffer to record into
+     * @param image The image to transition
+     * @param oldLayout The current layout
+     * @param newLayout The new layout
+     * @param srcAccess The access that must finish first
+     * @param dstAccess The access that must wait
+     * @param srcStage The stage that must finish first
+     * @param dstStage The stage that must wait
+     * 
+     * @since 2.6.0
+     */
+    private void imageBarrier(@NotNull VkCommandBuffer commandBuffer, long image, int oldLayout, int newLayout, int srcAccess, int dstAccess, int srcStage, int dstStage) {
+        try (MemoryStack stack = stackPush()) {
+            VkImageMemoryBarrier.Buffer barrier = VkImageMemoryBarrier.calloc(1, stack);
+            barrier.get(0).sType$Default().oldLayout(oldLayout).newLayout(newLayout).srcAccessMask(srcAccess).dstAccessMask(dstAccess).srcQueueFamilyIndex(VK_QUEUE_FAMILY_IGNORED).dstQueueFamilyIndex(VK_QUEUE_FAMILY_IGNORED).image(image);
+            barrier.get(0).subresourceRange().aspectMask(VK_IMAGE_ASPECT_COLOR_BIT).baseMipLevel(0).levelCount(1).baseArrayLayer(0).layerCount(1);
+
+            vkCmdPipelineBarrier(commandBuffer, srcStage, dstStage, 0, null, null, barrier);
+        }
+    }
+
+    /**
+     * Wait until the gpu is done with a frame and free its staging buffers and released meshes and textures
+     * 
+     * @param frame The frame to wait for
+     * 
+     * @since 2.6.0
+     */
+    private void waitFrame(@NotNull FrameResources frame) {
+        check(vkWaitForFences(this.device, frame.fence, true, -1L), "wait for a frame");
+
+        for (long[] staging : frame.staging) {
+            vkDestroyBuffer(this.device, staging[0], null);
+            vkFreeMemory(this.device, staging[1], null);
+        }
+        frame.staging.clear();
+
+        for (VulkanMesh mesh : frame.releasedMeshes) {
+            this.destroyMesh(mesh);
+        }
+        frame.releasedMeshes.clear();
+
+        for (VulkanTexture texture : frame.releasedTextures) {
+            this.destroyTexture(texture);
+        }
+        frame.releasedTextures.clear();
+    }
+
+    /**
+     * Destroy the buffers of a mesh
+     * 
+     * @param mesh The buffers to destroy
+     * 
+     * @since 2.6.0
+     */
+    private void destroyMesh(@NotNull VulkanMesh mesh) {
+        vkDestroyBuffer(this.device, mesh.vertexBuffer, null);
+        if (mesh.indexBuffer != NULL) {
+            vkDestroyBuffer(this.device, mesh.indexBuffer, null);
+        }
+        for (long memory : mesh.memory) {
+            if (memory != NULL) {
+                vkFreeMemory(this.device, memory, null);
+            }
+        }
+    }
+
+    /**
+     * Destroy the image of a texture, keeping its descriptor set for the next texture
+     * 
+     * @param texture The image to destroy
+     * 
+     * @since 2.6.0
+     */
+    private void destroyTexture(@NotNull VulkanTexture texture) {
+        vkDestroyImageView(this.device, texture.view, null);
+        vkDestroyImage(this.device, texture.image, null);
+        vkFreeMemory(this.device, texture.memory, null);
+
+        this.freeDescriptorSets.add(texture.descriptorSet);
+    }
+
+    /**
+     * Create the instance and logical device, picking the best device with a graphics queue
+     * 
+     * @throws VulkanException If there is no usable device
+     * 
+     * @since 2.6.0
+     */
+    private void createDevice() throws VulkanException {
+        try (MemoryStack stack = stackPush()) {
+            VkApplicationInfo appInfo = VkApplicationInfo.calloc(stack).sType$Default().pApplicationName(stack.UTF8("GIGHM")).pEngineName(stack.UTF8("GIGHM")).apiVersion(VK_API_VERSION_1_0);
+
+            VkInstanceCreateInfo instanceInfo = VkInstanceCreateInfo.calloc(stack).sType$Default().pApplicationInfo(appInfo);
+
+            if (this.validation) {
+                IntBuffer layerCount = stack.mallocInt(1);
+                check(vkEnumerateInstanceLayerProperties(layerCount, null), "list the instance layers");
+
+                VkLayerProperties.Buffer layers = VkLayerProperties.malloc(layerCount.get(0), stack);
+                check(vkEnumerateInstanceLayerProperties(layerCount, layers), "list the instance layers");
+
+                for (VkLayerProperties layer : layers) {
+                    if (layer.layerNameString().equals("VK_LAYER_KHRONOS_validation")) {
+                        instanceInfo.ppEnabledLayerNames(stack.pointers(stack.UTF8("VK_LAYER_KHRONOS_validation")));
+                    }
+                }
+            }
+
+            PointerBuffer handle = stack.mallocPointer(1);
+            check(vkCreateInstance(instanceInfo, null, handle), "create the instance");
+            this.instance = new VkInstance(handle.get(0), instanceInfo);
+
+            IntBuffer deviceCount = stack.mallocInt(1);
+            check(vkEnumeratePhysicalDevices(this.instance, deviceCount, null), "list the devices");
+
+            PointerBuffer devices = stack.mallocPointer(deviceCount.get(0));
+            check(vkEnumeratePhysicalDevices(this.instance, deviceCount, devices), "list the devices");
+
+            // Prefer discrete over integrated over virtual over cpu devices, cpu devices (Like lavapipe) are still used if they are the only ones
+            Integer bestScore = -1;
+            for (int i = 0; i < devices.capacity(); i++) {
+                VkPhysicalDevice device = new VkPhysicalDevice(devices.get(i), this.instance);
+
+                IntBuffer familyCount = stack.mallocInt(1);
+                vkGetPhysicalDeviceQueueFamilyProperties(device, familyCount, null);
+
+                VkQueueFamilyProperties.Buffer families = VkQueueFamilyProperties.malloc(familyCount.get(0), stack);
+                vkGetPhysicalDeviceQueueFamilyProperties(device, familyCount, families);
+
+                Integer family = -1;
+                for (int j = 0; j < families.capacity(); j++) {
+                    if ((families.get(j).queueFlags() & VK_QUEUE_GRAPHICS_BIT) != 0) {
+                        family = j;
+                        break;
+                    }
+                }
+                if (family < 0) {
+                    continue;
+                }
+
+                VkPhysicalDeviceProperties properties = VkPhysicalDeviceProperties.malloc(stack);
+                vkGetPhysicalDeviceProperties(device, properties);
+
+                Integer score;
+                switch (properties.deviceType()) {
+                    case VK_PHYSICAL_DEVICE_TYPE_DISCRETE_GPU:
+                        score = 4;
+                        break;
+                    case VK_PHYSICAL_DEVICE_TYPE_INTEGRATED_GPU:
+                        score = 3;
+                        break;
+                    case VK_PHYSICAL_DEVICE_TYPE_VIRTUAL_GPU:
+                        score = 2;
+                        break;
+                    case VK_PHYSICAL_DEVICE_TYPE_CPU:
+                        score = 1;
+                        break;
+                    default:
+                        score = 0;
+                        break;
+                }
+
+                if (score > bestScore) {
+                    bestScore = score;
+
+                    this.physicalDevice = device;
+                    this.deviceName = properties.deviceNameString();
+                    this.queueFamily = family;
+                }
+            }
+
+            if (this.physicalDevice == null) {
+                throw new VulkanException("No Vulkan device with a graphics queue was found");
+            }
+
+            this.memoryProperties = VkPhysicalDeviceMemoryProperties.malloc();
+            vkGetPhysicalDeviceMemoryProperties(this.physicalDevice, this.memoryProperties);
+
+            VkDeviceQueueCreateInfo.Buffer queueInfo = VkDeviceQueueCreateInfo.calloc(1, stack);
+            queueInfo.get(0).sType$Default().queueFamilyIndex(this.queueFamily).pQueuePriorities(stack.floats(1f));
+
+            VkDeviceCreateInfo deviceInfo = VkDeviceCreateInfo.calloc(stack).sType$Default().pQueueCreateInfos(queueInfo);
+
+            check(vkCreateDevice(this.physicalDevice, deviceInfo, null, handle), "create the device");
+            this.device = new VkDevice(handle.get(0), this.physicalDevice, deviceInfo);
+
+            vkGetDeviceQueue(this.device, this.queueFamily, 0, handle);
+            this.queue = new VkQueue(handle.get(0), this.device);
+
+            this.depthFormat = -1;
+            VkFormatProperties formatProperties = VkFormatProperties.malloc(stack);
+            for (int format : new int[] { VK_FORMAT_D32_SFLOAT, VK_FORMAT_X8_D24_UNORM_PACK32, VK_FORMAT_D16_UNORM }) {
+                vkGetPhysicalDeviceFormatProperties(this.physicalDevice, format, formatProperties);
+
+                if ((formatProperties.optimalTilingFeatures() & VK_FORMAT_FEATURE_DEPTH_STENCIL_ATTACHMENT_BIT) != 0) {
+                    this.depthFormat = format;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Create a render pass that leaves the color image ready to be copied out
+     * 
+     * @param clear Weather the pass clears both images (For the first camera of a frame) or keeps what earlier cameras drew
+     * 
+     * @return The render pass
+     * 
+     * @since 2.6.0
+     */
+    private long createRenderPass(@NotNull Boolean clear) {
+        try (MemoryStack stack = stackPush()) {
+            Integer loadOp = clear ? VK_ATTACHMENT_LOAD_OP_CLEAR : VK_ATTACHMENT_LOAD_OP_LOAD;
+
+            // Depth is stored so cameras after the first can be depth tested against it
+            VkAttachmentDescription.Buffer attachments = VkAttachmentDescription.calloc(2, stack);
+            attachments.get(0).format(COLOR_FORMAT).samples(VK_SAMPLE_COUNT_1_BIT).loadOp(loadOp).storeOp(VK_ATTACHMENT_STORE_OP_STORE).stencilLoadOp(VK_ATTACHMENT_LOAD_OP_DONT_CARE).stencilStoreOp(VK_ATTACHMENT_STORE_OP_DONT_CARE).initialLayout(clear ? VK_IMAGE_LAYOUT_UNDEFINED : VK_IMAGE_LAYOUT_TRANSFER_SRC_OPTIMAL).finalLayout(VK_IMAGE_LAYOUT_TRANSFER_SRC_OPTIMAL);
+            attachments.get(1).format(this.depthFormat).samples(VK_SAMPLE_COUNT_1_BIT).loadOp(loadOp).storeOp(VK_ATTACHMENT_STORE_OP_STORE).stencilLoadOp(VK_ATTACHMENT_LOAD_OP_DONT_CARE).stencilStoreOp(VK_ATTACHMENT_STORE_OP_DONT_CARE).initialLayout(clear ? VK_IMAGE_LAYOUT_UNDEFINED : VK_IMAGE_LAYOUT_DEPTH_STENCIL_ATTACHMENT_OPTIMAL).finalLayout(VK_IMAGE_LAYOUT_DEPTH_STENCIL_ATTACHMENT_OPTIMAL);
+
+            VkAttachmentReference.Buffer colorReference = VkAttachmentReference.calloc(1, stack);
+            colorReference.get(0).attachment(0).layout(VK_IMAGE_LAYOUT_COLOR_ATTACHMENT_OPTIMAL);
+
+            VkAttachmentReference depthReference = VkAttachmentReference.calloc(stack).attachment(1).layout(VK_IMAGE_LAYOUT_DEPTH_STENCIL_ATTACHMENT_OPTIMAL);
+
+            VkSubpassDescription.Buffer subpass = VkSubpassDescription.calloc(1, stack);
+            subpass.get(0).pipelineBindPoint(VK_PIPELINE_BIND_POINT_GRAPHICS).colorAttachmentCount(1).pColorAttachments(colorReference).pDepthStencilAttachment(depthReference);
+
+            // The images are shared by every frame in flight, so a frame waits for the last one to be done drawing and copying before it clears them
+            // A camera after the first also has to see everything the cameras before it drew
+            VkSubpassDependency.Buffer dependencies = VkSubpassDependency.calloc(2, stack);
+            if (clear) {
+                dependencies.get(0).srcSubpass(VK_SUBPASS_EXTERNAL).dstSubpass(0).srcStageMask(VK_PIPELINE_STAGE_TRANSFER_BIT | VK_PIPELINE_STAGE_LATE_FRAGMENT_TESTS_BIT).srcAccessMask(VK_ACCESS_DEPTH_STENCIL_ATTACHMENT_WRITE_BIT).dstStageMask(VK_PIPELINE_STAGE_COLOR_ATTACHMENT_OUTPUT_BIT | VK_PIPELINE_STAGE_EARLY_FRAGMENT_TESTS_BIT).dstAccessMask(VK_ACCESS_COLOR_ATTACHMENT_WRITE_BIT | VK_ACCESS_DEPTH_STENCIL_ATTACHMENT_READ_BIT | VK_ACCESS_DEPTH_STENCIL_ATTACHMENT_WRITE_BIT);
+            } else {
+                dependencies.get(0).srcSubpass(VK_SUBPASS_EXTERNAL).dstSubpass(0).srcStageMask(VK_PIPELINE_STAGE_COLOR_ATTACHMENT_OUTPUT_BIT | VK_PIPELINE_STAGE_TRANSFER_BIT | VK_PIPELINE_STAGE_LATE_FRAGMENT_TESTS_BIT).srcAccessMask(VK_ACCESS_COLOR_ATTACHMENT_WRITE_BIT | VK_ACCESS_DEPTH_STENCIL_ATTACHMENT_WRITE_BIT).dstStageMask(VK_PIPELINE_STAGE_COLOR_ATTACHMENT_OUTPUT_BIT | VK_PIPELINE_STAGE_EARLY_FRAGMENT_TESTS_BIT).dstAccessMask(VK_ACCESS_COLOR_ATTACHMENT_READ_BIT | VK_ACCESS_COLOR_ATTACHMENT_WRITE_BIT | VK_ACCESS_DEPTH_STENCIL_ATTACHMENT_READ_BIT | VK_ACCESS_DEPTH_STENCIL_ATTACHMENT_WRITE_BIT);
+            }
+            dependencies.get(1).srcSubpass(0).dstSubpass(VK_SUBPASS_EXTERNAL).srcStageMask(VK_PIPELINE_STAGE_COLOR_ATTACHMENT_OUTPUT_BIT).srcAccessMask(VK_ACCESS_COLOR_ATTACHMENT_WRITE_BIT).dstStageMask(VK_PIPELINE_STAGE_TRANSFER_BIT).dstAccessMask(VK_ACCESS_TRANSFER_READ_BIT);
+
+            VkRenderPassCreateInfo passInfo = VkRenderPassCreateInfo.calloc(stack).sType$Default().pAttachments(attachments).pSubpasses(subpass).pDependencies(dependencies);
+
+            LongBuffer handle = stack.mallocLong(1);
+            check(vkCreateRenderPass(this.device, passInfo, null, handle), "create the render pass");
+
+            return handle.get(0);
+        }
+    }
+
+    /**
+     * Create the color and depth images and the framebuffer at the current size
+     * 
+     * @since 2.6.0
+     */
+    private void createTargets() {
+        long[] color = this.createImage(this.width, this.height, COLOR_FORMAT, VK_IMAGE_USAGE_COLOR_ATTACHMENT_BIT | VK_IMAGE_USAGE_TRANSFER_SRC_BIT);
+        this.colorImage = color[0];
+        this.colorMemory = color[1];
+        this.colorView = this.createImageView(this.colorImage, COLOR_FORMAT, VK_IMAGE_ASPECT_COLOR_BIT);
+
+        long[] depth = this.createImage(this.width, this.height, this.depthFormat, VK_IMAGE_USAGE_DEPTH_STENCIL_ATTACHMENT_BIT);
+        this.depthImage = depth[0];
+        this.depthMemory = depth[1];
+        this.depthView = this.createImageView(this.depthImage, this.depthFormat, VK_IMAGE_ASPECT_DEPTH_BIT);
+
+        try (MemoryStack stack = stackPush()) {
+            VkFramebufferCreateInfo framebufferInfo = VkFramebufferCreateInfo.calloc(stack).sType$Default().renderPass(this.renderPass).pAttachments(stack.longs(this.colorView, this.depthView)).width(this.width).height(this.height).layers(1);
+
+            LongBuffer handle = stack.mallocLong(1);
+            check(vkCreateFramebuffer(this.device, framebufferInfo, null, handle), "create the framebuffer");
+            this.framebuffer = handle.get(0);
+        }
+    }
+
+    /**
+     * Destroy the color and depth images and the framebuffer
+     * 
+     * @since 2.6.0
+     */
+    private void destroyTargets() {
+        vkDestroyFramebuffer(this.device, this.framebuffer, null);
+
+        vkDestroyImageView(this.device, this.colorView, null);
+        vkDestroyImage(this.device, this.colorImage, null);
+        vkFreeMemory(this.device, this.colorMemory, null);
+
+        vkDestroyImageView(this.device, this.depthView, null);
+        vkDestroyImage(this.device, this.depthImage, null);
+        vkFreeMemory(this.device, this.depthMemory, null);
+    }
+
+    /**
+     * Create the resources of one frame in flight
+     * 
+     * @return The resources of the frame
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull FrameResources createFrame() {
+        FrameResources frame = new FrameResources();
+
+        try (MemoryStack stack = stackPush()) {
+            LongBuffer handle = stack.mallocLong(1);
+            PointerBuffer buffer = stack.mallocPointer(1);
+
+            check(vkCreateFence(this.device, VkFenceCreateInfo.calloc(stack).sType$Default().flags(VK_FENCE_CREATE_SIGNALED_BIT), null, handle), "create a fence");
+            frame.fence = handle.get(0);
+
+            VkCommandPoolCreateInfo poolInfo = VkCommandPoolCreateInfo.calloc(stack).sType$Default().flags(VK_COMMAND_POOL_CREATE_TRANSIENT_BIT).queueFamilyIndex(this.queueFamily);
+
+            check(vkCreateCommandPool(this.device, poolInfo, null, handle), "create a command pool");
+            frame.commandPool = handle.get(0);
+
+            check(vkAllocateCommandBuffers(this.device, VkCommandBufferAllocateInfo.calloc(stack).sType$Default().commandPool(frame.commandPool).level(VK_COMMAND_BUFFER_LEVEL_PRIMARY).commandBufferCount(1), buffer), "allocate a command buffer");
+            frame.commandBuffer = new VkCommandBuffer(buffer.get(0), this.device);
+
+            frame.secondaryPools = new long[this.recordingThreads];
+            frame.secondaryBuffers = new VkCommandBuffer[this.recordingThreads];
+            for (int i = 0; i < this.recordingThreads; i++) {
+                check(vkCreateCommandPool(this.device, poolInfo, null, handle), "create a command pool");
+                frame.secondaryPools[i] = handle.get(0);
+
+                check(vkAllocateCommandBuffers(this.device, VkCommandBufferAllocateInfo.calloc(stack).sType$Default().commandPool(frame.secondaryPools[i]).level(VK_COMMAND_BUFFER_LEVEL_SECONDARY).commandBufferCount(1), buffer), "allocate a command buffer");
+                frame.secondaryBuffers[i] = new VkCommandBuffer(buffer.get(0), this.device);
+            }
+
+            long[] uniforms = this.createBuffer(FRAME_UNIFORM_SIZE, VK_BUFFER_USAGE_UNIFORM_BUFFER_BIT, VK_MEMORY_PROPERTY_HOST_VISIBLE_BIT | VK_MEMORY_PROPERTY_HOST_COHERENT_BIT, 0);
+            frame.uniformBuffer = uniforms[0];
+            frame.uniformMemory = uniforms[1];
+            frame.uniformData = this.map(frame.uniformMemory, FRAME_UNIFORM_SIZE);
+
+            check(vkAllocateDescriptorSets(this.device, VkDescriptorSetAllocateInfo.calloc(stack).sType$Default().descriptorPool(this.frameDescriptorPool).pSetLayouts(stack.longs(this.frameSetLayout)), handle), "allocate a descriptor set");
+            frame.descriptorSet = handle.get(0);
+
+            VkDescriptorBufferInfo.Buffer bufferInfo = VkDescriptorBufferInfo.calloc(1, stack);
+            bufferInfo.get(0).buffer(frame.uniformBuffer).offset(0).range(FRAME_UNIFORM_SIZE);
+
+            VkWriteDescriptorSet.Buffer write = VkWriteDescriptorSet.calloc(1, stack);
+            write.get(0).sType$Default().dstSet(frame.descriptorSet).dstBinding(0).descriptorType(VK_DESCRIPTOR_TYPE_UNIFORM_BUFFER).descriptorCount(1).pBufferInfo(bufferInfo);
+            vkUpdateDescriptorSets(this.device, write, null);
+        }
+
+        this.createReadback(frame);
+
+        return frame;
+    }
+
+    /**
+     * Create the readback buffer of a frame at the current size
+     * 
+     * @param frame The frame to create the buffer of
+     * 
+     * @since 2.6.0
+     */
+    private void createReadback(@NotNull FrameResources frame) {
+        long[] readback = this.createBuffer(this.width * this.height * 4, VK_BUFFER_USAGE_TRANSFER_DST_BIT, VK_MEMORY_PROPERTY_HOST_VISIBLE_BIT | VK_MEMORY_PROPERTY_HOST_COHERENT_BIT, VK_MEMORY_PROPERTY_HOST_CACHED_BIT);
+        frame.readbackBuffer = readback[0];
+        frame.readbackMemory = readback[1];
+        frame.readbackData = this.map(frame.readbackMemory, this.width * this.height * 4);
+    }
+
+    /**
+     * Create the pipeline cache, loading it from {@link #pipelineCacheFile} if it was made by this device
+     * 
+     * @return The pipeline cache
+     * 
+     * @since 2.6.0
+     */
+    private long createPipelineCache() {
+        try (MemoryStack stack = stackPush()) {
+            VkPipelineCacheCreateInfo cacheInfo = VkPipelineCacheCreateInfo.calloc(stack).sType$Default();
+
+            ByteBuffer initialData = null;
+            if (this.pipelineCacheFile != null && this.pipelineCacheFile.isFile()) {
+                try {
+                    byte[] data = Files.readAllBytes(this.pipelineCacheFile.toPath());
+
+                    if (this.checkPipelineCacheHeader(ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN))) {
+                        initialData = MemoryUtil.memAlloc(data.length);
+                        initialData.put(data).flip();
+
+                        cacheInfo.pInitialData(initialData);
+                    }
+                } catch (IOException e) {
+                    // An unreadable cache is the same as no cache
+                }
+            }
+
+            try {
+                LongBuffer handle = stack.mallocLong(1);
+                check(vkCreatePipelineCache(this.device, cacheInfo, null, handle), "create the pipeline cache");
+
+                return handle.get(0);
+            } finally {
+                if (initialData != null) {
+                    MemoryUtil.memFree(initialData);
+                }
+            }
+        }
+    }
+
+    /**
+     * Check that saved pipeline cache data was made by the current device and driver
+     * 
+     * @param data The saved data
+     * 
+     * @return Weather the data can be used
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean checkPipelineCacheHeader(@NotNull ByteBuffer data) {
+        if (data.remaining() < 16 + VK_UUID_SIZE || data.getInt(0) < 16 + VK_UUID_SIZE || data.getInt(4) != VK_PIPELINE_CACHE_HEADER_VERSION_ONE) {
+            return false;
+        }
+
+        try (MemoryStack stack = stackPush()) {
+            VkPhysicalDeviceProperties properties = VkPhysicalDeviceProperties.malloc(stack);
+            vkGetPhysicalDeviceProperties(this.physicalDevice, properties);
+
+            if (data.getInt(8) != properties.vendorID() || data.getInt(12) != properties.deviceID()) {
+                return false;
+            }
+
+            for (int i = 0; i < VK_UUID_SIZE; i++) {
+                if (data.get(16 + i) != properties.pipelineCacheUUID(i)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Save the pipeline cache to {@link #pipelineCacheFile} (Done whenever a new pipeline is created)
+     * 
+     * @return Weather the cache was saved
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean savePipelineCache() {
+        if (!this.initialized || this.pipelineCacheFile == null) {
+            return false;
+        }
+
+        ByteBuffer data = null;
+        try (MemoryStack stack = stackPush()) {
+            PointerBuffer size = stack.mallocPointer(1);
+            check(vkGetPipelineCacheData(this.device, this.pipelineCache, size, null), "get the pipeline cache data");
+
+            data = MemoryUtil.memAlloc((int) size.get(0));
+            check(vkGetPipelineCacheData(this.device, this.pipelineCache, size, data), "get the pipeline cache data");
+
+            byte[] bytes = new byte[(int) size.get(0)];
+            data.get(bytes, 0, bytes.length);
+
+            File directory = this.pipelineCacheFile.getAbsoluteFile().getParentFile();
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                return false;
+            }
+
+            // Write to a temporary file first so another process never reads a partial cache
+            File temp = File.createTempFile("pipelines", ".tmp", directory);
+            Files.write(temp.toPath(), bytes);
+            Files.move(temp.toPath(), this.pipelineCacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+            return true;
+        } catch (IOException e) {
+            return false;
+        } finally {
+            if (data != null) {
+                MemoryUtil.memFree(data);
+            }
+        }
+    }
+
+    /**
+     * Get the pipeline of a variant, creating it if it hasn't been already
+     * 
+     * @param textured Weather the mesh is textured
+     * @param alphaTest Weather transparent pixels are discarded
+     * @param depthTest Weather depth testing is done
+     * 
+     * @return The pipeline
+     * 
+     * @since 2.6.0
+     */
+    private long getPipeline(@NotNull Boolean textured, @NotNull Boolean alphaTest, @NotNull Boolean depthTest) {
+        Integer key = (textured ? 1 : 0) | (alphaTest ? 2 : 0) | (depthTest ? 4 : 0);
+
+        Long pipeline = this.pipelines.get(key);
+        if (pipeline != null) {
+            return pipeline;
+        }
+
+        try (MemoryStack stack = stackPush()) {
+            // The variants are specialization constants of one pair of shader modules
+            VkSpecializationMapEntry.Buffer entries = VkSpecializationMapEntry.calloc(2, stack);
+            entries.get(0).constantID(0).offset(0).size(4);
+            entries.get(1).constantID(1).offset(4).size(4);
+
+            ByteBuffer constants = stack.malloc(8);
+            constants.putInt(0, textured ? VK_TRUE : VK_FALSE).putInt(4, alphaTest ? VK_TRUE : VK_FALSE);
+
+            VkSpecializationInfo specialization = VkSpecializationInfo.calloc(stack).pMapEntries(entries).pData(constants);
+
+            VkPipelineShaderStageCreateInfo.Buffer stages = VkPipelineShaderStageCreateInfo.calloc(2, stack);
+            stages.get(0).sType$Default().stage(VK_SHADER_STAGE_VERTEX_BIT).module(this.vertexModule).pName(stack.UTF8("main")).pSpecializationInfo(specialization);
+            stages.get(1).sType$Default().stage(VK_SHADER_STAGE_FRAGMENT_BIT).module(this.fragmentModule).pName(stack.UTF8("main")).pSpecializationInfo(specialization);
+
+            VkVertexInputBindingDescription.Buffer bindings = VkVertexInputBindingDescription.calloc(1, stack);
+            bindings.get(0).binding(0).stride(VERTEX_SIZE * 4).inputRate(VK_VERTEX_INPUT_RATE_VERTEX);
+
+            VkVertexInputAttributeDescription.Buffer attributes = VkVertexInputAttributeDescription.calloc(2, stack);
+            attributes.get(0).location(0).binding(0).format(VK_FORMAT_R32G32B32_SFLOAT).offset(0);
+            attributes.get(1).location(1).binding(0).format(VK_FORMAT_R32G32_SFLOAT).offset(3 * 4);
+
+            VkPipelineVertexInputStateCreateInfo vertexInput = VkPipelineVertexInputStateCreateInfo.calloc(stack).sType$Default().pVertexBindingDescriptions(bindings).pVertexAttributeDescriptions(attributes);
+            VkPipelineInputAssemblyStateCreateInfo inputAssembly = VkPipelineInputAssemblyStateCreateInfo.calloc(stack).sType$Default().topology(VK_PRIMITIVE_TOPOLOGY_TRIANGLE_LIST);
+            VkPipelineViewportStateCreateInfo viewport = VkPipelineViewportStateCreateInfo.calloc(stack).sType$Default().viewportCount(1).scissorCount(1);
+            VkPipelineRasterizationStateCreateInfo rasterization = VkPipelineRasterizationStateCreateInfo.calloc(stack).sType$Default().polygonMode(VK_POLYGON_MODE_FILL).cullMode(VK_CULL_MODE_NONE).frontFace(VK_FRONT_FACE_COUNTER_CLOCKWISE).lineWidth(1f);
+            VkPipelineMultisampleStateCreateInfo multisample = VkPipelineMultisampleStateCreateInfo.calloc(stack).sType$Default().rasterizationSamples(VK_SAMPLE_COUNT_1_BIT);
+            VkPipelineDepthStencilStateCreateInfo depthStencil = VkPipelineDepthStencilStateCreateInfo.calloc(stack).sType$Default().depthTestEnable(depthTest).depthWriteEnable(depthTest).depthCompareOp(VK_COMPARE_OP_LESS);
+
+            VkPipelineColorBlendAttachmentState.Buffer blendAttachment = VkPipelineColorBlendAttachmentState.calloc(1, stack);
+            blendAttachment.get(0).blendEnable(false).colorWriteMask(VK_COLOR_COMPONENT_R_BIT | VK_COLOR_COMPONENT_G_BIT | VK_COLOR_COMPONENT_B_BIT | VK_COLOR_COMPONENT_A_BIT);
+            VkPipelineColorBlendStateCreateInfo blend = VkPipelineColorBlendStateCreateInfo.calloc(stack).sType$Default().pAttachments(blendAttachment);
+
+            // The viewport and scissor are dynamic so pipelines survive resizing
+            VkPipelineDynamicStateCreateInfo dynamic = VkPipelineDynamicStateCreateInfo.calloc(stack).sType$Default().pDynamicStates(stack.ints(VK_DYNAMIC_STATE_VIEWPORT, VK_DYNAMIC_STATE_SCISSOR));
+
+            VkGraphicsPipelineCreateInfo.Buffer pipelineInfo = VkGraphicsPipelineCreateInfo.calloc(1, stack);
+            pipelineInfo.get(0).sType$Default().pStages(stages).pVertexInputState(vertexInput).pInputAssemblyState(inputAssembly).pViewportState(viewport).pRasterizationState(rasterization).pMultisampleState(multisample).pDepthStencilState(depthStencil).pColorBlendState(blend).pDynamicState(dynamic).layout(this.pipelineLayout).renderPass(this.renderPass).subpass(0).basePipelineIndex(-1);
+
+            LongBuffer handle = stack.mallocLong(1);
+            check(vkCreateGraphicsPipelines(this.device, this.pipelineCache, pipelineInfo, null, handle), "create a pipeline");
+            pipeline = handle.get(0);
+        }
+
+        this.pipelines.put(key, pipeline);
+
+        this.savePipelineCache();
+
+        return pipeline;
+    }
+
+    /**
+     * Get the buffers of a mesh, uploading it if it hasn't been already
+     * 
+     * @param mesh The mesh to get
+     * 
+     * @return The buffers of the mesh
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull VulkanMesh getMesh(@NotNull Mesh mesh) {
+        VulkanMesh data = this.meshes.get(mesh);
+        if (data != null) {
+            return data;
+        }
+
+        data = new VulkanMesh();
+
+        Float[] vertices = mesh.getVertices();
+        Integer verticeSize = mesh.getVerticeSize();
+        Float[] uvs = mesh.getUVs();
+        Integer vertexCount = vertices.length / verticeSize;
+
+        // Positions and uvs are interleaved, meshes without uvs (Or with less than 3 dimensions) are padded with zeros
+        ByteBuffer vertexData = MemoryUtil.memCalloc(Math.max(vertexCount * VERTEX_SIZE * 4, 4));
+        try {
+            for (int i = 0; i < vertexCount; i++) {
+                for (int j = 0; j < Math.min(verticeSize, 3); j++) {
+                    vertexData.putFloat((i * VERTEX_SIZE + j) * 4, vertices[i * verticeSize + j]);
+                }
+
+                if (uvs != null && i * 2 + 1 < uvs.length) {
+                    vertexData.putFloat((i * VERTEX_SIZE + 3) * 4, uvs[i * 2]).putFloat((i * VERTEX_SIZE + 4) * 4, uvs[i * 2 + 1]);
+                }
+            }
+
+            data.vertexBuffer = this.uploadBuffer(vertexData, VK_BUFFER_USAGE_VERTEX_BUFFER_BIT, data, 0);
+        } finally {
+            MemoryUtil.memFree(vertexData);
+        }
+
+        Integer[] triangles = mesh.getTriangles();
+        if (triangles != null) {
+            ByteBuffer indexData = MemoryUtil.memAlloc(Math.max(triangles.length * 4, 4));
+            try {
+                for (int i = 0; i < triangles.length; i++) {
+                    indexData.putInt(i * 4, triangles[i]);
+                }
+
+                data.indexBuffer = this.uploadBuffer(indexData, VK_BUFFER_USAGE_INDEX_BUFFER_BIT, data, 1);
+            } finally {
+                MemoryUtil.memFree(indexData);
+            }
+
+            data.count = triangles.length;
+        } else {
+            data.count = vertexCount;
+        }
+
+        if (mesh.getTexture() != null && uvs != null) {
+            data.texture = this.getTexture(mesh.getTexture());
+        }
+
+        this.meshes.put(mesh, data);
+
+        return data;
+    }
+
+    /**
+     * Get the image of a texture, uploading it if it hasn't been already
+     * 
+     * @param texture The texture to get
+     * 
+     * @return The image of the texture
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull VulkanTexture getTexture(@NotNull Texture2D texture) {
+        VulkanTexture data = this.textures.get(texture);
+        if (data != null) {
+            return data;
+        }
+
+        data = new VulkanTexture();
+
+        long[] image = this.createImage(texture.getWidth(), texture.getHeight(), COLOR_FORMAT, VK_IMAGE_USAGE_SAMPLED_BIT | VK_IMAGE_USAGE_TRANSFER_DST_BIT);
+        data.image = image[0];
+        data.memory = image[1];
+        data.view = this.createImageView(data.image, COLOR_FORMAT, VK_IMAGE_ASPECT_COLOR_BIT);
+
+        ByteBuffer pixels = texture.getRawData();
+        Integer size = texture.getWidth() * texture.getHeight() * 4;
+
+        long[] staging = this.createBuffer(size, VK_BUFFER_USAGE_TRANSFER_SRC_BIT, VK_MEMORY_PROPERTY_HOST_VISIBLE_BIT | VK_MEMORY_PROPERTY_HOST_COHERENT_BIT, 0);
+        ByteBuffer mapped = this.map(staging[1], size);
+        for (int i = 0; i < size; i++) {
+            mapped.put(i, pixels.get(i));
+        }
+        vkUnmapMemory(this.device, staging[1]);
+
+        Upload upload = new Upload();
+        upload.staging = staging[0];
+        upload.stagingMemory = staging[1];
+        upload.image = data.image;
+        upload.width = texture.getWidth();
+        upload.height = texture.getHeight();
+        this.uploads.add(upload);
+
+        try (MemoryStack stack = stackPush()) {
+            LongBuffer handle = stack.mallocLong(1);
+
+            if (!this.freeDescriptorSets.isEmpty()) {
+                data.descriptorSet = this.freeDescriptorSets.remove(this.freeDescriptorSets.size() - 1);
+            } else {
+                if (this.textureDescriptorCount >= DESCRIPTOR_POOL_SIZE) {
+                    VkDescriptorPoolSize.Buffer poolSize = VkDescriptorPoolSize.calloc(1, stack);
+                    poolSize.get(0).type(VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER).descriptorCount(DESCRIPTOR_POOL_SIZE);
+
+                    check(vkCreateDescriptorPool(this.device, VkDescriptorPoolCreateInfo.calloc(stack).sType$Default().maxSets(DESCRIPTOR_POOL_SIZE).pPoolSizes(poolSize), null, handle), "create a texture descriptor pool");
+                    this.textureDescriptorPools.add(handle.get(0));
+                    this.textureDescriptorCount = 0;
+                }
+
+                check(vkAllocateDescriptorSets(this.device, VkDescriptorSetAllocateInfo.calloc(stack).sType$Default().descriptorPool(this.textureDescriptorPools.get(this.textureDescriptorPools.size() - 1)).pSetLayouts(stack.longs(this.textureSetLayout)), handle), "allocate a descriptor set");
+                data.descriptorSet = handle.get(0);
+                this.textureDescriptorCount++;
+            }
+
+            VkDescriptorImageInfo.Buffer imageInfo = VkDescriptorImageInfo.calloc(1, stack);
+            imageInfo.get(0).sampler(this.sampler).imageView(data.view).imageLayout(VK_IMAGE_LAYOUT_SHADER_READ_ONLY_OPTIMAL);
+
+            VkWriteDescriptorSet.Buffer write = VkWriteDescriptorSet.calloc(1, stack);
+            write.get(0).sType$Default().dstSet(data.descriptorSet).dstBinding(0).descriptorType(VK_DESCRIPTOR_TYPE_COMBINED_IMAGE_SAMPLER).descriptorCount(1).pImageInfo(imageInfo);
+            vkUpdateDescriptorSets(this.device, write, null);
+        }
+
+        this.textures.put(texture, data);
+
+        return data;
+    }
+
+    /**
+     * Create a device local buffer and queue a copy of data into it (The copy is recorded into the next frame)
+     * 
+     * @param data The data to upload
+     * @param usage How the buffer is used
+     * @param mesh The mesh the buffer belongs to
+     * @param index The index of the memory in the mesh
+     * 
+     * @return The buffer
+     * 
+     * @since 2.6.0
+     */
+    private long uploadBuffer(@NotNull ByteBuffer data, int usage, @NotNull VulkanMesh mesh, int index) {
+        Integer size = data.remaining();
+
+        long[] buffer = this.createBuffer(size, usage | VK_BUFFER_USAGE_TRANSFER_DST_BIT, 0, VK_MEMORY_PROPERTY_DEVICE_LOCAL_BIT);
+        mesh.memory[index] = buffer[1];
+
+        long[] staging = this.createBuffer(size, VK_BUFFER_USAGE_TRANSFER_SRC_BIT, VK_MEMORY_PROPERTY_HOST_VISIBLE_BIT | VK_MEMORY_PROPERTY_HOST_COHERENT_BIT, 0);
+        this.map(staging[1], size).put(data);
+        vkUnmapMemory(this.device, staging[1]);
+
+        Upload upload = new Upload();
+        upload.staging = staging[0];
+        upload.stagingMemory = staging[1];
+        upload.buffer = buffer[0];
+        upload.size = size;
+        this.uploads.add(upload);
+
+        return buffer[0];
+    }
+
+    /**
+     * Create a buffer and its memory
+     * 
+     * @param size The size of the buffer in bytes
+     * @param usage How the buffer is used
+     * @param required The memory properties that are required
+     * @param preferred The memory properties that are used if they are available
+     * 
+     * @return The buffer and its memory
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull long[] createBuffer(int size, int usage, int required, int preferred) {
+        try (MemoryStack stack = stackPush()) {
+            VkBufferCreateInfo bufferInfo = VkBufferCreateInfo.calloc(stack).sType$Default().size(size).usage(usage).sharingMode(VK_SHARING_MODE_EXCLUSIVE);
+
+            LongBuffer handle = stack.mallocLong(1);
+            check(vkCreateBuffer(this.device, bufferInfo, null, handle), "create a buffer");
+            long buffer = handle.get(0);
+
+            VkMemoryRequirements requirements = VkMemoryRequirements.malloc(stack);
+            vkGetBufferMemoryRequirements(this.device, buffer, requirements);
+
+            long memory = this.allocate(requirements, required, preferred);
+            check(vkBindBufferMemory(this.device, buffer, memory, 0), "bind buffer memory");
+
+            return new long[] { buffer, memory };
+        }
+    }
+
+    /**
+     * Create a 2d image and its memory
+     * 
+     * @param width The width of the image
+     * @param height The height of the image
+     * @param format The format of the image
+     * @param usage How the image is used
+     * 
+     * @return The image and its memory
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull long[] createImage(int width, int height, int format, int usage) {
+        try (MemoryStack stack = stackPush()) {
+            VkImageCreateInfo imageInfo = VkImageCreateInfo.calloc(stack).sType$Default().imageType(VK_IMAGE_TYPE_2D).format(format).mipLevels(1).arrayLayers(1).samples(VK_SAMPLE_COUNT_1_BIT).tiling(VK_IMAGE_TILING_OPTIMAL).usage(usage).sharingMode(VK_SHARING_MODE_EXCLUSIVE).initialLayout(VK_IMAGE_LAYOUT_UNDEFINED);
+            imageInfo.extent().set(width, height, 1);
+
+            LongBuffer handle = stack.mallocLong(1);
+            check(vkCreateImage(this.device, imageInfo, null, handle), "create an image");
+            long image = handle.get(0);
+
+            VkMemoryRequirements requirements = VkMemoryRequirements.malloc(stack);
+            vkGetImageMemoryRequirements(this.device, image, requirements);
+
+            long memory = this.allocate(requirements, 0, VK_MEMORY_PROPERTY_DEVICE_LOCAL_BIT);
+            check(vkBindImageMemory(this.device, image, memory, 0), "bind image memory");
+
+            return new long[] { image, memory };
+        }
+    }
+
+    /**
+     * Create a view of a whole 2d image
+     * 
+     * @param image The image to view
+     * @param format The format of the image
+     * @param aspect The aspect of the image to view
+     * 
+     * @return The image view
+     * 
+     * @since 2.6.0
+     */
+    private long createImageView(long image, int format, int aspect) {
+        try (MemoryStack stack = stackPush()) {
+            VkImageViewCreateInfo viewInfo = VkImageViewCreateInfo.calloc(stack).sType$Default().image(image).viewType(VK_IMAGE_VIEW_TYPE_2D).format(format);
+            viewInfo.subresourceRange().aspectMask(aspect).baseMipLevel(0).levelCount(1).baseArrayLayer(0).layerCount(1);
+
+            LongBuffer handle = stack.mallocLong(1);
+            check(vkCreateImageView(this.device, viewInfo, null, handle), "create an image view");
+
+            return handle.get(0);
+        }
+    }
+
+    /**
+     * Create a descriptor set layout
+     * 
+     * @param bindings The bindings of the layout
+     * 
+     * @return The descriptor set layout
+     * 
+     * @since 2.6.0
+     */
+    private long createSetLayout(@NotNull VkDescriptorSetLayoutBinding.Buffer bindings) {
+        try (MemoryStack stack = stackPush()) {
+            LongBuffer handle = stack.mallocLong(1);
+            check(vkCreateDescriptorSetLayout(this.device, VkDescriptorSetLayoutCreateInfo.calloc(stack).sType$Default().pBindings(bindings), null, handle), "create a descriptor set layout");
+
+            return handle.get(0);
+        }
+    }
+
+    /**
+     * Create a shader module from compiled SPIR-V on the classpath
+     * 
+     * @param resource The path of the SPIR-V
+     * 
+     * @return The shader module
+     * 
+     * @throws VulkanException If the SPIR-V is missing
+     * 
+     * @since 2.6.0
+     */
+    private long createShaderModule(@NotNull String resource) throws VulkanException {
+        byte[] code;
+        try (InputStream stream = VulkanBackend.class.getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new VulkanException("The shader " + resource + " is missing (It is compiled with glslc when building, so this build was made without the Vulkan SDK)");
+            }
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+
+            code = output.toByteArray();
+        } catch (IOException e) {
+            throw new VulkanException("Failed to read the shader " + resource);
+        }
+
+        try (MemoryStack stack = stackPush()) {
+            ByteBuffer codeBuffer = stack.malloc(code.length);
+            codeBuffer.put(code).flip();
+
+            LongBuffer handle = stack.mallocLong(1);
+            check(vkCreateShaderModule(this.device, VkShaderModuleCreateInfo.calloc(stack).sType$Default().pCode(codeBuffer), null, handle), "create a shader module");
+
+            return handle.get(0);
+        }
+    }
+
+    /**
+     * Allocate device memory
+     * 
+     * @param requirements The requirements of the memory
+     * @param required The memory properties that are required
+     * @param preferred The memory properties that are used if they are available
+     * 
+     * @return The memory
+     * 
+     * @throws VulkanException If there is no memory type that fits
+     * 
+     * @since 2.6.0
+     */
+    private long allocate(@NotNull VkMemoryRequirements requirements, int required, int preferred) throws VulkanException {
+        int type = this.findMemoryType(requirements.memoryTypeBits(), required | preferred);
+        if (type < 0) {
+            type = this.findMemoryType(requirements.memoryTypeBits(), required);
+        }
+        if (type < 0) {
+            throw new VulkanException("No memory type fits a buffer or image");
+        }
+
+        try (MemoryStack stack = stackPush()) {
+            LongBuffer handle = stack.mallocLong(1);
+            check(vkAllocateMemory(this.device, VkMemoryAllocateInfo.calloc(stack).sType$Default().allocationSize(requirements.size()).memoryTypeIndex(type), null, handle), "allocate memory");
+
+            return handle.get(0);
+        }
+    }
+
+    /**
+     * Find a memory type
+     * 
+     * @param typeBits The memory types that are allowed
+     * @param properties The properties the type must have
+     * 
+     * @return The index of the memory type, or -1 if none fit
+     * 
+     * @since 2.6.0
+     */
+    private int findMemoryType(int typeBits, int properties) {
+        for (int i = 0; i < this.memoryProperties.memoryTypeCount(); i++) {
+            if ((typeBits & (1 << i)) != 0 && (this.memoryProperties.memoryTypes(i).propertyFlags() & properties) == properties) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Map host visible memory
+     * 
+     * @param memory The memory to map
+     * @param size The size to map in bytes
+     * 
+     * @return The mapped memory
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ByteBuffer map(long memory, int size) {
+        try (MemoryStack stack = stackPush()) {
+            PointerBuffer pointer = stack.mallocPointer(1);
+            check(vkMapMemory(this.device, memory, 0, size, 0, pointer), "map memory");
+
+            return MemoryUtil.memByteBuffer(pointer.get(0), size);
+        }
+    }
+
+    /**
+     * Throw if a Vulkan call failed
+     * 
+     * @param result The result of the call
+     * @param action What the call was doing
+     * 
+     * @throws VulkanException If the result is an error
+     * 
+     * @since 2.6.0
+     */
+    private static void check(int result, @NotNull String action) throws VulkanException {
+        if (result < 0) {
+            throw new VulkanException("Failed to " + action + " (VkResult " + result + ")");
+        }
+    }
+
+    /**
+     * Wait for the gpu and destroy every Vulkan object (The pipeline cache is saved first)
+     * 
+     * @since 2.6.0
+     */
+    public void destroy() {
+        if (!this.initialized) {
+            return;
+        }
+
+        vkDeviceWaitIdle(this.device);
+
+        this.savePipelineCache();
+
+        for (FrameResources frame : this.frames) {
+            this.waitFrame(frame);
+
+            vkDestroyFence(this.device, frame.fence, null);
+            vkDestroyCommandPool(this.device, frame.commandPool, null);
+            for (long secondaryPool : frame.secondaryPools) {
+                vkDestroyCommandPool(this.device, secondaryPool, null);
+            }
+
+            vkDestroyBuffer(this.device, frame.uniformBuffer, null);
+            vkFreeMemory(this.device, frame.uniformMemory, null);
+            vkDestroyBuffer(this.device, frame.readbackBuffer, null);
+            vkFreeMemory(this.device, frame.readbackMemory, null);
+        }
+
+        for (Upload upload : this.uploads) {
+            vkDestroyBuffer(this.device, upload.staging, null);
+            vkFreeMemory(this.device, upload.stagingMemory, null);
+        }
+
+        for (VulkanMesh mesh : this.meshes.values()) {
+            this.destroyMesh(mesh);
+        }
+
+        for (VulkanTexture texture : this.textures.values()) {
+            this.destroyTexture(texture);
+        }
+        this.destroyTexture(this.whiteTexture);
+
+        for (Long pipeline : this.pipelines.values()) {
+            vkDestroyPipeline(this.device, pipeline, null);
+        }
+
+        for (Long descriptorPool : this.textureDescriptorPools) {
+            vkDestroyDescriptorPool(this.device, descriptorPool, null);
+        }
+        vkDestroyDescriptorPool(this.device, this.frameDescriptorPool, null);
+
+        vkDestroySampler(this.device, this.sampler, null);
+        vkDestroyShaderModule(this.device, this.vertexModule, null);
+        vkDestroyShaderModule(this.device, this.fragmentModule, null);
+        vkDestroyPipelineLayout(this.device, this.pipelineLayout, null);
+        vkDestroyDescriptorSetLayout(this.device, this.frameSetLayout, null);
+        vkDestroyDescriptorSetLayout(this.device, this.textureSetLayout, null);
+        vkDestroyPipelineCache(this.device, this.pipelineCache, null);
+
+        this.destroyTargets();
+        vkDestroyRenderPass(this.device, this.renderPass, null);
+        vkDestroyRenderPass(this.device, this.loadRenderPass, null);
+
+        vkDestroyDevice(this.device, null);
+        vkDestroyInstance(this.instance, null);
+        this.memoryProperties.free();
+
+        this.uploads.clear();
+        this.meshes.clear();
+        this.textures.clear();
+        this.freeDescriptorSets.clear();
+        this.whiteTexture = null;
+        this.pipelines.clear();
+        this.textureDescriptorPools.clear();
+        this.textureDescriptorCount = DESCRIPTOR_POOL_SIZE;
+        this.frames = null;
+        this.current = null;
+        this.lastSubmitted = null;
+        this.physicalDevice = null;
+
+        this.initialized = false;
+    }
+
+    /**
+     * Get the width of the image
+     * 
+     * @return The width of the image
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Get the height of the image
+     * 
+     * @return The height of the image
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Set the size of the image (Waits for the gpu and clears the image)
+     * 
+     * @param width The width of the image
+     * @param height The height of the image
+     * 
+     * @throws InvalidDataException If the size isn't positive
+     * 
+     * @since 2.6.0
+     */
+    public void setSize(@NotNull Integer width, @NotNull Integer height) throws InvalidDataException {
+        NullUtils.checkNulls(width, "width");
+        NullUtils.checkNulls(height, "height");
+
+        if (width <= 0 || height <= 0) {
+            throw new InvalidDataException("Width and height must be positive");
+        }
+
+        this.width = width;
+        this.height = height;
+
+        if (this.initialized) {
+            vkDeviceWaitIdle(this.device);
+
+            this.destroyTargets();
+            this.createTargets();
+
+            for (FrameResources frame : this.frames) {
+                vkDestroyBuffer(this.device, frame.readbackBuffer, null);
+                vkFreeMemory(this.device, frame.readbackMemory, null);
+
+                this.createReadback(frame);
+            }
+
+            this.lastSubmitted = null;
+        }
+    }
+
+    /**
+     * Get the number of frames that can be in flight at once
+     * 
+     * @return The number of frames that can be in flight at once
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getFramesInFlight() {
+        return this.framesInFlight;
+    }
+
+    /**
+     * Get the most threads that record commands at once
+     * 
+     * @return The most threads that record commands at once
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getRecordingThreads() {
+        return this.recordingThreads;
+    }
+
+    /**
+     * Get the file the pipeline cache is kept in
+     * 
+     * @return The file the pipeline cache is kept in (null if it isn't kept)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable File getPipelineCacheFile() {
+        return this.pipelineCacheFile;
+    }
+
+    /**
+     * Set the file the pipeline cache is kept in (Must be set before the backend is initialized)
+     * 
+     * @param pipelineCacheFile The file the pipeline cache is kept in (null to not keep it)
+     * 
+     * @throws AlreadyInitializedException If the backend is already initialized
+     * 
+     * @since 2.6.0
+     */
+    public void setPipelineCacheFile(@Nullable File pipelineCacheFile) throws AlreadyInitializedException {
+        if (this.initialized) {
+            throw new AlreadyInitializedException("The pipeline cache must be set before the backend is initialized");
+        }
+
+        this.pipelineCacheFile = pipelineCacheFile;
+    }
+
+    /**
+     * Get weather the Khronos validation layer is enabled
+     * 
+     * @return Weather the validation layer is enabled
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getValidation() {
+        return this.validation;
+    }
+
+    /**
+     * Set weather the Khronos validation layer is enabled (Only if it is installed, must be set before the backend is initialized)
+     * 
+     * @param validation Weather the validation layer is enabled
+     * 
+     * @throws AlreadyInitializedException If the backend is already initialized
+     * 
+     * @since 2.6.0
+     */
+    public void setValidation(@NotNull Boolean validation) throws AlreadyInitializedException {
+        NullUtils.checkNulls(validation, "validation");
+
+        if (this.initialized) {
+            throw new AlreadyInitializedException("Validation must be set before the backend is initialized");
+        }
+
+        this.validation = validation;
+    }
+
+    /**
+     * Get the name of the device being rendered with
+     * 
+     * @return The name of the device (null if the backend isn't initialized)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable String getDeviceName() {
+        return this.deviceName;
+    }
+
+    /**
+     * Get weather the backend is initialized
+     * 
+     * @return Weather the backend is initialized
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getInitialized() {
+        return this.initialized;
+    }
+
+    /**
+     * Get the pixels of the last submitted frame as ARGB (Rows from top to bottom, waits for the gpu to finish the frame)
+     * 
+     * @return The pixels of the last frame
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull int[] getPixels() {
+        int[] pixels = new int[this.width * this.height];
+
+        if (this.lastSubmitted == null) {
+            return pixels;
+        }
+
+        this.waitFrame(this.lastSubmitted);
+
+        ByteBuffer data = this.lastSubmitted.readbackData;
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = ((data.get(i * 4 + 3) & 0xFF) << 24) | ((data.get(i * 4) & 0xFF) << 16) | ((data.get(i * 4 + 1) & 0xFF) << 8) | (data.get(i * 4 + 2) & 0xFF);
+        }
+
+        return pixels;
+    }
+
+    /**
+     * Get the last submitted frame as an image (Waits for the gpu to finish the frame)
+     * 
+     * @return The last frame as an image
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull BufferedImage getImage() {
+        BufferedImage image = new BufferedImage(this.width, this.height, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, this.width, this.height, this.getPixels(), 0, this.width);
+
+        return image;
+    }
+
+    /**
+     * The resources of one frame in flight (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class FrameResources {
+        /**
+         * The fence signaled when the gpu is done with the frame
+         * 
+         * @since 2.6.0
+         */
+        public long fence;
+
+        /**
+         * The command pool of the primary command buffer
+         * 
+         * @since 2.6.0
+         */
+        public long commandPool;
+
+        /**
+         * The primary command buffer
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable VkCommandBuffer commandBuffer;
+
+        /**
+         * The command pools of the secondary command buffers (One per recording thread)
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable long[] secondaryPools;
+
+        /**
+         * The secondary command buffers (One per recording thread)
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable VkCommandBuffer[] secondaryBuffers;
+
+        /**
+         * The uniform buffer
+         * 
+         * @since 2.6.0
+         */
+        public long uniformBuffer;
+
+        /**
+         * The memory of the uniform buffer
+         * 
+         * @since 2.6.0
+         */
+        public long uniformMemory;
+
+        /**
+         * The mapped uniform memory
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable ByteBuffer uniformData;
+
+        /**
+         * The descriptor set of the uniform buffer
+         * 
+         * @since 2.6.0
+         */
+        public long descriptorSet;
+
+        /**
+         * The buffer the image is copied into
+         * 
+         * @since 2.6.0
+         */
+        public long readbackBuffer;
+
+        /**
+         * The memory of the readback buffer
+         * 
+         * @since 2.6.0
+         */
+        public long readbackMemory;
+
+        /**
+         * The mapped readback memory
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable ByteBuffer readbackData;
+
+        /**
+         * The staging buffers and memory to free once the frame is done
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull List<long[]> staging = new ArrayList<long[]>();
+
+        /**
+         * The buffers of collected meshes to destroy once the frame is done
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull List<VulkanMesh> releasedMeshes = new ArrayList<VulkanMesh>();
+
+        /**
+         * The images of collected textures to destroy once the frame is done
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull List<VulkanTexture> releasedTextures = new ArrayList<VulkanTexture>();
+    }
+
+    /**
+     * The buffers of a mesh (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class VulkanMesh {
+        /**
+         * The interleaved vertex buffer
+         * 
+         * @since 2.6.0
+         */
+        public long vertexBuffer;
+
+        /**
+         * The index buffer (NULL for non-indexed meshes)
+         * 
+         * @since 2.6.0
+         */
+        public long indexBuffer;
+
+        /**
+         * The memory of the vertex and index buffers
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull long[] memory = new long[2];
+
+        /**
+         * The number of vertices or indices to draw
+         * 
+         * @since 2.6.0
+         */
+        public int count;
+
+        /**
+         * The texture of the mesh (null if it isn't textured)
+         * 
+         * @since 2.6.0
+         */
+        public @Nullable VulkanTexture texture;
+    }
+
+    /**
+     * The image of a texture (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class VulkanTexture {
+        /**
+         * The image
+         * 
+         * @since 2.6.0
+         */
+        public long image;
+
+        /**
+         * The memory of the image
+         * 
+         * @since 2.6.0
+         */
+        public long memory;
+
+        /**
+         * The view of the image
+         * 
+         * @since 2.6.0
+         */
+        public long view;
+
+        /**
+         * The descriptor set the texture is bound with
+         * 
+         * @since 2.6.0
+         */
+        public long descriptorSet;
+    }
+
+    /**
+     * A copy from a staging buffer waiting to be recorded (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class Upload {
+        /**
+         * The staging buffer
+         * 
+         * @since 2.6.0
+         */
+        public long staging;
+
+        /**
+         * The memory of the staging buffer
+         * 
+         * @since 2.6.0
+         */
+        public long stagingMemory;
+
+        /**
+         * The buffer to copy into (NULL if copying into an image)
+         * 
+         * @since 2.6.0
+         */
+        public long buffer;
+
+        /**
+         * The size to copy in bytes
+         * 
+         * @since 2.6.0
+         */
+        public int size;
+
+        /**
+         * The image to copy into (NULL if copying into a buffer)
+         * 
+         * @since 2.6.0
+         */
+        public long image;
+
+        /**
+         * The width of the image
+         * 
+         * @since 2.6.0
+         */
+        public int width;
+
+        /**
+         * The height of the image
+         * 
+         * @since 2.6.0
+         */
+        public int height;
+    }
+}
\ No newline at end of file
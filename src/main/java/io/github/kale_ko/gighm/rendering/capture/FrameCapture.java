@@ -0,0 +1,614 @@
+package io.github.kale_ko.gighm.rendering.capture;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.imageio.ImageIO;
+import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * Captures rendered frames to disk without stalling the render thread (Set on a backend that supports it, see {@link io.github.kale_ko.gighm.rendering.backend.OpenGLBackend#setFrameCapture(FrameCapture)})
+ * 
+ * The backend reads frames back asynchronously and hands them over a few frames later, then a background thread encodes them.
+ * Frame buffers come from a fixed pool, so if the encoder falls behind frames are dropped instead of piling up in memory or blocking the render thread
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class FrameCapture {
+    /**
+     * The formats recordings can be written in
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    public enum CaptureFormat {
+        /**
+         * A numbered png file per frame
+         * 
+         * @since 2.6.0
+         */
+        PNG_SEQUENCE,
+
+        /**
+         * One file of raw top-down rgba frames (For example for "ffmpeg -f rawvideo -pix_fmt rgba -s WIDTHxHEIGHT", the size is in the file name and frames of another size are dropped)
+         * 
+         * @since 2.6.0
+         */
+        RAW_VIDEO
+    }
+
+    /**
+     * The directory captures are written to
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull File directory;
+
+    /**
+     * The format recordings are written in
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull CaptureFormat format;
+
+    /**
+     * Weather every frame is being recorded
+     * 
+     * @since 2.6.0
+     */
+    private volatile @NotNull Boolean recording = false;
+
+    /**
+     * Screenshots waiting for the next frame (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull ConcurrentLinkedQueue<CompletableFuture<File>> screenshots = new ConcurrentLinkedQueue<CompletableFuture<File>>();
+
+    /**
+     * Frame buffers that are free to be filled (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull BlockingQueue<ByteBuffer> freeBuffers;
+
+    /**
+     * How many frame buffers may still be allocated (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer unallocatedBuffers;
+
+    /**
+     * Frames waiting to be encoded (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull BlockingQueue<CapturedFrame> frames = new LinkedBlockingQueue<CapturedFrame>();
+
+    /**
+     * The thread that encodes frames (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Thread encoder;
+
+    /**
+     * How many frames have been recorded
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull AtomicLong recordedFrames = new AtomicLong();
+
+    /**
+     * How many frames were dropped because the readback or the encoder fell behind
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull AtomicLong droppedFrames = new AtomicLong();
+
+    /**
+     * The raw video file being written (Only used internally, only touched by the encoder)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable FileChannel rawVideo = null;
+
+    /**
+     * The width of the frames of the raw video (Only used internally, only touched by the encoder)
+     * 
+     * @since 2.6.0
+     */
+    private int rawWidth = 0;
+
+    /**
+     * The height of the frames of the raw video (Only used internally, only touched by the encoder)
+     * 
+     * @since 2.6.0
+     */
+    private int rawHeight = 0;
+
+    /**
+     * Weather the capture was closed
+     * 
+     * @since 2.6.0
+     */
+    private volatile @NotNull Boolean closed = false;
+
+    /**
+     * Create a frame capture with room for 4 frames waiting to be encoded
+     * 
+     * @param directory The directory to write captures to (Created if it doesn't exist)
+     * @param format The format to write recordings in
+     * 
+     * @since 2.6.0
+     */
+    public FrameCapture(@NotNull File directory, @NotNull CaptureFormat format) {
+        this(directory, format, 4);
+    }
+
+    /**
+     * Create a frame capture
+     * 
+     * @param directory The directory to write captures to (Created if it doesn't exist)
+     * @param format The format to write recordings in
+     * @param maxQueuedFrames How many frames can wait to be encoded before new ones are dropped
+     * 
+     * @throws InvalidDataException If the max queued frames isn't positive
+     * 
+     * @since 2.6.0
+     */
+    public FrameCapture(@NotNull File directory, @NotNull CaptureFormat format, @NotNull Integer maxQueuedFrames) throws InvalidDataException {
+        NullUtils.checkNulls(directory, "directory");
+        NullUtils.checkNulls(format, "format");
+        NullUtils.checkNulls(maxQueuedFrames, "maxQueuedFrames");
+
+        if (maxQueuedFrames <= 0) {
+            throw new InvalidDataException("The max queued frames must be positive");
+        }
+
+        this.directory = directory;
+        this.format = format;
+
+        this.freeBuffers = new ArrayBlockingQueue<ByteBuffer>(maxQueuedFrames);
+        this.unallocatedBuffers = maxQueuedFrames;
+
+        this.encoder = new Thread(this::encode, "Frame-Encoder");
+        this.encoder.setDaemon(true);
+        this.encoder.start();
+    }
+
+    /**
+     * Capture the next frame as a png (An on demand renderer only draws a next frame when something changes, so call {@link io.github.kale_ko.gighm.rendering.Renderer#requestRedraw()} too)
+     * 
+     * @return A future of the written file (Completed exceptionally if it couldn't be written or the capture is closed first)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull CompletableFuture<File> screenshot() {
+        CompletableFuture<File> future = new CompletableFuture<File>();
+
+        if (this.closed) {
+            future.completeExceptionally(new IOException("The capture is closed"));
+        } else {
+            this.screenshots.add(future);
+        }
+
+        return future;
+    }
+
+    /**
+     * Get weather every frame is being recorded
+     * 
+     * @return Weather every frame is being recorded
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getRecording() {
+        return this.recording;
+    }
+
+    /**
+     * Set weather every frame is being recorded
+     * 
+     * @param recording Weather every frame is being recorded
+     * 
+     * @since 2.6.0
+     */
+    public void setRecording(@NotNull Boolean recording) {
+        NullUtils.checkNulls(recording, "recording");
+
+        this.recording = recording && !this.closed;
+    }
+
+    /**
+     * Get weather the current frame should be captured (Called by the backend at the end of each frame)
+     * 
+     * @return Weather the frame should be read back
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getWantsFrame() {
+        return this.recording || !this.screenshots.isEmpty();
+    }
+
+    /**
+     * Take the screenshots waiting for the current frame (Called by the backend when it reads a frame back)
+     * 
+     * @return The futures of the screenshots
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull List<CompletableFuture<File>> takeScreenshots() {
+        List<CompletableFuture<File>> screenshots = new ArrayList<CompletableFuture<File>>();
+
+        CompletableFuture<File> screenshot;
+        while ((screenshot = this.screenshots.poll()) != null) {
+            screenshots.add(screenshot);
+        }
+
+        return screenshots;
+    }
+
+    /**
+     * Get a free buffer to copy a frame into (Called by the backend when a readback finishes)
+     * 
+     * @param size The size of the frame in bytes
+     * 
+     * @return A cleared buffer with room for the frame (Null if every buffer is waiting to be encoded, the frame should be dropped)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable ByteBuffer acquireBuffer(@NotNull Integer size) {
+        NullUtils.checkNulls(size, "size");
+
+        ByteBuffer buffer = this.freeBuffers.poll();
+        if (buffer == null) {
+            synchronized (this) {
+                if (this.unallocatedBuffers == 0) {
+                    return null;
+                }
+
+                this.unallocatedBuffers--;
+            }
+        }
+
+        if (buffer == null || buffer.capacity() < size) {
+            buffer = ByteBuffer.allocateDirect(size);
+        }
+
+        buffer.clear().limit(size);
+
+        return buffer;
+    }
+
+    /**
+     * Hand a read back frame to the encoder (Called by the backend)
+     * 
+     * @param data The bottom-up rgba pixels of the frame, from {@link #acquireBuffer(Integer)}
+     * @param width The width of the frame
+     * @param height The height of the frame
+     * @param number The number of the frame
+     * @param record Weather the frame is part of the recording
+     * @param screenshots The screenshots to write of the frame
+     * 
+     * @since 2.6.0
+     */
+    public void submitFrame(@NotNull ByteBuffer data, @NotNull Integer width, @NotNull Integer height, @NotNull Long number, @NotNull Boolean record, @NotNull List<CompletableFuture<File>> screenshots) {
+        NullUtils.checkNulls(data, "data");
+        NullUtils.checkNulls(width, "width");
+        NullUtils.checkNulls(height, "height");
+        NullUtils.checkNulls(number, "number");
+        NullUtils.checkNulls(record, "record");
+        NullUtils.checkNulls(screenshots, "screenshots");
+
+        data.rewind();
+
+        this.frames.add(new CapturedFrame(data, width, height, number, record, screenshots));
+    }
+
+    /**
+     * Count a frame as dropped (Called by the backend when it can't keep up)
+     * 
+     * @since 2.6.0
+     */
+    public void dropFrame() {
+        this.droppedFrames.incrementAndGet();
+    }
+
+    /**
+     * Get how many frames have been recorded
+     * 
+     * @return How many frames have been recorded
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Long getRecordedFrames() {
+        return this.recordedFrames.get();
+    }
+
+    /**
+     * Get how many frames were dropped because the readback or the encoder fell behind
+     * 
+     * @return How many frames were dropped
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Long getDroppedFrames() {
+        return this.droppedFrames.get();
+    }
+
+    /**
+     * Get the directory captures are written to
+     * 
+     * @return The directory captures are written to
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull File getDirectory() {
+        return this.directory;
+    }
+
+    /**
+     * Get the format recordings are written in
+     * 
+     * @return The format recordings are written in
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull CaptureFormat getFormat() {
+        return this.format;
+    }
+
+    /**
+     * Stop recording, finish encoding the frames that were already handed over, and close the recording
+     * 
+     * @throws InterruptedException If the thread is interrupted while waiting for the encoder
+     * 
+     * @since 2.6.0
+     */
+    public void close() throws InterruptedException {
+        if (this.closed) {
+            return;
+        }
+
+        this.closed = true;
+        this.recording = false;
+
+        this.frames.add(new CapturedFrame(null, 0, 0, -1L, false, new ArrayList<CompletableFuture<File>>()));
+        this.encoder.join();
+
+        CompletableFuture<File> screenshot;
+        while ((screenshot = this.screenshots.poll()) != null) {
+            screenshot.completeExceptionally(new IOException("The capture is closed"));
+        }
+    }
+
+    /**
+     * Encode frames until the capture is closed (Run by the encoder thread)
+     * 
+     * @since 2.6.0
+     */
+    private void encode() {
+        while (true) {
+            CapturedFrame frame;
+            try {
+                frame = this.frames.take();
+            } catch (InterruptedException e) {
+                break;
+            }
+
+            if (frame.data == null) {
+                break;
+            }
+
+            BufferedImage image = null;
+            for (CompletableFuture<File> screenshot : frame.screenshots) {
+                try {
+                    if (image == null) {
+                        image = toImage(frame);
+                    }
+
+                    File file = new File(this.directory, "screenshot-" + frame.number + ".png");
+                    this.directory.mkdirs();
+                    ImageIO.write(image, "png", file);
+
+                    screenshot.complete(file);
+                } catch (IOException e) {
+                    screenshot.completeExceptionally(e);
+                }
+            }
+
+            if (frame.record) {
+                try {
+                    if (this.format == CaptureFormat.PNG_SEQUENCE) {
+                        if (image == null) {
+                            image = toImage(frame);
+                        }
+
+                        this.directory.mkdirs();
+                        ImageIO.write(image, "png", new File(this.directory, String.format("frame-%06d.png", this.recordedFrames.get())));
+
+                        this.recordedFrames.incrementAndGet();
+                    } else if (this.writeRaw(frame)) {
+                        this.recordedFrames.incrementAndGet();
+                    } else {
+                        this.droppedFrames.incrementAndGet();
+                    }
+                } catch (IOException e) {
+                    System.err.println("Failed to write a captured frame: " + e.getMessage());
+
+                    this.droppedFrames.incrementAndGet();
+                }
+            }
+
+            this.freeBuffers.offer(frame.data);
+        }
+
+        if (this.rawVideo != null) {
+            try {
+                this.rawVideo.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close the raw video: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Append a frame to the raw video, flipping it top-down (The video is opened with the size of the first frame)
+     * 
+     * @param frame The frame to append
+     * 
+     * @return Weather the frame was written (Frames of another size than the video are not)
+     * 
+     * @throws IOException If the frame couldn't be written
+     * 
+     * @since 2.6.0
+     */
+    private boolean writeRaw(@NotNull CapturedFrame frame) throws IOException {
+        if (this.rawVideo == null) {
+            this.directory.mkdirs();
+
+            this.rawWidth = frame.width;
+            this.rawHeight = frame.height;
+            this.rawVideo = new FileOutputStream(new File(this.directory, "capture-" + frame.width + "x" + frame.height + ".rgba")).getChannel();
+        }
+
+        if (frame.width != this.rawWidth || frame.height != this.rawHeight) {
+            return false;
+        }
+
+        int stride = frame.width * 4;
+        for (int y = frame.height - 1; y >= 0; y--) {
+            ByteBuffer row = frame.data.duplicate();
+            row.limit(y * stride + stride).position(y * stride);
+
+            while (row.hasRemaining()) {
+                this.rawVideo.write(row);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Convert a bottom-up rgba frame to an image
+     * 
+     * @param frame The frame to convert
+     * 
+     * @return A new image of the frame
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull BufferedImage toImage(@NotNull CapturedFrame frame) {
+        BufferedImage image = new BufferedImage(frame.width, frame.height, BufferedImage.TYPE_INT_RGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+
+        ByteBuffer data = frame.data;
+        for (int y = 0; y < frame.height; y++) {
+            int source = (frame.height - 1 - y) * frame.width * 4;
+            int target = y * frame.width;
+
+            for (int x = 0; x < frame.width; x++) {
+                int i = source + x * 4;
+
+                pixels[target + x] = (data.get(i) & 0xFF) << 16 | (data.get(i + 1) & 0xFF) << 8 | (data.get(i + 2) & 0xFF);
+            }
+        }
+
+        return image;
+    }
+
+    /**
+     * A frame waiting to be encoded (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class CapturedFrame {
+        /**
+         * The bottom-up rgba pixels of the frame (Null to stop the encoder)
+         * 
+         * @since 2.6.0
+         */
+        public final @Nullable ByteBuffer data;
+
+        /**
+         * The width of the frame
+         * 
+         * @since 2.6.0
+         */
+        public final int width;
+
+        /**
+         * The height of the frame
+         * 
+         * @since 2.6.0
+         */
+        public final int height;
+
+        /**
+         * The number of the frame
+         * 
+         * @since 2.6.0
+         */
+        public final long number;
+
+        /**
+         * Weather the frame is part of the recording
+         * 
+         * @since 2.6.0
+         */
+        public final boolean record;
+
+        /**
+         * The screenshots to write of the frame
+         * 
+         * @since 2.6.0
+         */
+        public final @NotNull List<CompletableFuture<File>> screenshots;
+
+        /**
+         * Create a captured frame
+         * 
+         * @param data The bottom-up rgba pixels of the frame (Null to stop the encoder)
+         * @param width The width of the frame
+         * @param height The height of the frame
+         * @param number The number of the frame
+         * @param record Weather the frame is part of the recording
+         * @param screenshots The screenshots to write of the frame
+         * 
+         * @since 2.6.0
+         */
+        public CapturedFrame(@Nullable ByteBuffer data, int width, int height, long number, boolean record, @NotNull List<CompletableFuture<File>> screenshots) {
+            this.data = data;
+            this.width = width;
+            this.height = height;
+            this.number = number;
+            this.record = record;
+            this.screenshots = screenshots;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,745 @@
+package io.github.kale_ko.gighm.rendering.lighting;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.scene.components.Light;
+import io.github.kale_ko.gighm.scene.components.Light.LightType;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * Assigns lights to the clusters of a view frustum for clustered forward lighting
+ * 
+ * The frustum is split into a grid of screen tiles and depth slices (Exponential for perspective projections so near clusters stay small), then every slice tests the lights against the bounds of its clusters in parallel.
+ * Directional lights light everything so they aren't clustered, they are stored first in the light data.
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class LightClusters {
+    /**
+     * The default amount of tiles across the screen
+     * 
+     * @since 2.6.0
+     */
+    public static final Integer DEFAULT_TILES_X = 16;
+
+    /**
+     * The default amount of tiles down the screen
+     * 
+     * @since 2.6.0
+     */
+    public static final Integer DEFAULT_TILES_Y = 9;
+
+    /**
+     * The default amount of depth slices
+     * 
+     * @since 2.6.0
+     */
+    public static final Integer DEFAULT_SLICES = 24;
+
+    /**
+     * How many floats each light takes in the light data (4 RGBA texels: position and range, color and type, direction and outer cone, inner cone)
+     * 
+     * @since 2.6.0
+     */
+    public static final Integer LIGHT_SIZE = 16;
+
+    /**
+     * The amount of tiles across the screen
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Integer tilesX;
+
+    /**
+     * The amount of tiles down the screen
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Integer tilesY;
+
+    /**
+     * The amount of depth slices
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Integer slices;
+
+    /**
+     * The pool light assignment is run on
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull ForkJoinPool pool;
+
+    /**
+     * The projection the cluster bounds were built for (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f boundsProjection = new Matrix4f().zero();
+
+    /**
+     * The view space bounds of every cluster (Min xyz then max xyz) (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull float[] bounds;
+
+    /**
+     * The view space bounds of every slice (Min xyz then max xyz) (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull float[] sliceBounds;
+
+    /**
+     * The view space x range of every tile column in every slice (Min then max) (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull float[] columnBounds;
+
+    /**
+     * The view space y range of every tile row in every slice (Min then max) (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull float[] rowBounds;
+
+    /**
+     * Weather the depth slices are exponential (Perspective projections) or linear (Orthographic projections)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean logarithmic = true;
+
+    /**
+     * The scale that maps a view depth (Or its log) to a slice
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float depthScale = 0f;
+
+    /**
+     * The bias that maps a view depth (Or its log) to a slice
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float depthBias = 0f;
+
+    /**
+     * The data of every light, directional lights first
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull float[] lightData = new float[0];
+
+    /**
+     * The amount of lights in the light data
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer lightCount = 0;
+
+    /**
+     * The amount of directional lights at the start of the light data
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer directionalCount = 0;
+
+    /**
+     * The offset into the light indices and the amount of lights of every cluster
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull int[] clusters;
+
+    /**
+     * The light indices of every cluster, one after another
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull int[] indices = new int[1024];
+
+    /**
+     * The amount of light indices
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer indexCount = 0;
+
+    /**
+     * The light indices of each slice while assigning (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull int[][] sliceIndices;
+
+    /**
+     * The amount of light indices of each slice while assigning (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull int[] sliceSizes;
+
+    /**
+     * Create light clusters with the default grid, assigned on the common pool
+     * 
+     * @since 2.6.0
+     */
+    public LightClusters() {
+        this(DEFAULT_TILES_X, DEFAULT_TILES_Y, DEFAULT_SLICES, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create light clusters
+     * 
+     * @param tilesX The amount of tiles across the screen
+     * @param tilesY The amount of tiles down the screen
+     * @param slices The amount of depth slices
+     * @param pool The pool to assign lights on
+     * 
+     * @throws InvalidDataException If the grid has no clusters
+     * 
+     * @since 2.6.0
+     */
+    public LightClusters(@NotNull Integer tilesX, @NotNull Integer tilesY, @NotNull Integer slices, @NotNull ForkJoinPool pool) throws InvalidDataException {
+        NullUtils.checkNulls(tilesX, "tilesX");
+        NullUtils.checkNulls(tilesY, "tilesY");
+        NullUtils.checkNulls(slices, "slices");
+        NullUtils.checkNulls(pool, "pool");
+
+        if (tilesX <= 0 || tilesY <= 0 || slices <= 0) {
+            throw new InvalidDataException("The cluster grid must have at least one tile and slice");
+        }
+
+        this.tilesX = tilesX;
+        this.tilesY = tilesY;
+        this.slices = slices;
+        this.pool = pool;
+
+        this.bounds = new float[tilesX * tilesY * slices * 6];
+        this.sliceBounds = new float[slices * 6];
+        this.columnBounds = new float[slices * tilesX * 2];
+        this.rowBounds = new float[slices * tilesY * 2];
+        this.clusters = new int[tilesX * tilesY * slices * 2];
+
+        this.sliceIndices = new int[slices][];
+        this.sliceSizes = new int[slices];
+        for (Integer i = 0; i < slices; i++) {
+            this.sliceIndices[i] = new int[256];
+        }
+    }
+
+    /**
+     * Assign lights to the clusters of a view
+     * 
+     * @param lights The lights to assign (Lights without a game object are ignored)
+     * @param view The view matrix of the camera
+     * @param projection The projection matrix of the camera
+     * 
+     * @since 2.6.0
+     */
+    public void update(@NotNull List<Light> lights, @NotNull Matrix4f view, @NotNull Matrix4f projection) {
+        NullUtils.checkNulls(lights, "lights");
+        NullUtils.checkNulls(view, "view");
+        NullUtils.checkNulls(projection, "projection");
+
+        if (!projection.equals(this.boundsProjection)) {
+            this.buildBounds(projection);
+        }
+
+        Integer count = lights.size();
+        if (this.lightData.length < count * LIGHT_SIZE) {
+            this.lightData = new float[Math.max(count, 64) * LIGHT_SIZE];
+        }
+
+        // The view space bounding sphere of every local light (Index into the light data, then xyz and radius)
+        float[] spheres = new float[count * 5];
+        Integer sphereCount = 0;
+
+        this.lightCount = 0;
+        this.directionalCount = 0;
+        for (Light light : lights) {
+            if (light.getGameObject() != null && light.getType() == LightType.DIRECTIONAL) {
+                this.writeLight(light, this.lightCount++);
+                this.directionalCount++;
+            }
+        }
+
+        Vector4f center = new Vector4f();
+        for (Light light : lights) {
+            if (light.getGameObject() != null && light.getType() != LightType.DIRECTIONAL) {
+                Integer index = this.lightCount++;
+                this.writeLight(light, index);
+
+                view.transform(center.set(this.lightData[index * LIGHT_SIZE], this.lightData[index * LIGHT_SIZE + 1], this.lightData[index * LIGHT_SIZE + 2], 1f));
+                spheres[sphereCount * 5] = index;
+                spheres[sphereCount * 5 + 1] = center.x;
+                spheres[sphereCount * 5 + 2] = center.y;
+                spheres[sphereCount * 5 + 3] = center.z;
+                spheres[sphereCount * 5 + 4] = light.getRange();
+                sphereCount++;
+            }
+        }
+
+        Integer localCount = sphereCount;
+        Integer sliceClusters = this.tilesX * this.tilesY;
+
+        this.pool.submit(() -> IntStream.range(0, this.slices).parallel().forEach(slice -> {
+            int first = slice * sliceClusters;
+            for (int cluster = first; cluster < first + sliceClusters; cluster++) {
+                this.clusters[cluster * 2 + 1] = 0;
+            }
+
+            for (int i = 0; i < localCount; i++) {
+                float x = spheres[i * 5 + 1];
+                float y = spheres[i * 5 + 2];
+                float z = spheres[i * 5 + 3];
+                float radius = spheres[i * 5 + 4];
+
+                if (!intersects(this.sliceBounds, slice, x, y, z, radius)) {
+                    continue;
+                }
+
+                int minX = this.findFirstTile(this.columnBounds, slice * this.tilesX, this.tilesX, x - radius);
+                int maxX = this.findLastTile(this.columnBounds, slice * this.tilesX, this.tilesX, x + radius);
+                int minY = this.findFirstTile(this.rowBounds, slice * this.tilesY, this.tilesY, y - radius);
+                int maxY = this.findLastTile(this.rowBounds, slice * this.tilesY, this.tilesY, y + radius);
+
+                for (int tileY = minY; tileY <= maxY; tileY++) {
+                    for (int tileX = minX; tileX <= maxX; tileX++) {
+                        int cluster = first + tileY * this.tilesX + tileX;
+
+                        if (intersects(this.bounds, cluster, x, y, z, radius)) {
+                            this.clusters[cluster * 2 + 1]++;
+                        }
+                    }
+                }
+            }
+
+            // Counting first lets each cluster write its lights contiguously without sorting
+            int offset = 0;
+            for (int cluster = first; cluster < first + sliceClusters; cluster++) {
+                this.clusters[cluster * 2] = offset;
+                offset += this.clusters[cluster * 2 + 1];
+                this.clusters[cluster * 2 + 1] = 0;
+            }
+            if (this.sliceIndices[slice].length < offset) {
+                this.sliceIndices[slice] = new int[Math.max(offset, this.sliceIndices[slice].length * 2)];
+            }
+            this.sliceSizes[slice] = offset;
+
+            int[] sliceIndices = this.sliceIndices[slice];
+            for (int i = 0; i < localCount; i++) {
+                float x = spheres[i * 5 + 1];
+                float y = spheres[i * 5 + 2];
+                float z = spheres[i * 5 + 3];
+                float radius = spheres[i * 5 + 4];
+
+                if (!intersects(this.sliceBounds, slice, x, y, z, radius)) {
+                    continue;
+                }
+
+                int minX = this.findFirstTile(this.columnBounds, slice * this.tilesX, this.tilesX, x - radius);
+                int maxX = this.findLastTile(this.columnBounds, slice * this.tilesX, this.tilesX, x + radius);
+                int minY = this.findFirstTile(this.rowBounds, slice * this.tilesY, this.tilesY, y - radius);
+                int maxY = this.findLastTile(this.rowBounds, slice * this.tilesY, this.tilesY, y + radius);
+
+                for (int tileY = minY; tileY <= maxY; tileY++) {
+                    for (int tileX = minX; tileX <= maxX; tileX++) {
+                        int cluster = first + tileY * this.tilesX + tileX;
+
+                        if (intersects(this.bounds, cluster, x, y, z, radius)) {
+                            sliceIndices[this.clusters[cluster * 2] + this.clusters[cluster * 2 + 1]++] = (int) spheres[i * 5];
+                        }
+                    }
+                }
+            }
+        })).join();
+
+        Integer total = 0;
+        for (Integer slice = 0; slice < this.slices; slice++) {
+            total += this.sliceSizes[slice];
+        }
+        if (this.indices.length < total) {
+            this.indices = new int[Math.max(total, this.indices.length * 2)];
+        }
+
+        Integer offset = 0;
+        for (Integer slice = 0; slice < this.slices; slice++) {
+            System.arraycopy(this.sliceIndices[slice], 0, this.indices, offset, this.sliceSizes[slice]);
+
+            for (int cluster = slice * sliceClusters; cluster < (slice + 1) * sliceClusters; cluster++) {
+                this.clusters[cluster * 2] += offset;
+            }
+
+            offset += this.sliceSizes[slice];
+        }
+        this.indexCount = total;
+    }
+
+    /**
+     * Write the data of a light into the light data
+     * 
+     * @param light The light to write
+     * @param index The index of the light
+     * 
+     * @since 2.6.0
+     */
+    private void writeLight(@NotNull Light light, @NotNull Integer index) {
+        Integer offset = index * LIGHT_SIZE;
+
+        Vector3f position = light.getPosition();
+        Vector3f direction = light.getDirection();
+
+        this.lightData[offset] = position.x;
+        this.lightData[offset + 1] = position.y;
+        this.lightData[offset + 2] = position.z;
+        this.lightData[offset + 3] = light.getRange();
+
+        this.lightData[offset + 4] = light.getColor().getRed() / 255f * light.getIntensity();
+        this.lightData[offset + 5] = light.getColor().getGreen() / 255f * light.getIntensity();
+        this.lightData[offset + 6] = light.getColor().getBlue() / 255f * light.getIntensity();
+        this.lightData[offset + 7] = light.getType().ordinal();
+
+        this.lightData[offset + 8] = direction.x;
+        this.lightData[offset + 9] = direction.y;
+        this.lightData[offset + 10] = direction.z;
+        this.lightData[offset + 11] = (float) Math.cos(Math.toRadians(light.getOuterAngle()));
+
+        this.lightData[offset + 12] = (float) Math.cos(Math.toRadians(light.getInnerAngle()));
+        this.lightData[offset + 13] = 0f;
+        this.lightData[offset + 14] = 0f;
+        this.lightData[offset + 15] = 0f;
+    }
+
+    /**
+     * Rebuild the view space bounds of every cluster for a projection
+     * 
+     * @param projection The projection matrix of the camera
+     * 
+     * @since 2.6.0
+     */
+    private void buildBounds(@NotNull Matrix4f projection) {
+        this.boundsProjection.set(projection);
+
+        Matrix4f inverse = projection.invert(new Matrix4f());
+
+        // The view space points where every tile corner ray crosses the near and far planes
+        Integer cornersX = this.tilesX + 1;
+        Integer cornersY = this.tilesY + 1;
+        Vector3f[] nearCorners = new Vector3f[cornersX * cornersY];
+        Vector3f[] farCorners = new Vector3f[cornersX * cornersY];
+        for (Integer y = 0; y < cornersY; y++) {
+            for (Integer x = 0; x < cornersX; x++) {
+                float ndcX = 2f * x / this.tilesX - 1f;
+                float ndcY = 2f * y / this.tilesY - 1f;
+
+                nearCorners[y * cornersX + x] = inverse.transformProject(new Vector3f(ndcX, ndcY, -1f));
+                farCorners[y * cornersX + x] = inverse.transformProject(new Vector3f(ndcX, ndcY, 1f));
+            }
+        }
+
+        // View space looks down -z, depths are distances in front of the camera
+        Float near = -inverse.transformProject(new Vector3f(0f, 0f, -1f)).z;
+        Float far = -inverse.transformProject(new Vector3f(0f, 0f, 1f)).z;
+
+        this.logarithmic = projection.m23() != 0f && near > 0f;
+        if (this.logarithmic) {
+            this.depthScale = (float) (this.slices / Math.log(far / near));
+            this.depthBias = (float) (-this.slices * Math.log(near) / Math.log(far / near));
+        } else {
+            this.depthScale = this.slices / (far - near);
+            this.depthBias = -near * this.depthScale;
+        }
+
+        float[] depths = new float[this.slices + 1];
+        for (Integer slice = 0; slice <= this.slices; slice++) {
+            if (this.logarithmic) {
+                depths[slice] = (float) (near * Math.pow(far / near, (float) slice / this.slices));
+            } else {
+                depths[slice] = near + (far - near) * slice / this.slices;
+            }
+        }
+
+        Arrays.fill(this.sliceBounds, 0f);
+        for (Integer slice = 0; slice < this.slices; slice++) {
+            float[] sliceBound = new float[] { Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE };
+
+            for (Integer tileY = 0; tileY < this.tilesY; tileY++) {
+                for (Integer tileX = 0; tileX < this.tilesX; tileX++) {
+                    Integer cluster = (slice * this.tilesY + tileY) * this.tilesX + tileX;
+                    float[] bound = new float[] { Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE };
+
+                    for (Integer corner = 0; corner < 4; corner++) {
+                        Integer index = (tileY + corner / 2) * cornersX + tileX + corner % 2;
+                        Vector3f start = nearCorners[index];
+                        Vector3f end = farCorners[index];
+
+                        for (Integer i = 0; i < 2; i++) {
+                            float depth = depths[slice + i];
+                            float t = end.z != start.z ? (-depth - start.z) / (end.z - start.z) : 0f;
+
+                            expand(bound, start.x + (end.x - start.x) * t, start.y + (end.y - start.y) * t, -depth);
+                        }
+                    }
+
+                    System.arraycopy(bound, 0, this.bounds, cluster * 6, 6);
+
+                    Integer column = (slice * this.tilesX + tileX) * 2;
+                    this.columnBounds[column] = tileY == 0 ? bound[0] : Math.min(this.columnBounds[column], bound[0]);
+                    this.columnBounds[column + 1] = tileY == 0 ? bound[3] : Math.max(this.columnBounds[column + 1], bound[3]);
+
+                    Integer row = (slice * this.tilesY + tileY) * 2;
+                    this.rowBounds[row] = tileX == 0 ? bound[1] : Math.min(this.rowBounds[row], bound[1]);
+                    this.rowBounds[row + 1] = tileX == 0 ? bound[4] : Math.max(this.rowBounds[row + 1], bound[4]);
+
+                    expand(sliceBound, bound[0], bound[1], bound[2]);
+                    expand(sliceBound, bound[3], bound[4], bound[5]);
+                }
+            }
+
+            System.arraycopy(sliceBound, 0, this.sliceBounds, slice * 6, 6);
+        }
+    }
+
+    /**
+     * Find the first tile along one axis of a slice that reaches a coordinate (Tiles are sorted along the axis)
+     * 
+     * @param ranges The ranges of the tiles (Min then max)
+     * @param first The index of the first tile of the slice
+     * @param count The amount of tiles along the axis
+     * @param value The coordinate
+     * 
+     * @return The index of the tile within the slice (Clamped to the last tile)
+     * 
+     * @since 2.6.0
+     */
+    private int findFirstTile(@NotNull float[] ranges, int first, int count, float value) {
+        int tile = 0;
+        while (tile < count - 1 && value > ranges[(first + tile) * 2 + 1]) {
+            tile++;
+        }
+
+        return tile;
+    }
+
+    /**
+     * Find the last tile along one axis of a slice that starts before a coordinate (Tiles are sorted along the axis)
+     * 
+     * @param ranges The ranges of the tiles (Min then max)
+     * @param first The index of the first tile of the slice
+     * @param count The amount of tiles along the axis
+     * @param value The coordinate
+     * 
+     * @return The index of the tile within the slice (Clamped to the first tile)
+     * 
+     * @since 2.6.0
+     */
+    private int findLastTile(@NotNull float[] ranges, int first, int count, float value) {
+        int tile = count - 1;
+        while (tile > 0 && value < ranges[(first + tile) * 2]) {
+            tile--;
+        }
+
+        return tile;
+    }
+
+    /**
+     * Grow a bounding box to contain a point
+     * 
+     * @param bound The bounding box (Min xyz then max xyz)
+     * @param x The x of the point
+     * @param y The y of the point
+     * @param z The z of the point
+     * 
+     * @since 2.6.0
+     */
+    private static void expand(@NotNull float[] bound, float x, float y, float z) {
+        bound[0] = Math.min(bound[0], x);
+        bound[1] = Math.min(bound[1], y);
+        bound[2] = Math.min(bound[2], z);
+        bound[3] = Math.max(bound[3], x);
+        bound[4] = Math.max(bound[4], y);
+        bound[5] = Math.max(bound[5], z);
+    }
+
+    /**
+     * Check if a sphere touches a bounding box
+     * 
+     * @param bounds The bounding boxes (Min xyz then max xyz)
+     * @param index The index of the bounding box
+     * @param x The x of the center of the sphere
+     * @param y The y of the center of the sphere
+     * @param z The z of the center of the sphere
+     * @param radius The radius of the sphere
+     * 
+     * @return Weather the sphere touches the bounding box
+     * 
+     * @since 2.6.0
+     */
+    private static boolean intersects(@NotNull float[] bounds, int index, float x, float y, float z, float radius) {
+        int offset = index * 6;
+
+        float dx = Math.max(0f, Math.max(bounds[offset] - x, x - bounds[offset + 3]));
+        float dy = Math.max(0f, Math.max(bounds[offset + 1] - y, y - bounds[offset + 4]));
+        float dz = Math.max(0f, Math.max(bounds[offset + 2] - z, z - bounds[offset + 5]));
+
+        return dx * dx + dy * dy + dz * dz <= radius * radius;
+    }
+
+    /**
+     * Get the amount of tiles across the screen
+     * 
+     * @return The amount of tiles across the screen
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getTilesX() {
+        return this.tilesX;
+    }
+
+    /**
+     * Get the amount of tiles down the screen
+     * 
+     * @return The amount of tiles down the screen
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getTilesY() {
+        return this.tilesY;
+    }
+
+    /**
+     * Get the amount of depth slices
+     * 
+     * @return The amount of depth slices
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getSlices() {
+        return this.slices;
+    }
+
+    /**
+     * Get the amount of clusters (Tiles across times tiles down times slices)
+     * 
+     * @return The amount of clusters
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getClusterCount() {
+        return this.tilesX * this.tilesY * this.slices;
+    }
+
+    /**
+     * Get weather the depth slices are exponential (Perspective projections) or linear (Orthographic projections)
+     * 
+     * @return Weather the depth slices are exponential
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getLogarithmic() {
+        return this.logarithmic;
+    }
+
+    /**
+     * Get the scale that maps a view depth (Or its log if logarithmic) to a slice
+     * 
+     * @return The depth scale
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getDepthScale() {
+        return this.depthScale;
+    }
+
+    /**
+     * Get the bias that maps a view depth (Or its log if logarithmic) to a slice
+     * 
+     * @return The depth bias
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getDepthBias() {
+        return this.depthBias;
+    }
+
+    /**
+     * Get the data of every light, directional lights first ({@link #LIGHT_SIZE} floats per light, the array may be longer than needed)
+     * 
+     * @return The light data
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull float[] getLightData() {
+        return this.lightData;
+    }
+
+    /**
+     * Get the amount of lights in the light data
+     * 
+     * @return The amount of lights
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getLightCount() {
+        return this.lightCount;
+    }
+
+    /**
+     * Get the amount of directional lights at the start of the light data
+     * 
+     * @return The amount of directional lights
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getDirectionalCount() {
+        return this.directionalCount;
+    }
+
+    /**
+     * Get the offset into the light indices and the amount of lights of every cluster (Ordered by slice, then tile row, then tile column)
+     * 
+     * @return The clusters
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull int[] getClusters() {
+        return this.clusters;
+    }
+
+    /**
+     * Get the light indices of every cluster, one after another (The array may be longer than needed)
+     * 
+     * @return The light indices
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull int[] getIndices() {
+        return this.indices;
+    }
+
+    /**
+     * Get the amount of light indices
+     * 
+     * @return The amount of light indices
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getIndexCount() {
+        return this.indexCount;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,395 @@
+package io.github.kale_ko.gighm.rendering.lighting;
+
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * Fits the cascades of a directional light's cascaded shadow map to the view frustum
+ * 
+ * Each cascade covers a slice of the view frustum with an orthographic light projection around the bounding sphere of the slice.
+ * The spheres are padded and only moved when the slice leaves them, and their centers are snapped to whole texels, so a cascade's projection stays exactly the same while the camera moves a little.
+ * That lets shadow maps be cached, {@link #getVersion(Integer)} only changes when a cascade's projection does.
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class ShadowCascades {
+    /**
+     * The default amount of cascades
+     * 
+     * @since 2.6.0
+     */
+    public static final Integer DEFAULT_CASCADES = 4;
+
+    /**
+     * The default width and height of each cascade in texels
+     * 
+     * @since 2.6.0
+     */
+    public static final Integer DEFAULT_RESOLUTION = 2048;
+
+    /**
+     * The default distance from the camera shadows reach
+     * 
+     * @since 2.6.0
+     */
+    public static final Float DEFAULT_DISTANCE = 100f;
+
+    /**
+     * The amount of cascades
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Integer cascades;
+
+    /**
+     * The width and height of each cascade in texels
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Integer resolution;
+
+    /**
+     * The distance from the camera shadows reach
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float distance = DEFAULT_DISTANCE;
+
+    /**
+     * How much the splits lean towards logarithmic over uniform (0-1, logarithmic splits give near cascades more detail)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float splitLambda = 0.75f;
+
+    /**
+     * How much bigger the sphere of each cascade is than its slice (So small camera movements don't move the cascade)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float padding = 0.1f;
+
+    /**
+     * The view depth at which each cascade ends
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull float[] splits;
+
+    /**
+     * The light view projection matrix of each cascade
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Matrix4f[] matrices;
+
+    /**
+     * The light space center and radius of each cascade (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull float[] spheres;
+
+    /**
+     * How many times the projection of each cascade has changed
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull long[] versions;
+
+    /**
+     * The direction of the light the cascades were fit for (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Vector3f lightDirection = new Vector3f();
+
+    /**
+     * Create shadow cascades with the default amount and resolution
+     * 
+     * @since 2.6.0
+     */
+    public ShadowCascades() {
+        this(DEFAULT_CASCADES, DEFAULT_RESOLUTION);
+    }
+
+    /**
+     * Create shadow cascades
+     * 
+     * @param cascades The amount of cascades (1-4)
+     * @param resolution The width and height of each cascade in texels
+     * 
+     * @throws InvalidDataException If the amount of cascades isn't 1-4 or the resolution isn't positive
+     * 
+     * @since 2.6.0
+     */
+    public ShadowCascades(@NotNull Integer cascades, @NotNull Integer resolution) throws InvalidDataException {
+        NullUtils.checkNulls(cascades, "cascades");
+        NullUtils.checkNulls(resolution, "resolution");
+
+        if (cascades < 1 || cascades > 4) {
+            throw new InvalidDataException("There must be 1-4 cascades");
+        }
+        if (resolution <= 0) {
+            throw new InvalidDataException("The resolution must be positive");
+        }
+
+        this.cascades = cascades;
+        this.resolution = resolution;
+
+        this.splits = new float[cascades];
+        this.matrices = new Matrix4f[cascades];
+        this.spheres = new float[cascades * 4];
+        this.versions = new long[cascades];
+        for (Integer i = 0; i < cascades; i++) {
+            this.matrices[i] = new Matrix4f();
+        }
+    }
+
+    /**
+     * Fit the cascades to a view (Cascades whose slice is still inside their sphere keep their projection)
+     * 
+     * @param view The view matrix of the camera
+     * @param projection The projection matrix of the camera
+     * @param direction The direction of the light
+     * 
+     * @since 2.6.0
+     */
+    public void update(@NotNull Matrix4f view, @NotNull Matrix4f projection, @NotNull Vector3f direction) {
+        NullUtils.checkNulls(view, "view");
+        NullUtils.checkNulls(projection, "projection");
+        NullUtils.checkNulls(direction, "direction");
+
+        Vector3f lightDirection = direction.normalize(new Vector3f());
+        Boolean lightChanged = !lightDirection.equals(this.lightDirection, 0.0001f);
+        this.lightDirection.set(lightDirection);
+
+        Matrix4f lightView = new Matrix4f().lookAlong(lightDirection, Math.abs(lightDirection.y) > 0.99f ? new Vector3f(0f, 0f, 1f) : new Vector3f(0f, 1f, 0f));
+
+        Matrix4f inverseProjection = projection.invert(new Matrix4f());
+        Matrix4f inverseView = view.invert(new Matrix4f());
+
+        float near = -inverseProjection.transformProject(new Vector3f(0f, 0f, -1f)).z;
+        float far = Math.min(-inverseProjection.transformProject(new Vector3f(0f, 0f, 1f)).z, near + this.distance);
+
+        // The view space rays through the corners of the screen
+        Vector3f[] nearCorners = new Vector3f[4];
+        Vector3f[] farCorners = new Vector3f[4];
+        for (Integer i = 0; i < 4; i++) {
+            float x = i % 2 == 0 ? -1f : 1f;
+            float y = i / 2 == 0 ? -1f : 1f;
+
+            nearCorners[i] = inverseProjection.transformProject(new Vector3f(x, y, -1f));
+            farCorners[i] = inverseProjection.transformProject(new Vector3f(x, y, 1f));
+        }
+
+        float start = near;
+        for (Integer cascade = 0; cascade < this.cascades; cascade++) {
+            float fraction = (cascade + 1f) / this.cascades;
+            float uniform = near + (far - near) * fraction;
+            float end = uniform;
+            if (near > 0f) {
+                end = this.splitLambda * (float) (near * Math.pow(far / near, fraction)) + (1f - this.splitLambda) * uniform;
+            }
+            this.splits[cascade] = end;
+
+            // The world space corners of the slice
+            Vector3f[] corners = new Vector3f[8];
+            for (Integer i = 0; i < 8; i++) {
+                Vector3f rayStart = nearCorners[i % 4];
+                Vector3f rayEnd = farCorners[i % 4];
+
+                float depth = i < 4 ? start : end;
+                float t = rayEnd.z != rayStart.z ? (-depth - rayStart.z) / (rayEnd.z - rayStart.z) : 0f;
+
+                corners[i] = inverseView.transformPosition(new Vector3f(rayStart).lerp(rayEnd, t));
+            }
+
+            Vector3f center = new Vector3f();
+            for (Vector3f corner : corners) {
+                center.add(corner);
+            }
+            center.div(8f);
+
+            float radius = 0f;
+            for (Vector3f corner : corners) {
+                radius = Math.max(radius, corner.distance(center));
+            }
+
+            lightView.transformPosition(center);
+
+            int offset = cascade * 4;
+            float dx = center.x - this.spheres[offset];
+            float dy = center.y - this.spheres[offset + 1];
+            float dz = center.z - this.spheres[offset + 2];
+
+            // Refit if the slice has left the sphere or the sphere is far bigger than the slice needs
+            if (lightChanged || this.spheres[offset + 3] == 0f || (float) Math.sqrt(dx * dx + dy * dy + dz * dz) + radius > this.spheres[offset + 3] || radius * (1f + this.padding) * (1f + this.padding) < this.spheres[offset + 3]) {
+                float paddedRadius = radius * (1f + this.padding);
+
+                // Snapping to whole texels keeps the shadow edges from crawling when the cascade moves
+                float texel = paddedRadius * 2f / this.resolution;
+                this.spheres[offset] = (float) Math.floor(center.x / texel) * texel;
+                this.spheres[offset + 1] = (float) Math.floor(center.y / texel) * texel;
+                this.spheres[offset + 2] = center.z;
+                this.spheres[offset + 3] = paddedRadius;
+
+                float x = this.spheres[offset];
+                float y = this.spheres[offset + 1];
+                float z = this.spheres[offset + 2];
+                float r = paddedRadius;
+
+                // Casters between the light and the cascade still cast into it, so the near plane is pulled far back towards the light
+                this.matrices[cascade].setOrtho(x - r, x + r, y - r, y + r, -(z + r * 4f), -(z - r)).mul(lightView);
+                this.versions[cascade]++;
+            }
+
+            start = end;
+        }
+    }
+
+    /**
+     * Get the amount of cascades
+     * 
+     * @return The amount of cascades
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getCascades() {
+        return this.cascades;
+    }
+
+    /**
+     * Get the width and height of each cascade in texels
+     * 
+     * @return The resolution of each cascade
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getResolution() {
+        return this.resolution;
+    }
+
+    /**
+     * Get the distance from the camera shadows reach
+     * 
+     * @return The shadow distance
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getDistance() {
+        return this.distance;
+    }
+
+    /**
+     * Set the distance from the camera shadows reach
+     * 
+     * @param distance The shadow distance
+     * 
+     * @since 2.6.0
+     */
+    public void setDistance(@NotNull Float distance) {
+        NullUtils.checkNulls(distance, "distance");
+
+        this.distance = distance;
+    }
+
+    /**
+     * Get how much the splits lean towards logarithmic over uniform (0-1, logarithmic splits give near cascades more detail)
+     * 
+     * @return The split lambda
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getSplitLambda() {
+        return this.splitLambda;
+    }
+
+    /**
+     * Set how much the splits lean towards logarithmic over uniform (0-1, logarithmic splits give near cascades more detail)
+     * 
+     * @param splitLambda The split lambda
+     * 
+     * @since 2.6.0
+     */
+    public void setSplitLambda(@NotNull Float splitLambda) {
+        NullUtils.checkNulls(splitLambda, "splitLambda");
+
+        this.splitLambda = splitLambda;
+    }
+
+    /**
+     * Get how much bigger the sphere of each cascade is than its slice (So small camera movements don't move the cascade)
+     * 
+     * @return The padding
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getPadding() {
+        return this.padding;
+    }
+
+    /**
+     * Set how much bigger the sphere of each cascade is than its slice (More padding means the cascades move less often but have less detail)
+     * 
+     * @param padding The padding
+     * 
+     * @since 2.6.0
+     */
+    public void setPadding(@NotNull Float padding) {
+        NullUtils.checkNulls(padding, "padding");
+
+        this.padding = padding;
+    }
+
+    /**
+     * Get the view depth at which a cascade ends
+     * 
+     * @param cascade The index of the cascade
+     * 
+     * @return The view depth at which the cascade ends
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getSplit(@NotNull Integer cascade) {
+        NullUtils.checkNulls(cascade, "cascade");
+
+        return this.splits[cascade];
+    }
+
+    /**
+     * Get the light view projection matrix of a cascade
+     * 
+     * @param cascade The index of the cascade
+     * 
+     * @return The light view projection matrix of the cascade
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getMatrix(@NotNull Integer cascade) {
+        NullUtils.checkNulls(cascade, "cascade");
+
+        return this.matrices[cascade];
+    }
+
+    /**
+     * Get how many times the projection of a cascade has changed (Anything rendered with an older version is out of date)
+     * 
+     * @param cascade The index of the cascade
+     * 
+     * @return The version of the cascade
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Long getVersion(@NotNull Integer cascade) {
+        NullUtils.checkNulls(cascade, "cascade");
+
+        return this.versions[cascade];
+    }
+}
\ No newline at end of file
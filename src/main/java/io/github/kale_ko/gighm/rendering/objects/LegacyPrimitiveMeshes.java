@@ -0,0 +1,28 @@
+package io.github.kale_ko.gighm.rendering.objects;
+
+import io.github.kale_ko.gighm.scene.components.Mesh;
+
+/**
+ * Holds the old primitive mesh constants, which are still reachable through {@link PrimitiveMeshes} (Only used internally)
+ * 
+ * The fields of an interface are only initialized when one of them is used, not when a class implementing it is, so using {@link PrimitiveMeshes} doesn't make every mesh
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+interface LegacyPrimitiveMeshes {
+    /**
+     * Meshes for a few primitive shapes
+     * 
+     * @deprecated Use {@link PrimitiveMeshes#getPlane()}, {@link PrimitiveMeshes#getCube()} and {@link PrimitiveMeshes#getCircle()} instead
+     * 
+     * @since 2.0.0
+     */
+    @Deprecated
+    public static final Mesh
+        PLANE = PrimitiveMeshes.getPlane(),
+        CUBE = PrimitiveMeshes.getCube(),
+        CIRCLE = PrimitiveMeshes.getCircle();
+}
\ No newline at end of file
@@ -0,0 +1,549 @@
+package io.github.kale_ko.gighm.rendering.objects;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A utility for indexing and reordering mesh data so it renders faster without changing how it looks
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class MeshOptimizer {
+    /**
+     * The default size of the post-transform vertex cache to optimize for
+     * 
+     * @since 2.6.0
+     */
+    public static final Integer DEFAULT_CACHE_SIZE = 16;
+
+    /**
+     * Create a mesh optimizer
+     * 
+     * @since 2.6.0
+     */
+    private MeshOptimizer() {}
+
+    /**
+     * Run every optimization pass over a mesh (Index generation, vertex cache, overdraw, and vertex fetch)
+     * 
+     * The triangles of 2D meshes are kept in their order, since without depth the order decides which overlapping triangle is visible, so only their vertex fetch is optimized
+     * 
+     * @param mesh The mesh to optimize
+     * 
+     * @return A new optimized mesh
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Mesh optimize(@NotNull Mesh mesh) {
+        NullUtils.checkNulls(mesh, "mesh");
+
+        if (mesh.getTriangles() == null) {
+            mesh = generateIndices(mesh);
+        }
+
+        Integer[] triangles;
+        if (mesh.getVerticeSize() == 3) {
+            triangles = optimizeOverdraw(mesh.getTriangles(), mesh.getVertices(), mesh.getVerticeSize(), DEFAULT_CACHE_SIZE);
+        } else {
+            // 2D meshes have no depth so overlapping triangles are drawn in order, reordering them for the vertex cache or overdraw could change which one is visible
+            triangles = mesh.getTriangles();
+        }
+
+        return optimizeVertexFetch(rebuild(mesh, mesh.getVertices(), mesh.getUVs(), triangles));
+    }
+
+    /**
+     * Weld the duplicated vertices of a non-indexed mesh into a list of unique vertices and triangles indexing into them
+     * 
+     * @param mesh The mesh to weld
+     * 
+     * @return A new indexed mesh, or the passed mesh if it already has triangles
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Mesh generateIndices(@NotNull Mesh mesh) {
+        NullUtils.checkNulls(mesh, "mesh");
+
+        if (mesh.getTriangles() != null) {
+            return mesh;
+        }
+
+        Integer verticeSize = mesh.getVerticeSize();
+        Integer vertexCount = mesh.getVertices().length / verticeSize;
+
+        Float[] sourceUvs = mesh.getUVs();
+        Integer stride = verticeSize + (sourceUvs != null ? 2 : 0);
+
+        int[] attributes = new int[vertexCount * stride];
+        for (int i = 0; i < vertexCount; i++) {
+            for (int k = 0; k < verticeSize; k++) {
+                attributes[i * stride + k] = Float.floatToIntBits(mesh.getVertices()[i * verticeSize + k] + 0f);
+            }
+
+            if (sourceUvs != null) {
+                attributes[i * stride + verticeSize] = Float.floatToIntBits(sourceUvs[i * 2] + 0f);
+                attributes[i * stride + verticeSize + 1] = Float.floatToIntBits(sourceUvs[i * 2 + 1] + 0f);
+            }
+        }
+
+        int tableSize = Integer.highestOneBit(Math.max(vertexCount, 1) * 2 - 1) << 1;
+        int[] table = new int[tableSize];
+        Arrays.fill(table, -1);
+
+        int[] unique = new int[vertexCount];
+        int uniqueCount = 0;
+
+        Integer[] triangles = new Integer[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            int hash = 1;
+            for (int k = 0; k < stride; k++) {
+                hash = hash * 31 + attributes[i * stride + k];
+            }
+            hash ^= hash >>> 16;
+
+            int slot = hash & (tableSize - 1);
+            while (table[slot] != -1 && !equalRange(attributes, unique[table[slot]] * stride, i * stride, stride)) {
+                slot = (slot + 1) & (tableSize - 1);
+            }
+
+            if (table[slot] == -1) {
+                table[slot] = uniqueCount;
+                unique[uniqueCount++] = i;
+            }
+
+            triangles[i] = table[slot];
+        }
+
+        Float[] vertices = new Float[uniqueCount * verticeSize];
+        Float[] uvs = sourceUvs != null ? new Float[uniqueCount * 2] : null;
+        for (int i = 0; i < uniqueCount; i++) {
+            System.arraycopy(mesh.getVertices(), unique[i] * verticeSize, vertices, i * verticeSize, verticeSize);
+
+            if (uvs != null) {
+                System.arraycopy(sourceUvs, unique[i] * 2, uvs, i * 2, 2);
+            }
+        }
+
+        return rebuild(mesh, vertices, uvs, triangles);
+    }
+
+    /**
+     * Reorder triangles to make better use of the post-transform vertex cache (Tipsify)
+     * 
+     * @param triangles The triangles to reorder
+     * @param vertexCount The amount of vertices the triangles index into
+     * 
+     * @return The reordered triangles
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Integer[] optimizeVertexCache(@NotNull Integer[] triangles, @NotNull Integer vertexCount) {
+        return optimizeVertexCache(triangles, vertexCount, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Reorder triangles to make better use of the post-transform vertex cache (Tipsify)
+     * 
+     * @param triangles The triangles to reorder
+     * @param vertexCount The amount of vertices the triangles index into
+     * @param cacheSize The size of the vertex cache to optimize for
+     * 
+     * @return The reordered triangles
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Integer[] optimizeVertexCache(@NotNull Integer[] triangles, @NotNull Integer vertexCount, @NotNull Integer cacheSize) {
+        NullUtils.checkNulls(triangles, "triangles");
+        NullUtils.checkNulls(vertexCount, "vertexCount");
+        NullUtils.checkNulls(cacheSize, "cacheSize");
+
+        return toWrapper(tipsify(toPrimitive(triangles, vertexCount), vertexCount, cacheSize, null));
+    }
+
+    /**
+     * Reorder triangles for the vertex cache and then reorder the resulting clusters so outward facing ones draw first, reducing overdraw
+     * 
+     * @param triangles The triangles to reorder
+     * @param vertices The vertices the triangles index into
+     * @param verticeSize How many numbers define a point in the mesh
+     * @param cacheSize The size of the vertex cache to optimize for
+     * 
+     * @return The reordered triangles
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Integer[] optimizeOverdraw(@NotNull Integer[] triangles, @NotNull Float[] vertices, @NotNull Integer verticeSize, @NotNull Integer cacheSize) {
+        NullUtils.checkNulls(triangles, "triangles");
+        NullUtils.checkNulls(vertices, "vertices");
+        NullUtils.checkNulls(verticeSize, "verticeSize");
+        NullUtils.checkNulls(cacheSize, "cacheSize");
+
+        Integer vertexCount = vertices.length / verticeSize;
+
+        List<Integer> clusters = new ArrayList<Integer>();
+        int[] ordered = tipsify(toPrimitive(triangles, vertexCount), vertexCount, cacheSize, clusters);
+
+        if (verticeSize != 3 || clusters.size() <= 1) {
+            return toWrapper(ordered);
+        }
+
+        int triangleCount = ordered.length / 3;
+        clusters.add(triangleCount);
+
+        float[] positions = new float[vertices.length];
+        for (int i = 0; i < vertices.length; i++) {
+            positions[i] = vertices[i];
+        }
+
+        float[] meshCenter = new float[3];
+        float meshArea = 0;
+
+        int clusterCount = clusters.size() - 1;
+        float[][] clusterCenters = new float[clusterCount][3];
+        float[][] clusterNormals = new float[clusterCount][3];
+
+        for (int c = 0; c < clusterCount; c++) {
+            float clusterArea = 0;
+
+            for (int t = clusters.get(c); t < clusters.get(c + 1); t++) {
+                int a = ordered[t * 3] * 3;
+                int b = ordered[t * 3 + 1] * 3;
+                int d = ordered[t * 3 + 2] * 3;
+
+                float e1x = positions[b] - positions[a], e1y = positions[b + 1] - positions[a + 1], e1z = positions[b + 2] - positions[a + 2];
+                float e2x = positions[d] - positions[a], e2y = positions[d + 1] - positions[a + 1], e2z = positions[d + 2] - positions[a + 2];
+
+                float nx = e1y * e2z - e1z * e2y;
+                float ny = e1z * e2x - e1x * e2z;
+                float nz = e1x * e2y - e1y * e2x;
+                float area = (float) Math.sqrt(nx * nx + ny * ny + nz * nz) * 0.5f;
+
+                for (int k = 0; k < 3; k++) {
+                    float center = (positions[a + k] + positions[b + k] + positions[d + k]) / 3f;
+
+                    clusterCenters[c][k] += center * area;
+                    meshCenter[k] += center * area;
+                }
+
+                clusterNormals[c][0] += nx;
+                clusterNormals[c][1] += ny;
+                clusterNormals[c][2] += nz;
+
+                clusterArea += area;
+            }
+
+            if (clusterArea > 0) {
+                for (int k = 0; k < 3; k++) {
+                    clusterCenters[c][k] /= clusterArea;
+                }
+            }
+
+            meshArea += clusterArea;
+        }
+
+        if (meshArea > 0) {
+            for (int k = 0; k < 3; k++) {
+                meshCenter[k] /= meshArea;
+            }
+        }
+
+        final float[] sortKeys = new float[clusterCount];
+        Integer[] clusterOrder = new Integer[clusterCount];
+        for (int c = 0; c < clusterCount; c++) {
+            float[] normal = clusterNormals[c];
+            float length = (float) Math.sqrt(normal[0] * normal[0] + normal[1] * normal[1] + normal[2] * normal[2]);
+
+            if (length > 0) {
+                sortKeys[c] = ((clusterCenters[c][0] - meshCenter[0]) * normal[0] + (clusterCenters[c][1] - meshCenter[1]) * normal[1] + (clusterCenters[c][2] - meshCenter[2]) * normal[2]) / length;
+            }
+
+            clusterOrder[c] = c;
+        }
+
+        Arrays.sort(clusterOrder, (a, b) -> Float.compare(sortKeys[b], sortKeys[a]));
+
+        Integer[] result = new Integer[ordered.length];
+        int write = 0;
+        for (Integer c : clusterOrder) {
+            for (int i = clusters.get(c) * 3; i < clusters.get(c + 1) * 3; i++) {
+                result[write++] = ordered[i];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Reorder the vertices of a mesh in the order they are first used by its triangles so vertex fetches are more local, removing any unused vertices
+     * 
+     * @param mesh The mesh to reorder
+     * 
+     * @return A new mesh with reordered vertices, or the passed mesh if it has no triangles
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Mesh optimizeVertexFetch(@NotNull Mesh mesh) {
+        NullUtils.checkNulls(mesh, "mesh");
+
+        if (mesh.getTriangles() == null) {
+            return mesh;
+        }
+
+        Integer verticeSize = mesh.getVerticeSize();
+        Integer vertexCount = mesh.getVertices().length / verticeSize;
+
+        int[] remap = new int[vertexCount];
+        Arrays.fill(remap, -1);
+
+        Integer[] triangles = new Integer[mesh.getTriangles().length];
+        int next = 0;
+        for (int i = 0; i < triangles.length; i++) {
+            int index = mesh.getTriangles()[i];
+
+            if (remap[index] == -1) {
+                remap[index] = next++;
+            }
+
+            triangles[i] = remap[index];
+        }
+
+        Float[] vertices = new Float[next * verticeSize];
+        Float[] uvs = mesh.getUVs() != null ? new Float[next * 2] : null;
+        for (int i = 0; i < vertexCount; i++) {
+            if (remap[i] != -1) {
+                System.arraycopy(mesh.getVertices(), i * verticeSize, vertices, remap[i] * verticeSize, verticeSize);
+
+                if (uvs != null) {
+                    System.arraycopy(mesh.getUVs(), i * 2, uvs, remap[i] * 2, 2);
+                }
+            }
+        }
+
+        return rebuild(mesh, vertices, uvs, triangles);
+    }
+
+    /**
+     * Reorder triangles using Tipsify (Sander, Nehab and Barczak 2007)
+     * 
+     * @param indices The triangle indices to reorder
+     * @param vertexCount The amount of vertices the triangles index into
+     * @param cacheSize The size of the vertex cache to optimize for
+     * @param clusters A list to add the first triangle of each hard cluster to (Can be null)
+     * 
+     * @return The reordered triangle indices
+     * 
+     * @since 2.6.0
+     */
+    private static int[] tipsify(int[] indices, int vertexCount, int cacheSize, List<Integer> clusters) {
+        int triangleCount = indices.length / 3;
+
+        if (triangleCount == 0) {
+            return new int[0];
+        }
+
+        int[] liveCount = new int[vertexCount];
+        for (int index : indices) {
+            liveCount[index]++;
+        }
+
+        int[] adjacencyOffsets = new int[vertexCount + 1];
+        for (int i = 0; i < vertexCount; i++) {
+            adjacencyOffsets[i + 1] = adjacencyOffsets[i] + liveCount[i];
+        }
+
+        int[] adjacency = new int[indices.length];
+        int[] fill = Arrays.copyOf(adjacencyOffsets, vertexCount);
+        for (int i = 0; i < indices.length; i++) {
+            adjacency[fill[indices[i]]++] = i / 3;
+        }
+
+        int[] cacheTime = new int[vertexCount];
+        boolean[] emitted = new boolean[triangleCount];
+
+        int[] deadEnd = new int[indices.length];
+        int deadEndSize = 0;
+
+        int[] candidates = new int[indices.length];
+
+        int[] output = new int[indices.length];
+        int outputSize = 0;
+
+        int timestamp = cacheSize + 1;
+        int cursor = 0;
+
+        int fanning = 0;
+        if (clusters != null && triangleCount > 0) {
+            clusters.add(0);
+        }
+
+        while (fanning >= 0) {
+            int candidateCount = 0;
+
+            for (int a = adjacencyOffsets[fanning]; a < adjacencyOffsets[fanning + 1]; a++) {
+                int triangle = adjacency[a];
+
+                if (!emitted[triangle]) {
+                    for (int k = 0; k < 3; k++) {
+                        int vertex = indices[triangle * 3 + k];
+
+                        output[outputSize++] = vertex;
+                        deadEnd[deadEndSize++] = vertex;
+                        candidates[candidateCount++] = vertex;
+
+                        liveCount[vertex]--;
+
+                        if (timestamp - cacheTime[vertex] > cacheSize) {
+                            cacheTime[vertex] = timestamp++;
+                        }
+                    }
+
+                    emitted[triangle] = true;
+                }
+            }
+
+            int next = -1;
+            int best = -1;
+            for (int c = 0; c < candidateCount; c++) {
+                int vertex = candidates[c];
+
+                if (liveCount[vertex] > 0) {
+                    int priority = 0;
+
+                    if (timestamp - cacheTime[vertex] + 2 * liveCount[vertex] <= cacheSize) {
+                        priority = timestamp - cacheTime[vertex];
+                    }
+
+                    if (priority > best) {
+                        best = priority;
+                        next = vertex;
+                    }
+                }
+            }
+
+            if (next == -1) {
+                while (deadEndSize > 0 && next == -1) {
+                    int vertex = deadEnd[--deadEndSize];
+
+                    if (liveCount[vertex] > 0) {
+                        next = vertex;
+                    }
+                }
+
+                while (cursor < vertexCount && next == -1) {
+                    if (liveCount[cursor] > 0) {
+                        next = cursor;
+                    }
+
+                    cursor++;
+                }
+
+                if (next != -1 && clusters != null && outputSize / 3 < triangleCount) {
+                    clusters.add(outputSize / 3);
+                }
+            }
+
+            fanning = next;
+        }
+
+        return output;
+    }
+
+    /**
+     * Check if two ranges of an array are equal
+     * 
+     * @param array The array to check
+     * @param a The start of the first range
+     * @param b The start of the second range
+     * @param length The length of the ranges
+     * 
+     * @return Weather the ranges are equal
+     * 
+     * @since 2.6.0
+     */
+    private static boolean equalRange(int[] array, int a, int b, int length) {
+        for (int i = 0; i < length; i++) {
+            if (array[a + i] != array[b + i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Convert triangle indices to primitives, checking they are in range
+     * 
+     * @param triangles The triangles to convert
+     * @param vertexCount The amount of vertices the triangles index into
+     * 
+     * @return The converted triangles
+     * 
+     * @throws InvalidDataException If the triangles are not a multiple of 3 or reference vertices that don't exist
+     * 
+     * @since 2.6.0
+     */
+    private static int[] toPrimitive(Integer[] triangles, int vertexCount) throws InvalidDataException {
+        if (triangles.length % 3 != 0) {
+            throw new InvalidDataException("Triangle count must be a multiple of 3");
+        }
+
+        int[] indices = new int[triangles.length];
+
+        for (int i = 0; i < triangles.length; i++) {
+            indices[i] = triangles[i];
+
+            if (indices[i] < 0 || indices[i] >= vertexCount) {
+                throw new InvalidDataException("Triangle index " + indices[i] + " is out of range");
+            }
+        }
+
+        return indices;
+    }
+
+    /**
+     * Convert triangle indices to wrappers
+     * 
+     * @param indices The triangles to convert
+     * 
+     * @return The converted triangles
+     * 
+     * @since 2.6.0
+     */
+    private static Integer[] toWrapper(int[] indices) {
+        Integer[] triangles = new Integer[indices.length];
+
+        for (int i = 0; i < indices.length; i++) {
+            triangles[i] = indices[i];
+        }
+
+        return triangles;
+    }
+
+    /**
+     * Create a new mesh with the same appearance as another but with new data
+     * 
+     * @param mesh The mesh to copy the appearance from
+     * @param vertices The new vertices
+     * @param uvs The new uvs
+     * @param triangles The new triangles
+     * 
+     * @return The new mesh
+     * 
+     * @since 2.6.0
+     */
+    static @NotNull Mesh rebuild(@NotNull Mesh mesh, @NotNull Float[] vertices, Float[] uvs, Integer[] triangles) {
+        if (mesh.getTexture() != null || uvs != null) {
+            return new Mesh(vertices, mesh.getVerticeSize(), mesh.getTexture(), uvs, triangles);
+        } else {
+            return new Mesh(vertices, mesh.getVerticeSize(), mesh.getColor(), triangles);
+        }
+    }
+}
\ No newline at end of file
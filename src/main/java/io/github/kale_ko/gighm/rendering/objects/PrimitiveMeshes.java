@@ -1,20 +1,23 @@
 package io.github.kale_ko.gighm.rendering.objects;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import io.github.kale_ko.gighm.rendering.textures.Texture2DLoader;
+import io.github.kale_ko.gighm.rendering.textures.Texture2D;
 import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.startup.StartupProfiler;
+import io.github.kale_ko.gighm.util.NotNull;
 
 /**
  * Meshes for a few primitive shapes
  * 
+ * The shared meshes are only made the first time each one is needed, and are meant to be copied (Like {@code PrimitiveMeshes.getCube().copy(texture)}) rather than changed
+ * 
  * @author Kale Ko
  * 
- * @version 2.4.0
+ * @version 2.6.0
  * @since 2.0.0
  */
-public class PrimitiveMeshes {
+public class PrimitiveMeshes implements LegacyPrimitiveMeshes {
     /**
      * Create primitive meshes
      * 
@@ -23,14 +26,37 @@ public class PrimitiveMeshes {
     private PrimitiveMeshes() {}
 
     /**
-     * Meshes for a few primitive shapes
+     * Get the shared plane mesh (A 1x1 square)
      * 
-     * @since 2.0.0
+     * @return The plane mesh
+     * 
+     * @since 2.6.0
      */
-    public static final Mesh
-        PLANE = createPlane(0.5f),
-        CUBE = createCube(0.5f),
-        CIRCLE = createCircle(1f, 64);
+    public static @NotNull Mesh getPlane() {
+        return Plane.MESH;
+    }
+
+    /**
+     * Get the shared cube mesh (A 1x1x1 cube)
+     * 
+     * @return The cube mesh
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Mesh getCube() {
+        return Cube.MESH;
+    }
+
+    /**
+     * Get the shared circle mesh (A circle with a radius of 1 made of 64 triangles)
+     * 
+     * @return The circle mesh
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Mesh getCircle() {
+        return Circle.MESH;
+    }
 
     /**
      * Create a plane with a certain size
@@ -41,30 +67,24 @@ public class PrimitiveMeshes {
      * 
      * @since 2.0.0
      */
-    public static Mesh createPlane(Float size) {
-        try {
-            return new Mesh(new Float[] {
-                -size, size,
-                size, size,
-                size, -size,
-
-                -size, size,
-                -size, -size,
-                size, -size
-            }, 2, Texture2DLoader.loadTexture(Texture2DLoader.class.getResourceAsStream("/assets/white.png")), new Float[] {
-                0f, 0f,
-                1f, 0f,
-                1f, 1f,
-
-                0f, 0f,
-                0f, 1f,
-                1f, 1f
-            });
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-
-        return null;
+    public static @NotNull Mesh createPlane(@NotNull Float size) {
+        return MeshOptimizer.generateIndices(new Mesh(new Float[] {
+            -size, size,
+            size, size,
+            size, -size,
+
+            -size, size,
+            -size, -size,
+            size, -size
+        }, 2, Texture2D.getWhite(), new Float[] {
+            0f, 0f,
+            1f, 0f,
+            1f, 1f,
+
+            0f, 0f,
+            0f, 1f,
+            1f, 1f
+        }));
     }
 
     /**
@@ -76,122 +96,116 @@ public class PrimitiveMeshes {
      * 
      * @since 2.0.0
      */
-    public static Mesh createCube(Float size) {
-        try {
-            return new Mesh(new Float[] {
-                // Front
-                -size, size, size,
-                size, size, size,
-                size, -size, size,
-
-                -size, size, size,
-                -size, -size, size,
-                size, -size, size,
-
-                // Back
-                -size, size, -size,
-                size, size, -size,
-                size, -size, -size,
-
-                -size, size, -size,
-                -size, -size, -size,
-                size, -size, -size,
-
-                // Left
-                -size, -size, size,
-                -size, size, size,
-                -size, size, -size,
-
-                -size, -size, size,
-                -size, -size, -size,
-                -size, size, -size,
-
-                // Right
-                size, -size, size,
-                size, size, size,
-                size, size, -size,
-
-                size, -size, size,
-                size, -size, -size,
-                size, size, -size,
-
-                // Top
-                -size, size, size,
-                size, size, size,
-                size, size, -size,
-
-                -size, size, size,
-                -size, size, -size,
-                size, size, -size,
-
-                // Bottom
-                -size, -size, size,
-                size, -size, size,
-                size, -size, -size,
-
-                -size, -size, size,
-                -size, -size, -size,
-                size, -size, -size
-            }, 3, Texture2DLoader.loadTexture(Texture2DLoader.class.getResourceAsStream("/assets/white.png")), new Float[] {
-                // Front
-                0f, 0f,
-                1f, 0f,
-                1f, 1f,
-
-                0f, 0f,
-                0f, 1f,
-                1f, 1f,
-
-                // Back
-                1f, 0f,
-                0f, 0f,
-                0f, 1f,
-
-                1f, 0f,
-                1f, 1f,
-                0f, 1f,
-
-                // Left
-                1f, 1f,
-                1f, 0f,
-                0f, 0f,
-
-                1f, 1f,
-                0f, 1f,
-                0f, 0f,
-
-                // Right
-                0f, 1f,
-                0f, 0f,
-                1f, 0f,
-
-                0f, 1f,
-                1f, 1f,
-                1f, 0f,
-
-                // Top
-                0f, 1f,
-                1f, 1f,
-                1f, 0f,
-
-                0f, 1f,
-                0f, 0f,
-                1f, 0f,
-
-                // Bottom
-                0f, 1f,
-                1f, 1f,
-                1f, 0f,
-
-                0f, 1f,
-                0f, 0f,
-                1f, 0f,
-            });
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-
-        return null;
+    public static @NotNull Mesh createCube(@NotNull Float size) {
+        return MeshOptimizer.generateIndices(new Mesh(new Float[] {
+            // Front
+            -size, size, size,
+            size, size, size,
+            size, -size, size,
+
+            -size, size, size,
+            -size, -size, size,
+            size, -size, size,
+
+            // Back
+            -size, size, -size,
+            size, size, -size,
+            size, -size, -size,
+
+            -size, size, -size,
+            -size, -size, -size,
+            size, -size, -size,
+
+            // Left
+            -size, -size, size,
+            -size, size, size,
+            -size, size, -size,
+
+            -size, -size, size,
+            -size, -size, -size,
+            -size, size, -size,
+
+            // Right
+            size, -size, size,
+            size, size, size,
+            size, size, -size,
+
+            size, -size, size,
+            size, -size, -size,
+            size, size, -size,
+
+            // Top
+            -size, size, size,
+            size, size, size,
+            size, size, -size,
+
+            -size, size, size,
+            -size, size, -size,
+            size, size, -size,
+
+            // Bottom
+            -size, -size, size,
+            size, -size, size,
+            size, -size, -size,
+
+            -size, -size, size,
+            -size, -size, -size,
+            size, -size, -size
+        }, 3, Texture2D.getWhite(), new Float[] {
+            // Front
+            0f, 0f,
+            1f, 0f,
+            1f, 1f,
+
+            0f, 0f,
+            0f, 1f,
+            1f, 1f,
+
+            // Back
+            1f, 0f,
+            0f, 0f,
+            0f, 1f,
+
+            1f, 0f,
+            1f, 1f,
+            0f, 1f,
+
+            // Left
+            1f, 1f,
+            1f, 0f,
+            0f, 0f,
+
+            1f, 1f,
+            0f, 1f,
+            0f, 0f,
+
+            // Right
+            0f, 1f,
+            0f, 0f,
+            1f, 0f,
+
+            0f, 1f,
+            1f, 1f,
+            1f, 0f,
+
+            // Top
+            0f, 1f,
+            1f, 1f,
+            1f, 0f,
+
+            0f, 1f,
+            0f, 0f,
+            1f, 0f,
+
+            // Bottom
+            0f, 1f,
+            1f, 1f,
+            1f, 0f,
+
+            0f, 1f,
+            0f, 0f,
+            1f, 0f,
+        }));
     }
 
     /**
@@ -204,36 +218,105 @@ public class PrimitiveMeshes {
      * 
      * @since 2.3.0
      */
-    public static Mesh createCircle(Float radius, Integer quality) {
-        try {
-            List<Float> points = new ArrayList<Float>();
-            List<Float> uvs = new ArrayList<Float>();
+    public static @NotNull Mesh createCircle(@NotNull Float radius, @NotNull Integer quality) {
+        List<Float> points = new ArrayList<Float>();
+        List<Float> uvs = new ArrayList<Float>();
+
+        for (Integer i = 0; i < quality; i++) {
+            points.add((float) Math.cos(((Math.PI * 2) / quality) * i) * radius);
+            points.add((float) Math.sin(((Math.PI * 2) / quality) * i) * radius);
 
-            for (Integer i = 0; i < quality; i++) {
-                points.add((float) Math.cos(((Math.PI * 2) / quality) * i) * radius);
-                points.add((float) Math.sin(((Math.PI * 2) / quality) * i) * radius);
+            points.add(0f);
+            points.add(0f);
 
-                points.add(0f);
-                points.add(0f);
+            points.add((float) Math.cos(((Math.PI * 2) / quality) * (i + 1)) * radius);
+            points.add((float) Math.sin(((Math.PI * 2) / quality) * (i + 1)) * radius);
 
-                points.add((float) Math.cos(((Math.PI * 2) / quality) * (i + 1)) * radius);
-                points.add((float) Math.sin(((Math.PI * 2) / quality) * (i + 1)) * radius);
+            uvs.add(Math.abs((float) Math.cos(((Math.PI * 2) / quality) * i) / 2 + 0.5f));
+            uvs.add(Math.abs(-(float) Math.sin(((Math.PI * 2) / quality) * i) / 2 + 0.5f));
 
-                uvs.add(Math.abs((float) Math.cos(((Math.PI * 2) / quality) * i) / 2 + 0.5f));
-                uvs.add(Math.abs(-(float) Math.sin(((Math.PI * 2) / quality) * i) / 2 + 0.5f));
+            uvs.add(0.5f);
+            uvs.add(0.5f);
 
-                uvs.add(0.5f);
-                uvs.add(0.5f);
+            uvs.add(Math.abs((float) Math.cos(((Math.PI * 2) / quality) * (i + 1)) / 2 + 0.5f));
+            uvs.add(Math.abs(-(float) Math.sin(((Math.PI * 2) / quality) * (i + 1)) / 2 + 0.5f));
+        }
 
-                uvs.add(Math.abs((float) Math.cos(((Math.PI * 2) / quality) * (i + 1)) / 2 + 0.5f));
-                uvs.add(Math.abs(-(float) Math.sin(((Math.PI * 2) / quality) * (i + 1)) / 2 + 0.5f));
-            }
+        return MeshOptimizer.generateIndices(new Mesh(points.toArray(new Float[] {}), 2, Texture2D.getWhite(), uvs.toArray(new Float[] {})));
+    }
 
-            return new Mesh(points.toArray(new Float[] {}), 2, Texture2DLoader.loadTexture(Texture2DLoader.class.getResourceAsStream("/assets/white.png")), uvs.toArray(new Float[] {}));
-        } catch (IOException e) {
-            e.printStackTrace();
+    /**
+     * Holds the shared plane mesh, so it is only made the first time it is needed (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class Plane {
+        /**
+         * The shared plane mesh
+         * 
+         * @since 2.6.0
+         */
+        public static final @NotNull Mesh MESH;
+
+        static {
+            Long start = StartupProfiler.begin();
+
+            MESH = createPlane(0.5f);
+
+            StartupProfiler.end("Initialize the primitive plane", start);
+        }
+    }
+
+    /**
+     * Holds the shared cube mesh, so it is only made the first time it is needed (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class Cube {
+        /**
+         * The shared cube mesh
+         * 
+         * @since 2.6.0
+         */
+        public static final @NotNull Mesh MESH;
+
+        static {
+            Long start = StartupProfiler.begin();
+
+            MESH = createCube(0.5f);
+
+            StartupProfiler.end("Initialize the primitive cube", start);
         }
+    }
+
+    /**
+     * Holds the shared circle mesh, so it is only made the first time it is needed (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class Circle {
+        /**
+         * The shared circle mesh
+         * 
+         * @since 2.6.0
+         */
+        public static final @NotNull Mesh MESH;
 
-        return null;
+        static {
+            Long start = StartupProfiler.begin();
+
+            MESH = createCircle(1f, 64);
+
+            StartupProfiler.end("Initialize the primitive circle", start);
+        }
     }
 }
\ No newline at end of file
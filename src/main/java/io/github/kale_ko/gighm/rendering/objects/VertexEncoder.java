@@ -0,0 +1,637 @@
+package io.github.kale_ko.gighm.rendering.objects;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.lwjgl.BufferUtils;
+import io.github.kale_ko.gighm.util.ArrayUtils;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A utility for packing vertex attributes into the narrowest format that stays within an error tolerance
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class VertexEncoder {
+    /**
+     * The formats a vertex attribute can be stored in
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    public enum Format {
+        /**
+         * 32-bit floats
+         * 
+         * @since 2.6.0
+         */
+        FLOAT(4),
+
+        /**
+         * 16-bit half floats
+         * 
+         * @since 2.6.0
+         */
+        HALF_FLOAT(2),
+
+        /**
+         * 16-bit unsigned shorts normalized to 0-1 and remapped using the attributes offset and scale
+         * 
+         * @since 2.6.0
+         */
+        NORMALIZED_SHORT(2),
+
+        /**
+         * 16-bit signed shorts normalized to -1-1 holding an octahedral encoded unit vector
+         * 
+         * @since 2.6.0
+         */
+        OCTAHEDRAL_SHORT(2);
+
+        /**
+         * The size in bytes of a single component
+         * 
+         * @since 2.6.0
+         */
+        private final Integer bytes;
+
+        /**
+         * Create a format
+         * 
+         * @param bytes The size in bytes of a single component
+         * 
+         * @since 2.6.0
+         */
+        private Format(@NotNull Integer bytes) {
+            this.bytes = bytes;
+        }
+
+        /**
+         * Get the size in bytes of a single component
+         * 
+         * @return The size in bytes of a single component
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer getBytes() {
+            return this.bytes;
+        }
+    }
+
+    /**
+     * An encoded vertex attribute ready for uploading
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    public static class EncodedAttribute {
+        /**
+         * The format the attribute is stored in
+         * 
+         * @since 2.6.0
+         */
+        private final @NotNull Format format;
+
+        /**
+         * How many components the shader reads per vertex
+         * 
+         * @since 2.6.0
+         */
+        private final @NotNull Integer components;
+
+        /**
+         * The distance in bytes between vertices (Components are padded to keep vertices 4 byte aligned)
+         * 
+         * @since 2.6.0
+         */
+        private final @NotNull Integer stride;
+
+        /**
+         * The offset to add to each component after decoding
+         * 
+         * @since 2.6.0
+         */
+        private final @NotNull float[] offset;
+
+        /**
+         * The scale to multiply each component by after decoding
+         * 
+         * @since 2.6.0
+         */
+        private final @NotNull float[] scale;
+
+        /**
+         * The encoded data
+         * 
+         * @since 2.6.0
+         */
+        private final @NotNull ByteBuffer data;
+
+        /**
+         * Create an encoded attribute
+         * 
+         * @param format The format the attribute is stored in
+         * @param components How many components the shader reads per vertex
+         * @param stride The distance in bytes between vertices
+         * @param offset The offset to add to each component after decoding
+         * @param scale The scale to multiply each component by after decoding
+         * @param data The encoded data
+         * 
+         * @since 2.6.0
+         */
+        protected EncodedAttribute(@NotNull Format format, @NotNull Integer components, @NotNull Integer stride, @NotNull float[] offset, @NotNull float[] scale, @NotNull ByteBuffer data) {
+            this.format = format;
+            this.components = components;
+            this.stride = stride;
+            this.offset = offset;
+            this.scale = scale;
+            this.data = data;
+        }
+
+        /**
+         * Get the format the attribute is stored in
+         * 
+         * @return The format the attribute is stored in
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Format getFormat() {
+            return this.format;
+        }
+
+        /**
+         * Get how many components the shader reads per vertex
+         * 
+         * @return How many components the shader reads per vertex
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer getComponents() {
+            return this.components;
+        }
+
+        /**
+         * Get the distance in bytes between vertices
+         * 
+         * @return The distance in bytes between vertices
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Integer getStride() {
+            return this.stride;
+        }
+
+        /**
+         * Get the offset to add to a component after decoding
+         * 
+         * @param component The component
+         * 
+         * @return The offset to add to the component after decoding
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Float getOffset(@NotNull Integer component) {
+            return this.offset[component];
+        }
+
+        /**
+         * Get the scale to multiply a component by after decoding
+         * 
+         * @param component The component
+         * 
+         * @return The scale to multiply the component by after decoding
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull Float getScale(@NotNull Integer component) {
+            return this.scale[component];
+        }
+
+        /**
+         * Get the encoded data
+         * 
+         * @return The encoded data
+         * 
+         * @since 2.6.0
+         */
+        public @NotNull ByteBuffer getData() {
+            return this.data;
+        }
+    }
+
+    /**
+     * Create a vertex encoder
+     * 
+     * @since 2.6.0
+     */
+    private VertexEncoder() {}
+
+    /**
+     * Encode vertex positions, preferring 16-bit normalized values relative to the bounds of the mesh, then half floats, then floats
+     * 
+     * @param vertices The positions to encode
+     * @param verticeSize How many numbers define a point
+     * @param tolerance The largest error allowed in any component, relative to the size of the mesh (0.0001 allows an error of a ten thousandth of the longest side of its bounds)
+     * 
+     * @return The encoded positions
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull EncodedAttribute encodePositions(@NotNull Float[] vertices, @NotNull Integer verticeSize, @NotNull Float tolerance) {
+        NullUtils.checkNulls(vertices, "vertices");
+        NullUtils.checkNulls(verticeSize, "verticeSize");
+        NullUtils.checkNulls(tolerance, "tolerance");
+
+        float[] values = ArrayUtils.toPrimitive(vertices);
+
+        float[] min = new float[verticeSize];
+        float[] extent = new float[verticeSize];
+        float size = 0;
+        for (int k = 0; k < verticeSize; k++) {
+            min[k] = Float.POSITIVE_INFINITY;
+            float max = Float.NEGATIVE_INFINITY;
+
+            for (int i = k; i < values.length; i += verticeSize) {
+                min[k] = Math.min(min[k], values[i]);
+                max = Math.max(max, values[i]);
+            }
+
+            if (values.length == 0) {
+                min[k] = 0;
+                max = 0;
+            }
+
+            // A flat axis still needs an invertible decode transform
+            extent[k] = max > min[k] ? max - min[k] : 1;
+            size = Math.max(size, max - min[k]);
+        }
+
+        // An absolute tolerance would only ever let tiny meshes be compressed, since the error of the compact formats grows with the size of the mesh
+        float allowed = tolerance * (size > 0 ? size : 1);
+
+        if (normalizedError(values, verticeSize, min, extent) <= allowed) {
+            return encodeNormalized(values, verticeSize, min, extent);
+        } else if (halfError(values) <= allowed) {
+            return encodeHalf(values, verticeSize);
+        } else {
+            return encodeFloat(values, verticeSize);
+        }
+    }
+
+    /**
+     * Encode texture coordinates, preferring 16-bit normalized values when they are all within 0-1, then half floats, then floats
+     * 
+     * @param uvs The texture coordinates to encode
+     * @param tolerance The largest error allowed in any component
+     * 
+     * @return The encoded texture coordinates
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull EncodedAttribute encodeUVs(@NotNull Float[] uvs, @NotNull Float tolerance) {
+        NullUtils.checkNulls(uvs, "uvs");
+        NullUtils.checkNulls(tolerance, "tolerance");
+
+        float[] values = ArrayUtils.toPrimitive(uvs);
+
+        Boolean inRange = true;
+        for (float value : values) {
+            if (value < 0 || value > 1) {
+                inRange = false;
+                break;
+            }
+        }
+
+        float[] min = new float[] { 0, 0 };
+        float[] extent = new float[] { 1, 1 };
+
+        if (inRange && normalizedError(values, 2, min, extent) <= tolerance) {
+            return encodeNormalized(values, 2, min, extent);
+        } else if (halfError(values) <= tolerance) {
+            return encodeHalf(values, 2);
+        } else {
+            return encodeFloat(values, 2);
+        }
+    }
+
+    /**
+     * Encode unit normals using an octahedral mapping into two 16-bit values, falling back to floats if that exceeds the tolerance
+     * 
+     * @param normals The normals to encode (3 numbers per normal)
+     * @param tolerance The largest error allowed in any component
+     * 
+     * @return The encoded normals (An {@link Format#OCTAHEDRAL_SHORT} attribute must be decoded with {@link #octahedralDecode(float, float)} in the shader)
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull EncodedAttribute encodeNormals(@NotNull Float[] normals, @NotNull Float tolerance) {
+        NullUtils.checkNulls(normals, "normals");
+        NullUtils.checkNulls(tolerance, "tolerance");
+
+        float[] values = ArrayUtils.toPrimitive(normals);
+
+        ByteBuffer data = BufferUtils.createByteBuffer((values.length / 3) * 4).order(ByteOrder.nativeOrder());
+
+        float error = 0;
+        for (int i = 0; i + 2 < values.length; i += 3) {
+            float[] encoded = octahedralEncode(values[i], values[i + 1], values[i + 2]);
+
+            short x = (short) Math.round(encoded[0] * 32767f);
+            short y = (short) Math.round(encoded[1] * 32767f);
+            data.putShort(x);
+            data.putShort(y);
+
+            float[] decoded = octahedralDecode(Math.max(x / 32767f, -1f), Math.max(y / 32767f, -1f));
+            float length = (float) Math.sqrt(values[i] * values[i] + values[i + 1] * values[i + 1] + values[i + 2] * values[i + 2]);
+            for (int k = 0; k < 3; k++) {
+                error = Math.max(error, Math.abs(decoded[k] - (length > 0 ? values[i + k] / length : 0)));
+            }
+        }
+        data.flip();
+
+        if (error <= tolerance) {
+            return new EncodedAttribute(Format.OCTAHEDRAL_SHORT, 2, 4, new float[] { 0, 0 }, new float[] { 1, 1 }, data);
+        } else {
+            return encodeFloat(values, 3);
+        }
+    }
+
+    /**
+     * Map a unit vector onto the octahedron and unfold it into a square
+     * 
+     * @param x The x of the vector
+     * @param y The y of the vector
+     * @param z The z of the vector
+     * 
+     * @return The encoded vector (2 numbers from -1 to 1)
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull float[] octahedralEncode(float x, float y, float z) {
+        float sum = Math.abs(x) + Math.abs(y) + Math.abs(z);
+        if (sum == 0) {
+            return new float[] { 0, 0 };
+        }
+
+        float u = x / sum;
+        float v = y / sum;
+
+        if (z < 0) {
+            float wrappedU = (1 - Math.abs(v)) * (u >= 0 ? 1 : -1);
+            float wrappedV = (1 - Math.abs(u)) * (v >= 0 ? 1 : -1);
+
+            u = wrappedU;
+            v = wrappedV;
+        }
+
+        return new float[] { u, v };
+    }
+
+    /**
+     * Decode an octahedral encoded unit vector
+     * 
+     * @param u The first encoded number
+     * @param v The second encoded number
+     * 
+     * @return The decoded unit vector
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull float[] octahedralDecode(float u, float v) {
+        float z = 1 - Math.abs(u) - Math.abs(v);
+
+        if (z < 0) {
+            float unwrappedU = (1 - Math.abs(v)) * (u >= 0 ? 1 : -1);
+            float unwrappedV = (1 - Math.abs(u)) * (v >= 0 ? 1 : -1);
+
+            u = unwrappedU;
+            v = unwrappedV;
+        }
+
+        float length = (float) Math.sqrt(u * u + v * v + z * z);
+
+        return new float[] { u / length, v / length, z / length };
+    }
+
+    /**
+     * Convert a float to a half float
+     * 
+     * @param value The float to convert
+     * 
+     * @return The bits of the half float
+     * 
+     * @since 2.6.0
+     */
+    public static short toHalf(float value) {
+        int bits = Float.floatToIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int exponent = ((bits >>> 23) & 0xFF) - 127 + 15;
+        int mantissa = bits & 0x7FFFFF;
+
+        if (((bits >>> 23) & 0xFF) == 0xFF) {
+            return (short) (sign | 0x7C00 | (mantissa != 0 ? 0x200 : 0));
+        } else if (exponent >= 0x1F) {
+            return (short) (sign | 0x7C00);
+        } else if (exponent <= 0) {
+            if (exponent < -10) {
+                return (short) sign;
+            }
+
+            mantissa |= 0x800000;
+            int shift = 14 - exponent;
+            int half = mantissa >> shift;
+            if (((mantissa >> (shift - 1)) & 1) != 0 && ((mantissa & ((1 << (shift - 1)) - 1)) != 0 || (half & 1) != 0)) {
+                half++;
+            }
+
+            return (short) (sign | half);
+        } else {
+            int half = sign | (exponent << 10) | (mantissa >> 13);
+            if ((mantissa & 0x1000) != 0 && ((mantissa & 0xFFF) != 0 || (half & 1) != 0)) {
+                half++;
+            }
+
+            return (short) half;
+        }
+    }
+
+    /**
+     * Convert a half float to a float
+     * 
+     * @param half The bits of the half float
+     * 
+     * @return The float
+     * 
+     * @since 2.6.0
+     */
+    public static float fromHalf(short half) {
+        int sign = (half & 0x8000) << 16;
+        int exponent = (half >>> 10) & 0x1F;
+        int mantissa = half & 0x3FF;
+
+        if (exponent == 0) {
+            float value = mantissa / 16777216f;
+
+            return sign != 0 ? -value : value;
+        } else if (exponent == 0x1F) {
+            return Float.intBitsToFloat(sign | 0x7F800000 | (mantissa << 13));
+        } else {
+            return Float.intBitsToFloat(sign | ((exponent - 15 + 127) << 23) | (mantissa << 13));
+        }
+    }
+
+    /**
+     * Get the largest error of encoding values as normalized shorts
+     * 
+     * @param values The values to check
+     * @param size How many numbers are in a vertex
+     * @param min The minimum of each component
+     * @param extent The extent of each component
+     * 
+     * @return The largest error
+     * 
+     * @since 2.6.0
+     */
+    private static float normalizedError(float[] values, int size, float[] min, float[] extent) {
+        float error = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            int k = i % size;
+            float decoded = min[k] + (toNormalized(values[i], min[k], extent[k]) / 65535f) * extent[k];
+
+            error = Math.max(error, Math.abs(decoded - values[i]));
+        }
+
+        return error;
+    }
+
+    /**
+     * Get the largest error of encoding values as half floats
+     * 
+     * @param values The values to check
+     * 
+     * @return The largest error
+     * 
+     * @since 2.6.0
+     */
+    private static float halfError(float[] values) {
+        float error = 0;
+
+        for (float value : values) {
+            error = Math.max(error, Math.abs(fromHalf(toHalf(value)) - value));
+        }
+
+        return error;
+    }
+
+    /**
+     * Quantize a value to a 16-bit unsigned integer relative to a range
+     * 
+     * @param value The value to quantize
+     * @param min The minimum of the range
+     * @param extent The extent of the range
+     * 
+     * @return The quantized value
+     * 
+     * @since 2.6.0
+     */
+    private static int toNormalized(float value, float min, float extent) {
+        return Math.max(0, Math.min(65535, Math.round(((value - min) / extent) * 65535f)));
+    }
+
+    /**
+     * Encode values as normalized shorts
+     * 
+     * @param values The values to encode
+     * @param size How many numbers are in a vertex
+     * @param min The minimum of each component
+     * @param extent The extent of each component
+     * 
+     * @return The encoded attribute
+     * 
+     * @since 2.6.0
+     */
+    private static EncodedAttribute encodeNormalized(float[] values, int size, float[] min, float[] extent) {
+        int padded = (size + 1) & ~1;
+        int count = values.length / size;
+
+        ByteBuffer data = BufferUtils.createByteBuffer(count * padded * 2).order(ByteOrder.nativeOrder());
+        for (int i = 0; i < count; i++) {
+            for (int k = 0; k < padded; k++) {
+                data.putShort((short) (k < size ? toNormalized(values[i * size + k], min[k], extent[k]) : 0));
+            }
+        }
+        data.flip();
+
+        return new EncodedAttribute(Format.NORMALIZED_SHORT, size, padded * 2, min, extent, data);
+    }
+
+    /**
+     * Encode values as half floats
+     * 
+     * @param values The values to encode
+     * @param size How many numbers are in a vertex
+     * 
+     * @return The encoded attribute
+     * 
+     * @since 2.6.0
+     */
+    private static EncodedAttribute encodeHalf(float[] values, int size) {
+        int padded = (size + 1) & ~1;
+        int count = values.length / size;
+
+        ByteBuffer data = BufferUtils.createByteBuffer(count * padded * 2).order(ByteOrder.nativeOrder());
+        for (int i = 0; i < count; i++) {
+            for (int k = 0; k < padded; k++) {
+                data.putShort(k < size ? toHalf(values[i * size + k]) : 0);
+            }
+        }
+        data.flip();
+
+        return new EncodedAttribute(Format.HALF_FLOAT, size, padded * 2, new float[size], filled(size, 1), data);
+    }
+
+    /**
+     * Encode values as floats
+     * 
+     * @param values The values to encode
+     * @param size How many numbers are in a vertex
+     * 
+     * @return The encoded attribute
+     * 
+     * @since 2.6.0
+     */
+    private static EncodedAttribute encodeFloat(float[] values, int size) {
+        ByteBuffer data = BufferUtils.createByteBuffer(values.length * 4).order(ByteOrder.nativeOrder());
+        data.asFloatBuffer().put(values);
+
+        return new EncodedAttribute(Format.FLOAT, size, size * 4, new float[size], filled(size, 1), data);
+    }
+
+    /**
+     * Create an array filled with a value
+     * 
+     * @param size The size of the array
+     * @param value The value to fill with
+     * 
+     * @return The filled array
+     * 
+     * @since 2.6.0
+     */
+    private static float[] filled(int size, float value) {
+        float[] array = new float[size];
+
+        for (int i = 0; i < size; i++) {
+            array[i] = value;
+        }
+
+        return array;
+    }
+}
\ No newline at end of file
@@ -1,5 +1,12 @@
 package io.github.kale_ko.gighm.rendering.shaders;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import io.github.kale_ko.gighm.util.NotNull;
 import io.github.kale_ko.gighm.util.NullUtils;
 
@@ -8,10 +15,24 @@ import io.github.kale_ko.gighm.util.NullUtils;
  * 
  * @author Kale Ko
  * 
- * @version 1.3.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class Shader {
+    /**
+     * A pattern matching preprocessor conditionals (Used to find the features a shader supports)
+     * 
+     * @since 2.6.0
+     */
+    private static final Pattern CONDITIONAL_PATTERN = Pattern.compile("^\\s*#\\s*(?:if|ifdef|ifndef|elif)\\b(.*)$", Pattern.MULTILINE);
+
+    /**
+     * A pattern matching the #version directive
+     * 
+     * @since 2.6.0
+     */
+    private static final Pattern VERSION_PATTERN = Pattern.compile("^\\s*#\\s*version\\b.*$\\n?", Pattern.MULTILINE);
+
     /**
      * The source data of the vertex shader
      * 
@@ -26,6 +47,27 @@ public class Shader {
      */
     private @NotNull String fragmentSource;
 
+    /**
+     * The features the shader checks for
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Set<ShaderFeature> features;
+
+    /**
+     * The features defined in this variant of the shader
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Set<ShaderFeature> defines;
+
+    /**
+     * The variants of the shader that have been created (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Map<Set<ShaderFeature>, Shader> variants = new HashMap<Set<ShaderFeature>, Shader>();
+
     /**
      * Create a shader
      * 
@@ -40,6 +82,42 @@ public class Shader {
 
         this.vertexSource = vertexSource;
         this.fragmentSource = fragmentSource;
+
+        this.features = EnumSet.noneOf(ShaderFeature.class);
+        for (String source : new String[] { vertexSource, fragmentSource }) {
+            Matcher matcher = CONDITIONAL_PATTERN.matcher(source);
+
+            while (matcher.find()) {
+                for (ShaderFeature feature : ShaderFeature.values()) {
+                    if (Pattern.compile("\\b" + feature.getDefine() + "\\b").matcher(matcher.group(1)).find()) {
+                        this.features.add(feature);
+                    }
+                }
+            }
+        }
+        this.features = Collections.unmodifiableSet(this.features);
+
+        this.defines = Collections.unmodifiableSet(EnumSet.noneOf(ShaderFeature.class));
+
+        this.variants.put(EnumSet.noneOf(ShaderFeature.class), this);
+    }
+
+    /**
+     * Create a variant of a shader
+     * 
+     * @param base The shader the variant is of
+     * @param defines The features to define
+     * 
+     * @since 2.6.0
+     */
+    private Shader(@NotNull Shader base, @NotNull Set<ShaderFeature> defines) {
+        this.vertexSource = define(base.vertexSource, defines);
+        this.fragmentSource = define(base.fragmentSource, defines);
+
+        this.features = base.features;
+        this.defines = Collections.unmodifiableSet(defines);
+
+        this.variants = base.variants;
     }
 
     /**
@@ -63,4 +141,104 @@ public class Shader {
     public @NotNull String getFragmentSource() {
         return this.fragmentSource;
     }
+
+    /**
+     * Get the features the shader checks for (Found from its #if, #ifdef, #ifndef and #elif directives)
+     * 
+     * @return The features the shader checks for
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Set<ShaderFeature> getFeatures() {
+        return this.features;
+    }
+
+    /**
+     * Get the features defined in this variant of the shader
+     * 
+     * @return The features defined in this variant
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Set<ShaderFeature> getDefines() {
+        return this.defines;
+    }
+
+    /**
+     * Get a variant of the shader with certain features defined, creating it if it doesn't exist yet
+     * (Features the shader doesn't check for are ignored, so shaders without any features always return themselves)
+     * 
+     * @param features The features to define
+     * 
+     * @return The variant of the shader
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Shader getVariant(@NotNull Set<ShaderFeature> features) {
+        NullUtils.checkNulls(features, "features");
+
+        Set<ShaderFeature> key = EnumSet.noneOf(ShaderFeature.class);
+        for (ShaderFeature feature : features) {
+            if (this.features.contains(feature)) {
+                key.add(feature);
+            }
+        }
+
+        Shader variant = this.variants.get(key);
+        if (variant == null) {
+            variant = new Shader(this.getBase(), key);
+            this.variants.put(key, variant);
+        }
+
+        return variant;
+    }
+
+    /**
+     * Get the shader this is a variant of
+     * 
+     * @return The base shader (This shader if it isn't a variant)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Shader getBase() {
+        return this.variants.get(EnumSet.noneOf(ShaderFeature.class));
+    }
+
+    /**
+     * Insert #defines for features into a shader source after its #version directive, followed by a #line directive so compile errors still point at the original lines
+     * 
+     * @param source The source to insert into
+     * @param defines The features to define
+     * 
+     * @return The source with the defines
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull String define(@NotNull String source, @NotNull Set<ShaderFeature> defines) {
+        if (defines.isEmpty()) {
+            return source;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (ShaderFeature feature : defines) {
+            lines.append("#define ").append(feature.getDefine()).append("\n");
+        }
+
+        Matcher matcher = VERSION_PATTERN.matcher(source);
+        if (matcher.find()) {
+            String head = source.substring(0, matcher.end()) + (matcher.group().endsWith("\n") ? "" : "\n");
+
+            // The line after the #version directive keeps the number it had in the original source
+            Integer line = 1;
+            for (Integer i = 0; i < head.length(); i++) {
+                if (head.charAt(i) == '\n') {
+                    line++;
+                }
+            }
+
+            return head + lines + "#line " + line + "\n" + source.substring(matcher.end());
+        } else {
+            return lines + "#line 1\n" + source;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,235 @@
+package io.github.kale_ko.gighm.rendering.shaders;
+
+import static org.lwjgl.opengl.GL41C.*;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import org.lwjgl.BufferUtils;
+import io.github.kale_ko.gighm.rendering.backend.RenderCapabilities;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * An on-disk cache of linked shader program binaries, so later startups can skip compiling and linking
+ * 
+ * Binaries are keyed by a hash of the shader sources and the driver vendor, renderer and version, so a driver update never loads a stale binary
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class ShaderCache {
+    /**
+     * The directory the binaries are stored in
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull File directory;
+
+    /**
+     * Create a shader cache
+     * 
+     * @param directory The directory to store the binaries in (Created if it doesn't exist)
+     * 
+     * @since 2.6.0
+     */
+    public ShaderCache(@NotNull File directory) {
+        NullUtils.checkNulls(directory, "directory");
+
+        this.directory = directory;
+    }
+
+    /**
+     * Create a shader cache
+     * 
+     * @param directory The directory to store the binaries in (Created if it doesn't exist)
+     * 
+     * @since 2.6.0
+     */
+    public ShaderCache(@NotNull String directory) {
+        this(new File(directory));
+    }
+
+    /**
+     * Get the directory the binaries are stored in
+     * 
+     * @return The directory the binaries are stored in
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull File getDirectory() {
+        return this.directory;
+    }
+
+    /**
+     * Get the key a shader is stored under
+     * 
+     * @param shader The shader to get the key of
+     * @param capabilities The capabilities of the context the shader is linked in
+     * 
+     * @return The hex sha-256 of the shader sources and driver
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull String getKey(@NotNull Shader shader, @NotNull RenderCapabilities capabilities) {
+        NullUtils.checkNulls(shader, "shader");
+        NullUtils.checkNulls(capabilities, "capabilities");
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            for (String part : new String[] { shader.getVertexSource(), shader.getFragmentSource(), capabilities.getVendor(), capabilities.getRenderer(), capabilities.getVersion() }) {
+                byte[] bytes = part.getBytes(StandardCharsets.UTF_8);
+
+                digest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+                digest.update(bytes);
+            }
+
+            StringBuilder key = new StringBuilder();
+            for (byte b : digest.digest()) {
+                key.append(String.format("%02x", b));
+            }
+
+            return key.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Load a cached program binary into a new program
+     * 
+     * @param shader The shader to load
+     * @param capabilities The capabilities of the current context
+     * 
+     * @return The gl id of the linked program (Null if there is no binary or the driver rejected it)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable Integer load(@NotNull Shader shader, @NotNull RenderCapabilities capabilities) {
+        NullUtils.checkNulls(shader, "shader");
+        NullUtils.checkNulls(capabilities, "capabilities");
+
+        if (!capabilities.getProgramBinary()) {
+            return null;
+        }
+
+        File file = new File(this.directory, getKey(shader, capabilities) + ".bin");
+        if (!file.isFile()) {
+            return null;
+        }
+
+        byte[] data;
+        try {
+            data = Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            return null;
+        }
+
+        if (data.length <= 4) {
+            file.delete();
+
+            return null;
+        }
+
+        ByteBuffer binary = BufferUtils.createByteBuffer(data.length - 4);
+        binary.put(data, 4, data.length - 4).flip();
+        Integer format = ByteBuffer.wrap(data, 0, 4).getInt();
+
+        Integer programId = glCreateProgram();
+        glProgramBinary(programId, format, binary);
+
+        if (glGetProgrami(programId, GL_LINK_STATUS) != GL_TRUE) {
+            // The driver rejected the binary (Generally because it was updated), so it will be recompiled and replaced
+            glDeleteProgram(programId);
+            file.delete();
+
+            return null;
+        }
+
+        return programId;
+    }
+
+    /**
+     * Save the binary of a linked program
+     * 
+     * @param shader The shader the program was linked from
+     * @param capabilities The capabilities of the current context
+     * @param programId The gl id of the program (Should be linked with GL_PROGRAM_BINARY_RETRIEVABLE_HINT)
+     * 
+     * @return Weather the binary was saved
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean save(@NotNull Shader shader, @NotNull RenderCapabilities capabilities, @NotNull Integer programId) {
+        NullUtils.checkNulls(shader, "shader");
+        NullUtils.checkNulls(capabilities, "capabilities");
+        NullUtils.checkNulls(programId, "programId");
+
+        if (!capabilities.getProgramBinary()) {
+            return false;
+        }
+
+        Integer length = glGetProgrami(programId, GL_PROGRAM_BINARY_LENGTH);
+        if (length <= 0) {
+            return false;
+        }
+
+        ByteBuffer binary = BufferUtils.createByteBuffer(length);
+        IntBuffer format = BufferUtils.createIntBuffer(1);
+        glGetProgramBinary(programId, null, format, binary);
+
+        byte[] data = new byte[4 + binary.remaining()];
+        ByteBuffer.wrap(data).putInt(format.get(0)).put(binary);
+
+        File temp = null;
+        try {
+            if (!this.directory.isDirectory() && !this.directory.mkdirs()) {
+                return false;
+            }
+
+            // Write to a temporary file first so another process never reads a partial binary
+            temp = File.createTempFile("shader", ".tmp", this.directory);
+            Files.write(temp.toPath(), data);
+            Files.move(temp.toPath(), new File(this.directory, getKey(shader, capabilities) + ".bin").toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+            return true;
+        } catch (IOException e) {
+            return false;
+        } finally {
+            // The temporary file is only left over if writing or moving it failed
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp.toPath());
+                } catch (IOException e) {
+                    // There is nothing else to do with it
+                }
+            }
+        }
+    }
+
+    /**
+     * Delete every cached binary
+     * 
+     * @since 2.6.0
+     */
+    public void clear() {
+        File[] files = this.directory.listFiles();
+
+        if (files != null) {
+            for (File file : files) {
+                if (file.getName().endsWith(".bin")) {
+                    file.delete();
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package io.github.kale_ko.gighm.rendering.shaders;
+
+/**
+ * The features a shader can be specialized for, each enabled with a #define of its name
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public enum ShaderFeature {
+    /**
+     * The mesh has uvs and a texture to sample (Otherwise the mesh color is used)
+     * 
+     * @since 2.6.0
+     */
+    TEXTURED,
+
+    /**
+     * The per-object data is read from the object buffer using the instanced object index (Otherwise the model and color uniforms are used)
+     * 
+     * @since 2.6.0
+     */
+    INSTANCED,
+
+    /**
+     * Fragments with an alpha below one half are discarded
+     * 
+     * @since 2.6.0
+     */
+    ALPHA_TEST,
+
+    /**
+     * The mesh is lit by the lights of the frame using the clustered light lists (Only used when the frame has lights and the mesh is depth tested)
+     * 
+     * @since 2.6.0
+     */
+    LIT;
+
+    /**
+     * Get the name of the #define that enables this feature
+     * 
+     * @return The name of the define
+     * 
+     * @since 2.6.0
+     */
+    public String getDefine() {
+        return this.name();
+    }
+}
\ No newline at end of file
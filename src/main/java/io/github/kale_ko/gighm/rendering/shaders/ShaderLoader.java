@@ -5,6 +5,12 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import io.github.kale_ko.gighm.startup.StartupProfiler;
 import io.github.kale_ko.gighm.util.NotNull;
 import io.github.kale_ko.gighm.util.NullUtils;
 
@@ -13,10 +19,17 @@ import io.github.kale_ko.gighm.util.NullUtils;
  * 
  * @author Kale Ko
  * 
- * @version 1.4.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class ShaderLoader {
+    /**
+     * A pattern matching #include directives
+     * 
+     * @since 2.6.0
+     */
+    private static final Pattern INCLUDE_PATTERN = Pattern.compile("^[ \\t]*#[ \\t]*include[ \\t]+\"([^\"]+)\"[ \\t]*$", Pattern.MULTILINE);
+
     /**
      * Create a shader loader
      * 
@@ -59,18 +72,24 @@ public class ShaderLoader {
         NullUtils.checkNulls(vertexFile, "vertexFile");
         NullUtils.checkNulls(fragmentFile, "fragmentFile");
 
-        return loadShader(new FileInputStream(vertexFile), new FileInputStream(fragmentFile));
+        Long start = StartupProfiler.begin();
+
+        Shader shader = new Shader(processIncludes(loadShaderData(vertexFile), vertexFile.getAbsoluteFile().getParentFile(), new HashSet<String>()), processIncludes(loadShaderData(fragmentFile), fragmentFile.getAbsoluteFile().getParentFile(), new HashSet<String>()));
+
+        StartupProfiler.end("Load the shader " + vertexFile.getName() + " and " + fragmentFile.getName(), start);
+
+        return shader;
     }
 
     /**
-     * Load a shader from stream
+     * Load a shader from stream (A stream has no location, so includes are resolved from the root of the classpath, see {@link #loadShader(InputStream, InputStream, File)} to resolve them against a directory)
      * 
      * @param vertexStream The stream to load the vertex data from
      * @param fragmentStream The stream to load the fragment data from
      * 
      * @return A {@link Shader} from the data passed
      * 
-     * @throws IOException If it fails to read the stream
+     * @throws IOException If it fails to read the stream or an included resource
      * 
      * @since 1.0.0
      */
@@ -78,7 +97,40 @@ public class ShaderLoader {
         NullUtils.checkNulls(vertexStream, "vertexStream");
         NullUtils.checkNulls(fragmentStream, "fragmentStream");
 
-        return new Shader(loadShaderData(vertexStream), loadShaderData(fragmentStream));
+        Long start = StartupProfiler.begin();
+
+        Shader shader = new Shader(processResourceIncludes(loadShaderData(vertexStream), "/", new HashSet<String>()), processResourceIncludes(loadShaderData(fragmentStream), "/", new HashSet<String>()));
+
+        StartupProfiler.end("Load a shader", start);
+
+        return shader;
+    }
+
+    /**
+     * Load a shader from stream, resolving its #include directives against a directory
+     * 
+     * @param vertexStream The stream to load the vertex data from
+     * @param fragmentStream The stream to load the fragment data from
+     * @param directory The directory includes are resolved relative to
+     * 
+     * @return A {@link Shader} from the data passed
+     * 
+     * @throws IOException If it fails to read the stream or an included file
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Shader loadShader(@NotNull InputStream vertexStream, @NotNull InputStream fragmentStream, @NotNull File directory) throws IOException {
+        NullUtils.checkNulls(vertexStream, "vertexStream");
+        NullUtils.checkNulls(fragmentStream, "fragmentStream");
+        NullUtils.checkNulls(directory, "directory");
+
+        Long start = StartupProfiler.begin();
+
+        Shader shader = new Shader(processIncludes(loadShaderData(vertexStream), directory, new HashSet<String>()), processIncludes(loadShaderData(fragmentStream), directory, new HashSet<String>()));
+
+        StartupProfiler.end("Load a shader", start);
+
+        return shader;
     }
 
     /**
@@ -91,7 +143,155 @@ public class ShaderLoader {
      * @since 1.4.0
      */
     public static @NotNull Shader loadDefault() throws IOException {
-        return loadShader(ShaderLoader.class.getResourceAsStream("/vertex.glsl"), ShaderLoader.class.getResourceAsStream("/fragment.glsl"));
+        return loadResource("/vertex.glsl", "/fragment.glsl");
+    }
+
+    /**
+     * Load a shader from the classpath (Includes are resolved relative to each resource)
+     * 
+     * @param vertexResource The resource to load the vertex data from
+     * @param fragmentResource The resource to load the fragment data from
+     * 
+     * @return A {@link Shader} from the data passed
+     * 
+     * @throws IOException If it fails to read a resource
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Shader loadResource(@NotNull String vertexResource, @NotNull String fragmentResource) throws IOException {
+        NullUtils.checkNulls(vertexResource, "vertexResource");
+        NullUtils.checkNulls(fragmentResource, "fragmentResource");
+
+        Long start = StartupProfiler.begin();
+
+        Shader shader = new Shader(loadResourceData(vertexResource, new HashSet<String>()), loadResourceData(fragmentResource, new HashSet<String>()));
+
+        StartupProfiler.end("Load the shader " + vertexResource + " and " + fragmentResource, start);
+
+        return shader;
+    }
+
+    /**
+     * Load a single shader source from the classpath with its includes resolved (For shaders that aren't a vertex and fragment pair, like compute shaders)
+     * 
+     * @param resource The resource to load
+     * 
+     * @return The source with its includes replaced
+     * 
+     * @throws IOException If it fails to read a resource
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull String loadResourceSource(@NotNull String resource) throws IOException {
+        NullUtils.checkNulls(resource, "resource");
+
+        return loadResourceData(resource, new HashSet<String>());
+    }
+
+    /**
+     * Replace the #include directives in a shader source with the contents of the files they name
+     * (Each file is only included once, so include cycles and repeated includes are harmless)
+     * 
+     * @param source The source to process
+     * @param directory The directory includes are resolved relative to
+     * 
+     * @return The source with its includes replaced
+     * 
+     * @throws IOException If it fails to read an included file
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull String processIncludes(@NotNull String source, @NotNull File directory) throws IOException {
+        NullUtils.checkNulls(source, "source");
+        NullUtils.checkNulls(directory, "directory");
+
+        return processIncludes(source, directory, new HashSet<String>());
+    }
+
+    /**
+     * Replace the #include directives in a shader source with the contents of the files they name
+     * 
+     * @param source The source to process
+     * @param directory The directory includes are resolved relative to
+     * @param included The paths already included
+     * 
+     * @return The source with its includes replaced
+     * 
+     * @throws IOException If it fails to read an included file
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull String processIncludes(@NotNull String source, @NotNull File directory, @NotNull Set<String> included) throws IOException {
+        Matcher matcher = INCLUDE_PATTERN.matcher(source);
+        StringBuffer data = new StringBuffer();
+
+        while (matcher.find()) {
+            File file = new File(directory, matcher.group(1)).getCanonicalFile();
+
+            String contents = "";
+            if (included.add(file.getPath())) {
+                contents = processIncludes(loadShaderData(file), file.getParentFile(), included);
+            }
+
+            matcher.appendReplacement(data, Matcher.quoteReplacement(contents));
+        }
+        matcher.appendTail(data);
+
+        return data.toString();
+    }
+
+    /**
+     * Load a resource's contents with its includes replaced
+     * 
+     * @param resource The absolute path of the resource
+     * @param included The resources already included
+     * 
+     * @return The contents of the resource
+     * 
+     * @throws IOException If it fails to read the resource
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull String loadResourceData(@NotNull String resource, @NotNull Set<String> included) throws IOException {
+        InputStream stream = ShaderLoader.class.getResourceAsStream(resource);
+        if (stream == null) {
+            throw new IOException("Resource " + resource + " not found");
+        }
+        included.add(resource);
+
+        return processResourceIncludes(loadShaderData(stream), resource.substring(0, resource.lastIndexOf('/') + 1), included);
+    }
+
+    /**
+     * Replace the #include directives in a shader source with the contents of the resources they name
+     * 
+     * @param source The source to process
+     * @param directory The absolute path of the resource directory includes are resolved relative to (Ending in a slash)
+     * @param included The resources already included
+     * 
+     * @return The source with its includes replaced
+     * 
+     * @throws IOException If it fails to read an included resource
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull String processResourceIncludes(@NotNull String source, @NotNull String directory, @NotNull Set<String> included) throws IOException {
+        Matcher matcher = INCLUDE_PATTERN.matcher(source);
+        StringBuffer data = new StringBuffer();
+
+        while (matcher.find()) {
+            String path = URI.create(directory).resolve(matcher.group(1)).getPath();
+
+            String contents = "";
+            if (!included.contains(path)) {
+                contents = loadResourceData(path, included);
+            }
+
+            matcher.appendReplacement(data, Matcher.quoteReplacement(contents));
+        }
+        matcher.appendTail(data);
+
+        return data.toString();
     }
 
     /**
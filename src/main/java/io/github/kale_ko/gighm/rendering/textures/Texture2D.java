@@ -1,16 +1,19 @@
 package io.github.kale_ko.gighm.rendering.textures;
 
 import java.nio.ByteBuffer;
+import org.lwjgl.BufferUtils;
 import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.startup.StartupProfiler;
 import io.github.kale_ko.gighm.util.NotNull;
 import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
 
 /**
  * A 2D texture for applying to meshes
  * 
  * @author Kale Ko
  * 
- * @version 1.3.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class Texture2D {
@@ -35,6 +38,13 @@ public class Texture2D {
      */
     private @NotNull ByteBuffer data;
 
+    /**
+     * Weather any pixel of the texture is not fully opaque (Null until it is first checked)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Boolean translucent;
+
     /**
      * Create a 2D texture
      * 
@@ -93,4 +103,73 @@ public class Texture2D {
     public @NotNull ByteBuffer getRawData() {
         return this.data;
     }
+
+    /**
+     * Get weather any pixel of the texture is not fully opaque (Checked once and then cached)
+     * 
+     * @return Weather the texture has any transparency
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getTranslucent() {
+        if (this.translucent == null) {
+            Boolean translucent = false;
+
+            for (Integer i = 3; i < this.data.limit(); i += 4) {
+                if (this.data.get(i) != (byte) 0xFF) {
+                    translucent = true;
+
+                    break;
+                }
+            }
+
+            this.translucent = translucent;
+        }
+
+        return this.translucent;
+    }
+
+    /**
+     * Get the shared plain white texture, for meshes that are only colored (Like the primitive meshes)
+     * 
+     * It is made without decoding an image the first time it is needed, and every mesh shares it so the backend only uploads it once. It shouldn't be modified
+     * 
+     * @return The white texture
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Texture2D getWhite() {
+        return White.TEXTURE;
+    }
+
+    /**
+     * Holds the white texture, so it is only made the first time it is needed (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class White {
+        /**
+         * A 16x16 fully opaque white texture
+         * 
+         * @since 2.6.0
+         */
+        public static final @NotNull Texture2D TEXTURE;
+
+        static {
+            Long start = StartupProfiler.begin();
+
+            ByteBuffer data = BufferUtils.createByteBuffer(16 * 16 * 4);
+            while (data.hasRemaining()) {
+                data.put((byte) 0xFF);
+            }
+            data.flip();
+
+            TEXTURE = new Texture2D(16, 16, data);
+
+            StartupProfiler.end("Initialize the white texture", start);
+        }
+    }
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import java.io.InputStream;
 import java.nio.ByteBuffer;
 import javax.imageio.ImageIO;
 import org.lwjgl.BufferUtils;
+import io.github.kale_ko.gighm.startup.StartupProfiler;
 import io.github.kale_ko.gighm.util.ArrayUtils;
 import io.github.kale_ko.gighm.util.NotNull;
 import io.github.kale_ko.gighm.util.NullUtils;
@@ -15,7 +16,7 @@ import io.github.kale_ko.gighm.util.NullUtils;
 /**
  * Utility for loading image data from a file to use in textures
  * 
- * @version 1.0.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class Texture2DLoader {
@@ -74,9 +75,14 @@ public class Texture2DLoader {
     public static @NotNull Texture2D loadTexture(@NotNull InputStream stream) throws IOException {
         NullUtils.checkNulls(stream, "stream");
 
+        Long start = StartupProfiler.begin();
+
         BufferedImage image = ImageIO.read(stream);
+        Texture2D texture = new Texture2D(image.getWidth(), image.getHeight(), loadTextureData(image));
+
+        StartupProfiler.end("Decode a " + texture.getWidth() + "x" + texture.getHeight() + " texture", start);
 
-        return new Texture2D(image.getWidth(), image.getHeight(), loadTextureData(image));
+        return texture;
     }
 
     /**
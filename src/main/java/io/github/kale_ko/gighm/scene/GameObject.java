@@ -18,7 +18,7 @@ import io.github.kale_ko.gighm.util.Nullable;
  * 
  * @author Kale Ko
  * 
- * @version 2.0.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class GameObject {
@@ -43,6 +43,20 @@ public class GameObject {
      */
     private @NotNull Map<Class<? extends Component>, Component> components = new HashMap<Class<? extends Component>, Component>();
 
+    /**
+     * Weather the game object is expected not to move (Lets renderers cache things like shadows)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean isStatic = false;
+
+    /**
+     * The layers the game object is on as a bitmask (Cameras only draw objects on a layer in their layer mask)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer layers = 1;
+
     /**
      * Create an object that can hold different components
      * 
@@ -91,6 +105,73 @@ public class GameObject {
         this.name = name;
     }
 
+    /**
+     * Get weather the game object is expected not to move (Lets renderers cache things like shadows)
+     * 
+     * @return Weather the game object is static
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getStatic() {
+        return this.isStatic;
+    }
+
+    /**
+     * Set weather the game object is expected not to move (Static objects can still move, but moving them makes renderers rebuild what they cached)
+     * 
+     * Edits through setters are noticed automatically, but a static object edited in place (Like changing its position vector directly) has to be marked with {@link #markChanged()}
+     * 
+     * @param isStatic Weather the game object is static
+     * 
+     * @since 2.6.0
+     */
+    public void setStatic(@NotNull Boolean isStatic) {
+        NullUtils.checkNulls(isStatic, "isStatic");
+
+        if (isStatic != this.isStatic && this.scene != null) {
+            this.scene.markStaticChanged();
+        }
+
+        this.isStatic = isStatic;
+    }
+
+    /**
+     * Get the layers the game object is on as a bitmask (Only layer 0 by default)
+     * 
+     * @return The layers of the game object
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getLayers() {
+        return this.layers;
+    }
+
+    /**
+     * Set the layers the game object is on as a bitmask (Cameras only draw objects on a layer in their layer mask)
+     * 
+     * @param layers The layers of the game object
+     * 
+     * @since 2.6.0
+     */
+    public void setLayers(@NotNull Integer layers) {
+        NullUtils.checkNulls(layers, "layers");
+
+        this.layers = layers;
+
+        this.markChanged();
+    }
+
+    /**
+     * Mark the game object as changed, so renderers rebuild what they cached for it if it is static (Only needed after editing it in place)
+     * 
+     * @since 2.6.0
+     */
+    public void markChanged() {
+        if (this.isStatic && this.scene != null) {
+            this.scene.markStaticChanged();
+        }
+    }
+
     /**
      * Get all the components from the object
      * 
@@ -119,6 +200,8 @@ public class GameObject {
             object._setGameObject(this);
 
             this.components.put(object.getClass(), object);
+
+            this.markChanged();
         } else {
             throw new InvalidModificationException("You can't add a component to multiple game objects");
         }
@@ -172,8 +255,8 @@ public class GameObject {
 
         if (clazz.equals(Transform.class)) {
             throw new InvalidModificationException("You can't remove an objects Transform");
-        } else {
-            this.components.remove(clazz);
+        } else if (this.components.remove(clazz) != null) {
+            this.markChanged();
         }
     }
 
@@ -12,7 +12,7 @@ import io.github.kale_ko.gighm.util.Nullable;
  * 
  * @author Kale Ko
  * 
- * @version 1.7.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class Scene {
@@ -30,6 +30,13 @@ public class Scene {
      */
     private @NotNull List<GameObject> objects = new ArrayList<GameObject>();
 
+    /**
+     * How many times the static objects of the scene have changed
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Long staticVersion = 0l;
+
     /**
      * Create a scene
      * 
@@ -164,6 +171,10 @@ public class Scene {
             object._setScene(this);
 
             this.objects.add(object);
+
+            if (object.getStatic()) {
+                this.markStaticChanged();
+            }
         } else {
             throw new InvalidModificationException("You can't add a game object to multiple scenes");
         }
@@ -179,6 +190,28 @@ public class Scene {
     public void removeObject(@NotNull GameObject object) {
         NullUtils.checkNulls(object, "object");
 
-        this.objects.remove(object);
+        if (this.objects.remove(object) && object.getStatic()) {
+            this.markStaticChanged();
+        }
+    }
+
+    /**
+     * Get how many times the static objects of the scene have changed (Renderers rebuild what they cached for static objects when it does)
+     * 
+     * @return The static version of the scene
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Long getStaticVersion() {
+        return this.staticVersion;
+    }
+
+    /**
+     * Mark the static objects of the scene as changed (Done automatically when a static object is added, removed or edited through its setters)
+     * 
+     * @since 2.6.0
+     */
+    public void markStaticChanged() {
+        this.staticVersion++;
     }
 }
\ No newline at end of file
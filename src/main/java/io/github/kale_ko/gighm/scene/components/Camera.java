@@ -1,15 +1,20 @@
 package io.github.kale_ko.gighm.scene.components;
 
+import java.awt.Color;
 import org.joml.Matrix4f;
+import org.joml.Vector4f;
+import io.github.kale_ko.gighm.exception.InvalidDataException;
+import io.github.kale_ko.gighm.rendering.textures.Texture2D;
 import io.github.kale_ko.gighm.util.NotNull;
 import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
 
 /**
  * A camera to render from
  * 
  * @author Kale Ko
  * 
- * @version 2.0.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class Camera extends Component {
@@ -37,6 +42,37 @@ public class Camera extends Component {
         PERSPECTIVE
     }
 
+    /**
+     * What a camera clears in its viewport before drawing
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    public enum ClearFlags {
+        /**
+         * Clear the color and depth (The camera draws over whatever was there)
+         * 
+         * @since 2.6.0
+         */
+        COLOR_AND_DEPTH,
+
+        /**
+         * Only clear the depth (The camera draws on top of the cameras before it, like a hud or a held item)
+         * 
+         * @since 2.6.0
+         */
+        DEPTH,
+
+        /**
+         * Clear nothing (The camera's objects are depth tested against the cameras before it)
+         * 
+         * @since 2.6.0
+         */
+        NONE
+    }
+
     /**
      * The type of the camera
      * 
@@ -93,6 +129,48 @@ public class Camera extends Component {
      */
     private @NotNull Matrix4f projection;
 
+    /**
+     * The part of the target the camera draws to (X, y, width and height from 0-1, starting at the bottom left)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Vector4f viewport = new Vector4f(0f, 0f, 1f, 1f);
+
+    /**
+     * What the camera clears in its viewport before drawing
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull ClearFlags clearFlags = ClearFlags.COLOR_AND_DEPTH;
+
+    /**
+     * The color the camera clears to (Null to use the clear color of the renderer)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Color clearColor = null;
+
+    /**
+     * The order the camera is drawn in (Cameras with a lower priority are drawn first)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer priority = 0;
+
+    /**
+     * The layers the camera draws as a bitmask (Every layer by default)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Integer layerMask = -1;
+
+    /**
+     * The texture the camera draws to (Null to draw to the window)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Texture2D target = null;
+
     /**
      * Create a camera
      * 
@@ -327,21 +405,184 @@ public class Camera extends Component {
     }
 
     /**
-     * Get the projection matrix of the camera
+     * Get the projection matrix of the camera (Combined with the view matrix)
      * 
      * @return The projection matrix of the camera
      * 
      * @since 1.0.0
      */
     public @NotNull Matrix4f getProjection() {
-        Matrix4f target = new Matrix4f();
+        return this.getProjectionMatrix().mul(this.getViewMatrix());
+    }
+
+    /**
+     * Get the view matrix of the camera (The inverse of the cameras transform)
+     * 
+     * @return A new view matrix of the camera
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getViewMatrix() {
+        Transform transform = this.getGameObject().getComponent(Transform.class);
+
+        return new Matrix4f().rotate(transform.getRotation()).translate(transform.getPosition());
+    }
+
+    /**
+     * Get the projection matrix of the camera (Without the view matrix)
+     * 
+     * @return A new projection matrix of the camera
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Matrix4f getProjectionMatrix() {
+        return new Matrix4f(this.projection);
+    }
+
+    /**
+     * Get the part of the target the camera draws to
+     * 
+     * @return The viewport of the camera (X, y, width and height from 0-1, starting at the bottom left)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Vector4f getViewport() {
+        return new Vector4f(this.viewport);
+    }
+
+    /**
+     * Set the part of the target the camera draws to (The aspect of a perspective camera isn't changed to match)
+     * 
+     * @param viewport The viewport of the camera (X, y, width and height from 0-1, starting at the bottom left)
+     * 
+     * @throws InvalidDataException If the viewport isn't inside the target or is empty
+     * 
+     * @since 2.6.0
+     */
+    public void setViewport(@NotNull Vector4f viewport) throws InvalidDataException {
+        NullUtils.checkNulls(viewport, "viewport");
+
+        if (viewport.x < 0f || viewport.y < 0f || viewport.z <= 0f || viewport.w <= 0f || viewport.x + viewport.z > 1f || viewport.y + viewport.w > 1f) {
+            throw new InvalidDataException("The viewport must be a non empty part of the target");
+        }
+
+        this.viewport.set(viewport);
+    }
+
+    /**
+     * Get what the camera clears in its viewport before drawing
+     * 
+     * @return The clear flags of the camera
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull ClearFlags getClearFlags() {
+        return this.clearFlags;
+    }
+
+    /**
+     * Set what the camera clears in its viewport before drawing
+     * 
+     * @param clearFlags The clear flags of the camera
+     * 
+     * @since 2.6.0
+     */
+    public void setClearFlags(@NotNull ClearFlags clearFlags) {
+        NullUtils.checkNulls(clearFlags, "clearFlags");
+
+        this.clearFlags = clearFlags;
+    }
 
-        Matrix4f position = new Matrix4f().translate(this.getGameObject().getComponent(Transform.class).getPosition());
-        Matrix4f rotation = new Matrix4f().rotate(this.getGameObject().getComponent(Transform.class).getRotation());
+    /**
+     * Get the color the camera clears to
+     * 
+     * @return The clear color of the camera (Null to use the clear color of the renderer)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable Color getClearColor() {
+        return this.clearColor;
+    }
 
-        target = projection.mul(rotation, target).mul(position);
+    /**
+     * Set the color the camera clears to
+     * 
+     * @param clearColor The clear color of the camera (Null to use the clear color of the renderer)
+     * 
+     * @since 2.6.0
+     */
+    public void setClearColor(@Nullable Color clearColor) {
+        this.clearColor = clearColor;
+    }
 
-        return target;
+    /**
+     * Get the order the camera is drawn in
+     * 
+     * @return The priority of the camera (Cameras with a lower priority are drawn first)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * Set the order the camera is drawn in
+     * 
+     * @param priority The priority of the camera (Cameras with a lower priority are drawn first)
+     * 
+     * @since 2.6.0
+     */
+    public void setPriority(@NotNull Integer priority) {
+        NullUtils.checkNulls(priority, "priority");
+
+        this.priority = priority;
+    }
+
+    /**
+     * Get the layers the camera draws as a bitmask
+     * 
+     * @return The layer mask of the camera
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Integer getLayerMask() {
+        return this.layerMask;
+    }
+
+    /**
+     * Set the layers the camera draws as a bitmask (An object is drawn if any of its layers are in the mask)
+     * 
+     * @param layerMask The layer mask of the camera
+     * 
+     * @since 2.6.0
+     */
+    public void setLayerMask(@NotNull Integer layerMask) {
+        NullUtils.checkNulls(layerMask, "layerMask");
+
+        this.layerMask = layerMask;
+    }
+
+    /**
+     * Get the texture the camera draws to
+     * 
+     * @return The target of the camera (Null to draw to the window)
+     * 
+     * @since 2.6.0
+     */
+    public @Nullable Texture2D getTarget() {
+        return this.target;
+    }
+
+    /**
+     * Set the texture the camera draws to, its viewport is then relative to the texture (Backends that can't draw to textures skip the camera)
+     * 
+     * @param target The target of the camera (Null to draw to the window)
+     * 
+     * @since 2.6.0
+     */
+    public void setTarget(@Nullable Texture2D target) {
+        this.target = target;
     }
 
     /**
@@ -366,12 +607,22 @@ public class Camera extends Component {
      * @since 2.0.0
      */
     public Camera copy() {
+        Camera camera = null;
         if (this.type == CameraType.ORTHOGRAPHIC) {
-            return createOrthographic(width, height, far);
+            camera = createOrthographic(width, height, far);
         } else if (this.type == CameraType.PERSPECTIVE) {
-            return createPerspective(fov, aspect, near, far);
+            camera = createPerspective(fov, aspect, near, far);
+        }
+
+        if (camera != null) {
+            camera.viewport.set(this.viewport);
+            camera.clearFlags = this.clearFlags;
+            camera.clearColor = this.clearColor;
+            camera.priority = this.priority;
+            camera.layerMask = this.layerMask;
+            camera.target = this.target;
         }
 
-        return null;
+        return camera;
     }
 }
\ No newline at end of file
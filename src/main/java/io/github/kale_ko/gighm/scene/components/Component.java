@@ -12,7 +12,7 @@ import io.github.kale_ko.gighm.util.Nullable;
  * 
  * @author Kale Ko
  * 
- * @version 1.9.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public abstract class Component {
@@ -78,6 +78,17 @@ public abstract class Component {
         this.tick();
     }
 
+    /**
+     * Get weather the component needs to keep being ticked while an on demand renderer is idle (See {@link io.github.kale_ko.gighm.rendering.Renderer#setOnDemand(Boolean)})
+     * 
+     * @return Weather the component needs to be ticked
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getNeedsTicks() {
+        return false;
+    }
+
     /**
      * Called at the same time as {@link TickEvent}
      * 
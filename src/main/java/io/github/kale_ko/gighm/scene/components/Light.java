@@ -0,0 +1,372 @@
+package io.github.kale_ko.gighm.scene.components;
+
+import java.awt.Color;
+import org.joml.Vector3f;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A light that lights meshes drawn with a lit shader (Positioned and pointed by the {@link Transform} of its game object)
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class Light extends Component {
+    /**
+     * The types of lights
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    public enum LightType {
+        /**
+         * A light that shines in every direction from a point, fading out at its range
+         * 
+         * @since 2.6.0
+         */
+        POINT,
+
+        /**
+         * A light that shines in a cone from a point, fading out at its range and the edge of its cone
+         * 
+         * @since 2.6.0
+         */
+        SPOT,
+
+        /**
+         * A light that shines in one direction everywhere (Like the sun)
+         * 
+         * @since 2.6.0
+         */
+        DIRECTIONAL
+    }
+
+    /**
+     * The type of the light
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull LightType type;
+
+    /**
+     * The color of the light
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Color color;
+
+    /**
+     * The brightness the color of the light is multiplied by
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float intensity;
+
+    /**
+     * The distance the light reaches (Not used by directional lights)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float range = 0f;
+
+    /**
+     * The angle in degrees from the center of the cone at which the light starts to fade out (Only used by spot lights)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float innerAngle = 0f;
+
+    /**
+     * The angle in degrees from the center of the cone at which the light is completely faded out (Only used by spot lights)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Float outerAngle = 0f;
+
+    /**
+     * Weather the light casts shadows (Only supported for directional lights)
+     * 
+     * @since 2.6.0
+     */
+    private @NotNull Boolean castShadows = false;
+
+    /**
+     * Create a light
+     * 
+     * @param type The type of the light
+     * @param color The color of the light
+     * @param intensity The brightness the color of the light is multiplied by
+     * 
+     * @since 2.6.0
+     */
+    protected Light(@NotNull LightType type, @NotNull Color color, @NotNull Float intensity) {
+        NullUtils.checkNulls(type, "type");
+        NullUtils.checkNulls(color, "color");
+        NullUtils.checkNulls(intensity, "intensity");
+
+        this.type = type;
+        this.color = color;
+        this.intensity = intensity;
+    }
+
+    /**
+     * Create a point light
+     * 
+     * @param color The color of the light
+     * @param intensity The brightness the color of the light is multiplied by
+     * @param range The distance the light reaches
+     * 
+     * @return A new point light with the passed parameters
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Light createPoint(@NotNull Color color, @NotNull Float intensity, @NotNull Float range) {
+        NullUtils.checkNulls(range, "range");
+
+        Light light = new Light(LightType.POINT, color, intensity);
+
+        light.range = range;
+
+        return light;
+    }
+
+    /**
+     * Create a spot light (Pointing down the forward axis of its transform)
+     * 
+     * @param color The color of the light
+     * @param intensity The brightness the color of the light is multiplied by
+     * @param range The distance the light reaches
+     * @param innerAngle The angle in degrees from the center of the cone at which the light starts to fade out
+     * @param outerAngle The angle in degrees from the center of the cone at which the light is completely faded out
+     * 
+     * @return A new spot light with the passed parameters
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Light createSpot(@NotNull Color color, @NotNull Float intensity, @NotNull Float range, @NotNull Float innerAngle, @NotNull Float outerAngle) {
+        NullUtils.checkNulls(range, "range");
+        NullUtils.checkNulls(innerAngle, "innerAngle");
+        NullUtils.checkNulls(outerAngle, "outerAngle");
+
+        Light light = new Light(LightType.SPOT, color, intensity);
+
+        light.range = range;
+        light.innerAngle = innerAngle;
+        light.outerAngle = outerAngle;
+
+        return light;
+    }
+
+    /**
+     * Create a directional light (Pointing down the forward axis of its transform)
+     * 
+     * @param color The color of the light
+     * @param intensity The brightness the color of the light is multiplied by
+     * 
+     * @return A new directional light with the passed parameters
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Light createDirectional(@NotNull Color color, @NotNull Float intensity) {
+        return new Light(LightType.DIRECTIONAL, color, intensity);
+    }
+
+    /**
+     * Get the type of the light
+     * 
+     * @return The type of the light
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull LightType getType() {
+        return this.type;
+    }
+
+    /**
+     * Get the color of the light
+     * 
+     * @return The color of the light
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Color getColor() {
+        return this.color;
+    }
+
+    /**
+     * Set the color of the light
+     * 
+     * @param color The color of the light
+     * 
+     * @since 2.6.0
+     */
+    public void setColor(@NotNull Color color) {
+        NullUtils.checkNulls(color, "color");
+
+        this.color = color;
+    }
+
+    /**
+     * Get the brightness the color of the light is multiplied by
+     * 
+     * @return The intensity of the light
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getIntensity() {
+        return this.intensity;
+    }
+
+    /**
+     * Set the brightness the color of the light is multiplied by
+     * 
+     * @param intensity The intensity of the light
+     * 
+     * @since 2.6.0
+     */
+    public void setIntensity(@NotNull Float intensity) {
+        NullUtils.checkNulls(intensity, "intensity");
+
+        this.intensity = intensity;
+    }
+
+    /**
+     * Get the distance the light reaches (Not used by directional lights)
+     * 
+     * @return The range of the light
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getRange() {
+        return this.range;
+    }
+
+    /**
+     * Set the distance the light reaches (Not used by directional lights)
+     * 
+     * @param range The range of the light
+     * 
+     * @since 2.6.0
+     */
+    public void setRange(@NotNull Float range) {
+        NullUtils.checkNulls(range, "range");
+
+        this.range = range;
+    }
+
+    /**
+     * Get the angle in degrees from the center of the cone at which the light starts to fade out (Only used by spot lights)
+     * 
+     * @return The inner angle of the light
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getInnerAngle() {
+        return this.innerAngle;
+    }
+
+    /**
+     * Set the angle in degrees from the center of the cone at which the light starts to fade out (Only used by spot lights)
+     * 
+     * @param innerAngle The inner angle of the light
+     * 
+     * @since 2.6.0
+     */
+    public void setInnerAngle(@NotNull Float innerAngle) {
+        NullUtils.checkNulls(innerAngle, "innerAngle");
+
+        this.innerAngle = innerAngle;
+    }
+
+    /**
+     * Get the angle in degrees from the center of the cone at which the light is completely faded out (Only used by spot lights)
+     * 
+     * @return The outer angle of the light
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getOuterAngle() {
+        return this.outerAngle;
+    }
+
+    /**
+     * Set the angle in degrees from the center of the cone at which the light is completely faded out (Only used by spot lights)
+     * 
+     * @param outerAngle The outer angle of the light
+     * 
+     * @since 2.6.0
+     */
+    public void setOuterAngle(@NotNull Float outerAngle) {
+        NullUtils.checkNulls(outerAngle, "outerAngle");
+
+        this.outerAngle = outerAngle;
+    }
+
+    /**
+     * Get weather the light casts shadows (Only supported for directional lights)
+     * 
+     * @return Weather the light casts shadows
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getCastShadows() {
+        return this.castShadows;
+    }
+
+    /**
+     * Set weather the light casts shadows (Only supported for directional lights, only the first directional light that casts shadows does)
+     * 
+     * @param castShadows Weather the light casts shadows
+     * 
+     * @since 2.6.0
+     */
+    public void setCastShadows(@NotNull Boolean castShadows) {
+        NullUtils.checkNulls(castShadows, "castShadows");
+
+        this.castShadows = castShadows;
+    }
+
+    /**
+     * Get the world position of the light
+     * 
+     * @return A new vector of the position of the light
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Vector3f getPosition() {
+        return new Vector3f(this.getGameObject().getComponent(Transform.class).getPosition());
+    }
+
+    /**
+     * Get the direction the light points in (The forward axis of its transform)
+     * 
+     * @return A new unit vector of the direction of the light
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Vector3f getDirection() {
+        return this.getGameObject().getComponent(Transform.class).getRotation().transform(new Vector3f(0f, 0f, -1f));
+    }
+
+    /**
+     * Get a copy of the light
+     * 
+     * @return A copy of the object
+     * 
+     * @since 2.6.0
+     */
+    public Light copy() {
+        Light light = new Light(this.type, this.color, this.intensity);
+
+        light.range = this.range;
+        light.innerAngle = this.innerAngle;
+        light.outerAngle = this.outerAngle;
+        light.castShadows = this.castShadows;
+
+        return light;
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package io.github.kale_ko.gighm.scene.components;
 
 import java.awt.Color;
+import org.joml.Vector4f;
 import io.github.kale_ko.gighm.exception.InvalidDataException;
 import io.github.kale_ko.gighm.rendering.textures.Texture2D;
 import io.github.kale_ko.gighm.util.NotNull;
@@ -12,7 +13,7 @@ import io.github.kale_ko.gighm.util.Nullable;
  * 
  * @author Kale Ko
  * 
- * @version 1.9.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class Mesh extends Component {
@@ -58,6 +59,13 @@ public class Mesh extends Component {
      */
     private @Nullable Integer[] triangles;
 
+    /**
+     * The local bounding sphere of the mesh (Only used internally, computed the first time it is needed)
+     * 
+     * @since 2.6.0
+     */
+    private @Nullable Vector4f bounds = null;
+
     /**
      * Create a mesh
      * 
@@ -226,6 +234,44 @@ public class Mesh extends Component {
         return fullVertices;
     }
 
+    /**
+     * Get the local bounding sphere of the mesh (Centered on its bounding box, shared by everything that culls the mesh)
+     * 
+     * @return The center and radius of the bounding sphere
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Vector4f getBounds() {
+        if (this.bounds != null) {
+            return this.bounds;
+        }
+
+        Integer vertexCount = this.vertices.length / this.verticeSize;
+
+        float[] min = new float[] { Float.MAX_VALUE, Float.MAX_VALUE, 0f };
+        float[] max = new float[] { -Float.MAX_VALUE, -Float.MAX_VALUE, 0f };
+        if (this.verticeSize == 3) {
+            min[2] = Float.MAX_VALUE;
+            max[2] = -Float.MAX_VALUE;
+        }
+        for (int i = 0; i < vertexCount; i++) {
+            for (int j = 0; j < this.verticeSize; j++) {
+                min[j] = Math.min(min[j], this.vertices[i * this.verticeSize + j]);
+                max[j] = Math.max(max[j], this.vertices[i * this.verticeSize + j]);
+            }
+        }
+
+        Vector4f bounds = new Vector4f();
+        if (vertexCount > 0) {
+            bounds.set((min[0] + max[0]) / 2, (min[1] + max[1]) / 2, (min[2] + max[2]) / 2, 0f);
+            bounds.w = (float) Math.sqrt((max[0] - bounds.x) * (max[0] - bounds.x) + (max[1] - bounds.y) * (max[1] - bounds.y) + (max[2] - bounds.z) * (max[2] - bounds.z));
+        }
+
+        this.bounds = bounds;
+
+        return bounds;
+    }
+
     /**
      * Get a copy of the mesh
      * 
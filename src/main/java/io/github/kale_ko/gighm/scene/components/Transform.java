@@ -12,7 +12,7 @@ import io.github.kale_ko.gighm.util.NullUtils;
  * 
  * @author Kale Ko
  * 
- * @version 1.9.0
+ * @version 2.6.0
  * @since 1.0.0
  */
 public class Transform extends Component {
@@ -106,6 +106,8 @@ public class Transform extends Component {
         NullUtils.checkNulls(position, "position");
 
         this.position = position;
+
+        this.markChanged();
     }
 
     /**
@@ -143,6 +145,8 @@ public class Transform extends Component {
         NullUtils.checkNulls(rotation, "rotation");
 
         this.rotation = rotation;
+
+        this.markChanged();
     }
 
     /**
@@ -193,6 +197,8 @@ public class Transform extends Component {
         NullUtils.checkNulls(scale, "scale");
 
         this.scale = scale;
+
+        this.markChanged();
     }
 
     /**
@@ -208,6 +214,17 @@ public class Transform extends Component {
         this.setScale(new Vector3f(scale, 1));
     }
 
+    /**
+     * Tell the game object of the transform it moved (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private void markChanged() {
+        if (this.getGameObject() != null) {
+            this.getGameObject().markChanged();
+        }
+    }
+
     /**
      * Get the complete matrix of the transform
      * 
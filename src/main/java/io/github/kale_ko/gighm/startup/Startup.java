@@ -0,0 +1,389 @@
+package io.github.kale_ko.gighm.startup;
+
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import io.github.kale_ko.gighm.rendering.Renderer;
+import io.github.kale_ko.gighm.rendering.Window;
+import io.github.kale_ko.gighm.rendering.shaders.Shader;
+import io.github.kale_ko.gighm.rendering.shaders.ShaderLoader;
+import io.github.kale_ko.gighm.rendering.textures.Texture2D;
+import io.github.kale_ko.gighm.rendering.textures.Texture2DLoader;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * Runs the phases of starting up (Like creating the window, loading shaders and decoding textures) at the same time on a pool of threads
+ * 
+ * Every phase is given as a task and the futures it depends on, and returns a future of its result, so a phase only waits for the phases it actually needs.
+ * For example the window can be created while the shaders and textures it will render are still being loaded, by passing it the future of its renderer.
+ * 
+ * Each phase is recorded in a {@link StartupTimeline}, so where startup spends its time can be printed once it is done
+ * 
+ * <pre>
+ * try (Startup startup = new Startup()) {
+ *     CompletableFuture&lt;Shader&gt; shader = startup.loadShader("/vertex.glsl", "/fragment.glsl");
+ *     CompletableFuture&lt;Renderer&gt; renderer = startup.run("Create renderer", () -&gt; new Renderer(scene, camera, shader.join()), shader);
+ *     CompletableFuture&lt;Window&gt; window = startup.createWindow(renderer, "Game", 800, 600, false, true, true);
+ * 
+ *     System.out.print(startup.await());
+ * }
+ * </pre>
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class Startup implements AutoCloseable {
+    /**
+     * The threads the phases run on
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull ExecutorService executor;
+
+    /**
+     * Weather the threads were made for this startup, and so are shut down when it is closed (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Boolean ownsExecutor;
+
+    /**
+     * The timeline the phases are recorded in
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull StartupTimeline timeline;
+
+    /**
+     * The futures of every phase, so they can all be waited for (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull List<CompletableFuture<?>> phases = new ArrayList<CompletableFuture<?>>();
+
+    /**
+     * Create a startup with a thread for every processor (And at least two)
+     * 
+     * @since 2.6.0
+     */
+    public Startup() {
+        this(Math.max(Runtime.getRuntime().availableProcessors(), 2));
+    }
+
+    /**
+     * Create a startup with its own threads
+     * 
+     * @param threads How many phases can run at the same time
+     * 
+     * @since 2.6.0
+     */
+    public Startup(@NotNull Integer threads) {
+        NullUtils.checkNulls(threads, "threads");
+
+        this.executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            private final @NotNull AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "Startup-" + this.count.incrementAndGet());
+                thread.setDaemon(true);
+
+                return thread;
+            }
+        });
+        this.ownsExecutor = true;
+
+        this.timeline = new StartupTimeline();
+    }
+
+    /**
+     * Create a startup that runs its phases on existing threads (They aren't shut down when the startup is closed)
+     * 
+     * @param executor The threads to run the phases on
+     * 
+     * @since 2.6.0
+     */
+    public Startup(@NotNull ExecutorService executor) {
+        NullUtils.checkNulls(executor, "executor");
+
+        this.executor = executor;
+        this.ownsExecutor = false;
+
+        this.timeline = new StartupTimeline();
+    }
+
+    /**
+     * Run a phase once the phases it depends on complete
+     * 
+     * The task can get the results of its dependencies with {@link CompletableFuture#join()} without blocking, since they have already completed
+     * 
+     * @param <T> The type of the result
+     * 
+     * @param name The name of the phase, used in the timeline
+     * @param task The task to run
+     * @param dependencies The futures that must complete before the phase starts (If any fail the phase fails with them without running)
+     * 
+     * @return A future of the result of the task
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull <T> CompletableFuture<T> run(@NotNull String name, @NotNull Callable<T> task, @NotNull CompletableFuture<?>... dependencies) {
+        NullUtils.checkNulls(name, "name");
+        NullUtils.checkNulls(task, "task");
+        NullUtils.checkNulls(dependencies, "dependencies");
+
+        CompletableFuture<T> future = new CompletableFuture<T>();
+
+        CompletableFuture.allOf(dependencies).whenComplete((ignored, exception) -> {
+            if (exception != null) {
+                future.completeExceptionally(exception);
+
+                return;
+            }
+
+            try {
+                this.executor.execute(() -> {
+                    Long start = System.nanoTime();
+
+                    T result = null;
+                    Throwable failure = null;
+                    try {
+                        result = task.call();
+                    } catch (Throwable e) {
+                        failure = e;
+                    }
+
+                    // The phase is recorded before its future completes, so the phases depending on it always start after it in the timeline
+                    this.timeline.record(name, Thread.currentThread().getName(), start, System.nanoTime(), failure != null);
+
+                    if (failure != null) {
+                        future.completeExceptionally(failure);
+                    } else {
+                        future.complete(result);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                future.completeExceptionally(e);
+            }
+        });
+
+        synchronized (this.phases) {
+            this.phases.add(future);
+        }
+
+        return future;
+    }
+
+    /**
+     * Run a phase on the render thread of a window once the window and the phases it depends on complete (For tasks that need the gl context or glfw, like setting the icon)
+     * 
+     * @param name The name of the phase, used in the timeline
+     * @param window The future of the window to run the task on
+     * @param task The task to run
+     * @param dependencies The futures that must complete before the phase starts (If any fail the phase fails with them without running)
+     * 
+     * @return A future that completes once the task has run
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull CompletableFuture<Void> runOnRenderThread(@NotNull String name, @NotNull CompletableFuture<Window> window, @NotNull Runnable task, @NotNull CompletableFuture<?>... dependencies) {
+        NullUtils.checkNulls(name, "name");
+        NullUtils.checkNulls(window, "window");
+        NullUtils.checkNulls(task, "task");
+        NullUtils.checkNulls(dependencies, "dependencies");
+
+        CompletableFuture<?>[] waitFor = Arrays.copyOf(dependencies, dependencies.length + 1);
+        waitFor[dependencies.length] = window;
+
+        // Only tracked once everything it needs is ready, so it just covers the task being queued and run on the render thread
+        CompletableFuture<Void> future = CompletableFuture.allOf(waitFor).thenCompose((ignored) -> {
+            return this.track(name, window.join().runOnRenderThread(task));
+        });
+
+        synchronized (this.phases) {
+            this.phases.add(future);
+        }
+
+        return future;
+    }
+
+    /**
+     * Record a phase that runs somewhere else (Like on the render thread) from now until its future completes
+     * 
+     * @param <T> The type of the result
+     * 
+     * @param name The name of the phase, used in the timeline
+     * @param future The future of the phase
+     * 
+     * @return A future that completes after the phase is recorded
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull <T> CompletableFuture<T> track(@NotNull String name, @NotNull CompletableFuture<T> future) {
+        NullUtils.checkNulls(name, "name");
+        NullUtils.checkNulls(future, "future");
+
+        Long start = System.nanoTime();
+
+        CompletableFuture<T> tracked = future.whenComplete((result, exception) -> {
+            this.timeline.record(name, Thread.currentThread().getName(), start, System.nanoTime(), exception != null);
+        });
+
+        synchronized (this.phases) {
+            this.phases.add(tracked);
+        }
+
+        return tracked;
+    }
+
+    /**
+     * Decode a texture from the classpath
+     * 
+     * @param resource The resource to load the texture from
+     * @param dependencies The futures that must complete before the texture is loaded
+     * 
+     * @return A future of the texture
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull CompletableFuture<Texture2D> loadTexture(@NotNull String resource, @NotNull CompletableFuture<?>... dependencies) {
+        NullUtils.checkNulls(resource, "resource");
+
+        return this.run("Decode " + resource, () -> {
+            try (InputStream stream = Startup.class.getResourceAsStream(resource)) {
+                if (stream == null) {
+                    throw new FileNotFoundException("Resource \"" + resource + "\" does not exist");
+                }
+
+                return Texture2DLoader.loadTexture(stream);
+            }
+        }, dependencies);
+    }
+
+    /**
+     * Load a shader from the classpath (Includes are resolved relative to each resource)
+     * 
+     * @param vertexResource The resource to load the vertex data from
+     * @param fragmentResource The resource to load the fragment data from
+     * @param dependencies The futures that must complete before the shader is loaded
+     * 
+     * @return A future of the shader
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull CompletableFuture<Shader> loadShader(@NotNull String vertexResource, @NotNull String fragmentResource, @NotNull CompletableFuture<?>... dependencies) {
+        NullUtils.checkNulls(vertexResource, "vertexResource");
+        NullUtils.checkNulls(fragmentResource, "fragmentResource");
+
+        return this.run("Load " + vertexResource + " and " + fragmentResource, () -> {
+            return ShaderLoader.loadResource(vertexResource, fragmentResource);
+        }, dependencies);
+    }
+
+    /**
+     * Create a window straight away, while its renderer is still being made
+     * 
+     * The phase only takes as long as initializing glfw and creating the window and its context. How long the renderer takes to initialize once it is ready is tracked as its own phase
+     * 
+     * @param renderer The future of the renderer being used by the window
+     * @param title The title of the window
+     * @param width The width of the window
+     * @param height The height of the window
+     * @param maximized Weather the window should be maximized
+     * @param resizable Weather the window should be resizable
+     * @param autoShow Weather the window should automatically show
+     * 
+     * @return A future of the window (The window might not be rendering yet, see {@link Window#getReady()})
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull CompletableFuture<Window> createWindow(@NotNull CompletableFuture<Renderer> renderer, @NotNull String title, @NotNull Integer width, @NotNull Integer height, @NotNull Boolean maximized, @NotNull Boolean resizable, @NotNull Boolean autoShow) {
+        NullUtils.checkNulls(renderer, "renderer");
+        NullUtils.checkNulls(title, "title");
+        NullUtils.checkNulls(width, "width");
+        NullUtils.checkNulls(height, "height");
+        NullUtils.checkNulls(maximized, "maximized");
+        NullUtils.checkNulls(resizable, "resizable");
+        NullUtils.checkNulls(autoShow, "autoShow");
+
+        CompletableFuture<Window> window = this.run("Create window", () -> {
+            return new Window(renderer, title, width, height, maximized, resizable, autoShow);
+        });
+
+        // Only tracked once both the window and the renderer are ready, so it just covers initializing the renderer
+        CompletableFuture<Window> ready = window.thenCombine(renderer, (created, ignored) -> created).thenCompose((created) -> {
+            return this.track("Initialize renderer", created.getReady());
+        });
+
+        synchronized (this.phases) {
+            this.phases.add(ready);
+        }
+
+        return window;
+    }
+
+    /**
+     * Wait for every phase to complete (Including phases added while waiting)
+     * 
+     * @return The timeline of the phases (Phases that failed are marked in it, their exceptions are thrown by their own futures)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull StartupTimeline await() {
+        Integer waited = 0;
+
+        while (true) {
+            List<CompletableFuture<?>> phases;
+            synchronized (this.phases) {
+                if (waited >= this.phases.size()) {
+                    break;
+                }
+
+                phases = new ArrayList<CompletableFuture<?>>(this.phases.subList(waited, this.phases.size()));
+            }
+
+            for (CompletableFuture<?> phase : phases) {
+                phase.handle((result, exception) -> null).join();
+            }
+
+            waited += phases.size();
+        }
+
+        return this.timeline;
+    }
+
+    /**
+     * Get the timeline the phases are recorded in
+     * 
+     * @return The timeline (Phases still running aren't in it yet)
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull StartupTimeline getTimeline() {
+        return this.timeline;
+    }
+
+    /**
+     * Shut down the threads of the startup if it made them (Phases still running are finished first)
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public void close() {
+        if (this.ownsExecutor) {
+            this.executor.shutdown();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+package io.github.kale_ko.gighm.startup;
+
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * One phase of starting up (Like decoding a texture or creating the window) and when it ran, relative to the start of its {@link StartupTimeline}
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class StartupPhase {
+    /**
+     * The name of the phase
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull String name;
+
+    /**
+     * The name of the thread the phase ran on
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull String thread;
+
+    /**
+     * How many nanoseconds after the start of the timeline the phase started
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Long start;
+
+    /**
+     * How many nanoseconds after the start of the timeline the phase ended
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Long end;
+
+    /**
+     * Weather the phase failed
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Boolean failed;
+
+    /**
+     * Create a startup phase
+     * 
+     * @param name The name of the phase
+     * @param thread The name of the thread the phase ran on
+     * @param start How many nanoseconds after the start of the timeline the phase started
+     * @param end How many nanoseconds after the start of the timeline the phase ended
+     * @param failed Weather the phase failed
+     * 
+     * @since 2.6.0
+     */
+    public StartupPhase(@NotNull String name, @NotNull String thread, @NotNull Long start, @NotNull Long end, @NotNull Boolean failed) {
+        NullUtils.checkNulls(name, "name");
+        NullUtils.checkNulls(thread, "thread");
+        NullUtils.checkNulls(start, "start");
+        NullUtils.checkNulls(end, "end");
+        NullUtils.checkNulls(failed, "failed");
+
+        this.name = name;
+        this.thread = thread;
+        this.start = start;
+        this.end = end;
+        this.failed = failed;
+    }
+
+    /**
+     * Get the name of the phase
+     * 
+     * @return The name of the phase
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get the name of the thread the phase ran on
+     * 
+     * @return The name of the thread
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull String getThread() {
+        return this.thread;
+    }
+
+    /**
+     * Get how many milliseconds after the start of the timeline the phase started
+     * 
+     * @return The start of the phase in milliseconds
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getStart() {
+        return this.start / 1000000f;
+    }
+
+    /**
+     * Get how many milliseconds after the start of the timeline the phase ended
+     * 
+     * @return The end of the phase in milliseconds
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getEnd() {
+        return this.end / 1000000f;
+    }
+
+    /**
+     * Get how many milliseconds the phase took
+     * 
+     * @return The duration of the phase in milliseconds
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getDuration() {
+        return (this.end - this.start) / 1000000f;
+    }
+
+    /**
+     * Get weather the phase failed
+     * 
+     * @return Weather the phase failed
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Boolean getFailed() {
+        return this.failed;
+    }
+}
\ No newline at end of file
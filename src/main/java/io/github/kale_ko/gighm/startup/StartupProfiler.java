@@ -0,0 +1,186 @@
+package io.github.kale_ko.gighm.startup;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+import io.github.kale_ko.gighm.util.Nullable;
+
+/**
+ * An opt-in profiler for how long the engine takes to start up and show its first frame
+ * 
+ * When enabled (By running with -Dgighm.profileStartup=true or calling {@link #setEnabled(Boolean)}) the engine records where it spends its startup,
+ * like initializing its shared classes and default assets, decoding textures, loading shaders, initializing glfw and the renderer and drawing the first frame.
+ * The phases are recorded in a timeline that starts when the jvm started, which is printed once the first frame is shown.
+ * 
+ * While disabled every hook is a single check, so they can be left in code that runs often
+ * 
+ * <pre>
+ * Long start = StartupProfiler.begin();
+ * Texture2D texture = decode();
+ * StartupProfiler.end("Decode texture", start);
+ * </pre>
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class StartupProfiler {
+    /**
+     * The system property that enables the profiler
+     * 
+     * @since 2.6.0
+     */
+    public static final String PROPERTY = "gighm.profileStartup";
+
+    /**
+     * Weather phases are being recorded
+     * 
+     * @since 2.6.0
+     */
+    private static volatile @NotNull Boolean enabled = Boolean.getBoolean(PROPERTY);
+
+    /**
+     * Weather the first frame has been recorded (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private static final @NotNull AtomicBoolean firstFrame = new AtomicBoolean();
+
+    /**
+     * How many milliseconds after the jvm started the first frame was shown (Null until it is)
+     * 
+     * @since 2.6.0
+     */
+    private static volatile @Nullable Float timeToFirstFrame = null;
+
+    /**
+     * Create a startup profiler
+     * 
+     * @since 2.6.0
+     */
+    private StartupProfiler() {}
+
+    /**
+     * Start timing a phase
+     * 
+     * @return The time the phase started at, from {@link System#nanoTime()} (Null if the profiler is disabled)
+     * 
+     * @since 2.6.0
+     */
+    public static @Nullable Long begin() {
+        return enabled ? System.nanoTime() : null;
+    }
+
+    /**
+     * Finish timing a phase and record it
+     * 
+     * @param name The name of the phase
+     * @param start The time the phase started at, from {@link #begin()} (If it is null nothing is recorded)
+     * 
+     * @since 2.6.0
+     */
+    public static void end(@NotNull String name, @Nullable Long start) {
+        NullUtils.checkNulls(name, "name");
+
+        if (start == null) {
+            return;
+        }
+
+        Timeline.TIMELINE.record(name, Thread.currentThread().getName(), start, System.nanoTime(), false);
+    }
+
+    /**
+     * Finish timing a frame, and if it is the first frame shown record it and print the timeline (Called by the window after every frame until the first is recorded)
+     * 
+     * @param start The time the frame started at, from {@link #begin()} (If it is null nothing is recorded)
+     * 
+     * @since 2.6.0
+     */
+    public static void endFirstFrame(@Nullable Long start) {
+        if (start == null || !firstFrame.compareAndSet(false, true)) {
+            return;
+        }
+
+        StartupPhase phase = Timeline.TIMELINE.record("Draw first frame", Thread.currentThread().getName(), start, System.nanoTime(), false);
+        timeToFirstFrame = phase.getEnd();
+
+        System.out.print(Timeline.TIMELINE.getReport());
+        System.out.println(String.format("First frame shown %.1f ms after the jvm started", timeToFirstFrame));
+    }
+
+    /**
+     * Get weather the first frame has been shown and recorded yet
+     * 
+     * @return Weather the first frame has been recorded
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Boolean getFirstFrameRecorded() {
+        return firstFrame.get();
+    }
+
+    /**
+     * Get how many milliseconds after the jvm started the first frame was shown
+     * 
+     * @return The time to first frame in milliseconds (Null until the first frame is recorded)
+     * 
+     * @since 2.6.0
+     */
+    public static @Nullable Float getTimeToFirstFrame() {
+        return timeToFirstFrame;
+    }
+
+    /**
+     * Get the timeline the phases are recorded in
+     * 
+     * @return The timeline, starting when the jvm started
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull StartupTimeline getTimeline() {
+        return Timeline.TIMELINE;
+    }
+
+    /**
+     * Get weather phases are being recorded
+     * 
+     * @return Weather the profiler is enabled
+     * 
+     * @since 2.6.0
+     */
+    public static @NotNull Boolean getEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Set weather phases are being recorded (Should be enabled before anything is loaded to get the whole startup)
+     * 
+     * @param enabled Weather the profiler is enabled
+     * 
+     * @since 2.6.0
+     */
+    public static void setEnabled(@NotNull Boolean enabled) {
+        NullUtils.checkNulls(enabled, "enabled");
+
+        StartupProfiler.enabled = enabled;
+    }
+
+    /**
+     * Holds the timeline, so the management classes used to find when the jvm started are only loaded once something is recorded (Only used internally)
+     * 
+     * @author Kale Ko
+     * 
+     * @version 2.6.0
+     * @since 2.6.0
+     */
+    protected static class Timeline {
+        /**
+         * The timeline the phases are recorded in, starting when the jvm started
+         * 
+         * @since 2.6.0
+         */
+        public static final @NotNull StartupTimeline TIMELINE = new StartupTimeline(System.nanoTime() - ManagementFactory.getRuntimeMXBean().getUptime() * 1000000L);
+    }
+}
\ No newline at end of file
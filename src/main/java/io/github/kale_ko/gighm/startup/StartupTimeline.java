@@ -0,0 +1,194 @@
+package io.github.kale_ko.gighm.startup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import io.github.kale_ko.gighm.util.NotNull;
+import io.github.kale_ko.gighm.util.NullUtils;
+
+/**
+ * A record of the phases of starting up and when each one ran, for finding out what startup is waiting on
+ * 
+ * Phases can be recorded from any thread. {@link #getReport()} lays them out as a text timeline, with one row and bar per phase,
+ * so phases that overlap and the ones everything else waits on are easy to see
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class StartupTimeline {
+    /**
+     * How many characters wide the bars of the report are
+     * 
+     * @since 2.6.0
+     */
+    private static final Integer BAR_WIDTH = 40;
+
+    /**
+     * The time the timeline started at, from {@link System#nanoTime()}
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull Long origin;
+
+    /**
+     * The recorded phases (Only used internally)
+     * 
+     * @since 2.6.0
+     */
+    private final @NotNull List<StartupPhase> phases = new ArrayList<StartupPhase>();
+
+    /**
+     * Create a timeline starting now
+     * 
+     * @since 2.6.0
+     */
+    public StartupTimeline() {
+        this(System.nanoTime());
+    }
+
+    /**
+     * Create a timeline
+     * 
+     * @param origin The time the timeline starts at, from {@link System#nanoTime()}
+     * 
+     * @since 2.6.0
+     */
+    public StartupTimeline(@NotNull Long origin) {
+        NullUtils.checkNulls(origin, "origin");
+
+        this.origin = origin;
+    }
+
+    /**
+     * Record a phase
+     * 
+     * @param name The name of the phase
+     * @param thread The name of the thread the phase ran on
+     * @param start The time the phase started at, from {@link System#nanoTime()}
+     * @param end The time the phase ended at, from {@link System#nanoTime()}
+     * @param failed Weather the phase failed
+     * 
+     * @return The recorded phase
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull StartupPhase record(@NotNull String name, @NotNull String thread, @NotNull Long start, @NotNull Long end, @NotNull Boolean failed) {
+        NullUtils.checkNulls(name, "name");
+        NullUtils.checkNulls(thread, "thread");
+        NullUtils.checkNulls(start, "start");
+        NullUtils.checkNulls(end, "end");
+        NullUtils.checkNulls(failed, "failed");
+
+        StartupPhase phase = new StartupPhase(name, thread, start - this.origin, end - this.origin, failed);
+
+        synchronized (this.phases) {
+            this.phases.add(phase);
+        }
+
+        return phase;
+    }
+
+    /**
+     * Get the time the timeline started at
+     * 
+     * @return The time the timeline started at, from {@link System#nanoTime()}
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Long getOrigin() {
+        return this.origin;
+    }
+
+    /**
+     * Get the recorded phases
+     * 
+     * @return A copy of the phases, in the order they started
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull List<StartupPhase> getPhases() {
+        List<StartupPhase> phases;
+        synchronized (this.phases) {
+            phases = new ArrayList<StartupPhase>(this.phases);
+        }
+
+        Collections.sort(phases, new Comparator<StartupPhase>() {
+            @Override
+            public int compare(StartupPhase a, StartupPhase b) {
+                return Float.compare(a.getStart(), b.getStart());
+            }
+        });
+
+        return phases;
+    }
+
+    /**
+     * Get how many milliseconds passed between the start of the timeline and the end of the last phase
+     * 
+     * @return The duration of the timeline in milliseconds
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull Float getDuration() {
+        Float duration = 0f;
+
+        for (StartupPhase phase : this.getPhases()) {
+            duration = Math.max(duration, phase.getEnd());
+        }
+
+        return duration;
+    }
+
+    /**
+     * Lay the phases out as a text timeline, with the start, duration and thread of each phase and a bar showing where it falls
+     * 
+     * @return The report
+     * 
+     * @since 2.6.0
+     */
+    public @NotNull String getReport() {
+        List<StartupPhase> phases = this.getPhases();
+        Float duration = this.getDuration();
+
+        Integer nameWidth = 5;
+        Integer threadWidth = 6;
+        for (StartupPhase phase : phases) {
+            nameWidth = Math.max(nameWidth, phase.getName().length());
+            threadWidth = Math.max(threadWidth, phase.getThread().length());
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Startup took %.1f ms over %d phases%n", duration, phases.size()));
+        report.append(String.format("%-" + nameWidth + "s  %-" + threadWidth + "s  %9s  %9s%n", "Phase", "Thread", "Start", "Took"));
+
+        for (StartupPhase phase : phases) {
+            report.append(String.format("%-" + nameWidth + "s  %-" + threadWidth + "s  %6.1f ms  %6.1f ms  |", phase.getName(), phase.getThread(), phase.getStart(), phase.getDuration()));
+
+            // Every phase gets at least one character so short ones still show up
+            int from = duration > 0 ? Math.min((int) (phase.getStart() / duration * BAR_WIDTH), BAR_WIDTH - 1) : 0;
+            int to = duration > 0 ? Math.max((int) Math.ceil(phase.getEnd() / duration * BAR_WIDTH), from + 1) : BAR_WIDTH;
+            for (int i = 0; i < BAR_WIDTH; i++) {
+                report.append(i >= from && i < to ? (phase.getFailed() ? 'x' : '#') : ' ');
+            }
+
+            report.append(String.format("|%n"));
+        }
+
+        return report.toString();
+    }
+
+    /**
+     * Get a string representing the object
+     * 
+     * @return The report of the timeline
+     * 
+     * @since 2.6.0
+     */
+    @Override
+    public @NotNull String toString() {
+        return this.getReport();
+    }
+}
\ No newline at end of file
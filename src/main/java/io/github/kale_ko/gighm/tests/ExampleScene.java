@@ -1,6 +1,7 @@
 package io.github.kale_ko.gighm.tests;
 
-import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.joml.Vector3f;
 import io.github.kale_ko.gighm.events.types.input.MouseButtonEvent;
 import io.github.kale_ko.gighm.events.types.input.MouseMoveDeltaEvent;
@@ -10,14 +11,13 @@ import io.github.kale_ko.gighm.rendering.Window;
 import io.github.kale_ko.gighm.rendering.objects.PrimitiveMeshes;
 import io.github.kale_ko.gighm.rendering.objects.Skybox;
 import io.github.kale_ko.gighm.rendering.shaders.Shader;
-import io.github.kale_ko.gighm.rendering.shaders.ShaderLoader;
 import io.github.kale_ko.gighm.rendering.textures.Texture2D;
-import io.github.kale_ko.gighm.rendering.textures.Texture2DLoader;
 import io.github.kale_ko.gighm.scene.GameObject;
 import io.github.kale_ko.gighm.scene.Scene;
 import io.github.kale_ko.gighm.scene.components.Camera;
 import io.github.kale_ko.gighm.scene.components.Mesh;
 import io.github.kale_ko.gighm.scene.components.Transform;
+import io.github.kale_ko.gighm.startup.Startup;
 
 public class ExampleScene {
     static Boolean mouseDown = false;
@@ -32,7 +32,7 @@ public class ExampleScene {
 
         Float sensitivity = 0.0025f;
 
-        try {
+        try (Startup startup = new Startup()) {
             Scene scene = new Scene("Main");
 
             GameObject cameraObject = new GameObject("Main Camera");
@@ -41,18 +41,25 @@ public class ExampleScene {
             cameraObject.getComponent(Transform.class).setPosition(new Vector3f(0, 0, -10));
             scene.addObject(cameraObject);
 
-            Texture2D logoTexture = Texture2DLoader.loadTexture(Texture2DLoader.class.getResourceAsStream("/assets/tests/kale.png"));
-            Texture2D skySideTexture = Texture2DLoader.loadTexture(Texture2DLoader.class.getResourceAsStream("/assets/tests/sky-sides.png"));
-            Texture2D skyTopTexture = Texture2DLoader.loadTexture(Texture2DLoader.class.getResourceAsStream("/assets/tests/sky-top.png"));
+            // The window is created while the shader and textures are still loading, and the renderer is made as soon as what it needs is loaded
+            CompletableFuture<Texture2D> logoTexture = startup.loadTexture("/assets/tests/kale.png");
+            CompletableFuture<Texture2D> skySideTexture = startup.loadTexture("/assets/tests/sky-sides.png");
+            CompletableFuture<Texture2D> skyTopTexture = startup.loadTexture("/assets/tests/sky-top.png");
 
-            Shader shader = ShaderLoader.loadShader(ShaderLoader.class.getResourceAsStream("/vertex.glsl"), ShaderLoader.class.getResourceAsStream("/fragment.glsl"));
-            Renderer renderer = new Renderer(scene, camera, shader, new Skybox(skySideTexture, skySideTexture, skySideTexture, skySideTexture, skyTopTexture, skyTopTexture));
+            CompletableFuture<Shader> shader = startup.loadShader("/vertex.glsl", "/fragment.glsl");
+            CompletableFuture<Renderer> renderer = startup.run("Create renderer", () -> {
+                return new Renderer(scene, camera, shader.join(), new Skybox(skySideTexture.join(), skySideTexture.join(), skySideTexture.join(), skySideTexture.join(), skyTopTexture.join(), skyTopTexture.join()));
+            }, shader, skySideTexture, skyTopTexture);
 
-            Window window = new Window(renderer, "GIGHM - Example Scene", width, height, false, true);
-            window.setIcon(logoTexture);
+            CompletableFuture<Window> windowFuture = startup.createWindow(renderer, "GIGHM - Example Scene", width, height, false, true, true);
+            startup.runOnRenderThread("Set icon", windowFuture, () -> {
+                windowFuture.join().setIcon(logoTexture.join());
+            }, logoTexture);
+
+            Window window = windowFuture.join();
 
             GameObject cubeObject = new GameObject("Cube");
-            Mesh cubeMesh = PrimitiveMeshes.CUBE.copy(logoTexture);
+            Mesh cubeMesh = PrimitiveMeshes.getCube().copy(logoTexture.join());
             cubeObject.addComponent(cubeMesh);
             cubeObject.getComponent(Transform.class).setPosition(new Vector3f(0, 1, 0));
             cubeObject.getComponent(Transform.class).setScale(new Vector3f(5, 5, 5));
@@ -68,8 +75,10 @@ public class ExampleScene {
                     cameraObject.getComponent(Transform.class).getRotation().rotateLocalX(event.getDeltaY() * sensitivity);
                 }
             });
-        } catch (IOException e) {
-            e.printStackTrace();
+
+            System.out.print(startup.await());
+        } catch (CompletionException e) {
+            e.getCause().printStackTrace();
         }
     }
 }
\ No newline at end of file
@@ -43,14 +43,14 @@ public class Renderer3DTest {
 
             GameObject object1 = new GameObject();
             Texture2D texture1 = Texture2DLoader.loadTexture(Renderer3DTest.class.getResourceAsStream("/assets/tests/kale.png"));
-            Mesh mesh1 = PrimitiveMeshes.CUBE.copy(texture1);
+            Mesh mesh1 = PrimitiveMeshes.getCube().copy(texture1);
             object1.addComponent(mesh1);
             object1.getComponent(Transform.class).setPosition(new Vector3f(3, -6, 10));
             object1.getComponent(Transform.class).setScale(new Vector3f(3));
 
             GameObject object2 = new GameObject();
             Texture2D texture2 = Texture2DLoader.loadTexture(Renderer3DTest.class.getResourceAsStream("/assets/tests/noise.png"));
-            Mesh mesh2 = PrimitiveMeshes.CUBE.copy(texture2);
+            Mesh mesh2 = PrimitiveMeshes.getCube().copy(texture2);
             object2.addComponent(mesh2);
             object2.getComponent(Transform.class).setPosition(new Vector3f(5, 2, 10));
             object2.getComponent(Transform.class).setScale(new Vector3f(1));
@@ -0,0 +1,122 @@
+#version 430 core
+
+layout(local_size_x = 64) in;
+
+#include "frame.glsl"
+
+struct DrawCommand {
+    uint count;
+    uint instanceCount;
+    uint firstIndex;
+    int baseVertex;
+    uint baseInstance;
+};
+
+layout(std430, binding = 0) readonly buffer Objects {
+    vec4 objects[];
+};
+
+layout(std430, binding = 1) readonly buffer ObjectDraws {
+    uint objectDraws[];
+};
+
+layout(std430, binding = 2) readonly buffer DrawBounds {
+    vec4 drawBounds[];
+};
+
+layout(std430, binding = 3) buffer DrawCommands {
+    DrawCommand commands[];
+};
+
+layout(std430, binding = 4) writeonly buffer Instances {
+    int instances[];
+};
+
+layout(std430, binding = 5) buffer Visible {
+    uint visible[];
+};
+
+uniform uint objectCount;
+
+// 0 tests every object against the frustum, 1 packs the visible objects of each draw into its instances
+uniform uint cullPass;
+
+shared uint offsets[64];
+
+void cull() {
+    uint index = gl_GlobalInvocationID.x;
+    if (index >= objectCount) {
+        return;
+    }
+
+    mat4 model = mat4(objects[index * 5], objects[index * 5 + 1], objects[index * 5 + 2], objects[index * 5 + 3]);
+    uint draw = objectDraws[index];
+    vec4 bounds = drawBounds[draw];
+
+    vec3 center = (model * vec4(bounds.xyz, 1)).xyz;
+    float radius = bounds.w * sqrt(max(max(dot(model[0].xyz, model[0].xyz), dot(model[1].xyz, model[1].xyz)), dot(model[2].xyz, model[2].xyz)));
+
+    // The frustum planes are the sums and differences of the rows of the view projection matrix
+    vec4 w = vec4(viewProjection[0][3], viewProjection[1][3], viewProjection[2][3], viewProjection[3][3]);
+    for (int i = 0; i < 3; i++) {
+        vec4 row = vec4(viewProjection[0][i], viewProjection[1][i], viewProjection[2][i], viewProjection[3][i]);
+
+        vec4 lower = w + row;
+        vec4 upper = w - row;
+
+        if (dot(lower.xyz, center) + lower.w < -radius * length(lower.xyz) || dot(upper.xyz, center) + upper.w < -radius * length(upper.xyz)) {
+            visible[index] = 0u;
+
+            return;
+        }
+    }
+
+    visible[index] = 1u;
+}
+
+void pack() {
+    // One work group per draw, whose objects are the run starting at its base instance, packed 64 at a time with a prefix sum so they stay in order
+    uint draw = gl_WorkGroupID.x;
+    uint lane = gl_LocalInvocationID.x;
+
+    uint first = commands[draw].baseInstance;
+    uint total = commands[draw].instanceCount;
+    uint written = 0u;
+
+    // Every invocation has read the object count before it is replaced
+    barrier();
+
+    for (uint start = 0u; start < total; start += 64u) {
+        uint flag = start + lane < total ? visible[first + start + lane] : 0u;
+
+        offsets[lane] = flag;
+        barrier();
+
+        for (uint step = 1u; step < 64u; step *= 2u) {
+            uint value = lane >= step ? offsets[lane - step] : 0u;
+            barrier();
+
+            offsets[lane] += value;
+            barrier();
+        }
+
+        if (flag == 1u) {
+            instances[first + written + offsets[lane] - 1u] = int(first + start + lane);
+        }
+
+        written += offsets[63];
+        barrier();
+    }
+
+    if (lane == 0u) {
+        commands[draw].instanceCount = written;
+    }
+}
+
+void main() {
+    if (cullPass == 0u) {
+        cull();
+    } else {
+        pack();
+    }
+}
@@ -1,18 +1,38 @@
-#version 330
+#version 330 core
 
-uniform bool hasSampler;
+#ifdef LIT
+#include "frame.glsl"
+#include "lighting.glsl"
 
+in vec3 worldPosition;
+#endif
+
+#ifdef TEXTURED
 uniform sampler2D sampler;
 in vec2 uv;
-
-uniform vec3 color;
+#else
+flat in vec3 meshColor;
+#endif
 
 out vec4 fragColor;
 
 void main() {
-    if (hasSampler) {
-        fragColor = texture2D(sampler, uv);
-    } else {
-        fragColor = vec4(color.r / 255, color.g / 255, color.b / 255, 1);
+#ifdef TEXTURED
+    fragColor = texture(sampler, uv);
+#else
+    fragColor = vec4(meshColor, 1);
+#endif
+
+#ifdef ALPHA_TEST
+    if (fragColor.a < 0.5) {
+        discard;
     }
+#endif
+
+#ifdef LIT
+    // Meshes have no normals, so the flat normal of each triangle is found from the screen space derivatives of its position
+    vec3 normal = normalize(cross(dFdx(worldPosition), dFdy(worldPosition)));
+
+    fragColor.rgb *= computeLighting(worldPosition, normal);
+#endif
 }
@@ -0,0 +1,87 @@
+layout(std140) uniform Lighting {
+    uvec4 clusterGrid;
+    vec4 clusterDepth;
+    vec4 viewport;
+    vec4 ambientLight;
+    vec4 cascadeSplits;
+    vec4 shadowParams;
+    mat4 cascadeMatrices[4];
+};
+
+uniform samplerBuffer lights;
+uniform usamplerBuffer lightClusters;
+uniform usamplerBuffer lightIndices;
+uniform sampler2DArrayShadow shadowMap;
+
+float computeShadow(vec3 position) {
+    int cascades = int(shadowParams.y);
+    float depth = -(view * vec4(position, 1)).z;
+    if (depth > cascadeSplits[cascades - 1]) {
+        return 1;
+    }
+
+    int cascade = 0;
+    while (cascade < cascades - 1 && depth > cascadeSplits[cascade]) {
+        cascade++;
+    }
+
+    vec4 coord = cascadeMatrices[cascade] * vec4(position, 1);
+    coord.xyz = coord.xyz / coord.w * 0.5 + 0.5;
+
+    // Far cascades aren't redrawn every frame, so anything they don't cover is left unshadowed
+    if (any(lessThan(coord.xyz, vec3(0))) || any(greaterThan(coord.xyz, vec3(1)))) {
+        return 1;
+    }
+
+    return texture(shadowMap, vec4(coord.xy, cascade, coord.z - shadowParams.z));
+}
+
+vec3 shadeLight(int index, vec3 position, vec3 normal) {
+    vec4 positionRange = texelFetch(lights, index * 4);
+    vec4 colorType = texelFetch(lights, index * 4 + 1);
+    vec4 directionOuter = texelFetch(lights, index * 4 + 2);
+    float cosInner = texelFetch(lights, index * 4 + 3).x;
+
+    // Directional lights
+    if (colorType.w > 1.5) {
+        float shadow = index == int(shadowParams.x) ? computeShadow(position) : 1;
+
+        return colorType.rgb * max(dot(normal, -directionOuter.xyz), 0) * shadow;
+    }
+
+    vec3 toLight = positionRange.xyz - position;
+    float distance = length(toLight);
+    vec3 direction = toLight / max(distance, 0.0001);
+
+    float attenuation = clamp(1 - distance / positionRange.w, 0, 1);
+    attenuation *= attenuation;
+
+    // Spot lights
+    if (colorType.w > 0.5) {
+        attenuation *= smoothstep(directionOuter.w, cosInner, dot(-direction, directionOuter.xyz));
+    }
+
+    return colorType.rgb * max(dot(normal, direction), 0) * attenuation;
+}
+
+vec3 computeLighting(vec3 position, vec3 normal) {
+    vec3 light = ambientLight.rgb;
+
+    for (uint i = 0u; i < clusterGrid.w; i++) {
+        light += shadeLight(int(i), position, normal);
+    }
+
+    vec2 tile = (gl_FragCoord.xy - viewport.xy) / viewport.zw * vec2(clusterGrid.xy);
+    float depth = -(view * vec4(position, 1)).z;
+    float slice = clusterDepth.z > 0.5 ? log(max(depth, 0.0001)) * clusterDepth.x + clusterDepth.y : depth * clusterDepth.x + clusterDepth.y;
+
+    ivec3 cluster = clamp(ivec3(ivec2(tile), int(slice)), ivec3(0), ivec3(clusterGrid.xyz) - 1);
+    int index = (cluster.z * int(clusterGrid.y) + cluster.y) * int(clusterGrid.x) + cluster.x;
+
+    uvec2 range = texelFetch(lightClusters, index).xy;
+    for (uint i = 0u; i < range.y; i++) {
+        light += shadeLight(int(texelFetch(lightIndices, int(range.x + i)).x), position, normal);
+    }
+
+    return light;
+}
@@ -0,0 +1,10 @@
+#version 330 core
+
+layout(location = 0) in vec3 vertices;
+
+uniform mat4 lightViewProjection;
+uniform mat4 model;
+
+void main() {
+    gl_Position = lightViewProjection * model * vec4(vertices, 1);
+}
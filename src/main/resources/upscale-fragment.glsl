@@ -0,0 +1,37 @@
+#version 330 core
+
+in vec2 uv;
+
+out vec4 color;
+
+uniform sampler2D scene;
+uniform vec2 region;
+uniform vec2 texel;
+uniform float sharpness;
+
+vec3 sampleScene(vec2 coord) {
+    // Keep bilinear filtering from reading past the part of the target the scene was drawn into
+    return texture(scene, clamp(coord, texel * 0.5, region - texel * 0.5)).rgb;
+}
+
+void main() {
+    vec3 center = sampleScene(uv);
+
+    if (sharpness <= 0) {
+        color = vec4(center, 1);
+
+        return;
+    }
+
+    vec3 north = sampleScene(uv + vec2(0, texel.y));
+    vec3 south = sampleScene(uv - vec2(0, texel.y));
+    vec3 east = sampleScene(uv + vec2(texel.x, 0));
+    vec3 west = sampleScene(uv - vec2(texel.x, 0));
+
+    // An unsharp mask, clamped to the neighbourhood so edges don't ring
+    vec3 sharpened = center + (center * 4 - north - south - east - west) * sharpness;
+    vec3 low = min(center, min(min(north, south), min(east, west)));
+    vec3 high = max(center, max(max(north, south), max(east, west)));
+
+    color = vec4(clamp(sharpened, low, high), 1);
+}
@@ -0,0 +1,13 @@
+#version 330 core
+
+out vec2 uv;
+
+uniform vec2 region;
+
+void main() {
+    // One triangle covering the screen, built from the vertex id so no vertex buffer is needed
+    vec2 position = vec2((gl_VertexID << 1) & 2, gl_VertexID & 2);
+
+    uv = position * region;
+    gl_Position = vec4(position * 2 - 1, 0, 1);
+}
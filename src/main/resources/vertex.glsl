@@ -1,14 +1,50 @@
-#version 330
+#version 330 core
 
-in vec3 verticies;
-in vec2 uvs;
+#include "frame.glsl"
+
+layout(location = 0) in vec3 vertices;
+
+#ifdef TEXTURED
+layout(location = 1) in vec2 uvs;
 
 out vec2 uv;
+#else
+flat out vec3 meshColor;
+#endif
+
+#ifdef LIT
+out vec3 worldPosition;
+#endif
+
+#ifdef INSTANCED
+layout(location = 2) in int objectIndex;
 
-uniform mat4 projection;
+uniform samplerBuffer objects;
+uniform int objectOffset;
+#else
+uniform mat4 model;
+uniform vec3 color;
+#endif
 
 void main() {
+#ifdef INSTANCED
+    int index = (objectIndex + objectOffset) * 5;
+
+    mat4 model = mat4(texelFetch(objects, index), texelFetch(objects, index + 1), texelFetch(objects, index + 2), texelFetch(objects, index + 3));
+    vec3 color = texelFetch(objects, index + 4).rgb;
+#endif
+
+#ifdef TEXTURED
     uv = uvs;
+#else
+    meshColor = color / 255;
+#endif
+
+    vec4 world = model * vec4(vertices, 1);
+
+#ifdef LIT
+    worldPosition = world.xyz;
+#endif
 
-    gl_Position = projection * vec4(verticies, 1);
+    gl_Position = viewProjection * world;
 }
@@ -0,0 +1,23 @@
+#version 450
+
+layout(constant_id = 0) const bool TEXTURED = false;
+layout(constant_id = 1) const bool ALPHA_TEST = false;
+
+layout(set = 1, binding = 0) uniform sampler2D meshTexture;
+
+layout(location = 0) in vec2 uv;
+layout(location = 1) flat in vec3 meshColor;
+
+layout(location = 0) out vec4 fragColor;
+
+void main() {
+    if (TEXTURED) {
+        fragColor = texture(meshTexture, uv);
+    } else {
+        fragColor = vec4(meshColor, 1);
+    }
+
+    if (ALPHA_TEST && fragColor.a < 0.5) {
+        discard;
+    }
+}
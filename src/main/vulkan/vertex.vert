@@ -0,0 +1,36 @@
+#version 450
+
+layout(constant_id = 0) const bool TEXTURED = false;
+
+layout(set = 0, binding = 0, std140) uniform Frame {
+    mat4 view;
+    mat4 projection;
+    mat4 viewProjection;
+    vec4 cameraPosition;
+    vec4 time;
+};
+
+layout(push_constant, std430) uniform Object {
+    mat4 model;
+    vec4 color;
+};
+
+layout(location = 0) in vec3 vertices;
+layout(location = 1) in vec2 uvs;
+
+layout(location = 0) out vec2 uv;
+layout(location = 1) flat out vec3 meshColor;
+
+void main() {
+    if (TEXTURED) {
+        uv = uvs;
+    } else {
+        meshColor = color.rgb / 255;
+    }
+
+    gl_Position = viewProjection * model * vec4(vertices, 1);
+
+    // The projection is made for OpenGL, so flip y and move z from -1..1 to 0..1
+    gl_Position.y = -gl_Position.y;
+    gl_Position.z = (gl_Position.z + gl_Position.w) / 2;
+}
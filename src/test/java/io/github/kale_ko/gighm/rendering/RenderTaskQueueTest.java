@@ -0,0 +1,169 @@
+package io.github.kale_ko.gighm.rendering;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RenderTaskQueue}
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class RenderTaskQueueTest {
+    /**
+     * Check that a large budget runs every waiting task in the order they were added
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void runKeepsOrder() {
+        RenderTaskQueue queue = new RenderTaskQueue();
+        List<Integer> ran = new ArrayList<Integer>();
+
+        for (Integer i = 0; i < 5; i++) {
+            Integer task = i;
+            queue.runOnRenderThread(() -> ran.add(task));
+        }
+        assertEquals(5, queue.getPending().intValue());
+
+        assertEquals(5, queue.run(1000f).intValue());
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), ran);
+        assertEquals(0, queue.getPending().intValue());
+    }
+
+    /**
+     * Check that running stops once the budget is used up, but still runs one task when there is no budget
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void runStopsAtBudget() {
+        RenderTaskQueue queue = new RenderTaskQueue();
+
+        for (Integer i = 0; i < 3; i++) {
+            queue.runOnRenderThread(() -> sleep(20L));
+        }
+
+        assertEquals(1, queue.run(0f).intValue());
+        assertEquals(1, queue.run(5f).intValue());
+        assertEquals(1, queue.getPending().intValue());
+        assertEquals(1, queue.run(1000f).intValue());
+        assertEquals(0, queue.run(1000f).intValue());
+    }
+
+    /**
+     * Check that futures complete with the result of their task, or exceptionally with what it threw
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void futuresComplete() throws InterruptedException {
+        RenderTaskQueue queue = new RenderTaskQueue();
+        IllegalStateException exception = new IllegalStateException("Test");
+
+        CompletableFuture<Integer> result = queue.submit(() -> 7);
+        CompletableFuture<Integer> failed = queue.submit(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                throw exception;
+            }
+        });
+        assertFalse(result.isDone());
+
+        queue.run(1000f);
+
+        assertEquals(7, result.getNow(null).intValue());
+        assertTrue(failed.isCompletedExceptionally());
+        try {
+            failed.get();
+
+            fail("The task should have thrown");
+        } catch (ExecutionException e) {
+            assertSame(exception, e.getCause());
+        }
+    }
+
+    /**
+     * Check that closing cancels every waiting task without running it, and cancels tasks added afterwards
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void closeCancelsTasks() {
+        RenderTaskQueue queue = new RenderTaskQueue();
+        AtomicInteger ran = new AtomicInteger();
+
+        CompletableFuture<Void> first = queue.runOnRenderThread(ran::incrementAndGet);
+        CompletableFuture<Void> second = queue.runOnRenderThread(ran::incrementAndGet);
+
+        assertEquals(2, queue.close().intValue());
+        assertTrue(first.isCancelled());
+        assertTrue(second.isCancelled());
+        assertEquals(0, queue.getPending().intValue());
+
+        CompletableFuture<Void> late = queue.runOnRenderThread(ran::incrementAndGet);
+        assertTrue(late.isCancelled());
+
+        assertEquals(0, queue.run(1000f).intValue());
+        assertEquals(0, ran.get());
+    }
+
+    /**
+     * Check that tasks added from the render thread are run straight away, and that other threads wake up the render loop
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void renderThreadRunsImmediately() throws InterruptedException {
+        RenderTaskQueue queue = new RenderTaskQueue();
+        AtomicInteger wakeUps = new AtomicInteger();
+
+        queue.setRenderThread(Thread.currentThread());
+        queue.setWakeUp(wakeUps::incrementAndGet);
+
+        CompletableFuture<Integer> result = queue.submit(() -> 3);
+        assertEquals(3, result.getNow(null).intValue());
+        assertEquals(0, queue.getPending().intValue());
+        assertEquals(0, wakeUps.get());
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<CompletableFuture<Integer>>();
+        Thread other = new Thread(() -> futures.add(queue.submit(() -> 4)));
+        other.start();
+        other.join();
+
+        assertEquals(1, queue.getPending().intValue());
+        assertEquals(1, wakeUps.get());
+        assertFalse(futures.get(0).isDone());
+
+        queue.run(1000f);
+        assertEquals(4, futures.get(0).getNow(null).intValue());
+    }
+
+    /**
+     * Sleep the current thread
+     * 
+     * @param millis How many milliseconds to sleep for
+     * 
+     * @since 2.6.0
+     */
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
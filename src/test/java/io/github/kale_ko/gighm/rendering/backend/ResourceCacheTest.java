@@ -0,0 +1,118 @@
+package io.github.kale_ko.gighm.rendering.backend;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ResourceCache}
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class ResourceCacheTest {
+    /**
+     * Check that resources can be added, replaced, and removed, and that assets are compared by identity
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void putGetRemove() {
+        ResourceCache<String, Integer> cache = new ResourceCache<String, Integer>();
+        String key = new String("mesh");
+
+        assertNull(cache.put(key, 1));
+        assertEquals(1, cache.get(key).intValue());
+        assertNull(cache.get(new String("mesh")));
+
+        assertEquals(1, cache.put(key, 2).intValue());
+        assertEquals(1, cache.size().intValue());
+
+        assertEquals(2, cache.remove(key).intValue());
+        assertNull(cache.get(key));
+        assertEquals(0, cache.size().intValue());
+    }
+
+    /**
+     * Check that the cache keeps every entry when it grows past its starting size
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void growKeepsEntries() {
+        ResourceCache<Object, Integer> cache = new ResourceCache<Object, Integer>();
+
+        List<Object> keys = new ArrayList<Object>();
+        for (Integer i = 0; i < 1000; i++) {
+            Object key = new Object();
+            keys.add(key);
+
+            cache.put(key, i);
+        }
+
+        assertEquals(1000, cache.size().intValue());
+        for (Integer i = 0; i < keys.size(); i++) {
+            assertEquals(i, cache.get(keys.get(i)));
+        }
+    }
+
+    /**
+     * Check that once an asset is collected, polling removes its entry and gives back its resource
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void pollReleasesCollectedAssets() throws InterruptedException {
+        ResourceCache<Object, Integer> cache = new ResourceCache<Object, Integer>();
+        Object kept = new Object();
+
+        cache.put(kept, 1);
+        cache.put(new Object(), 2);
+
+        List<Integer> released = new ArrayList<Integer>();
+        for (Integer i = 0; i < 50 && released.isEmpty(); i++) {
+            System.gc();
+            Thread.sleep(10);
+
+            released.addAll(cache.poll());
+        }
+
+        assertEquals(Arrays.asList(2), released);
+        assertEquals(1, cache.size().intValue());
+        assertEquals(1, cache.get(kept).intValue());
+        assertTrue(cache.poll().isEmpty());
+    }
+
+    /**
+     * Check that removed and cleared entries aren't given back by a later poll, since their resources were already taken
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void pollSkipsRemovedEntries() throws InterruptedException {
+        ResourceCache<Object, Integer> cache = new ResourceCache<Object, Integer>();
+        Object removed = new Object();
+
+        cache.put(removed, 1);
+        cache.put(new Object(), 2);
+
+        cache.remove(removed);
+        removed = null;
+        cache.clear();
+
+        for (Integer i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(10);
+
+            assertTrue(cache.poll().isEmpty());
+        }
+
+        assertEquals(0, cache.size().intValue());
+    }
+}
\ No newline at end of file
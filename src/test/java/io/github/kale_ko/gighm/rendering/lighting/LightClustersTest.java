@@ -0,0 +1,222 @@
+package io.github.kale_ko.gighm.rendering.lighting;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+import org.junit.Test;
+import io.github.kale_ko.gighm.scene.GameObject;
+import io.github.kale_ko.gighm.scene.components.Light;
+import io.github.kale_ko.gighm.scene.components.Transform;
+import io.github.kale_ko.gighm.util.NotNull;
+
+/**
+ * Tests for {@link LightClusters}
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class LightClustersTest {
+    /**
+     * The amount of tiles across and down the screen in the tests
+     * 
+     * @since 2.6.0
+     */
+    private static final Integer TILES = 4;
+
+    /**
+     * The amount of depth slices in the tests
+     * 
+     * @since 2.6.0
+     */
+    private static final Integer SLICES = 8;
+
+    /**
+     * The projection of the camera in the tests
+     * 
+     * @since 2.6.0
+     */
+    private static final Matrix4f PROJECTION = new Matrix4f().perspective((float) Math.toRadians(90), 1f, 0.1f, 100f);
+
+    /**
+     * Check that a point light is assigned to the cluster it is in, and not to clusters far from it
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void pointLightIsInItsCluster() {
+        LightClusters clusters = new LightClusters(TILES, TILES, SLICES, ForkJoinPool.commonPool());
+        Vector3f position = new Vector3f(-3f, -3f, -10f);
+
+        clusters.update(Arrays.asList(createPoint(position, 0.5f)), new Matrix4f(), PROJECTION);
+
+        Integer cluster = getCluster(clusters, position);
+        assertEquals(1, clusters.getLightCount().intValue());
+        assertTrue(getLights(clusters, cluster).contains(0));
+
+        Integer slice = cluster / (TILES * TILES);
+        assertTrue(getLights(clusters, slice * TILES * TILES + TILES * TILES - 1).isEmpty());
+        assertTrue(getLights(clusters, 0).isEmpty());
+        assertTrue(getLights(clusters, (SLICES - 1) * TILES * TILES + TILES + 1).isEmpty());
+    }
+
+    /**
+     * Check that a light only reaches the clusters around it, and that every light index it wrote points at it
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void pointLightOnlyReachesNearbyClusters() {
+        LightClusters clusters = new LightClusters(TILES, TILES, SLICES, ForkJoinPool.commonPool());
+
+        clusters.update(Arrays.asList(createPoint(new Vector3f(2f, 1f, -20f), 1f)), new Matrix4f(), PROJECTION);
+
+        Integer reached = 0;
+        for (Integer cluster = 0; cluster < clusters.getClusterCount(); cluster++) {
+            List<Integer> lights = getLights(clusters, cluster);
+
+            if (!lights.isEmpty()) {
+                assertEquals(Arrays.asList(0), lights);
+
+                reached++;
+            }
+        }
+
+        assertTrue(reached > 0);
+        assertTrue(reached < clusters.getClusterCount() / 8);
+        assertEquals(reached, clusters.getIndexCount());
+    }
+
+    /**
+     * Check that directional lights are stored first and never clustered, and that lights behind the camera aren't assigned anywhere
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void directionalAndHiddenLightsArentClustered() {
+        LightClusters clusters = new LightClusters(TILES, TILES, SLICES, ForkJoinPool.commonPool());
+
+        Vector3f position = new Vector3f(3f, 3f, -10f);
+        List<Light> lights = new ArrayList<Light>();
+        lights.add(createPoint(position, 0.5f));
+        lights.add(createPoint(new Vector3f(0f, 0f, 10f), 1f));
+        lights.add(create(Light.createDirectional(Color.WHITE, 1f), new Vector3f()));
+
+        clusters.update(lights, new Matrix4f(), PROJECTION);
+
+        assertEquals(3, clusters.getLightCount().intValue());
+        assertEquals(1, clusters.getDirectionalCount().intValue());
+        assertEquals((float) Light.LightType.DIRECTIONAL.ordinal(), clusters.getLightData()[7], 0f);
+
+        // The point light in view was written after the directional light
+        assertEquals(position.x, clusters.getLightData()[LightClusters.LIGHT_SIZE], 0f);
+        assertTrue(getLights(clusters, getCluster(clusters, position)).contains(1));
+
+        for (Integer cluster = 0; cluster < clusters.getClusterCount(); cluster++) {
+            List<Integer> clusterLights = getLights(clusters, cluster);
+
+            assertFalse(clusterLights.contains(0));
+            assertFalse(clusterLights.contains(2));
+        }
+    }
+
+    /**
+     * Check that moving the camera moves the clusters a light is assigned to
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void viewMovesLights() {
+        LightClusters clusters = new LightClusters(TILES, TILES, SLICES, ForkJoinPool.commonPool());
+        Vector3f position = new Vector3f(-3f, -3f, -10f);
+        Matrix4f view = new Matrix4f().translate(6f, 6f, 0f);
+
+        clusters.update(Arrays.asList(createPoint(position, 0.5f)), view, PROJECTION);
+
+        assertTrue(getLights(clusters, getCluster(clusters, view.transformPosition(new Vector3f(position)))).contains(0));
+        assertTrue(getLights(clusters, getCluster(clusters, position)).isEmpty());
+    }
+
+    /**
+     * Create a point light on a game object
+     * 
+     * @param position The position of the light
+     * @param range The range of the light
+     * 
+     * @return The light
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull Light createPoint(@NotNull Vector3f position, @NotNull Float range) {
+        return create(Light.createPoint(Color.WHITE, 1f, range), position);
+    }
+
+    /**
+     * Put a light on a game object
+     * 
+     * @param light The light
+     * @param position The position of the game object
+     * 
+     * @return The light
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull Light create(@NotNull Light light, @NotNull Vector3f position) {
+        GameObject object = new GameObject("Light");
+        object.getComponent(Transform.class).setPosition(position);
+        object.addComponent(light);
+
+        return light;
+    }
+
+    /**
+     * Get the cluster a view space point is in
+     * 
+     * @param clusters The light clusters
+     * @param position The view space point
+     * 
+     * @return The index of the cluster
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull Integer getCluster(@NotNull LightClusters clusters, @NotNull Vector3f position) {
+        Vector4f clip = PROJECTION.transform(new Vector4f(position, 1f));
+
+        Integer tileX = (int) Math.floor((clip.x / clip.w + 1f) / 2f * TILES);
+        Integer tileY = (int) Math.floor((clip.y / clip.w + 1f) / 2f * TILES);
+        Integer slice = (int) Math.floor(Math.log(-position.z) * clusters.getDepthScale() + clusters.getDepthBias());
+
+        return (slice * TILES + tileY) * TILES + tileX;
+    }
+
+    /**
+     * Get the lights assigned to a cluster
+     * 
+     * @param clusters The light clusters
+     * @param cluster The index of the cluster
+     * 
+     * @return The indices of the lights in the cluster
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull List<Integer> getLights(@NotNull LightClusters clusters, @NotNull Integer cluster) {
+        List<Integer> lights = new ArrayList<Integer>();
+
+        Integer offset = clusters.getClusters()[cluster * 2];
+        Integer count = clusters.getClusters()[cluster * 2 + 1];
+        for (Integer i = 0; i < count; i++) {
+            lights.add(clusters.getIndices()[offset + i]);
+        }
+
+        return lights;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,254 @@
+package io.github.kale_ko.gighm.rendering.objects;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import io.github.kale_ko.gighm.scene.components.Mesh;
+import io.github.kale_ko.gighm.util.NotNull;
+
+/**
+ * Tests for {@link MeshOptimizer}
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class MeshOptimizerTest {
+    /**
+     * How many vertices along each side of the test grid
+     * 
+     * @since 2.6.0
+     */
+    private static final Integer GRID_SIZE = 16;
+
+    /**
+     * Check that reordering for the vertex cache keeps every triangle with its winding
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void vertexCacheKeepsTriangles() {
+        Integer[] triangles = shuffle(createGridTriangles(), 1L);
+
+        Integer[] optimized = MeshOptimizer.optimizeVertexCache(triangles, GRID_SIZE * GRID_SIZE);
+
+        assertEquals(getTriangleSet(triangles), getTriangleSet(optimized));
+    }
+
+    /**
+     * Check that reordering for the vertex cache makes fewer cache misses than a shuffled order
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void vertexCacheReducesMisses() {
+        Integer[] triangles = shuffle(createGridTriangles(), 2L);
+
+        Integer[] optimized = MeshOptimizer.optimizeVertexCache(triangles, GRID_SIZE * GRID_SIZE);
+
+        assertTrue(getCacheMisses(optimized, MeshOptimizer.DEFAULT_CACHE_SIZE) < getCacheMisses(triangles, MeshOptimizer.DEFAULT_CACHE_SIZE));
+    }
+
+    /**
+     * Check that reordering for overdraw keeps every triangle with its winding
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void overdrawKeepsTriangles() {
+        Mesh cube = PrimitiveMeshes.createCube(0.5f);
+        Integer[] triangles = shuffle(cube.getTriangles(), 3L);
+
+        Integer[] optimized = MeshOptimizer.optimizeOverdraw(triangles, cube.getVertices(), cube.getVerticeSize(), MeshOptimizer.DEFAULT_CACHE_SIZE);
+
+        assertEquals(getTriangleSet(triangles), getTriangleSet(optimized));
+    }
+
+    /**
+     * Check that optimizing a 2D mesh keeps the order of its triangles, since it decides which overlapping triangle is visible
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void optimizeKeepsOrderOf2DTriangles() {
+        Float[] vertices = new Float[] { 0f, 0f, 1f, 0f, 0f, 1f, 2f, 2f, 3f, 2f, 2f, 3f };
+        Mesh mesh = new Mesh(vertices, 2, null, null, new Integer[] { 3, 4, 5, 0, 1, 2 });
+
+        Mesh optimized = MeshOptimizer.optimize(mesh);
+
+        List<Float> drawn = new ArrayList<Float>();
+        for (Integer index : optimized.getTriangles()) {
+            drawn.add(optimized.getVertices()[index * 2]);
+            drawn.add(optimized.getVertices()[index * 2 + 1]);
+        }
+
+        assertArrayEquals(new Float[] { 2f, 2f, 3f, 2f, 2f, 3f, 0f, 0f, 1f, 0f, 0f, 1f }, drawn.toArray(new Float[0]));
+    }
+
+    /**
+     * Check that generating indices welds vertices with the same position and uv, and that every triangle still draws the same points
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void generateIndicesWeldsDuplicates() {
+        Float[] vertices = new Float[] { -1f, 1f, 1f, 1f, 1f, -1f, -1f, 1f, -1f, -1f, 1f, -1f };
+        Float[] uvs = new Float[] { 0f, 0f, 1f, 0f, 1f, 1f, 0f, 0f, 0f, 1f, 1f, 1f };
+        Mesh mesh = new Mesh(vertices, 2, null, uvs);
+
+        Mesh indexed = MeshOptimizer.generateIndices(mesh);
+
+        assertEquals(8, indexed.getVertices().length);
+        assertEquals(8, indexed.getUVs().length);
+        assertEquals(6, indexed.getTriangles().length);
+
+        for (Integer i = 0; i < 6; i++) {
+            Integer index = indexed.getTriangles()[i];
+
+            assertEquals(vertices[i * 2], indexed.getVertices()[index * 2]);
+            assertEquals(vertices[i * 2 + 1], indexed.getVertices()[index * 2 + 1]);
+            assertEquals(uvs[i * 2], indexed.getUVs()[index * 2]);
+            assertEquals(uvs[i * 2 + 1], indexed.getUVs()[index * 2 + 1]);
+        }
+    }
+
+    /**
+     * Check that generating indices keeps vertices with the same position apart when their uvs differ (Like the seams of a cube)
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void generateIndicesKeepsSeams() {
+        Float[] vertices = new Float[] { 0f, 0f, 1f, 0f, 0f, 1f, 0f, 0f, 1f, 0f, 0f, 1f };
+        Float[] uvs = new Float[] { 0f, 0f, 1f, 0f, 0f, 1f, 0.5f, 0.5f, 1f, 0f, 0f, 1f };
+
+        Mesh indexed = MeshOptimizer.generateIndices(new Mesh(vertices, 2, null, uvs));
+
+        assertEquals(8, indexed.getVertices().length);
+        assertArrayEquals(new Integer[] { 0, 1, 2, 3, 1, 2 }, indexed.getTriangles());
+    }
+
+    /**
+     * Check that generating indices leaves a mesh that already has triangles alone
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void generateIndicesKeepsIndexedMeshes() {
+        Mesh mesh = PrimitiveMeshes.createCube(0.5f);
+
+        assertSame(mesh, MeshOptimizer.generateIndices(mesh));
+    }
+
+    /**
+     * Create the triangles of a grid of quads
+     * 
+     * @return The triangles of the grid
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull Integer[] createGridTriangles() {
+        List<Integer> triangles = new ArrayList<Integer>();
+
+        for (Integer y = 0; y < GRID_SIZE - 1; y++) {
+            for (Integer x = 0; x < GRID_SIZE - 1; x++) {
+                Integer corner = y * GRID_SIZE + x;
+
+                triangles.addAll(Arrays.asList(corner, corner + 1, corner + GRID_SIZE));
+                triangles.addAll(Arrays.asList(corner + 1, corner + GRID_SIZE + 1, corner + GRID_SIZE));
+            }
+        }
+
+        return triangles.toArray(new Integer[0]);
+    }
+
+    /**
+     * Shuffle the order of triangles
+     * 
+     * @param triangles The triangles to shuffle
+     * @param seed The seed to shuffle with
+     * 
+     * @return The shuffled triangles
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull Integer[] shuffle(@NotNull Integer[] triangles, @NotNull Long seed) {
+        List<Integer[]> list = new ArrayList<Integer[]>();
+        for (Integer i = 0; i < triangles.length; i += 3) {
+            list.add(Arrays.copyOfRange(triangles, i, i + 3));
+        }
+
+        Collections.shuffle(list, new Random(seed));
+
+        Integer[] shuffled = new Integer[triangles.length];
+        for (Integer i = 0; i < list.size(); i++) {
+            System.arraycopy(list.get(i), 0, shuffled, i * 3, 3);
+        }
+
+        return shuffled;
+    }
+
+    /**
+     * Get the triangles as a sorted list, with each one rotated to start at its smallest index so the same triangle with the same winding always matches
+     * 
+     * @param triangles The triangles
+     * 
+     * @return The sorted triangles
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull List<String> getTriangleSet(@NotNull Integer[] triangles) {
+        List<String> set = new ArrayList<String>();
+
+        for (Integer i = 0; i < triangles.length; i += 3) {
+            Integer first = 0;
+            for (Integer k = 1; k < 3; k++) {
+                if (triangles[i + k] < triangles[i + first]) {
+                    first = k;
+                }
+            }
+
+            set.add(triangles[i + first] + "," + triangles[i + (first + 1) % 3] + "," + triangles[i + (first + 2) % 3]);
+        }
+
+        Collections.sort(set);
+
+        return set;
+    }
+
+    /**
+     * Count the misses of a fifo vertex cache drawing triangles
+     * 
+     * @param triangles The triangles to draw
+     * @param cacheSize The size of the cache
+     * 
+     * @return How many vertices weren't in the cache
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull Integer getCacheMisses(@NotNull Integer[] triangles, @NotNull Integer cacheSize) {
+        List<Integer> cache = new ArrayList<Integer>();
+        Integer misses = 0;
+
+        for (Integer index : triangles) {
+            if (!cache.contains(index)) {
+                misses++;
+
+                cache.add(index);
+                if (cache.size() > cacheSize) {
+                    cache.remove(0);
+                }
+            }
+        }
+
+        return misses;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,182 @@
+package io.github.kale_ko.gighm.rendering.objects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import io.github.kale_ko.gighm.rendering.objects.VertexEncoder.EncodedAttribute;
+import io.github.kale_ko.gighm.util.NotNull;
+
+/**
+ * Tests for {@link VertexEncoder}
+ * 
+ * @author Kale Ko
+ * 
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class VertexEncoderTest {
+    /**
+     * Check that octahedral encoding and decoding gives back the same unit vector
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void octahedralRoundTrip() {
+        for (float[] normal : getNormals()) {
+            float[] encoded = VertexEncoder.octahedralEncode(normal[0], normal[1], normal[2]);
+            float[] decoded = VertexEncoder.octahedralDecode(encoded[0], encoded[1]);
+
+            assertTrue(Math.abs(encoded[0]) <= 1f && Math.abs(encoded[1]) <= 1f);
+            assertTrue(getError(normal, decoded) < 1e-5f);
+        }
+    }
+
+    /**
+     * Check that the round trip stays accurate once the encoded vector is quantized to 16-bit values like the vertex buffer stores it
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void octahedralQuantizedRoundTrip() {
+        Float error = 0f;
+
+        for (float[] normal : getNormals()) {
+            float[] encoded = VertexEncoder.octahedralEncode(normal[0], normal[1], normal[2]);
+            float[] decoded = VertexEncoder.octahedralDecode(Math.round(encoded[0] * 32767f) / 32767f, Math.round(encoded[1] * 32767f) / 32767f);
+
+            error = Math.max(error, getError(normal, decoded));
+        }
+
+        assertTrue("The largest error was " + error, error < 1e-4f);
+    }
+
+    /**
+     * Check that normals are stored octahedral encoded within the default tolerance
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void encodeNormalsUsesOctahedral() {
+        List<float[]> normals = getNormals();
+
+        Float[] values = new Float[normals.size() * 3];
+        for (Integer i = 0; i < normals.size(); i++) {
+            for (Integer k = 0; k < 3; k++) {
+                values[i * 3 + k] = normals.get(i)[k];
+            }
+        }
+
+        EncodedAttribute attribute = VertexEncoder.encodeNormals(values, 0.0001f);
+
+        assertEquals(VertexEncoder.Format.OCTAHEDRAL_SHORT, attribute.getFormat());
+        assertEquals(normals.size() * 4, attribute.getData().remaining());
+    }
+
+    /**
+     * Check that the position tolerance is relative to the size of the mesh, so large meshes are still compressed and decode within it
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void encodePositionsToleranceIsRelative() {
+        Random random = new Random(1L);
+
+        Float[] vertices = new Float[300];
+        for (Integer i = 0; i < vertices.length; i++) {
+            vertices[i] = (random.nextFloat() - 0.5f) * 200f;
+        }
+
+        EncodedAttribute attribute = VertexEncoder.encodePositions(vertices, 3, 0.0001f);
+
+        assertEquals(VertexEncoder.Format.NORMALIZED_SHORT, attribute.getFormat());
+
+        for (Integer i = 0; i < vertices.length / 3; i++) {
+            for (Integer k = 0; k < 3; k++) {
+                Float decoded = attribute.getOffset(k) + ((attribute.getData().getShort((i * 4 + k) * 2) & 0xFFFF) / 65535f) * attribute.getScale(k);
+
+                assertEquals(vertices[i * 3 + k], decoded, 200f * 0.0001f);
+            }
+        }
+    }
+
+    /**
+     * Check that a tolerance of 0 only allows lossless formats
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void encodePositionsZeroToleranceIsLossless() {
+        EncodedAttribute attribute = VertexEncoder.encodePositions(new Float[] { 0.1f, 0.2f, 0.3f, 10.7f, -3.3f, 0.001f }, 3, 0f);
+
+        assertEquals(VertexEncoder.Format.FLOAT, attribute.getFormat());
+    }
+
+    /**
+     * Check that half floats keep values they can represent exactly
+     * 
+     * @since 2.6.0
+     */
+    @Test
+    public void halfRoundTrip() {
+        for (float value : new float[] { 0f, 1f, -1f, 0.5f, -2f, 1024f, 0.25f, 65504f }) {
+            assertEquals(value, VertexEncoder.fromHalf(VertexEncoder.toHalf(value)), 0f);
+        }
+    }
+
+    /**
+     * Get the unit vectors to test, the six axes and a spread of random directions
+     * 
+     * @return The unit vectors
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull List<float[]> getNormals() {
+        List<float[]> normals = new ArrayList<float[]>();
+
+        for (Integer axis = 0; axis < 3; axis++) {
+            for (Integer sign = -1; sign <= 1; sign += 2) {
+                float[] normal = new float[3];
+                normal[axis] = sign;
+
+                normals.add(normal);
+            }
+        }
+
+        Random random = new Random(2L);
+        while (normals.size() < 10000) {
+            float x = (float) random.nextGaussian();
+            float y = (float) random.nextGaussian();
+            float z = (float) random.nextGaussian();
+            float length = (float) Math.sqrt(x * x + y * y + z * z);
+
+            if (length > 0) {
+                normals.add(new float[] { x / length, y / length, z / length });
+            }
+        }
+
+        return normals;
+    }
+
+    /**
+     * Get the largest difference between the components of two vectors
+     * 
+     * @param expected The expected vector
+     * @param actual The actual vector
+     * 
+     * @return The largest difference
+     * 
+     * @since 2.6.0
+     */
+    private static @NotNull Float getError(@NotNull float[] expected, @NotNull float[] actual) {
+        Float error = 0f;
+
+        for (Integer k = 0; k < 3; k++) {
+            error = Math.max(error, Math.abs(expected[k] - actual[k]));
+        }
+
+        return error;
+    }
+}
\ No newline at end of file